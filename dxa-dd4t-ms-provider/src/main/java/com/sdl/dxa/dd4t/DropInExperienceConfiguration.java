@@ -1,5 +1,7 @@
 package com.sdl.dxa.dd4t;
 
+import com.sdl.dxa.caching.invalidation.Invalidation;
+import com.sdl.dxa.caching.invalidation.InvalidationListener;
 import com.sdl.dxa.dd4t.providers.ModelServiceComponentPresentationProvider;
 import com.sdl.dxa.dd4t.providers.ModelServicePageProvider;
 import com.sdl.dxa.tridion.modelservice.ModelServiceClient;
@@ -7,8 +9,10 @@ import com.sdl.dxa.tridion.modelservice.ModelServiceClientConfiguration;
 import org.dd4t.core.factories.impl.ComponentPresentationFactoryImpl;
 import org.dd4t.core.factories.impl.PageFactoryImpl;
 import org.dd4t.providers.PayloadCacheProvider;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Configuration;
@@ -19,7 +23,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
 @Configuration
 @Profile("auto.dd4t.ms.provider")
-public class DropInExperienceConfiguration implements ApplicationContextAware {
+public class DropInExperienceConfiguration implements ApplicationContextAware, InvalidationListener {
 
     private static final Logger log = getLogger(DropInExperienceConfiguration.class);
 
@@ -29,6 +33,17 @@ public class DropInExperienceConfiguration implements ApplicationContextAware {
     @Autowired
     private ModelServiceClientConfiguration modelServiceClientConfiguration;
 
+    @Value("${dxa.dd4t.page.cache.url.size:" + ModelServicePageProvider.DEFAULT_PAGE_URL_CACHE_SIZE + "}")
+    private long pageUrlCacheSize = ModelServicePageProvider.DEFAULT_PAGE_URL_CACHE_SIZE;
+
+    @Value("${dxa.dd4t.page.cache.content.size:" + ModelServicePageProvider.DEFAULT_PAGE_CONTENT_CACHE_SIZE + "}")
+    private long pageContentCacheSize = ModelServicePageProvider.DEFAULT_PAGE_CONTENT_CACHE_SIZE;
+
+    @Value("${dxa.dd4t.page.cache.expiry:" + ModelServicePageProvider.DEFAULT_PAGE_CACHE_EXPIRY_SECONDS + "}")
+    private long pageCacheExpirySeconds = ModelServicePageProvider.DEFAULT_PAGE_CACHE_EXPIRY_SECONDS;
+
+    private ModelServicePageProvider modelServicePageProvider;
+
     public DropInExperienceConfiguration() {
         // required empty
     }
@@ -40,7 +55,7 @@ public class DropInExperienceConfiguration implements ApplicationContextAware {
 
         PayloadCacheProvider cacheProvider = applicationContext.getBean(PayloadCacheProvider.class);
 
-        ModelServicePageProvider modelServicePageProvider = modelServicePageProvider(cacheProvider);
+        modelServicePageProvider = modelServicePageProvider(cacheProvider);
 
         ModelServiceComponentPresentationProvider modelServiceComponentPresentationProvider = componentPresentationProvider(cacheProvider);
 
@@ -67,6 +82,29 @@ public class DropInExperienceConfiguration implements ApplicationContextAware {
         modelServicePageProvider.setCacheProvider(cacheProvider);
         modelServicePageProvider.setModelServiceClient(modelServiceClient);
         modelServicePageProvider.setModelServiceClientConfiguration(modelServiceClientConfiguration);
+        modelServicePageProvider.setPageUrlCacheSize(pageUrlCacheSize);
+        modelServicePageProvider.setPageContentCacheSize(pageContentCacheSize);
+        modelServicePageProvider.setPageCacheExpiry(pageCacheExpirySeconds);
         return modelServicePageProvider;
     }
+
+    /**
+     * Discards the pages of a localization cached by the page provider when the localization is refreshed,
+     * on this node with {@code /admin/refresh} or on another node of the cluster.
+     *
+     * @param invalidation invalidation to apply
+     */
+    @Override
+    public void onInvalidation(@NotNull Invalidation invalidation) {
+        String localizationId = invalidation.getLocalizationId();
+        if (modelServicePageProvider == null || localizationId == null) {
+            return;
+        }
+        try {
+            modelServicePageProvider.invalidatePublication(Integer.parseInt(localizationId));
+        } catch (NumberFormatException e) {
+            log.debug("Localization ID {} is not a publication ID, discarding all cached pages", localizationId);
+            modelServicePageProvider.invalidateAll();
+        }
+    }
 }
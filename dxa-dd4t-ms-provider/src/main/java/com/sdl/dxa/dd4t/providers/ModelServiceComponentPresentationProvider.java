@@ -9,11 +9,18 @@ import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErr
 import com.sdl.web.model.componentpresentation.ComponentPresentationImpl;
 import com.tridion.dcp.ComponentPresentation;
 import org.dd4t.core.exceptions.ItemNotFoundException;
+import org.dd4t.core.exceptions.SerializationException;
+import org.dd4t.core.util.TCMURI;
 import org.dd4t.providers.ComponentPresentationProvider;
 import org.dd4t.providers.impl.BrokerComponentPresentationProvider;
 
 import javax.annotation.Resource;
 import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
@@ -36,12 +43,63 @@ public class ModelServiceComponentPresentationProvider extends BrokerComponentPr
 
     @Override
     protected ComponentPresentation getComponentPresentation(int componentId, int templateId, int publicationId) throws ItemNotFoundException {
-        String serviceUrl = fromUriString(modelServiceClientConfiguration.getEntityModelUrl())
+        try {
+            String cpContent = modelServiceClient.getForType(getServiceUrl(), String.class, "tcm", publicationId, componentId, templateId);
+            return parseComponentPresentation(cpContent, componentId, templateId, publicationId);
+        } catch (ItemNotFoundInModelServiceException e) {
+            throw notFound(componentId, templateId, publicationId, e);
+        }
+    }
+
+    /**
+     * Loads the content of several component presentations in parallel, with asynchronous requests to the Model Service.
+     *
+     * @param itemUris      TCM URIs of the components
+     * @param templateId    ID of the component template
+     * @param publicationId publication ID
+     * @return content of the component presentations in the order of the URIs, {@code null} if one has no content
+     * @throws ItemNotFoundException  if a component presentation is not found
+     * @throws SerializationException if a URI cannot be parsed or the content cannot be decoded
+     */
+    @Override
+    public List<String> getDynamicComponentPresentations(String[] itemUris, int templateId, int publicationId) throws ItemNotFoundException, SerializationException {
+        String serviceUrl = getServiceUrl();
+        int[] componentIds = new int[itemUris.length];
+        List<CompletableFuture<String>> requests = new ArrayList<>(itemUris.length);
+        for (int i = 0; i < itemUris.length; i++) {
+            try {
+                componentIds[i] = new TCMURI(itemUris[i]).getItemId();
+            } catch (ParseException e) {
+                throw new SerializationException(e);
+            }
+            requests.add(modelServiceClient.getForTypeAsync(serviceUrl, String.class, "tcm", publicationId, componentIds[i], templateId));
+        }
+
+        List<String> contents = new ArrayList<>(itemUris.length);
+        for (int i = 0; i < itemUris.length; i++) {
+            String cpContent;
+            try {
+                cpContent = requests.get(i).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof ItemNotFoundInModelServiceException) {
+                    throw notFound(componentIds[i], templateId, publicationId, e.getCause());
+                }
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+            String content = parseComponentPresentation(cpContent, componentIds[i], templateId, publicationId).getContent();
+            contents.add(content == null || content.isEmpty() ? null : decodeAndDecompressContent(content));
+        }
+        return contents;
+    }
+
+    private String getServiceUrl() {
+        return fromUriString(modelServiceClientConfiguration.getEntityModelUrl())
                 .queryParam("dcpType", "HIGHEST_PRIORITY")
                 .build().toUriString();
+    }
 
+    private static ComponentPresentation parseComponentPresentation(String cpContent, int componentId, int templateId, int publicationId) {
         try {
-            String cpContent = modelServiceClient.getForType(serviceUrl, String.class, "tcm", publicationId, componentId, templateId);
             JsonNode cp = new ObjectMapper().readTree(cpContent);
             return new ComponentPresentationImpl(
                     cp.get("NamespaceId").asInt(0),
@@ -51,12 +109,14 @@ public class ModelServiceComponentPresentationProvider extends BrokerComponentPr
                     cp.get("Content").asText(),
                     cp.get("FileLocation").asText(),
                     cp.get("Dynamic").asBoolean());
-        } catch (ItemNotFoundInModelServiceException e) {
-            throw new ItemNotFoundException("Item for componentId = '" + componentId + "' and templateId = '" + +templateId + "' " +
-                    "and publicationId = '" + publicationId + "' is not found in the Model Service", e);
         } catch (IOException e) {
             throw new ModelServiceInternalServerErrorException("Cannot parse content for Component Presentation, " +
                     "for [componentId = '" + componentId + "', templateId = '" + templateId + "', publicationId = '" + publicationId + "']", e);
         }
     }
+
+    private static ItemNotFoundException notFound(int componentId, int templateId, int publicationId, Throwable cause) {
+        return new ItemNotFoundException("Item for componentId = '" + componentId + "' and templateId = '" + +templateId + "' " +
+                "and publicationId = '" + publicationId + "' is not found in the Model Service", cause);
+    }
 }
@@ -1,9 +1,12 @@
 package com.sdl.dxa.dd4t.providers;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.sdl.dxa.tridion.modelservice.ModelServiceClient;
 import com.sdl.dxa.tridion.modelservice.ModelServiceClientConfiguration;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
 import com.tridion.meta.PageMeta;
+import lombok.EqualsAndHashCode;
 import org.dd4t.core.exceptions.ItemNotFoundException;
 import org.dd4t.core.exceptions.SerializationException;
 import org.dd4t.providers.PageProvider;
@@ -11,15 +14,55 @@ import org.dd4t.providers.impl.BrokerPageProvider;
 import org.slf4j.Logger;
 
 import javax.annotation.Resource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
+/**
+ * DD4T page provider which loads the pages from the Model Service.
+ * <p>The provider keeps a bounded index of page IDs to URLs, so a page requested by ID needs no lookup of its metadata
+ * once it is known, and a bounded cache of the decoded content of pages by publication and URL. Entries expire after
+ * {@link #setPageCacheExpiry(long)} seconds and can be invalidated, for instance when a page is published.</p>
+ * <p>Requests of an XPM session preview bypass both caches, because the Model Service returns the content of the
+ * preview session for them.</p>
+ */
 @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
 public class ModelServicePageProvider extends BrokerPageProvider implements PageProvider {
 
     private static final Logger log = getLogger(ModelServicePageProvider.class);
 
+    /**
+     * Default maximum number of page IDs whose URLs are kept.
+     */
+    public static final long DEFAULT_PAGE_URL_CACHE_SIZE = 10_000;
+
+    /**
+     * Default maximum number of pages whose decoded content is kept.
+     */
+    public static final long DEFAULT_PAGE_CONTENT_CACHE_SIZE = 500;
+
+    /**
+     * Default time in seconds the URLs and content of pages are kept.
+     */
+    public static final long DEFAULT_PAGE_CACHE_EXPIRY_SECONDS = 60;
+
+    private long pageUrlCacheSize = DEFAULT_PAGE_URL_CACHE_SIZE;
+
+    private long pageContentCacheSize = DEFAULT_PAGE_CONTENT_CACHE_SIZE;
+
+    private long pageCacheExpirySeconds = DEFAULT_PAGE_CACHE_EXPIRY_SECONDS;
+
+    private Cache<PageKey, String> pageUrls = buildCache(pageUrlCacheSize);
+
+    private Cache<PageKey, String> pageContents = buildCache(pageContentCacheSize);
+
     @Resource
     private ModelServiceClient modelServiceClient;
 
@@ -34,18 +77,145 @@ public class ModelServicePageProvider extends BrokerPageProvider implements Page
         this.modelServiceClientConfiguration = modelServiceClientConfiguration;
     }
 
+    /**
+     * Sets the maximum number of page IDs whose URLs are kept, {@code 0} to not keep them.
+     *
+     * @param pageUrlCacheSize number of page IDs
+     */
+    public void setPageUrlCacheSize(long pageUrlCacheSize) {
+        this.pageUrlCacheSize = pageUrlCacheSize;
+        this.pageUrls = buildCache(pageUrlCacheSize);
+    }
+
+    /**
+     * Sets the maximum number of pages whose decoded content is kept, {@code 0} to not keep it.
+     *
+     * @param pageContentCacheSize number of pages
+     */
+    public void setPageContentCacheSize(long pageContentCacheSize) {
+        this.pageContentCacheSize = pageContentCacheSize;
+        this.pageContents = buildCache(pageContentCacheSize);
+    }
+
+    /**
+     * Sets the time the URLs and content of pages are kept.
+     *
+     * @param pageCacheExpirySeconds time in seconds
+     */
+    public void setPageCacheExpiry(long pageCacheExpirySeconds) {
+        this.pageCacheExpirySeconds = pageCacheExpirySeconds;
+        this.pageUrls = buildCache(pageUrlCacheSize);
+        this.pageContents = buildCache(pageContentCacheSize);
+    }
+
     @Override
     public String getPageContentById(int id, int publication) throws ItemNotFoundException, SerializationException {
-        PageMeta pageMeta = getPageMetaById(id, publication);
-        return getPageContentByURL(pageMeta.getURLPath(), publication);
+        if (isSessionPreview()) {
+            return loadPageContent(getPageMetaById(id, publication).getURLPath(), publication);
+        }
+        PageKey idKey = new PageKey(publication, String.valueOf(id));
+        String url = pageUrls.getIfPresent(idKey);
+        if (url == null) {
+            PageMeta pageMeta = getPageMetaById(id, publication);
+            url = pageMeta.getURLPath();
+            pageUrls.put(idKey, url);
+        }
+        try {
+            return getPageContentByURL(url, publication);
+        } catch (ItemNotFoundException e) {
+            // the page may have moved to another URL
+            pageUrls.invalidate(idKey);
+            throw e;
+        }
     }
 
     @Override
     public String getPageContentByURL(String url, int publication) throws ItemNotFoundException, SerializationException {
+        if (isSessionPreview()) {
+            return loadPageContent(url, publication);
+        }
+        PageKey key = new PageKey(publication, url);
+        String content = pageContents.getIfPresent(key);
+        if (content == null) {
+            content = loadPageContent(url, publication);
+            pageContents.put(key, content);
+        }
+        return content;
+    }
+
+    /**
+     * Loads the content of several pages in parallel, with asynchronous requests to the Model Service for the pages
+     * which are not cached.
+     *
+     * @param urls        URLs of the pages
+     * @param publication publication ID
+     * @return content of the pages by URL, in the order of the URLs, without the pages which are not found
+     * @throws SerializationException if the content of a page cannot be decoded
+     */
+    public Map<String, String> getPageContentsByURL(Collection<String> urls, int publication) throws SerializationException {
+        boolean sessionPreview = isSessionPreview();
+        String serviceUrl = getServiceUrl();
+        log.debug("Loading content of {} pages from Model Service {} for publication = {}", urls.size(), serviceUrl, publication);
+
+        Map<String, String> loaded = new HashMap<>();
+        Map<String, CompletableFuture<String>> requests = new HashMap<>();
+        for (String url : urls) {
+            String content = sessionPreview ? null : pageContents.getIfPresent(new PageKey(publication, url));
+            if (content != null) {
+                loaded.put(url, content);
+            } else if (!requests.containsKey(url)) {
+                requests.put(url, modelServiceClient.getForTypeAsync(serviceUrl, String.class, "tcm", publication, url, "INCLUDE"));
+            }
+        }
+
+        Map<String, String> contents = new LinkedHashMap<>();
+        for (String url : urls) {
+            String content = loaded.get(url);
+            if (content == null) {
+                try {
+                    content = decodeAndDecompressContent(requests.get(url).join());
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof ItemNotFoundInModelServiceException) {
+                        log.debug("Page for url = {} and publication = {} is not found in the Model Service", url, publication);
+                        continue;
+                    }
+                    throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+                if (!sessionPreview) {
+                    pageContents.put(new PageKey(publication, url), content);
+                }
+                loaded.put(url, content);
+            }
+            contents.put(url, content);
+        }
+        return contents;
+    }
+
+    /**
+     * Removes the pages of a publication from the caches of this provider.
+     *
+     * @param publication publication ID
+     */
+    public void invalidatePublication(int publication) {
+        pageContents.asMap().keySet().removeIf(key -> key.publication == publication);
+        pageUrls.asMap().keySet().removeIf(key -> key.publication == publication);
+    }
+
+    /**
+     * Removes all pages from the caches of this provider.
+     */
+    public void invalidateAll() {
+        pageContents.invalidateAll();
+        pageUrls.invalidateAll();
+    }
+
+    private boolean isSessionPreview() {
+        return modelServiceClient.getPreviewToken() != null;
+    }
+
+    private String loadPageContent(String url, int publication) throws ItemNotFoundException, SerializationException {
         try {
-            String serviceUrl = fromUriString(modelServiceClientConfiguration.getPageModelUrl())
-                    .queryParam("modelType", "DD4T")
-                    .build().toUriString();
+            String serviceUrl = getServiceUrl();
 
             log.debug("Loading content from Model Service {} for url = {} and publication = {}", serviceUrl, url, publication);
             return decodeAndDecompressContent(modelServiceClient.getForType(serviceUrl, String.class, "tcm", publication, url, "INCLUDE"));
@@ -54,6 +224,29 @@ public class ModelServicePageProvider extends BrokerPageProvider implements Page
         }
     }
 
+    private String getServiceUrl() {
+        return fromUriString(modelServiceClientConfiguration.getPageModelUrl())
+                .queryParam("modelType", "DD4T")
+                .build().toUriString();
+    }
+
+    private Cache<PageKey, String> buildCache(long maximumSize) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfterWrite(pageCacheExpirySeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @EqualsAndHashCode
+    private static final class PageKey {
+
+        private final int publication;
 
+        private final String item;
 
+        private PageKey(int publication, String item) {
+            this.publication = publication;
+            this.item = item;
+        }
+    }
 }
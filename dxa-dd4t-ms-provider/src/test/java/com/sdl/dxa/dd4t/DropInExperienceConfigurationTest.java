@@ -1,7 +1,10 @@
 package com.sdl.dxa.dd4t;
 
+import com.sdl.dxa.caching.invalidation.Invalidation;
 import com.sdl.dxa.dd4t.providers.ModelServiceComponentPresentationProvider;
 import com.sdl.dxa.dd4t.providers.ModelServicePageProvider;
+import com.sdl.dxa.tridion.modelservice.ModelServiceClient;
+import com.sdl.dxa.tridion.modelservice.ModelServiceClientConfiguration;
 import org.dd4t.core.factories.impl.ComponentPresentationFactoryImpl;
 import org.dd4t.core.factories.impl.PageFactoryImpl;
 import org.dd4t.providers.ComponentPresentationProvider;
@@ -12,13 +15,17 @@ import org.hamcrest.Description;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +44,12 @@ public class DropInExperienceConfigurationTest {
     @Mock
     private PayloadCacheProvider payloadCacheProvider;
 
+    @Mock
+    private ModelServiceClient modelServiceClient;
+
+    @Mock
+    private ModelServiceClientConfiguration modelServiceClientConfiguration;
+
     @InjectMocks
     private DropInExperienceConfiguration configuration;
 
@@ -45,6 +58,7 @@ public class DropInExperienceConfigurationTest {
         when(applicationContext.getBean(eq(PageFactoryImpl.class))).thenReturn(pageFactory);
         when(applicationContext.getBean(eq(ComponentPresentationFactoryImpl.class))).thenReturn(componentPresentationFactoryImpl);
         when(applicationContext.getBean(eq(PayloadCacheProvider.class))).thenReturn(payloadCacheProvider);
+        when(modelServiceClientConfiguration.getPageModelUrl()).thenReturn("/conf");
     }
 
     @Test
@@ -79,4 +93,48 @@ public class DropInExperienceConfigurationTest {
             }
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldDiscardCachedPages_OfRefreshedLocalization() throws Exception {
+        //given
+        ModelServicePageProvider pageProvider = replacedPageProvider();
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), anyString(), eq("INCLUDE")))
+                .thenReturn("content");
+        pageProvider.getPageContentByURL("/path", 42);
+        pageProvider.getPageContentByURL("/other", 43);
+
+        //when
+        configuration.onInvalidation(Invalidation.ofLocalization("42"));
+        pageProvider.getPageContentByURL("/path", 42);
+        pageProvider.getPageContentByURL("/other", 43);
+
+        //then
+        verify(modelServiceClient, times(2)).getForType(anyString(), eq(String.class), anyString(), eq(42), eq("/path"), eq("INCLUDE"));
+        verify(modelServiceClient, times(1)).getForType(anyString(), eq(String.class), anyString(), eq(43), eq("/other"), eq("INCLUDE"));
+    }
+
+    @Test
+    public void shouldKeepCachedPages_IfNoLocalizationIsRefreshed() throws Exception {
+        //given
+        ModelServicePageProvider pageProvider = replacedPageProvider();
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), anyString(), eq("INCLUDE")))
+                .thenReturn("content");
+        pageProvider.getPageContentByURL("/path", 42);
+
+        //when
+        configuration.onInvalidation(Invalidation.ofCache("pageModels"));
+        pageProvider.getPageContentByURL("/path", 42);
+
+        //then
+        verify(modelServiceClient, times(1)).getForType(anyString(), eq(String.class), anyString(), eq(42), eq("/path"), eq("INCLUDE"));
+    }
+
+    private ModelServicePageProvider replacedPageProvider() {
+        configuration.setApplicationContext(applicationContext);
+        ArgumentCaptor<PageProvider> pageProvider = ArgumentCaptor.forClass(PageProvider.class);
+        verify(pageFactory).setPageProvider(pageProvider.capture());
+        ModelServicePageProvider modelServicePageProvider = (ModelServicePageProvider) pageProvider.getValue();
+        modelServicePageProvider.setContentIsBase64Encoded(false);
+        return modelServicePageProvider;
+    }
+}
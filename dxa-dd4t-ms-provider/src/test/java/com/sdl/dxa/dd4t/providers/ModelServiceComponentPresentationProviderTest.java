@@ -17,11 +17,18 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -58,4 +65,32 @@ public class ModelServiceComponentPresentationProviderTest {
         //then
         assertThat(expected, new ReflectionEquals(componentPresentation));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldLoadComponentPresentationsInParallel_InOrderOfUris() throws Exception {
+        //given
+        String dcp = IOUtils.toString(new ClassPathResource("dcp.json").getInputStream(), "UTF-8");
+        when(modelServiceClient.getForTypeAsync("/conf?dcpType=HIGHEST_PRIORITY", String.class, "tcm", 3, 10, 4))
+                .thenReturn(CompletableFuture.completedFuture(dcp));
+        when(modelServiceClient.getForTypeAsync("/conf?dcpType=HIGHEST_PRIORITY", String.class, "tcm", 3, 11, 4))
+                .thenReturn(CompletableFuture.completedFuture(dcp.replace("\"content\"", "\"second\"")));
+
+        //when
+        List<String> contents = componentPresentationProvider.getDynamicComponentPresentations(new String[]{"tcm:3-10", "tcm:3-11"}, 4, 3);
+
+        //then
+        assertEquals(Arrays.asList("content", "second"), contents);
+        verify(modelServiceClient, never()).getForType(anyString(), any(Class.class), anyString(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test(expected = ItemNotFoundException.class)
+    public void shouldThrowNotFound_IfOneOfComponentPresentationsIsMissing() throws Exception {
+        //given
+        CompletableFuture<String> missing = new CompletableFuture<>();
+        missing.completeExceptionally(new ItemNotFoundInModelServiceException("Msg"));
+        when(modelServiceClient.getForTypeAsync(anyString(), eq(String.class), anyString(), anyInt(), anyInt(), anyInt())).thenReturn(missing);
+
+        //when
+        componentPresentationProvider.getDynamicComponentPresentations(new String[]{"tcm:3-10"}, 4, 3);
+    }
+}
@@ -3,6 +3,7 @@ package com.sdl.dxa.dd4t.providers;
 import com.sdl.dxa.tridion.modelservice.ModelServiceClient;
 import com.sdl.dxa.tridion.modelservice.ModelServiceClientConfiguration;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
+import com.tridion.meta.PageMeta;
 import org.dd4t.core.exceptions.ItemNotFoundException;
 import org.dd4t.core.exceptions.SerializationException;
 import org.junit.Before;
@@ -12,11 +13,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,4 +83,126 @@ public class ModelServicePageProviderTest {
             assertEquals(exception, e.getCause());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldLoadPageContentsInParallel_AndSkipMissingPages() throws Exception {
+        //given
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/a"), eq("INCLUDE")))
+                .thenReturn("content a");
+        modelServicePageProvider.getPageContentByURL("/a", 42);
+        CompletableFuture<String> missing = new CompletableFuture<>();
+        missing.completeExceptionally(new ItemNotFoundInModelServiceException("Msg"));
+        when(modelServiceClient.getForTypeAsync(anyString(), eq(String.class), anyString(), anyInt(), eq("/missing"), eq("INCLUDE")))
+                .thenReturn(missing);
+        when(modelServiceClient.getForTypeAsync(anyString(), eq(String.class), anyString(), anyInt(), eq("/b"), eq("INCLUDE")))
+                .thenReturn(CompletableFuture.completedFuture("content b"));
+
+        //when
+        Map<String, String> pages = modelServicePageProvider.getPageContentsByURL(Arrays.asList("/b", "/missing", "/a"), 42);
+        String cached = modelServicePageProvider.getPageContentByURL("/b", 42);
+
+        //then
+        verify(modelServiceClient).getForTypeAsync(eq("/conf?modelType=DD4T"), eq(String.class), eq("tcm"), eq(42), eq("/missing"), eq("INCLUDE"));
+        verify(modelServiceClient, never()).getForTypeAsync(anyString(), eq(String.class), anyString(), anyInt(), eq("/a"), eq("INCLUDE"));
+        verify(modelServiceClient, never()).getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/b"), eq("INCLUDE"));
+        assertEquals(Arrays.asList("/b", "/a"), new ArrayList<>(pages.keySet()));
+        assertEquals("content a", pages.get("/a"));
+        assertEquals("content b", pages.get("/b"));
+        assertEquals("content b", cached);
+    }
+
+    @Test
+    public void shouldResolvePageByIdWithSingleRemoteCall_WhenRequestedAgain() throws Exception {
+        //given
+        ModelServicePageProvider provider = spy(modelServicePageProvider);
+        PageMeta pageMeta = mock(PageMeta.class);
+        when(pageMeta.getURLPath()).thenReturn("/path");
+        doReturn(pageMeta).when(provider).getPageMetaById(1, 42);
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/path"), eq("INCLUDE")))
+                .thenReturn("content");
+
+        //when
+        String first = provider.getPageContentById(1, 42);
+        String second = provider.getPageContentById(1, 42);
+        String byUrl = provider.getPageContentByURL("/path", 42);
+
+        //then
+        assertEquals("content", first);
+        assertEquals("content", second);
+        assertEquals("content", byUrl);
+        verify(provider, times(1)).getPageMetaById(1, 42);
+        verify(modelServiceClient, times(1)).getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/path"), eq("INCLUDE"));
+    }
+
+    @Test
+    public void shouldLoadPageAgain_AfterInvalidation() throws Exception {
+        //given
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), anyString(), eq("INCLUDE")))
+                .thenReturn("old", "new");
+        modelServicePageProvider.getPageContentByURL("/path", 42);
+        modelServicePageProvider.getPageContentByURL("/other", 43);
+
+        //when
+        modelServicePageProvider.invalidatePublication(42);
+        String page = modelServicePageProvider.getPageContentByURL("/path", 42);
+        modelServicePageProvider.getPageContentByURL("/other", 43);
+
+        //then
+        assertEquals("new", page);
+        verify(modelServiceClient, times(2)).getForType(anyString(), eq(String.class), anyString(), eq(42), eq("/path"), eq("INCLUDE"));
+        verify(modelServiceClient, times(1)).getForType(anyString(), eq(String.class), anyString(), eq(43), eq("/other"), eq("INCLUDE"));
+    }
+
+    @Test
+    public void shouldResolvePageIdAgain_IfPageIsNotFoundAtKnownUrl() throws Exception {
+        //given
+        modelServicePageProvider.setPageContentCacheSize(0);
+        ModelServicePageProvider provider = spy(modelServicePageProvider);
+        PageMeta pageMeta = mock(PageMeta.class);
+        when(pageMeta.getURLPath()).thenReturn("/old-path", "/new-path");
+        doReturn(pageMeta).when(provider).getPageMetaById(1, 42);
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/old-path"), eq("INCLUDE")))
+                .thenReturn("content")
+                .thenThrow(new ItemNotFoundInModelServiceException("Msg"));
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/new-path"), eq("INCLUDE")))
+                .thenReturn("moved content");
+        provider.getPageContentById(1, 42);
+
+        //when
+        try {
+            provider.getPageContentById(1, 42);
+            fail("Page is expected to be not found");
+        } catch (ItemNotFoundException e) {
+            // the page has moved
+        }
+        String page = provider.getPageContentById(1, 42);
+
+        //then
+        assertEquals("moved content", page);
+        verify(provider, times(2)).getPageMetaById(1, 42);
+    }
+
+    @Test
+    public void shouldBypassCaches_ForSessionPreview() throws Exception {
+        //given
+        ModelServicePageProvider provider = spy(modelServicePageProvider);
+        PageMeta pageMeta = mock(PageMeta.class);
+        when(pageMeta.getURLPath()).thenReturn("/path");
+        doReturn(pageMeta).when(provider).getPageMetaById(1, 42);
+        when(modelServiceClient.getPreviewToken()).thenReturn("token", "token", "token", "token", null);
+        when(modelServiceClient.getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/path"), eq("INCLUDE")))
+                .thenReturn("preview content", "preview content", "preview content", "preview content", "published content");
+
+        //when
+        provider.getPageContentById(1, 42);
+        provider.getPageContentById(1, 42);
+        provider.getPageContentByURL("/path", 42);
+        provider.getPageContentByURL("/path", 42);
+        String published = provider.getPageContentByURL("/path", 42);
+
+        //then
+        assertEquals("published content", published);
+        verify(provider, times(2)).getPageMetaById(1, 42);
+        verify(modelServiceClient, times(5)).getForType(anyString(), eq(String.class), anyString(), anyInt(), eq("/path"), eq("INCLUDE"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.sdl.dxa.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the benchmarks of the framework.
+ * <p>Accepts the usual JMH command line, for example <code>java -jar benchmarks.jar ModelBuilder -prof gc</code>
+ * to run the model builder benchmarks with the allocation rates. Unless a result format or file is given,
+ * the results are written as JSON to <code>jmh-result.json</code> so that they can be compared between commits.</p>
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FORMAT = "json";
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(withDefaults(args));
+    }
+
+    static String[] withDefaults(String[] args) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add(DEFAULT_RESULT_FORMAT);
+        }
+        if (!arguments.contains("-rff")) {
+            arguments.add("-rff");
+            arguments.add(DEFAULT_RESULT_FILE);
+        }
+        return arguments.toArray(new String[0]);
+    }
+}
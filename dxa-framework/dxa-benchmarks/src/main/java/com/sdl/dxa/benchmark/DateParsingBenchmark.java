@@ -0,0 +1,58 @@
+package com.sdl.dxa.benchmark;
+
+import com.sdl.dxa.tridion.mapping.converter.DateTimeFormatters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of date fields with the cached formatters of {@link DateTimeFormatters}, compared to creating
+ * a {@link DateFormat} for every value as the string converter did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    private static final String ISO_DATE_TIME = "2019-04-23T11:34:56";
+
+    private final Locale locale = Locale.getDefault();
+
+    private String shortDateTime;
+
+    @Setup
+    public void setup() {
+        shortDateTime = DateFormat.getInstance().format(new Date(1556019296000L));
+    }
+
+    @Benchmark
+    public Date formatters() {
+        return DateTimeFormatters.parseDate(shortDateTime, locale);
+    }
+
+    @Benchmark
+    public Date formattersIso() {
+        return DateTimeFormatters.parseDate(ISO_DATE_TIME, locale);
+    }
+
+    @Benchmark
+    public Date dateFormat() throws ParseException {
+        return DateFormat.getInstance().parse(shortDateTime);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sdl.dxa.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixture data of the benchmarks. The fixtures are R2 data model payloads in <code>fixtures/</code>, as returned
+ * by the model service:
+ * <ul>
+ * <li><code>page_model.json</code> is a page with all kinds of content fields, embedded entities and keywords;</li>
+ * <li><code>home_page.json</code> is a small page with an include region and two entities;</li>
+ * <li>{@link #largePage(int)} is the home page with the given number of entities in its include region.</li>
+ * </ul>
+ */
+public final class Fixtures {
+
+    public static final String PAGE_MODEL = "page_model";
+
+    public static final String HOME_PAGE = "home_page";
+
+    public static final String LARGE_PAGE = "large_page";
+
+    /**
+     * Number of the entities on the {@link #LARGE_PAGE large page}.
+     */
+    public static final int LARGE_PAGE_ENTITIES = 100;
+
+    private static final ObjectMapper OBJECT_MAPPER = new DataModelSpringConfiguration().dxaR2ObjectMapper();
+
+    private Fixtures() {
+    }
+
+    /**
+     * Returns the object mapper the model service client uses for R2 data model.
+     *
+     * @return object mapper
+     */
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Reads the payload of the fixture with the given name.
+     *
+     * @param name one of {@link #PAGE_MODEL}, {@link #HOME_PAGE} or {@link #LARGE_PAGE}
+     * @return JSON payload
+     */
+    public static String json(String name) {
+        return LARGE_PAGE.equals(name) ? largePage(LARGE_PAGE_ENTITIES) : read(name + ".json");
+    }
+
+    /**
+     * Builds a page out of the home page fixture with the given number of copies of its first entity.
+     *
+     * @param entities number of the entities
+     * @return JSON payload
+     */
+    public static String largePage(int entities) {
+        try {
+            ObjectNode page = (ObjectNode) OBJECT_MAPPER.readTree(read(HOME_PAGE + ".json"));
+            ArrayNode entityNodes = (ArrayNode) page.path("Regions").path(0).path("Regions").path(0).path("Entities");
+            JsonNode template = entityNodes.get(0);
+            entityNodes.removeAll();
+            for (int i = 0; i < entities; i++) {
+                ObjectNode entity = template.deepCopy();
+                String id = String.valueOf(5000 + i);
+                entity.put("Id", id);
+                ((ObjectNode) entity.path("XpmMetadata")).put("ComponentID", "tcm:1082-" + id);
+                ((ObjectNode) entity.path("Content")).put("headline", "Headline " + i);
+                entityNodes.add(entity);
+            }
+            return OBJECT_MAPPER.writeValueAsString(page);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(String fileName) {
+        try (InputStream stream = new ClassPathResource("fixtures/" + fileName).getInputStream()) {
+            return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read fixture " + fileName, e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.sdl.dxa.benchmark;
+
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.dxa.tridion.mapping.impl.DefaultModelBuilder;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.markup.AbstractMarkupTag;
+import com.sdl.webapp.common.markup.MarkupDecorator;
+import com.sdl.webapp.common.markup.MarkupDecoratorRegistry;
+import com.sdl.webapp.tridion.xpm.markup.EntityXpmMarkup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockJspWriter;
+import org.springframework.mock.web.MockPageContext;
+
+import javax.servlet.ServletException;
+import javax.servlet.jsp.JspWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the entities of the {@link Fixtures#LARGE_PAGE large page} through {@link AbstractMarkupTag} with the
+ * XPM markup decorator, as the entity tag does it. Outside of a preview session the includes are streamed, in a preview
+ * session they are buffered and the XPM markup is injected. The include itself writes a fixed entity view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkupRenderingBenchmark {
+
+    private static final String INCLUDE = "/WEB-INF/Views/Core/Entity/TestClassView.jsp";
+
+    private static final String ENTITY_VIEW = "<article class=\"teaser\">\n" +
+            "  <h3 data-entity-property-xpath=\"tcm:Content/custom:TestEntity/custom:headline\">Headline</h3>\n" +
+            "  <img src=\"/media/teaser.png\" alt=\"\" data-entity-property-xpath=\"tcm:Content/custom:TestEntity/custom:image\">\n" +
+            "  <div class=\"content\">\n" +
+            "    <p>Lorem ipsum dolor sit amet, <a href=\"/articles/1\">consectetur</a> adipiscing elit.</p>\n" +
+            "  </div>\n" +
+            "</article>";
+
+    @Param({"false", "true"})
+    public boolean preview;
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private List<EntityModel> entities;
+
+    private BenchmarkMarkupTag tag;
+
+    @Setup
+    public void setup() throws Exception {
+        // the context stays open, because entities look up the object mapper for their XPM markup
+        applicationContext = new AnnotationConfigApplicationContext(ModelBuilderBenchmark.ModelBuilderConfiguration.class);
+        PageModelData pageModelData = Fixtures.objectMapper().readValue(Fixtures.json(Fixtures.LARGE_PAGE), PageModelData.class);
+        PageModel pageModel = applicationContext.getBean(DefaultModelBuilder.class).buildPageModel(null, pageModelData);
+        entities = pageModel.getRegions().get("Header").getRegions().get("Info").getEntities();
+
+        Localization localization = applicationContext.getBean(WebRequestContext.class).getLocalization();
+        WebRequestContext webRequestContext = Stubs.stub(WebRequestContext.class, (method, args) -> {
+            switch (method.getName()) {
+                case "isSessionPreview":
+                    return preview;
+                case "getLocalization":
+                    return localization;
+                default:
+                    return null;
+            }
+        });
+        List<MarkupDecorator> decorators = Collections.singletonList(new EntityXpmMarkup());
+        MarkupDecoratorRegistry markupDecoratorRegistry = Stubs.stub(MarkupDecoratorRegistry.class,
+                (method, args) -> "getDecorators".equals(method.getName()) ? decorators : null);
+        OutputCache outputCache = new OutputCache();
+        outputCache.setCacheProvider(Stubs.stub(NamedCacheProvider.class));
+
+        tag = new BenchmarkMarkupTag(markupDecoratorRegistry, webRequestContext, outputCache);
+        tag.setPageContext(new EntityViewPageContext());
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void renderEntities() throws IOException, ServletException {
+        for (EntityModel entity : entities) {
+            tag.render(entity);
+        }
+    }
+
+    private static final class BenchmarkMarkupTag extends AbstractMarkupTag {
+
+        private final MarkupDecoratorRegistry markupDecoratorRegistry;
+
+        private final WebRequestContext webRequestContext;
+
+        private final OutputCache outputCache;
+
+        private BenchmarkMarkupTag(MarkupDecoratorRegistry markupDecoratorRegistry, WebRequestContext webRequestContext,
+                                   OutputCache outputCache) {
+            this.markupDecoratorRegistry = markupDecoratorRegistry;
+            this.webRequestContext = webRequestContext;
+            this.outputCache = outputCache;
+        }
+
+        private void render(ViewModel model) throws IOException, ServletException {
+            decorateInclude(INCLUDE, model);
+        }
+
+        @Override
+        protected String getDecoratorId() {
+            return "Entity";
+        }
+
+        @Override
+        protected MarkupDecoratorRegistry getMarkupDecoratorRegistry() {
+            return markupDecoratorRegistry;
+        }
+
+        @Override
+        protected WebRequestContext getWebRequestContext() {
+            return webRequestContext;
+        }
+
+        @Override
+        protected OutputCache getOutputCache() {
+            return outputCache;
+        }
+    }
+
+    /**
+     * Page context which renders the entity view on every include and discards the response.
+     */
+    private static final class EntityViewPageContext extends MockPageContext {
+
+        private final JspWriter out = new MockJspWriter(new DiscardingWriter());
+
+        private final Deque<Writer> bodies = new ArrayDeque<>();
+
+        @Override
+        public void include(String relativeUrlPath) throws IOException {
+            (bodies.isEmpty() ? out : bodies.peek()).write(ENTITY_VIEW);
+        }
+
+        @Override
+        public void include(String relativeUrlPath, boolean flush) throws IOException {
+            include(relativeUrlPath);
+        }
+
+        @Override
+        public JspWriter pushBody(Writer writer) {
+            bodies.push(writer);
+            return null;
+        }
+
+        @Override
+        public JspWriter popBody() {
+            bodies.pop();
+            return null;
+        }
+
+        @Override
+        public JspWriter getOut() {
+            return out;
+        }
+    }
+
+    private static final class DiscardingWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void write(String string) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
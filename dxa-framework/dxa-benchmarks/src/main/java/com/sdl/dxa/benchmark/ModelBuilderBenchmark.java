@@ -0,0 +1,239 @@
+package com.sdl.dxa.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
+import com.sdl.dxa.caching.LocalizationIdProvider;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.WebRequestContextLocalizationIdProvider;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.converter.GenericSemanticModelDataConverter;
+import com.sdl.dxa.tridion.mapping.converter.StringModelConverter;
+import com.sdl.dxa.tridion.mapping.impl.DefaultModelBuilder;
+import com.sdl.dxa.tridion.mapping.impl.ModelBuilderPipelineImpl;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.config.EntitySemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchemaIndex;
+import com.sdl.webapp.common.api.mapping.views.AbstractModuleInitializer;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModel;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModels;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.ViewModelRegistry;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import com.sdl.webapp.common.impl.mapping.SemanticMapperImpl;
+import com.sdl.webapp.common.impl.mapping.SemanticMappingRegistryImpl;
+import com.sdl.webapp.common.impl.model.ViewModelRegistryImpl;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+
+/**
+ * Building of a strongly typed page model out of R2 data model with {@link DefaultModelBuilder},
+ * which maps the entities with {@link SemanticMapperImpl} and converts the content fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBuilderBenchmark {
+
+    @Param({Fixtures.HOME_PAGE, Fixtures.LARGE_PAGE})
+    public String fixture;
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private DefaultModelBuilder modelBuilder;
+
+    private PageModelData pageModelData;
+
+    @Setup
+    public void setup() throws IOException {
+        applicationContext = new AnnotationConfigApplicationContext(ModelBuilderConfiguration.class);
+        modelBuilder = applicationContext.getBean(DefaultModelBuilder.class);
+        pageModelData = Fixtures.objectMapper().readValue(Fixtures.json(fixture), PageModelData.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public PageModel buildPageModel() throws SemanticMappingException {
+        return modelBuilder.buildPageModel(null, pageModelData);
+    }
+
+    static Localization localization() {
+        Map<Long, SemanticSchema> schemas = ImmutableMap.<Long, SemanticSchema>builder()
+                .put(10015L, new SemanticSchema(10015L, "NotImportant", Collections.emptySet(), Collections.emptyMap()))
+                .put(2737L, new SemanticSchema(2737L, "TestEntity",
+                        Sets.newHashSet(new EntitySemantics(SDL_CORE_VOCABULARY, "TestEntity")),
+                        ImmutableMap.of(
+                                new FieldSemantics(SDL_CORE_VOCABULARY, "TestEntity", "headline"),
+                                new SemanticField("headline", "/TestEntity/headline", false, Collections.emptyMap())
+                        ))).build();
+        SemanticSchemaIndex schemaIndex = SemanticSchemaIndex.of(schemas.values());
+        Map<String, String> resources = ImmutableMap.of("core.pageTitleSeparator", "|", "core.pageTitlePostfix", "My Site");
+
+        return Stubs.stub(Localization.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getId":
+                    return "1";
+                case "getPath":
+                    return "/";
+                case "getSemanticSchemas":
+                    return schemas;
+                case "getSemanticSchemaIndex":
+                    return schemaIndex;
+                case "getResource":
+                    return resources.get(args[0]);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class TestEntity extends AbstractEntityModel {
+
+        private String headline;
+    }
+
+    @RegisteredViewModels({
+            @RegisteredViewModel(modelClass = TestEntity.class, viewName = "TestClassView"),
+            @RegisteredViewModel(modelClass = DefaultPageModel.class, viewName = "GeneralPage"),
+            @RegisteredViewModel(viewName = "Header", modelClass = RegionModelImpl.class),
+            @RegisteredViewModel(viewName = "Info", modelClass = RegionModelImpl.class)
+    })
+    static class BenchmarkInitializer extends AbstractModuleInitializer {
+
+        @Override
+        protected String getAreaName() {
+            return "Core";
+        }
+    }
+
+    /**
+     * Model builder with its converters, stubbed link resolver, caches and localization.
+     */
+    @Configuration
+    public static class ModelBuilderConfiguration {
+
+        @Bean
+        public LocalizationIdProvider webRequestContextLocalizationIdProvider() {
+            return new WebRequestContextLocalizationIdProvider();
+        }
+
+        @Bean
+        public LocalizationAwareKeyGenerator localizationAwareKeyGenerator() {
+            return new LocalizationAwareKeyGenerator();
+        }
+
+        @Bean
+        public NamedCacheProvider namedCacheProvider() {
+            Cache cache = Stubs.stub(Cache.class);
+            return Stubs.stub(NamedCacheProvider.class, (method, args) -> "getCache".equals(method.getName()) ? cache : null);
+        }
+
+        @Bean
+        public ObjectMapper objectMapper() {
+            return Fixtures.objectMapper();
+        }
+
+        @Bean
+        public DefaultModelBuilder defaultModelBuilder() {
+            return new DefaultModelBuilder();
+        }
+
+        @Bean
+        public BenchmarkInitializer benchmarkInitializer() {
+            return new BenchmarkInitializer();
+        }
+
+        @Bean
+        public SemanticMapper semanticMapper() {
+            return new SemanticMapperImpl(semanticMappingRegistry());
+        }
+
+        @Bean
+        public SemanticMappingRegistry semanticMappingRegistry() {
+            return new SemanticMappingRegistryImpl();
+        }
+
+        @Bean
+        public ApplicationContextHolder applicationContextHolder() {
+            return new ApplicationContextHolder();
+        }
+
+        @Bean
+        public GenericSemanticModelDataConverter sourceConverterFactory() {
+            return new GenericSemanticModelDataConverter();
+        }
+
+        @Bean
+        public LinkResolver linkResolver() {
+            return Stubs.stub(LinkResolver.class, (method, args) ->
+                    "resolveLink".equals(method.getName()) && "tcm:1-2".equals(args[0]) ? "resolved-link" : null);
+        }
+
+        @Bean
+        public WebRequestContext webRequestContext() {
+            Localization localization = localization();
+            return Stubs.stub(WebRequestContext.class, (method, args) ->
+                    "getLocalization".equals(method.getName()) ? localization : null);
+        }
+
+        @Bean
+        public StringModelConverter stringConverter() {
+            return new StringModelConverter();
+        }
+
+        @Bean
+        public ModelBuilderPipeline modelBuilderPipeline() {
+            return new ModelBuilderPipelineImpl();
+        }
+
+        @Bean
+        public ViewModelRegistry viewModelRegistryImpl() {
+            return new ViewModelRegistryImpl();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sdl.dxa.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of R2 data model payloads, which resolves the polymorphic content fields
+ * with {@link com.sdl.dxa.api.datamodel.json.ModelDataTypeIdResolver}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelDataDeserializationBenchmark {
+
+    @Param({Fixtures.PAGE_MODEL, Fixtures.HOME_PAGE, Fixtures.LARGE_PAGE})
+    public String fixture;
+
+    private ObjectMapper objectMapper;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        objectMapper = Fixtures.objectMapper();
+        json = Fixtures.json(fixture);
+    }
+
+    @Benchmark
+    public PageModelData readPageModelData() throws IOException {
+        return objectMapper.readValue(json, PageModelData.class);
+    }
+}
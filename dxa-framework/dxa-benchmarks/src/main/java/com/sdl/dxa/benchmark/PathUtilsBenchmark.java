@@ -0,0 +1,63 @@
+package com.sdl.dxa.benchmark;
+
+import com.sdl.dxa.common.util.PathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+
+/**
+ * Page path handling of {@link PathUtils}, which runs several times for every request and navigation item,
+ * compared to the regular expression it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathUtilsBenchmark {
+
+    private static final Pattern INDEX_PATH_REGEXP = Pattern.compile("^(?<main>.*)(?<index>/(index(\\.html)?)?)$", Pattern.CASE_INSENSITIVE);
+
+    @Param({"/", "/articles/news/index.html", "/articles/news/2019/some-article.html", "/articles/news"})
+    public String path;
+
+    @Benchmark
+    public boolean isIndexPath() {
+        return PathUtils.isIndexPath(path);
+    }
+
+    @Benchmark
+    public boolean isIndexPathRegex() {
+        return INDEX_PATH_REGEXP.matcher(path.replaceFirst("/$", "")).matches();
+    }
+
+    @Benchmark
+    public String stripIndexPath() {
+        return PathUtils.stripIndexPath(path);
+    }
+
+    @Benchmark
+    public String stripIndexPathRegex() {
+        Matcher matcher = INDEX_PATH_REGEXP.matcher(path);
+        return matcher.matches() ? defaultIfBlank(matcher.group("main"), "/") : path;
+    }
+
+    @Benchmark
+    public String normalizePathToDefaults() {
+        return PathUtils.normalizePathToDefaults(path);
+    }
+}
@@ -0,0 +1,59 @@
+package com.sdl.dxa.benchmark;
+
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchemaIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of semantic schemas by the string IDs of the data model with {@link SemanticSchemaIndex},
+ * compared to a map with boxed keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SemanticSchemaIndexBenchmark {
+
+    private static final int SCHEMAS = 500;
+
+    private final String schemaId = String.valueOf(1000 + SCHEMAS / 2);
+
+    private SemanticSchemaIndex index;
+
+    private Map<Long, SemanticSchema> schemas;
+
+    @Setup
+    public void setup() {
+        schemas = new HashMap<>();
+        for (long id = 1000; id < 1000 + SCHEMAS; id++) {
+            schemas.put(id, new SemanticSchema(id, "Schema" + id, Collections.emptySet(), Collections.emptyMap()));
+        }
+        index = SemanticSchemaIndex.of(schemas.values());
+    }
+
+    @Benchmark
+    public SemanticSchema index() {
+        return index.get(schemaId);
+    }
+
+    @Benchmark
+    public SemanticSchema map() {
+        return schemas.get(Long.parseLong(schemaId));
+    }
+}
@@ -0,0 +1,143 @@
+package com.sdl.dxa.benchmark;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.tridion.mapping.converter.StringModelConverter;
+import com.sdl.dxa.tridion.mapping.converter.TypeInformation;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
+import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.model.entity.Link;
+import com.sdl.webapp.tridion.fields.exceptions.FieldConverterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a large set of string fields with {@link StringModelConverter}: texts, numbers, dates and links,
+ * many links referring to the same pages. Links are collected while converting and resolved together afterwards,
+ * as the model builder does, compared to resolving every link while converting it as the converter did before.
+ * Resolving a link costs some CPU, as a lookup in the link cache would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringConverterBenchmark {
+
+    private static final int FIELDS = 1000;
+
+    private static final int DISTINCT_LINKS = 50;
+
+    private static final long LINK_RESOLUTION_TOKENS = 200;
+
+    private static final TypeInformation STRING = TypeInformation.builder().objectType(String.class).build();
+
+    private static final TypeInformation NUMBER = TypeInformation.builder().objectType(BigDecimal.class).build();
+
+    private static final TypeInformation DATE = TypeInformation.builder().objectType(Date.class).build();
+
+    private static final TypeInformation LINK = TypeInformation.builder().objectType(Link.class).build();
+
+    private static final TypeInformation LINKS = TypeInformation.builder().objectType(Link.class).collectionType(List.class).build();
+
+    private final SemanticField semanticField = new SemanticField("field", "/Entity/field", false, Collections.emptyMap());
+
+    private final EntityModelData entity = new EntityModelData();
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private StringModelConverter converter;
+
+    private String[] values;
+
+    private TypeInformation[] types;
+
+    @Setup
+    public void setup() {
+        applicationContext = new AnnotationConfigApplicationContext(ConverterConfiguration.class);
+        converter = applicationContext.getBean(StringModelConverter.class);
+
+        values = new String[FIELDS];
+        types = new TypeInformation[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            switch (i % 5) {
+                case 0:
+                    values[i] = "Text of field " + i;
+                    types[i] = STRING;
+                    break;
+                case 1:
+                    values[i] = String.valueOf(i * 1.5);
+                    types[i] = NUMBER;
+                    break;
+                case 2:
+                    values[i] = "2019-04-23T11:34:56";
+                    types[i] = DATE;
+                    break;
+                default:
+                    values[i] = "tcm:1-" + (i % DISTINCT_LINKS);
+                    types[i] = i % 5 == 3 ? LINK : LINKS;
+                    break;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void collectedLinks(Blackhole blackhole) throws FieldConverterException {
+        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getWithDeferredLinks(entity, null);
+        for (int i = 0; i < FIELDS; i++) {
+            blackhole.consume(converter.convert(values[i], types[i], semanticField, null, dataProvider));
+        }
+        dataProvider.resolveCollectedLinks();
+    }
+
+    @Benchmark
+    public void immediateLinks(Blackhole blackhole) throws FieldConverterException {
+        for (int i = 0; i < FIELDS; i++) {
+            blackhole.consume(converter.convert(values[i], types[i], semanticField, null, null));
+        }
+    }
+
+    /**
+     * Configuration of the model builder benchmark with a link resolver which takes some time.
+     */
+    @Configuration
+    public static class ConverterConfiguration extends ModelBuilderBenchmark.ModelBuilderConfiguration {
+
+        @Bean
+        @Override
+        public LinkResolver linkResolver() {
+            return Stubs.stub(LinkResolver.class, (method, args) -> {
+                if (!"resolveLink".equals(method.getName())) {
+                    return null;
+                }
+                Blackhole.consumeCPU(LINK_RESOLUTION_TOKENS);
+                return "/resolved/" + args[0];
+            });
+        }
+    }
+}
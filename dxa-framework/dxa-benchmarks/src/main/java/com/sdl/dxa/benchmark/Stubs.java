@@ -0,0 +1,91 @@
+package com.sdl.dxa.benchmark;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.BiFunction;
+
+/**
+ * Stubs of interfaces for the benchmarks.
+ * <p>Mocking frameworks record every invocation, which grows the heap during a benchmark run and shows up
+ * in the allocation profile. These stubs answer from a function and keep no state.</p>
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a stub which answers all calls with the given function. If the function returns {@code null}
+     * for a method with a primitive return type, the default value of the type is returned.
+     *
+     * @param type    interface to stub
+     * @param answers function of the method and the arguments
+     * @param <T>     type of the interface
+     * @return the stub
+     */
+    public static <T> T stub(Class<T> type, BiFunction<Method, Object[], Object> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) {
+                        return "Stub of " + type.getSimpleName();
+                    }
+                    break;
+                default:
+                    break;
+            }
+            Object answer = answers.apply(method, args == null ? new Object[0] : args);
+            return answer != null ? answer : defaultValue(method.getReturnType());
+        });
+        return type.cast(stub);
+    }
+
+    /**
+     * Creates a stub which returns {@code null}, {@code false} or zero from all methods.
+     *
+     * @param type interface to stub
+     * @param <T>  type of the interface
+     * @return the stub
+     */
+    public static <T> T stub(Class<T> type) {
+        return stub(type, (method, args) -> null);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sdl.dxa.benchmark;
+
+import com.sdl.webapp.common.util.TcmUri;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsing of TCM URIs with {@link TcmUri}, compared to the regular expression it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TcmUriBenchmark {
+
+    private static final Pattern URI_SCHEMA = Pattern.compile("(?<namespace>tcm|ish):(?<publicationId>\\d+)-(?<itemId>\\d+)(-(?<itemType>\\d+))?");
+
+    @Param({"tcm:1082-4838", "tcm:1082-2740-32", "/articles/news"})
+    public String uri;
+
+    @Benchmark
+    public TcmUri parse() {
+        return TcmUri.parse(uri);
+    }
+
+    @Benchmark
+    public int parseRegex() {
+        Matcher matcher = URI_SCHEMA.matcher(uri);
+        return matcher.matches() ? Integer.parseInt(matcher.group("publicationId")) + Integer.parseInt(matcher.group("itemId")) : -1;
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return TcmUri.isValid(uri);
+    }
+
+    @Benchmark
+    public boolean isValidRegex() {
+        return URI_SCHEMA.matcher(uri).matches();
+    }
+}
@@ -0,0 +1,125 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.benchmark.Fixtures;
+import com.sdl.dxa.benchmark.ModelBuilderBenchmark;
+import com.sdl.dxa.benchmark.Stubs;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page and entity model lookups of {@link AbstractContentProvider} on a cache hit, which copy the cached model
+ * and, for pages, filter its conditional entities. It is in the package of the provider, because the loading methods
+ * are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentProviderCacheBenchmark {
+
+    private static final String PATH = "/index";
+
+    @Param({Fixtures.HOME_PAGE, Fixtures.LARGE_PAGE})
+    public String fixture;
+
+    private Localization localization;
+
+    private CachedContentProvider contentProvider;
+
+    private String entityId;
+
+    @Setup
+    public void setup() throws Exception {
+        PageModel pageModel;
+        try (AnnotationConfigApplicationContext applicationContext =
+                     new AnnotationConfigApplicationContext(ModelBuilderBenchmark.ModelBuilderConfiguration.class)) {
+            PageModelData pageModelData = Fixtures.objectMapper().readValue(Fixtures.json(fixture), PageModelData.class);
+            pageModel = applicationContext.getBean(DefaultModelBuilder.class).buildPageModel(null, pageModelData);
+            localization = applicationContext.getBean(WebRequestContext.class).getLocalization();
+        }
+
+        contentProvider = new CachedContentProvider(Stubs.stub(WebRequestContext.class), pageModel);
+        contentProvider.getPageModel(PATH, localization);
+        entityId = findEntity(pageModel.getRegions(), null).getId();
+        contentProvider.getEntityModel(entityId, localization);
+    }
+
+    @Benchmark
+    public PageModel getCachedPageModel() throws ContentProviderException {
+        return contentProvider.getPageModel(PATH, localization);
+    }
+
+    @Benchmark
+    public EntityModel getCachedEntityModel() throws ContentProviderException {
+        return contentProvider.getEntityModel(entityId, localization);
+    }
+
+    /**
+     * Finds an entity with the given ID, or the first entity if the ID is {@code null}, in the regions and their nested regions.
+     */
+    private static EntityModel findEntity(Iterable<RegionModel> regions, String componentId) {
+        for (RegionModel region : regions) {
+            for (EntityModel entity : region.getEntities()) {
+                if (componentId == null || componentId.equals(entity.getId())) {
+                    return entity;
+                }
+            }
+            EntityModel nested = findEntity(region.getRegions(), componentId);
+            if (nested != null) {
+                return nested;
+            }
+        }
+        return null;
+    }
+
+    private static final class CachedContentProvider extends AbstractContentProvider {
+
+        private final PageModel pageModel;
+
+        private CachedContentProvider(WebRequestContext webRequestContext, PageModel pageModel) {
+            super(webRequestContext, new ConcurrentMapCacheManager());
+            this.pageModel = pageModel;
+        }
+
+        @Override
+        PageModel loadPage(String path, Localization localization) {
+            return pageModel;
+        }
+
+        @Override
+        PageModel loadPage(int pageId, Localization localization) {
+            return pageModel;
+        }
+
+        @Override
+        protected EntityModel getEntityModel(String componentId) throws ContentProviderException {
+            EntityModel entity = findEntity(pageModel.getRegions(), componentId);
+            if (entity == null) {
+                throw new ContentProviderException("Entity " + componentId + " is not on the benchmark page");
+            }
+            return entity;
+        }
+    }
+}
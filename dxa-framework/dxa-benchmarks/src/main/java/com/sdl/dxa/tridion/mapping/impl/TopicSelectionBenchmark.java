@@ -0,0 +1,118 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.webapp.common.api.model.entity.GenericTopic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selection of the elements of DITA properties and of the links in a topic with {@link StronglyTypedTopicBuilder},
+ * which walks the DOM, compared to evaluating the equivalent XPath expressions and filtering their results by class
+ * name as the builder did before.
+ * It is in the package of the builder, because the selection methods are protected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopicSelectionBenchmark {
+
+    private static final int SECTIONS = 50;
+
+    private static final String[] PROPERTY_NAMES = {"title", "body", "body/section", "related-links/childlink", "related-links/parentlink"};
+
+    private StronglyTypedTopicBuilder builder;
+
+    private Element rootElement;
+
+    private XPathExpression[] propertyXPaths;
+
+    private XPathExpression linkXPath;
+
+    @Setup
+    public void setup() throws Exception {
+        builder = new StronglyTypedTopicBuilder();
+
+        StringBuilder body = new StringBuilder("<h1 class=\"title \">DITA title</h1><div class=\"body lcBaseBody \">");
+        for (int i = 0; i < SECTIONS; i++) {
+            body.append("<div class=\"section lcIntro \" id=\"s").append(i).append("\"><p class=\"p\">Section ").append(i)
+                    .append(" with <b class=\"ph\">inline</b> text and a <a href=\"/section-").append(i)
+                    .append(".html\">link</a>.</p><ul class=\"ul\"><li class=\"li\">one</li><li class=\"li\">two</li></ul></div>");
+        }
+        body.append("</div><div class=\"related-links \">");
+        for (int i = 0; i < SECTIONS / 5; i++) {
+            body.append("<div class=\"childlink \"><strong><a class=\"link \" href=\"/child-").append(i)
+                    .append(".html\">Child link</a></strong></div>");
+        }
+        body.append("<div class=\"parentlink \"><strong><a class=\"link \" href=\"/parent.html\">Parent link</a></strong></div></div>");
+
+        GenericTopic topic = new GenericTopic();
+        topic.setTopicTitle("DITA title");
+        topic.setTopicBody(body.toString());
+        rootElement = builder.parseXhtml(topic);
+
+        XPathFactory xPathFactory = XPathFactory.newInstance();
+        propertyXPaths = new XPathExpression[PROPERTY_NAMES.length];
+        for (int i = 0; i < PROPERTY_NAMES.length; i++) {
+            propertyXPaths[i] = xPathFactory.newXPath().compile(builder.getPropertyXPath(PROPERTY_NAMES[i]));
+        }
+        linkXPath = xPathFactory.newXPath().compile(".//a");
+    }
+
+    @Benchmark
+    public void domWalk(Blackhole blackhole) {
+        for (String propertyName : PROPERTY_NAMES) {
+            List<Element> elements = builder.filterElements(builder.selectElements(rootElement, propertyName), propertyName);
+            for (Element element : elements) {
+                blackhole.consume(element.getElementsByTagName("a").item(0));
+            }
+        }
+    }
+
+    @Benchmark
+    public void xPath(Blackhole blackhole) throws XPathExpressionException {
+        for (int i = 0; i < PROPERTY_NAMES.length; i++) {
+            NodeList nodes = (NodeList) propertyXPaths[i].evaluate(rootElement, XPathConstants.NODESET);
+            for (Element element : filterXPathResults(nodes, PROPERTY_NAMES[i])) {
+                blackhole.consume(linkXPath.evaluate(element, XPathConstants.NODE));
+            }
+        }
+    }
+
+    /**
+     * Filters the evaluated elements by their class names as the builder did before.
+     */
+    private static List<Element> filterXPathResults(NodeList nodes, String propertyName) {
+        String className = propertyName.substring(propertyName.lastIndexOf('/') + 1);
+        List<Element> result = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Element element = (Element) nodes.item(i);
+            if (new HashSet<>(Arrays.asList(element.getAttribute("class").split(" "))).contains(className)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Injection of the XPM markup into a rendered entity with {@link XpmMarkupInjector}, compared to parsing the markup
+ * with Jsoup as the decorator did before. It is in the package of the injector, because the injector is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XpmInjectionBenchmark {
+
+    private static final String ENTITY_XPM = "<!-- Start Component Presentation: {\"ComponentID\":\"tcm:1082-4838\"," +
+            "\"ComponentModified\":\"2014-08-05T11:28:17\",\"ComponentTemplateID\":\"tcm:1082-2740-32\"," +
+            "\"ComponentTemplateModified\":\"2014-07-31T16:32:47\",\"IsRepositoryPublished\":false} -->";
+
+    private static final String ENTITY_VIEW = "<article class=\"teaser\">\n" +
+            "  <h3 data-entity-property-xpath=\"tcm:Content/custom:TestEntity/custom:headline\">Headline</h3>\n" +
+            "  <img src=\"/media/teaser.png\" alt=\"\" data-entity-property-xpath=\"tcm:Content/custom:TestEntity/custom:image\">\n" +
+            "  <div class=\"content\">\n" +
+            "    <p>Lorem ipsum dolor sit amet, <a href=\"/articles/1\">consectetur</a> adipiscing elit.</p>\n" +
+            "    <ul><li>one</li><li>two</li><li>three</li></ul>\n" +
+            "  </div>\n" +
+            "</article>";
+
+    @Benchmark
+    public String injector() {
+        return XpmMarkupInjector.injectEntityMarkup(ENTITY_VIEW, ENTITY_XPM);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String jsoup() {
+        Element html = new ParsableHtmlNode(ENTITY_VIEW).getHtmlElement();
+        html.prepend(ENTITY_XPM);
+        for (Element property : html.select("[" + XpmMarkupInjector.PROPERTY_XPATH_ATTRIBUTE + "]")) {
+            EntityXpmMarkup.processProperty(property);
+        }
+        return html.outerHtml();
+    }
+}
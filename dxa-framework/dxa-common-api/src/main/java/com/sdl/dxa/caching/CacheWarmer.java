@@ -0,0 +1,419 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.webapp.common.impl.interceptor.Readiness;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fills the caches of a node before it takes traffic, and again after a localization is refreshed.
+ * <p>Page models are built in requests, so the warmer requests the pages of this node like a visitor would. For each
+ * localization in <code>dxa.caching.prewarm.urls</code> it reads the <code>sitemap.xml</code>, ranks the pages, and
+ * requests the first <code>dxa.caching.prewarm.max.pages</code> of them with limited concurrency. Pages listed in
+ * <code>dxa.caching.prewarm.priority</code> come first, then the pages most requested in the access log of
+ * <code>dxa.caching.prewarm.access.log</code>, then the other pages in the order of the sitemap.</p>
+ * <p>Until the share <code>dxa.caching.prewarm.ready.fraction</code> of the pages is warm, the node is not
+ * {@link Readiness ready}. It becomes ready anyway when all pages are requested or after
+ * <code>dxa.caching.prewarm.timeout</code> seconds, so that a failing backend does not keep it out of service.</p>
+ * <p>The warmer fills the caches which are shared by all visitors, like the page and entity models. Output cached per
+ * <code>User-Agent</code> is not stored for its requests, see {@link #isWarmingRequest(HttpServletRequest)}, because
+ * no visitor has the <code>User-Agent</code> of the warmer. A cache with the <code>tinylfu</code> policy only takes
+ * the warmed pages while it has room: once it is full, a page which the warmer requested once does not replace an
+ * entry which visitors requested more often.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+@Component
+public class CacheWarmer {
+
+    static final String READINESS_CHECK = "cacheWarming";
+
+    /**
+     * Header which marks the requests of the warmer.
+     */
+    public static final String WARMING_HEADER = "X-DXA-Cache-Warming";
+
+    private static final Pattern SITEMAP_LOCATION = Pattern.compile("<loc>\\s*([^<\\s]+)\\s*</loc>");
+
+    private static final Pattern REQUEST_LINE = Pattern.compile("\"[A-Z]+ ([^ ?\"]+)[^ \"]* HTTP/[0-9.]+\"");
+
+    private static final long SITEMAP_RETRY_MILLIS = 1000;
+
+    private static final int HTTP_TIMEOUT_MILLIS = 30000;
+
+    private final List<String> urls;
+
+    private final List<String> priorityPaths;
+
+    private final Path accessLog;
+
+    private final int maxPages;
+
+    private final double readyFraction;
+
+    private final long timeoutMillis;
+
+    private final PageLoader loader;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(daemon("dxa-cache-warming"));
+
+    private final ExecutorService pages;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicBoolean again = new AtomicBoolean();
+
+    private final AtomicInteger warmed = new AtomicInteger();
+
+    private volatile int planned = -1;
+
+    private volatile boolean initialWarmingDone;
+
+    private volatile long deadline = Long.MAX_VALUE;
+
+    @Autowired
+    public CacheWarmer(@Value("${dxa.caching.prewarm.urls:}") String urls,
+                       @Value("${dxa.caching.prewarm.priority:}") String priorityPaths,
+                       @Value("${dxa.caching.prewarm.access.log:}") String accessLog,
+                       @Value("${dxa.caching.prewarm.max.pages:1000}") int maxPages,
+                       @Value("${dxa.caching.prewarm.concurrency:4}") int concurrency,
+                       @Value("${dxa.caching.prewarm.ready.fraction:0.8}") double readyFraction,
+                       @Value("${dxa.caching.prewarm.timeout:300}") long timeoutSeconds) {
+        this(split(urls), split(priorityPaths), accessLog.trim().isEmpty() ? null : Paths.get(accessLog.trim()),
+                maxPages, concurrency, readyFraction, TimeUnit.SECONDS.toMillis(timeoutSeconds), CacheWarmer::request);
+    }
+
+    CacheWarmer(List<String> urls, List<String> priorityPaths, @Nullable Path accessLog, int maxPages, int concurrency,
+                double readyFraction, long timeoutMillis, PageLoader loader) {
+        this.urls = urls;
+        this.priorityPaths = priorityPaths;
+        this.accessLog = accessLog;
+        this.maxPages = maxPages;
+        this.readyFraction = readyFraction;
+        this.timeoutMillis = timeoutMillis;
+        this.loader = loader;
+        this.pages = Executors.newFixedThreadPool(Math.max(1, concurrency), daemon("dxa-cache-warming-page"));
+    }
+
+    /**
+     * Starts warming the caches in the background, if localizations to warm are configured. The node is not ready
+     * until enough pages are warm.
+     */
+    @PostConstruct
+    public void start() {
+        if (urls.isEmpty()) {
+            log.debug("No localizations to warm the caches for, set dxa.caching.prewarm.urls to enable warming");
+            initialWarmingDone = true;
+            return;
+        }
+        deadline = System.currentTimeMillis() + timeoutMillis;
+        if (readyFraction > 0) {
+            Readiness.getDefault().register(READINESS_CHECK, this::isWarm);
+        }
+        log.info("Warming the caches for {}, ready when {}% of at most {} pages are warm", urls, readyFraction * 100, maxPages);
+        schedule();
+    }
+
+    /**
+     * Warms the caches again in the background, for example after they have been cleared. If warming is running,
+     * it is done once more when it has finished.
+     */
+    public void warmAgain() {
+        if (!urls.isEmpty()) {
+            schedule();
+        }
+    }
+
+    /**
+     * Returns whether enough pages are warm for the node to take traffic.
+     *
+     * @return {@code true} when the initial warming has reached the ready fraction, has finished or has timed out
+     */
+    public boolean isWarm() {
+        if (initialWarmingDone || System.currentTimeMillis() >= deadline) {
+            return true;
+        }
+        int total = planned;
+        return total >= 0 && warmed.get() >= Math.ceil(total * readyFraction);
+    }
+
+    @PreDestroy
+    public void close() {
+        Readiness.getDefault().unregister(READINESS_CHECK);
+        coordinator.shutdownNow();
+        pages.shutdownNow();
+    }
+
+    private void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            again.set(true);
+            return;
+        }
+        again.set(false);
+        try {
+            coordinator.execute(this::warmInBackground);
+        } catch (RejectedExecutionException e) {
+            log.debug("Cache warmer is closed, caches are not warmed");
+            running.set(false);
+        }
+    }
+
+    private void warmInBackground() {
+        try {
+            warm();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            initialWarmingDone = true;
+            running.set(false);
+        }
+        if (again.get()) {
+            schedule();
+        }
+    }
+
+    private void warm() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        // the application may not take requests yet when it is starting, so the sitemaps are requested until it does
+        long sitemapDeadline = initialWarmingDone ? start + SITEMAP_RETRY_MILLIS * 3 : deadline;
+        List<String> sitemap = new ArrayList<>();
+        for (String url : urls) {
+            sitemap.addAll(readSitemap(url, sitemapDeadline));
+        }
+        List<String> ranked = rank(sitemap, priorityPaths, countRequests(sitemap), maxPages);
+        warmed.set(0);
+        planned = ranked.size();
+
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<?>> requests = new ArrayList<>(ranked.size());
+        for (String url : ranked) {
+            requests.add(pages.submit(() -> {
+                try {
+                    loader.load(url);
+                    warmed.incrementAndGet();
+                } catch (IOException e) {
+                    log.debug("Cannot warm the caches with {}", url, e);
+                    failed.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> request : requests) {
+            try {
+                request.get();
+            } catch (ExecutionException e) {
+                log.warn("Warming the caches failed", e.getCause());
+                failed.incrementAndGet();
+            }
+        }
+        log.info("Warmed the caches with {} of {} pages in {} ms, {} failed",
+                warmed.get(), ranked.size(), System.currentTimeMillis() - start, failed.get());
+    }
+
+    private List<String> readSitemap(String url, long until) throws InterruptedException {
+        String sitemapUrl = (url.endsWith("/") ? url : url + "/") + "sitemap.xml";
+        while (true) {
+            try {
+                return parseSitemap(loader.load(sitemapUrl));
+            } catch (IOException e) {
+                if (System.currentTimeMillis() + SITEMAP_RETRY_MILLIS >= until) {
+                    log.warn("Cannot read sitemap {}, its pages are not warmed", sitemapUrl, e);
+                    return Collections.emptyList();
+                }
+                log.debug("Sitemap {} is not available yet: {}", sitemapUrl, e.getMessage());
+                TimeUnit.MILLISECONDS.sleep(SITEMAP_RETRY_MILLIS);
+            }
+        }
+    }
+
+    private Map<String, Integer> countRequests(List<String> sitemap) {
+        if (accessLog == null) {
+            return Collections.emptyMap();
+        }
+        Set<String> paths = sitemap.stream().map(url -> normalize(pathOf(url))).collect(Collectors.toSet());
+        try (BufferedReader reader = Files.newBufferedReader(accessLog, StandardCharsets.UTF_8)) {
+            return countRequests(reader.lines(), paths);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Cannot read access log {}, pages are warmed in the order of the sitemap", accessLog, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Extracts the page URLs from a sitemap in the sitemaps.org format.
+     */
+    @NotNull
+    static List<String> parseSitemap(@NotNull String xml) {
+        List<String> locations = new ArrayList<>();
+        Matcher location = SITEMAP_LOCATION.matcher(xml);
+        while (location.find()) {
+            locations.add(location.group(1).replace("&amp;", "&"));
+        }
+        return locations;
+    }
+
+    /**
+     * Counts the requests of the given paths in the lines of an access log in the common or combined log format.
+     * Lines with only a path are counted as well. The lines are read one at a time and other paths are not counted,
+     * so an access log of any size takes only memory for the given paths.
+     */
+    @NotNull
+    static Map<String, Integer> countRequests(@NotNull Stream<String> lines, @NotNull Set<String> paths) {
+        Map<String, Integer> requests = new HashMap<>();
+        lines.forEach(line -> {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                return;
+            }
+            Matcher request = REQUEST_LINE.matcher(trimmed);
+            String path = request.find() ? request.group(1) : trimmed.startsWith("/") ? trimmed : null;
+            if (path != null) {
+                String normalized = normalize(path);
+                if (paths.contains(normalized)) {
+                    requests.merge(normalized, 1, Integer::sum);
+                }
+            }
+        });
+        return requests;
+    }
+
+    /**
+     * Ranks page URLs: the priority paths in their order, then by the number of requests, then in the given order.
+     */
+    @NotNull
+    static List<String> rank(@NotNull List<String> urls, @NotNull List<String> priorityPaths,
+                             @NotNull Map<String, Integer> requests, int maxPages) {
+        Map<String, Integer> priorities = new HashMap<>();
+        for (int i = 0; i < priorityPaths.size(); i++) {
+            priorities.putIfAbsent(normalize(priorityPaths.get(i)), i);
+        }
+        Map<String, String> pathsByUrl = new LinkedHashMap<>();
+        for (String url : urls) {
+            pathsByUrl.putIfAbsent(url, normalize(pathOf(url)));
+        }
+        // stable sort, so pages which are equally popular stay in the order of the sitemap
+        return pathsByUrl.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, String>>comparingInt(page -> priorities.getOrDefault(page.getValue(), Integer.MAX_VALUE))
+                        .thenComparingInt(page -> -requests.getOrDefault(page.getValue(), 0)))
+                .limit(Math.max(0, maxPages))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static String pathOf(String url) {
+        try {
+            return new URL(url).getPath();
+        } catch (MalformedURLException e) {
+            return url;
+        }
+    }
+
+    private static String normalize(String path) {
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split("[,\\s]+"))
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Returns whether the request was sent by the warmer.
+     *
+     * @param request current request, may be {@code null}
+     * @return whether the request has the {@link #WARMING_HEADER}
+     */
+    public static boolean isWarmingRequest(@Nullable HttpServletRequest request) {
+        return request != null && "true".equals(request.getHeader(WARMING_HEADER));
+    }
+
+    private static String request(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(HTTP_TIMEOUT_MILLIS);
+            connection.setReadTimeout(HTTP_TIMEOUT_MILLIS);
+            connection.setRequestProperty(WARMING_HEADER, "true");
+            int status = connection.getResponseCode();
+            if (status / 100 != 2) {
+                throw new IOException("HTTP status " + status + " for " + url);
+            }
+            try (InputStream in = connection.getInputStream()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    body.write(buffer, 0, read);
+                }
+                return new String(body.toByteArray(), StandardCharsets.UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Requests a URL of this node.
+     */
+    @FunctionalInterface
+    interface PageLoader {
+
+        /**
+         * @param url URL to request
+         * @return body of the response
+         * @throws IOException if the request fails or the status is not 2xx
+         */
+        String load(String url) throws IOException;
+    }
+}
@@ -7,6 +7,11 @@ import javax.servlet.http.HttpServletRequest;
 
 /**
  * Composite key (DTO) for output caching.
+ * <p>The {@code version} identifies the content which is rendered, typically {@link ContentVersion#of(com.sdl.webapp.common.api.model.ViewModel)},
+ * so that the output is not served from cache after the content has changed.</p>
+ * <p>The {@code containerSize} is the {@link com.sdl.webapp.common.api.WebRequestContext#getContainerSize() size of the container}
+ * the output is rendered into, because views like responsive images depend on it. It is {@code 0} if the output does not
+ * depend on it.</p>
  */
 @Value
 public class CompositeOutputCacheKeyBase {
@@ -20,4 +25,27 @@ public class CompositeOutputCacheKeyBase {
     private MvcData mvcData;
 
     private HttpServletRequest request;
+
+    private int containerSize;
+
+    private Object version;
+
+    public CompositeOutputCacheKeyBase(String pageId, String name, String include, MvcData mvcData, HttpServletRequest request,
+                                       int containerSize, Object version) {
+        this.pageId = pageId;
+        this.name = name;
+        this.include = include;
+        this.mvcData = mvcData;
+        this.request = request;
+        this.containerSize = containerSize;
+        this.version = version;
+    }
+
+    public CompositeOutputCacheKeyBase(String pageId, String name, String include, MvcData mvcData, HttpServletRequest request, Object version) {
+        this(pageId, name, include, mvcData, request, 0, version);
+    }
+
+    public CompositeOutputCacheKeyBase(String pageId, String name, String include, MvcData mvcData, HttpServletRequest request) {
+        this(pageId, name, include, mvcData, request, null);
+    }
 }
@@ -0,0 +1,87 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.model.ViewModel;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Computes a version of the content of a view model to be used as a part of an output cache key.
+ * <p>The version is taken from the modification dates which the data model carries in the XPM metadata:
+ * {@code ComponentModified} and {@code ComponentTemplateModified} for entities, {@code PageModified} and
+ * {@code PageTemplateModified} for pages. Regions have no dates of their own, their version consists of the versions
+ * of their entities and nested regions. When an item is changed and published again, the version changes, so the
+ * output cached for the previous version is not used any more and expires from the cache.</p>
+ * <p>Models without these dates, for example on live sites where the XPM metadata is not published or entities
+ * created in code, have no version. Their output is cached without a version and is invalidated together with the
+ * output cache when the content is refreshed.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class ContentVersion {
+
+    private ContentVersion() {
+    }
+
+    /**
+     * Returns the version of the content of the given model.
+     *
+     * @param model model to compute the version of
+     * @return version of the content, or {@code null} if the model or a part of it has no version
+     */
+    @Nullable
+    public static String of(@Nullable ViewModel model) {
+        if (model instanceof EntityModel) {
+            return fromDates(model, "ComponentModified", "ComponentTemplateModified");
+        }
+        if (model instanceof PageModel) {
+            return fromDates(model, "PageModified", "PageTemplateModified");
+        }
+        if (model instanceof RegionModel) {
+            return ofRegion((RegionModel) model);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String ofRegion(RegionModel region) {
+        StringBuilder version = new StringBuilder();
+        if (region.getEntities() != null) {
+            for (EntityModel entity : region.getEntities()) {
+                if (!append(version, entity.getId(), of(entity))) {
+                    return null;
+                }
+            }
+        }
+        if (region.getRegions() != null) {
+            for (RegionModel nested : region.getRegions()) {
+                if (!append(version, nested.getName(), ofRegion(nested))) {
+                    return null;
+                }
+            }
+        }
+        return version.toString();
+    }
+
+    private static boolean append(StringBuilder version, String name, @Nullable String partVersion) {
+        if (partVersion == null) {
+            return false;
+        }
+        version.append('[').append(name).append('@').append(partVersion).append(']');
+        return true;
+    }
+
+    @Nullable
+    private static String fromDates(ViewModel model, String itemModified, String templateModified) {
+        Map<String, Object> xpmMetadata = model.getXpmMetadata();
+        Object modified = xpmMetadata == null ? null : xpmMetadata.get(itemModified);
+        if (modified == null) {
+            return null;
+        }
+        Object template = xpmMetadata.get(templateModified);
+        return template == null ? modified.toString() : modified + "/" + template;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Output cache key dimension with the device family of the request as defined by {@link ContextEngine#getDeviceFamily()}.
+ * Suits views which only differ per device family, same as the views selected by the device family.
+ *
+ * @dxa.publicApi
+ */
+@Component
+public class DeviceFamilyKeyDimension implements OutputCacheKeyDimension {
+
+    public static final String NAME = "device-family";
+
+    private final ObjectFactory<ContextEngine> contextEngine;
+
+    @Autowired
+    public DeviceFamilyKeyDimension(ObjectFactory<ContextEngine> contextEngine) {
+        this.contextEngine = contextEngine;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Object getValue(@NotNull CompositeOutputCacheKeyBase keyBase) {
+        return contextEngine.getObject().getDeviceFamily();
+    }
+}
@@ -0,0 +1,26 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Output cache key dimension for views which render the same output for any request.
+ *
+ * @dxa.publicApi
+ */
+@Component
+public class NoKeyDimension implements OutputCacheKeyDimension {
+
+    public static final String NAME = "none";
+
+    @NotNull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Object getValue(@NotNull CompositeOutputCacheKeyBase keyBase) {
+        return null;
+    }
+}
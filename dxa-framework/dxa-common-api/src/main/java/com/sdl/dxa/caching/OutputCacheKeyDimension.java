@@ -0,0 +1,35 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Part of the output cache key that describes the request the HTML output was rendered for.
+ * <p>Rendering usually depends only on a small equivalence class of requests (like a device family), so the less
+ * distinct values a dimension produces, the higher is the hit rate of the output cache. Implementations registered
+ * as Spring beans are available by {@link #getName() name} for the <code>dxa.caching.output.key.dimension</code>
+ * and <code>dxa.caching.output.key.dimension.views</code> properties.</p>
+ *
+ * @dxa.publicApi
+ * @see com.sdl.dxa.caching.wrapper.OutputCache
+ */
+public interface OutputCacheKeyDimension {
+
+    /**
+     * Returns the name of this dimension used in the configuration.
+     *
+     * @return name of the dimension
+     */
+    @NotNull
+    String getName();
+
+    /**
+     * Returns the value of this dimension for the given key base. The value becomes a part of the cache key,
+     * so it has to be serializable and implement {@code equals()} and {@code hashCode()}.
+     *
+     * @param keyBase key base of the output being cached
+     * @return value of the dimension, may be {@code null}
+     */
+    @Nullable
+    Object getValue(@NotNull CompositeOutputCacheKeyBase keyBase);
+}
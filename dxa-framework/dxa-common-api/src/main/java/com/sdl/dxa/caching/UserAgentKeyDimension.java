@@ -0,0 +1,32 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Output cache key dimension with the full <code>User-Agent</code> header of the request.
+ * Default dimension, which is safe for any view but gives a low hit rate because of the variety of user agents.
+ *
+ * @dxa.publicApi
+ */
+@Component
+public class UserAgentKeyDimension implements OutputCacheKeyDimension {
+
+    public static final String NAME = "user-agent";
+
+    private static final String USER_AGENT_HEADER = "User-Agent";
+
+    @NotNull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Object getValue(@NotNull CompositeOutputCacheKeyBase keyBase) {
+        HttpServletRequest request = keyBase.getRequest();
+        return request == null ? "" : request.getHeader(USER_AGENT_HEADER);
+    }
+}
@@ -1,21 +1,87 @@
 package com.sdl.dxa.caching.wrapper;
 
+import com.sdl.dxa.caching.CacheWarmer;
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.OutputCacheKeyDimension;
+import com.sdl.dxa.caching.UserAgentKeyDimension;
+import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.markup.html.HtmlNode;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
  * Output cache that accepts a composite key as a required key. This is a default implementation for manual access.
+ * <p>Besides the key base, the key contains a value of an {@link OutputCacheKeyDimension} describing the request.
+ * The dimension is set with <code>dxa.caching.output.key.dimension</code> (defaults to <code>user-agent</code>)
+ * and may be overridden for specific views with <code>dxa.caching.output.key.dimension.views</code>, which is
+ * a comma-separated list of <code>Area:View=dimension</code> pairs.</p>
  *
  * @dxa.publicApi
  * @see CompositeOutputCacheKeyBase
  */
+@Slf4j
 @Component
 public class OutputCache extends SimpleCacheWrapper<CompositeOutputCacheKeyBase, HtmlNode> {
 
-    private static final String USER_AGENT_HEADER = "User-Agent";
+    private static final OutputCacheKeyDimension DEFAULT_DIMENSION = new UserAgentKeyDimension();
+
+    private Map<String, OutputCacheKeyDimension> dimensions = Collections.singletonMap(DEFAULT_DIMENSION.getName(), DEFAULT_DIMENSION);
+
+    private String defaultDimensionName = DEFAULT_DIMENSION.getName();
+
+    private Map<String, String> viewDimensionNames = Collections.emptyMap();
+
+    @Autowired(required = false)
+    public void setKeyDimensions(List<OutputCacheKeyDimension> keyDimensions) {
+        Map<String, OutputCacheKeyDimension> map = new HashMap<>();
+        map.put(DEFAULT_DIMENSION.getName(), DEFAULT_DIMENSION);
+        keyDimensions.forEach(dimension -> map.put(dimension.getName(), dimension));
+        this.dimensions = map;
+    }
+
+    @Value("${dxa.caching.output.key.dimension:user-agent}")
+    public void setDefaultKeyDimension(String dimensionName) {
+        this.defaultDimensionName = isBlank(dimensionName) ? DEFAULT_DIMENSION.getName() : dimensionName.trim();
+    }
+
+    @Value("${dxa.caching.output.key.dimension.views:}")
+    public void setViewKeyDimensions(String viewDimensions) {
+        Map<String, String> map = new HashMap<>();
+        if (!isBlank(viewDimensions)) {
+            for (String pair : viewDimensions.trim().split("[,\\s]+")) {
+                int separator = pair.indexOf('=');
+                if (separator <= 0 || separator == pair.length() - 1) {
+                    log.warn("Ignoring invalid output cache key dimension '{}', expected Area:View=dimension", pair);
+                    continue;
+                }
+                map.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        this.viewDimensionNames = map;
+    }
+
+    @Override
+    public void init() {
+        super.init();
+        if (!dimensions.containsKey(defaultDimensionName)) {
+            log.warn("Output cache key dimension '{}' is unknown, using '{}'", defaultDimensionName, DEFAULT_DIMENSION.getName());
+        }
+        viewDimensionNames.forEach((view, dimensionName) -> {
+            if (!dimensions.containsKey(dimensionName)) {
+                log.warn("Output cache key dimension '{}' for view '{}' is unknown, using '{}'", dimensionName, view, DEFAULT_DIMENSION.getName());
+            }
+        });
+    }
 
     @Override
     public String getCacheName() {
@@ -29,11 +95,41 @@ public class OutputCache extends SimpleCacheWrapper<CompositeOutputCacheKeyBase,
 
     @Override
     public Object getSpecificKey(CompositeOutputCacheKeyBase keyBase, Object... keyParams) {
-        HttpServletRequest request = keyBase.getRequest();
+        OutputCacheKeyDimension dimension = getKeyDimension(keyBase.getMvcData());
         return getKey(keyBase.getPageId(),
                 keyBase.getName(),
                 keyBase.getMvcData(),
                 keyBase.getInclude(),
-                request == null ? "" : request.getHeader(USER_AGENT_HEADER));
+                keyBase.getContainerSize(),
+                keyBase.getVersion(),
+                dimension.getName(),
+                dimension.getValue(keyBase));
+    }
+
+    /**
+     * Returns whether output for the key base is looked up and stored. Output cached per {@code User-Agent} is not
+     * for the requests of the {@link CacheWarmer}, since no visitor would ever hit it.
+     *
+     * @param keyBase key base of the output
+     * @return whether the output is cached
+     */
+    public boolean isCacheable(@NotNull CompositeOutputCacheKeyBase keyBase) {
+        return !(getKeyDimension(keyBase.getMvcData()) instanceof UserAgentKeyDimension)
+                || !CacheWarmer.isWarmingRequest(keyBase.getRequest());
+    }
+
+    /**
+     * Returns the key dimension configured for the given view, or the default one.
+     *
+     * @param mvcData MVC data of the view, may be {@code null}
+     * @return key dimension, never {@code null}
+     */
+    @NotNull
+    OutputCacheKeyDimension getKeyDimension(MvcData mvcData) {
+        String dimensionName = defaultDimensionName;
+        if (mvcData != null && !viewDimensionNames.isEmpty()) {
+            dimensionName = viewDimensionNames.getOrDefault(mvcData.getAreaName() + ':' + mvcData.getViewName(), dimensionName);
+        }
+        return dimensions.getOrDefault(dimensionName, DEFAULT_DIMENSION);
     }
 }
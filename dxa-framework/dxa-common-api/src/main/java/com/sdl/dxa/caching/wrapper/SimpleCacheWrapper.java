@@ -1,9 +1,11 @@
 package com.sdl.dxa.caching.wrapper;
 
+import com.sdl.dxa.caching.CachePolicy;
 import com.sdl.dxa.caching.ConditionalKey;
 import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
 import com.sdl.dxa.caching.NamedCacheProvider;
 import com.sdl.dxa.caching.NeverCached;
+import com.sdl.dxa.performance.MetricsRegistry;
 import com.sdl.webapp.common.api.model.ViewModel;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -94,7 +96,8 @@ public abstract class SimpleCacheWrapper<B, V> {
     }
 
     /**
-     * Puts the given value into cache unless the value class is annotated with {@link NeverCached}.
+     * Puts the given value into cache unless the value class is annotated with {@link NeverCached}
+     * or the {@link CachePolicy} of the cache does not admit it.
      *
      * @param value value to cache
      * @param key   key formed by {@link #getSpecificKey(Object, Object...)}
@@ -114,6 +117,11 @@ public abstract class SimpleCacheWrapper<B, V> {
             return value;
         }
 
+        if (!getCachePolicy().admit(key)) {
+            log.trace("Value for key {} is not admitted to cache {}", key, getCacheName());
+            return value;
+        }
+
         getCache().put(key, value);
         logPut(key, getCache().getName());
         return value;
@@ -127,7 +135,13 @@ public abstract class SimpleCacheWrapper<B, V> {
      */
     @Nullable
     public V get(Object key) {
-        return containsKey(key) ? (V)getCache().get(key) : null;
+        if (!isCachingEnabled()) {
+            return null;
+        }
+        getCachePolicy().recordAccess(key);
+        V value = (V) getCache().get(key);
+        recordLookup(key, value != null);
+        return value;
     }
 
     /**
@@ -149,13 +163,25 @@ public abstract class SimpleCacheWrapper<B, V> {
         if (!isCachingEnabled()) {
             return false;
         }
+        getCachePolicy().recordAccess(key);
         boolean contains = getCache().containsKey(key);
-        if (contains) {
-            logHit(key, getCache().getName());
+        recordLookup(key, contains);
+        return contains;
+    }
+
+    private void recordLookup(Object key, boolean hit) {
+        MetricsRegistry.getDefault().cache(getCacheName()).record(hit);
+        if (hit) {
+            logHit(key, getCacheName());
         } else {
-            logMiss(key, getCache().getName());
+            logMiss(key, getCacheName());
         }
-        return contains;
+    }
+
+    @NotNull
+    private CachePolicy getCachePolicy() {
+        CachePolicy policy = cacheProvider.getCachePolicy(getCacheName());
+        return policy != null ? policy : CachePolicy.ADMIT_ALL;
     }
 
     protected Object getKey(Object... keyParams) {
@@ -12,6 +12,7 @@ public interface ConditionalEntityEvaluator {
 
     /**
      * Evaluates if the entity should be included.
+     * The entity belongs to the copy of the page model made for the current request.
      *
      * @param entity entity to evaluate
      * @return true if should be included, false otherwise
@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.api.localization;
 
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchemaIndex;
 
 import java.util.List;
 import java.util.Locale;
@@ -108,6 +109,16 @@ public interface Localization {
      */
     Map<Long, SemanticSchema> getSemanticSchemas();
 
+    /**
+     * Gets the primitive-keyed index of the semantic schemas of this localization.
+     * Prefer {@link SemanticSchemaIndex#findSemanticSchema(Localization, String)} for lookups by string ID.
+     *
+     * @return the schema index or {@code null} if this localization doesn't keep one
+     */
+    default SemanticSchemaIndex getSemanticSchemaIndex() {
+        return null;
+    }
+
     /**
      * Gets the includes for the specified page type.
      *
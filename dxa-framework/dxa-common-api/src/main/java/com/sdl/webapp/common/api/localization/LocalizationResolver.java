@@ -22,4 +22,15 @@ public interface LocalizationResolver {
      * @return a boolean.
      */
     boolean refreshLocalization(Localization localization);
+
+    /**
+     * Refreshes the localization with the specified ID, so that its configuration is reloaded. Used when the
+     * localization was refreshed on another node of the cluster, so that there is no {@link Localization} instance.
+     *
+     * @param localizationId ID of the localization to be refreshed
+     * @return whether the localization was refreshed, {@code false} if it was not loaded or cannot be refreshed by ID
+     */
+    default boolean refreshLocalization(String localizationId) {
+        return false;
+    }
 }
@@ -0,0 +1,169 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import com.sdl.webapp.common.api.localization.Localization;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable index of {@link SemanticSchema semantic schemas} of a localization keyed by a primitive schema ID.
+ * <p>Schemas are stored in an open-addressing table with linear probing, so lookups neither box the ID
+ * nor parse it through {@link Long#parseLong(String)}.</p>
+ * <p>The index is built once when the localization is created and is safe to share between threads.</p>
+ */
+public final class SemanticSchemaIndex {
+
+    private static final SemanticSchemaIndex EMPTY = new SemanticSchemaIndex(Collections.emptyList());
+
+    private final long[] keys;
+
+    private final SemanticSchema[] schemas;
+
+    private final int mask;
+
+    private final int size;
+
+    private SemanticSchemaIndex(Collection<SemanticSchema> schemas) {
+        int capacity = tableSizeFor(schemas.size());
+        this.keys = new long[capacity];
+        this.schemas = new SemanticSchema[capacity];
+        this.mask = capacity - 1;
+
+        int count = 0;
+        for (SemanticSchema schema : schemas) {
+            int slot = slotOf(schema.getId());
+            if (this.schemas[slot] == null) {
+                count++;
+            }
+            keys[slot] = schema.getId();
+            this.schemas[slot] = schema;
+        }
+        this.size = count;
+    }
+
+    /**
+     * Builds an index for the given schemas. If several schemas share the same ID, the last one wins.
+     *
+     * @param schemas schemas to index
+     * @return the index, never {@code null}
+     */
+    public static SemanticSchemaIndex of(@Nullable Collection<SemanticSchema> schemas) {
+        return schemas == null || schemas.isEmpty() ? EMPTY : new SemanticSchemaIndex(schemas);
+    }
+
+    /**
+     * Finds a semantic schema of a localization by its string ID.
+     * <p>Uses the {@link Localization#getSemanticSchemaIndex() schema index} of the localization if there is one,
+     * and falls back to {@link Localization#getSemanticSchemas()} otherwise.</p>
+     *
+     * @param localization localization to search in
+     * @param schemaId     schema ID, e.g. {@code "1234"}
+     * @return the schema or {@code null} if the schema is not known
+     * @throws NumberFormatException if the ID is not a number, as {@link Long#parseLong(String)} does
+     */
+    @Nullable
+    public static SemanticSchema findSemanticSchema(Localization localization, @Nullable String schemaId) {
+        long id = toId(schemaId);
+        SemanticSchemaIndex index = localization.getSemanticSchemaIndex();
+        if (index != null) {
+            return index.get(id);
+        }
+        Map<Long, SemanticSchema> schemas = localization.getSemanticSchemas();
+        return schemas == null ? null : schemas.get(id);
+    }
+
+    /**
+     * Parses a non-negative decimal schema ID without allocating and without throwing.
+     *
+     * @param schemaId schema ID as a string
+     * @return the parsed ID or {@code -1} if the string is {@code null}, empty, not a number or too long
+     */
+    public static long parseId(@Nullable CharSequence schemaId) {
+        if (schemaId == null) {
+            return -1;
+        }
+        int length = schemaId.length();
+        if (length == 0 || length > 18) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            char c = schemaId.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static long toId(@Nullable String schemaId) {
+        long id = parseId(schemaId);
+        // anything but plain digits, including null, goes through Long.parseLong which accepts signs and fails as before
+        return id < 0 ? Long.parseLong(schemaId) : id;
+    }
+
+    /**
+     * Returns a semantic schema by its ID.
+     *
+     * @param schemaId schema ID
+     * @return the schema or {@code null} if not found
+     */
+    @Nullable
+    public SemanticSchema get(long schemaId) {
+        if (size == 0) {
+            return null;
+        }
+        int slot = hash(schemaId) & mask;
+        SemanticSchema schema;
+        while ((schema = schemas[slot]) != null) {
+            if (keys[slot] == schemaId) {
+                return schema;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a semantic schema by its string ID.
+     *
+     * @param schemaId schema ID, e.g. {@code "1234"}
+     * @return the schema or {@code null} if the schema is not found
+     * @throws NumberFormatException if the ID is not a number, as {@link Long#parseLong(String)} does
+     */
+    @Nullable
+    public SemanticSchema get(@Nullable String schemaId) {
+        return get(toId(schemaId));
+    }
+
+    /**
+     * Returns the number of schemas in the index.
+     *
+     * @return number of indexed schemas
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slotOf(long schemaId) {
+        int slot = hash(schemaId) & mask;
+        while (schemas[slot] != null && keys[slot] != schemaId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expected) {
+        // keep the load factor at or below 0.5 and always leave at least one free slot
+        int capacity = Integer.highestOneBit(Math.max(expected, 1) * 2 - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+}
@@ -0,0 +1,219 @@
+package com.sdl.webapp.common.api.model;
+
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Decision table of the conditional entities of a page model, compiled once for a cached page model.
+ * <p>The table numbers the entities of all regions in the order {@link CanFilterEntities#filterConditionalEntities(Collection)}
+ * visits them, with the range of entries of every region. {@link #evaluate(PageModel, Collection)} asks the evaluators
+ * about every entity of a copy of the page and returns the visible entries as a bit set. {@link #apply(PageModel, BitSet)}
+ * then removes the hidden entities from the copy, visiting only the regions which have hidden entities,
+ * and does nothing at all if every entity is visible.</p>
+ * <p>The evaluators get the entities of the copy, never those of the compiled page model, which is usually shared
+ * by requests. The result is the same as filtering the copy with
+ * {@link CanFilterEntities#filterConditionalEntities(Collection)}, which is why only pages and regions that use
+ * the filtering of {@link DefaultPageModel} and {@link RegionModelImpl} can be compiled.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class ConditionalEntityTable {
+
+    private static final ClassValue<Boolean> STANDARD_FILTERING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaringClass = type.getMethod("filterConditionalEntities", Collection.class).getDeclaringClass();
+                return declaringClass == DefaultPageModel.class || declaringClass == RegionModelImpl.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final int size;
+
+    private final RegionEntry[] regions;
+
+    private ConditionalEntityTable(int size, RegionEntry[] regions) {
+        this.size = size;
+        this.regions = regions;
+    }
+
+    /**
+     * Compiles the table of a page model.
+     *
+     * @param pageModel page model to compile
+     * @return the table, or {@code null} if the page or one of its regions filters entities in its own way
+     */
+    @Nullable
+    public static ConditionalEntityTable compile(@NotNull PageModel pageModel) {
+        if (!STANDARD_FILTERING.get(pageModel.getClass())) {
+            return null;
+        }
+        List<EntityModel> entities = new ArrayList<>();
+        RegionEntry[] regions = compileRegions(pageModel.getRegions(), entities);
+        return regions == null ? null : new ConditionalEntityTable(entities.size(), regions);
+    }
+
+    @Nullable
+    private static RegionEntry[] compileRegions(@Nullable Collection<RegionModel> regionModels, List<EntityModel> entities) {
+        if (regionModels == null) {
+            return new RegionEntry[0];
+        }
+        RegionEntry[] regions = new RegionEntry[regionModels.size()];
+        int i = 0;
+        for (RegionModel regionModel : regionModels) {
+            if (regionModel == null || !STANDARD_FILTERING.get(regionModel.getClass())) {
+                return null;
+            }
+            // same order as RegionModelImpl: nested regions first, then the entities of the region
+            RegionEntry[] nested = compileRegions(regionModel.getRegions(), entities);
+            if (nested == null) {
+                return null;
+            }
+            int start = entities.size();
+            entities.addAll(regionModel.getEntities());
+            regions[i++] = new RegionEntry(start, entities.size(), nested);
+        }
+        return regions;
+    }
+
+    /**
+     * Returns the number of entities in the table.
+     *
+     * @return number of entities
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Evaluates the entities of a copy of the compiled page model for the current request.
+     *
+     * @param pageCopy   deep copy of the compiled page model
+     * @param evaluators evaluators which all must include an entity
+     * @return bit set of the visible entities
+     * @throws ContentProviderException the first exception of the evaluators, after all entities were evaluated;
+     *                                  entities which caused an exception are visible, as with the filtering of the model
+     */
+    @NotNull
+    public BitSet evaluate(@NotNull PageModel pageCopy, @NotNull Collection<ConditionalEntityEvaluator> evaluators)
+            throws ContentProviderException {
+        BitSet visible = new BitSet(size);
+        visible.set(0, size);
+        if (evaluators.isEmpty()) {
+            return visible;
+        }
+        EntityModel[] entities = new EntityModel[size];
+        collectEntities(regions, pageCopy.getRegions(), entities);
+        ContentProviderException exception = null;
+        for (int i = 0; i < entities.length; i++) {
+            for (ConditionalEntityEvaluator evaluator : evaluators) {
+                try {
+                    if (!evaluator.includeEntity(entities[i])) {
+                        visible.clear(i);
+                        break;
+                    }
+                } catch (ContentProviderException e) {
+                    if (exception == null) {
+                        exception = e;
+                    }
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+        return visible;
+    }
+
+    private static void collectEntities(RegionEntry[] entries, Collection<RegionModel> regionModels, EntityModel[] entities) {
+        Iterator<RegionModel> iterator = regionModels.iterator();
+        for (RegionEntry entry : entries) {
+            RegionModel regionModel = iterator.next();
+            if (entry.nested.length > 0) {
+                collectEntities(entry.nested, regionModel.getRegions(), entities);
+            }
+            int i = entry.start;
+            for (EntityModel entity : regionModel.getEntities()) {
+                entities[i++] = entity;
+            }
+        }
+    }
+
+    /**
+     * Removes the hidden entities from a copy of the compiled page model.
+     *
+     * @param pageCopy deep copy of the compiled page model
+     * @param visible  visible entities as returned by {@link #evaluate(PageModel, Collection)}
+     */
+    public void apply(@NotNull PageModel pageCopy, @NotNull BitSet visible) {
+        if (visible.nextClearBit(0) >= size) {
+            return;
+        }
+        applyToRegions(regions, pageCopy.getRegions(), visible);
+    }
+
+    private static void applyToRegions(RegionEntry[] entries, Collection<RegionModel> regionModels, BitSet visible) {
+        Iterator<RegionModel> iterator = regionModels.iterator();
+        for (RegionEntry entry : entries) {
+            RegionModel regionModel = iterator.next();
+            if (!entry.hasHidden(visible)) {
+                continue;
+            }
+            if (entry.nested.length > 0) {
+                applyToRegions(entry.nested, regionModel.getRegions(), visible);
+            }
+            if (visible.nextClearBit(entry.start) < entry.end) {
+                List<EntityModel> regionEntities = regionModel.getEntities();
+                for (int i = entry.end - 1; i >= entry.start; i--) {
+                    if (!visible.get(i)) {
+                        regionEntities.remove(i - entry.start);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class RegionEntry {
+
+        /**
+         * Index of the first entity of the region.
+         */
+        private final int start;
+
+        /**
+         * Index after the last entity of the region.
+         */
+        private final int end;
+
+        /**
+         * Index of the first entity of the region and its nested regions.
+         */
+        private final int subtreeStart;
+
+        private final RegionEntry[] nested;
+
+        private RegionEntry(int start, int end, RegionEntry[] nested) {
+            this.start = start;
+            this.end = end;
+            this.subtreeStart = nested.length == 0 ? start : nested[0].subtreeStart;
+            this.nested = nested;
+        }
+
+        private boolean hasHidden(BitSet visible) {
+            return visible.nextClearBit(subtreeStart) < end;
+        }
+    }
+}
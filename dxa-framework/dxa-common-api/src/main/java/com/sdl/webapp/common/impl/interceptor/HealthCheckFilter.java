@@ -11,7 +11,8 @@ import javax.servlet.http.HttpServletResponse;
 
 /**
  * Health check filter that goes before {@link com.sdl.webapp.common.api.WebRequestContext}, and thus does not fail
- * when localization is not resolved. Always returns {@code 200 HTTP} and stops chaining.
+ * when localization is not resolved. Returns {@code 200 HTTP}, or {@code 503 HTTP} while the application is not
+ * {@link Readiness ready} yet, and stops chaining.
  */
 public class HealthCheckFilter implements Filter {
 
@@ -22,7 +23,8 @@ public class HealthCheckFilter implements Filter {
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) {
-        ((HttpServletResponse) servletResponse).setStatus(HttpStatus.SC_OK);
+        ((HttpServletResponse) servletResponse).setStatus(Readiness.getDefault().isReady() ?
+                HttpStatus.SC_OK : HttpStatus.SC_SERVICE_UNAVAILABLE);
     }
 
     @Override
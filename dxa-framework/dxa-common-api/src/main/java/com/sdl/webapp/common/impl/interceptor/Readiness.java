@@ -0,0 +1,72 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Conditions which must hold before the web application takes traffic, for example caches which are still being
+ * filled. Until all registered checks pass, the {@link HealthCheckFilter} answers {@code 503}, so that a load
+ * balancer keeps sending requests to the other nodes.
+ * <p>The health check is a servlet filter and not a Spring bean, so checks are registered with the
+ * {@link #getDefault() default instance}.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class Readiness {
+
+    private static final Readiness DEFAULT = new Readiness();
+
+    private final Map<String, BooleanSupplier> checks = new ConcurrentSkipListMap<>();
+
+    /**
+     * Returns the instance reported by the health check.
+     *
+     * @return default instance
+     */
+    @NotNull
+    public static Readiness getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Registers a check, replacing a check with the same name.
+     *
+     * @param name  name of the check
+     * @param check returns whether the application is ready as far as this check is concerned
+     */
+    public void register(@NotNull String name, @NotNull BooleanSupplier check) {
+        checks.put(name, check);
+    }
+
+    /**
+     * Removes a check, for example when its component is stopped.
+     *
+     * @param name name of the check
+     */
+    public void unregister(@NotNull String name) {
+        checks.remove(name);
+    }
+
+    /**
+     * @return whether all checks pass
+     */
+    public boolean isReady() {
+        return checks.values().stream().allMatch(BooleanSupplier::getAsBoolean);
+    }
+
+    /**
+     * @return names of the checks which do not pass yet
+     */
+    @NotNull
+    public List<String> getPendingChecks() {
+        return checks.entrySet().stream()
+                .filter(check -> !check.getValue().getAsBoolean())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -8,6 +8,7 @@ import com.google.common.collect.ListMultimap;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.SiteLocalization;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchemaIndex;
 import com.sdl.webapp.common.util.FileUtils;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -56,6 +57,10 @@ public class LocalizationImpl implements Localization {
     @Getter
     private final Map<Long, SemanticSchema> semanticSchemas;
 
+    @Getter
+    @EqualsAndHashCode.Exclude
+    private final SemanticSchemaIndex semanticSchemaIndex;
+
     private final ListMultimap<String, String> includes;
 
     private LocalizationImpl(Builder builder) {
@@ -77,6 +82,7 @@ public class LocalizationImpl implements Localization {
         this.configuration = builder.configurationBuilder.build();
         this.resources = builder.resourcesBuilder.build();
         this.semanticSchemas = builder.semanticSchemasBuilder.build();
+        this.semanticSchemaIndex = SemanticSchemaIndex.of(this.semanticSchemas.values());
         this.includes = builder.includesBuilder.build();
 
     }
@@ -1,9 +1,11 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
+import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.controller.ControllerUtils;
 import com.sdl.webapp.common.markup.AbstractMarkupTag;
 import lombok.Setter;
@@ -13,6 +15,7 @@ import org.slf4j.LoggerFactory;
 import javax.servlet.ServletException;
 import javax.servlet.jsp.JspException;
 import java.io.IOException;
+import java.util.Optional;
 
 import static com.sdl.webapp.common.controller.RequestAttributeNames.PAGE_MODEL;
 
@@ -22,6 +25,11 @@ public class EntitiesTag extends AbstractMarkupTag {
 
     private int containerSize;
 
+    @Override
+    protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
+        return getEntityCacheKey((EntityModel) model, null, include);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,8 +1,6 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
-import com.sdl.dxa.caching.NeverCached;
-import com.sdl.dxa.caching.NoOutputCache;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.ViewModel;
@@ -13,7 +11,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
 import javax.servlet.jsp.JspException;
 import java.io.IOException;
 import java.util.Optional;
@@ -34,13 +31,7 @@ public class EntityTag extends AbstractMarkupTag {
 
     @Override
     protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
-        if (model.getClass().isAnnotationPresent(NoOutputCache.class)) {
-            return Optional.empty();
-        }
-        if (model.getClass().isAnnotationPresent(NeverCached.class)) {
-            return Optional.empty();
-        }
-        return Optional.of(new CompositeOutputCacheKeyBase(entity.getId(), viewName, include, model.getMvcData(), (HttpServletRequest) pageContext.getRequest()));
+        return getEntityCacheKey((EntityModel) model, viewName, include);
     }
 
     /**
@@ -1,8 +1,6 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
-import com.sdl.dxa.caching.NeverCached;
-import com.sdl.dxa.caching.NoOutputCache;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.api.model.PageModel;
@@ -19,7 +17,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.web.util.WebUtils;
 
 import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
 import javax.servlet.jsp.JspException;
 import java.io.IOException;
 import java.util.Optional;
@@ -43,13 +40,7 @@ public class RegionTag extends AbstractMarkupTag {
 
     @Override
     protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
-        final PageModel page = (PageModel) pageContext.getRequest().getAttribute(PAGE_MODEL);
-        if (page == null || !page.canBeCached()
-                || model.getClass().isAnnotationPresent(NoOutputCache.class)
-                || model.getClass().isAnnotationPresent(NeverCached.class))   {
-            return Optional.empty();
-        }
-        return Optional.of(new CompositeOutputCacheKeyBase(page.getId(), name, include, model.getMvcData(), (HttpServletRequest) pageContext.getRequest()));
+        return getRegionCacheKey((RegionModel) model, name, include);
     }
 
     /**
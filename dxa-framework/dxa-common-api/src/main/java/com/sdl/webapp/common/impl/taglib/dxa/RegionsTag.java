@@ -1,9 +1,11 @@
 package com.sdl.webapp.common.impl.taglib.dxa;
 
+import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
+import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.controller.ControllerUtils;
 import com.sdl.webapp.common.markup.AbstractMarkupTag;
 import lombok.Setter;
@@ -12,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import javax.servlet.ServletException;
 import javax.servlet.jsp.JspException;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.sdl.webapp.common.controller.RequestAttributeNames.PAGE_MODEL;
@@ -29,6 +32,12 @@ public class RegionsTag extends AbstractMarkupTag {
         this.excludes = commaDelimitedListToSet(exclude);
     }
 
+    @Override
+    protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
+        RegionModel region = (RegionModel) model;
+        return getRegionCacheKey(region, region.getName(), include);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,10 +1,17 @@
 package com.sdl.webapp.common.markup;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.ContentVersion;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.NoOutputCache;
 import com.sdl.dxa.caching.wrapper.OutputCache;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.MvcData;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.api.model.mvcdata.DefaultsMvcData;
 import com.sdl.webapp.common.controller.ControllerUtils;
 import com.sdl.webapp.common.markup.html.HtmlNode;
 import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
@@ -12,31 +19,99 @@ import com.sdl.webapp.common.util.ApplicationContextHolder;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.jsp.JspException;
 import javax.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.List;
 import java.util.Optional;
 
+import static com.sdl.webapp.common.controller.RequestAttributeNames.PAGE_MODEL;
+
 public class AbstractMarkupTag extends TagSupport {
 
+    /**
+     * Number of characters of a streamed include which are kept in memory before they are written to the JSP writer.
+     */
+    private static final int STREAMING_BUFFER_SIZE = 8192;
+
     private MarkupDecoratorRegistry markupDecoratorRegistry = null;
     private OutputCache outputCache;
+    private boolean partialOutputWritten;
 
     protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
         return Optional.empty();
     }
 
+    /**
+     * Returns the output cache key for an entity. Entities rendered by the default entity controller only depend
+     * on their model and on the size of their container, so the key does not depend on the page and the output is reused
+     * on all the pages which have the same entity rendered with the same view into a container of the same size.
+     * Entities with a custom controller (like navigation) may depend on the request, so they are cached per page.
+     * <p>Entities without a {@link ContentVersion version}, which is the case on sites without XPM metadata, are cached
+     * without it and rely on the invalidation of the output cache when the content is refreshed.</p>
+     *
+     * @param entity  entity to render
+     * @param name    name of the view if set on the tag
+     * @param include path to include
+     * @return the cache key or empty if the entity should not be cached
+     */
+    protected Optional<CompositeOutputCacheKeyBase> getEntityCacheKey(EntityModel entity, String name, String include) {
+        if (entity.getClass().isAnnotationPresent(NoOutputCache.class) || !entity.canBeCached()) {
+            return Optional.empty();
+        }
+        String version = ContentVersion.of(entity);
+        String id = entity.getId();
+        MvcData mvcData = entity.getMvcData();
+        if (mvcData != null && !DefaultsMvcData.ENTITY.getControllerName().equals(mvcData.getControllerName())) {
+            PageModel page = (PageModel) pageContext.getRequest().getAttribute(PAGE_MODEL);
+            if (page == null) {
+                return Optional.empty();
+            }
+            id = page.getId() + '/' + id;
+        }
+        return Optional.of(new CompositeOutputCacheKeyBase(id, name, include, mvcData,
+                (HttpServletRequest) pageContext.getRequest(), getWebRequestContext().getContainerSize(), version));
+    }
+
+    /**
+     * Returns the output cache key for a region of the current page. Regions are cached per page, because they may contain
+     * entities which are rendered differently on different pages, like navigation. If the page or a part of the region
+     * has no {@link ContentVersion version}, the region is cached without it.
+     *
+     * @param region  region to render
+     * @param name    name of the region
+     * @param include path to include
+     * @return the cache key or empty if the region should not be cached
+     */
+    protected Optional<CompositeOutputCacheKeyBase> getRegionCacheKey(RegionModel region, String name, String include) {
+        PageModel page = (PageModel) pageContext.getRequest().getAttribute(PAGE_MODEL);
+        if (page == null || !page.canBeCached() || region.getClass().isAnnotationPresent(NoOutputCache.class) || !region.canBeCached()) {
+            return Optional.empty();
+        }
+        String pageVersion = ContentVersion.of(page);
+        String regionVersion = ContentVersion.of(region);
+        String version = pageVersion == null || regionVersion == null ? null : pageVersion + regionVersion;
+        return Optional.of(new CompositeOutputCacheKeyBase(page.getId(), name, include, region.getMvcData(),
+                (HttpServletRequest) pageContext.getRequest(), getWebRequestContext().getContainerSize(), version));
+    }
+
     protected String getDecoratorId() {
         return this.getClass().getSimpleName().replace("Tag", "");
     }
 
     protected String processInclude(String include, ViewModel model) throws IOException, ServletException {
-        return processIncludeInternal(include, model).toHtml();
+        return processIncludeInternal(include, model, false).toHtml();
     }
 
     protected void decorateException(ViewModel model) throws JspException {
+        if (partialOutputWritten) {
+            // a part of the failed include is in the response already, an error view after it would only break the markup
+            partialOutputWritten = false;
+            return;
+        }
         try {
             this.decorateInclude(ControllerUtils.getIncludeErrorPath(), model);
         } catch (IOException | ServletException e1) {
@@ -44,10 +119,23 @@ public class AbstractMarkupTag extends TagSupport {
         }
     }
 
+    /**
+     * Renders the include and writes it to the JSP writer. If the output is not going to be cached and none of the decorators
+     * {@link MarkupDecorator#isMarkupRequired(ViewModel, WebRequestContext) needs the markup}, the include is streamed
+     * to the JSP writer. Only its first {@value #STREAMING_BUFFER_SIZE} characters are kept in memory, so that the
+     * {@link #decorateException(ViewModel) error view} takes the place of an include which fails early. If it fails after
+     * a part of it has been written, the error view is left out.
+     *
+     * @param include path to include
+     * @param model   model being rendered
+     * @throws IOException      if the include fails
+     * @throws ServletException if the include fails
+     */
     protected void decorateInclude(String include, ViewModel model) throws IOException, ServletException {
+        partialOutputWritten = false;
         HtmlNode decoratedMarkup = null;
         try {
-            decoratedMarkup = processIncludeInternal(include, model);
+            decoratedMarkup = processIncludeInternal(include, model, true);
         } finally {
             if (decoratedMarkup != null) {
                 pageContext.getOut().write(decoratedMarkup.toHtml());
@@ -64,6 +152,26 @@ public class AbstractMarkupTag extends TagSupport {
         return processedMarkup;
     }
 
+    /**
+     * Returns whether any of the decorators for this tag needs the rendered markup of the model.
+     *
+     * @param model model being rendered
+     * @return whether the markup has to be buffered and decorated
+     */
+    protected boolean isMarkupRequired(ViewModel model) {
+        List<MarkupDecorator> markupDecorators = this.getMarkupDecoratorRegistry().getDecorators(this.getDecoratorId());
+        if (markupDecorators.isEmpty()) {
+            return false;
+        }
+        WebRequestContext webRequestContext = this.getWebRequestContext();
+        for (MarkupDecorator markupDecorator : markupDecorators) {
+            if (markupDecorator.isMarkupRequired(model, webRequestContext)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected MarkupDecoratorRegistry getMarkupDecoratorRegistry() {
         if (markupDecoratorRegistry == null) {
             markupDecoratorRegistry = WebApplicationContextUtils.getRequiredWebApplicationContext(pageContext.getServletContext())
@@ -84,7 +192,10 @@ public class AbstractMarkupTag extends TagSupport {
         return this.outputCache;
     }
 
-    private HtmlNode processIncludeInternal(String include, ViewModel model) throws ServletException, IOException {
+    /**
+     * Renders the include, returns {@code null} if it was streamed to the JSP writer.
+     */
+    private HtmlNode processIncludeInternal(String include, ViewModel model, boolean streamingAllowed) throws ServletException, IOException {
         pageContext.getRequest().setAttribute("ParentModel", model);
 
         OutputCache outputCache = getOutputCache();
@@ -95,7 +206,8 @@ public class AbstractMarkupTag extends TagSupport {
             Optional<CompositeOutputCacheKeyBase> optionalKey = getCacheKey(include, model);
             specificKey = (LocalizationAwareCacheKey) optionalKey.map(outputCache::getSpecificKey).orElse(null);
 
-            cacheAccessible = optionalKey.isPresent() && !getWebRequestContext().isSessionPreview();
+            cacheAccessible = optionalKey.isPresent() && !getWebRequestContext().isSessionPreview()
+                    && outputCache.isCacheable(optionalKey.get());
 
             if (cacheAccessible) {
                 HtmlNode cachedNode = outputCache.get(specificKey);
@@ -103,12 +215,18 @@ public class AbstractMarkupTag extends TagSupport {
             }
         }
 
+        boolean markupRequired = isMarkupRequired(model);
+        if (streamingAllowed && !cacheAccessible && !markupRequired) {
+            streamInclude(include);
+            return null;
+        }
+
         try (StringWriter sw = new StringWriter()) {
             pageContext.pushBody(sw);
             pageContext.include(include);
             String renderedHtml = sw.toString();
             ParsableHtmlNode markup = new ParsableHtmlNode(renderedHtml);
-            HtmlNode htmlNode = this.decorateMarkup(markup, model);
+            HtmlNode htmlNode = markupRequired ? this.decorateMarkup(markup, model) : markup;
 
             if (cacheAccessible) {
                 outputCache.addAndGet(specificKey, htmlNode);
@@ -119,4 +237,80 @@ public class AbstractMarkupTag extends TagSupport {
             pageContext.popBody();
         }
     }
+
+    private void streamInclude(String include) throws ServletException, IOException {
+        StreamingWriter writer = new StreamingWriter(pageContext.getOut());
+        pageContext.pushBody(writer);
+        try {
+            pageContext.include(include, false);
+            writer.writeBuffer();
+        } catch (ServletException | IOException | RuntimeException e) {
+            partialOutputWritten = writer.isStreaming();
+            throw e;
+        } finally {
+            pageContext.popBody();
+        }
+    }
+
+    /**
+     * Writer for a streamed include which keeps the output in memory until it exceeds {@link #STREAMING_BUFFER_SIZE}
+     * and then writes it through to the JSP writer.
+     */
+    private static final class StreamingWriter extends Writer {
+
+        private final Writer out;
+
+        private StringBuilder buffer = new StringBuilder();
+
+        private StreamingWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (buffer == null) {
+                out.write(cbuf, off, len);
+                return;
+            }
+            buffer.append(cbuf, off, len);
+            if (buffer.length() >= STREAMING_BUFFER_SIZE) {
+                writeBuffer();
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            if (buffer == null) {
+                out.write(str, off, len);
+                return;
+            }
+            buffer.append(str, off, off + len);
+            if (buffer.length() >= STREAMING_BUFFER_SIZE) {
+                writeBuffer();
+            }
+        }
+
+        @Override
+        public void flush() {
+            // the output is written when the buffer is full or the include is complete
+        }
+
+        @Override
+        public void close() {
+            // the JSP writer is closed by the container
+        }
+
+        private void writeBuffer() throws IOException {
+            if (buffer != null) {
+                if (buffer.length() > 0) {
+                    out.write(buffer.toString());
+                }
+                buffer = null;
+            }
+        }
+
+        private boolean isStreaming() {
+            return buffer == null;
+        }
+    }
 }
@@ -11,4 +11,18 @@ import org.springframework.core.Ordered;
 public interface MarkupDecorator extends Ordered {
 
     HtmlNode process(HtmlNode markup, ViewModel model, WebRequestContext webRequestContext);
+
+    /**
+     * Returns whether this decorator needs the rendered markup of the given model to {@link #process(HtmlNode, ViewModel, WebRequestContext) process} it.
+     * If none of the decorators needs the markup, it is not buffered and is written directly to the JSP writer.
+     * Returns {@code true} by default, so the decorators which do not implement this method always get the markup.
+     *
+     * @param model             model being rendered
+     * @param webRequestContext current request context
+     * @return whether the markup has to be buffered and passed to this decorator
+     * @dxa.publicApi
+     */
+    default boolean isMarkupRequired(ViewModel model, WebRequestContext webRequestContext) {
+        return true;
+    }
 }
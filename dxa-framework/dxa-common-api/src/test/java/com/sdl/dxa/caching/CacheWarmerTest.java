@@ -0,0 +1,258 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.webapp.common.impl.interceptor.Readiness;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CacheWarmerTest {
+
+    private static final String SITEMAP = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">" +
+            "<url><loc>http://localhost:8080/</loc></url>" +
+            "<url><loc>http://localhost:8080/about</loc><lastmod>2020-01-01T12:00:00.000Z</lastmod></url>" +
+            "<url><loc>http://localhost:8080/products/</loc></url>" +
+            "<url><loc>http://localhost:8080/contact?a=1&amp;b=2</loc></url>" +
+            "</urlset>";
+
+    private static final Set<String> SITEMAP_PATHS = new HashSet<>(Arrays.asList("/", "/about", "/products", "/contact"));
+
+    private final List<String> requested = new CopyOnWriteArrayList<>();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CacheWarmer warmer;
+
+    @After
+    public void closeWarmer() {
+        if (warmer != null) {
+            warmer.close();
+        }
+    }
+
+    @Test
+    public void shouldParseSitemap() {
+        //when
+        List<String> urls = CacheWarmer.parseSitemap(SITEMAP);
+
+        //then
+        assertEquals(Arrays.asList("http://localhost:8080/", "http://localhost:8080/about",
+                "http://localhost:8080/products/", "http://localhost:8080/contact?a=1&b=2"), urls);
+    }
+
+    @Test
+    public void shouldCountRequests_FromAccessLog() {
+        //when
+        Map<String, Integer> requests = CacheWarmer.countRequests(Stream.of(
+                "# recorded on the live site",
+                "10.0.0.1 - - [01/Jan/2020:12:00:00 +0000] \"GET /products/?utm=mail HTTP/1.1\" 200 5120 \"-\" \"Mozilla/5.0\"",
+                "10.0.0.2 - - [01/Jan/2020:12:00:01 +0000] \"GET /products HTTP/1.1\" 200 5120",
+                "",
+                "/about",
+                "10.0.0.3 - - [01/Jan/2020:12:00:02 +0000] \"GET /not-in-sitemap HTTP/1.1\" 404 0"), SITEMAP_PATHS);
+
+        //then
+        assertEquals(Integer.valueOf(2), requests.get("/products"));
+        assertEquals(Integer.valueOf(1), requests.get("/about"));
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    public void shouldCountRequests_FromLargeAccessLog_WithoutKeepingIt() {
+        //given
+        int lines = 1_000_000;
+        Stream<String> accessLog = IntStream.range(0, lines).mapToObj(i -> i % 1000 == 0
+                ? "10.0.0.1 - - [01/Jan/2020:12:00:00 +0000] \"GET /about HTTP/1.1\" 200 5120"
+                : "10.0.0.1 - - [01/Jan/2020:12:00:00 +0000] \"GET /search/" + i + " HTTP/1.1\" 200 5120");
+
+        //when
+        Map<String, Integer> requests = CacheWarmer.countRequests(accessLog, SITEMAP_PATHS);
+
+        //then
+        assertEquals(Collections.singletonMap("/about", lines / 1000), requests);
+    }
+
+    @Test
+    public void shouldWarmMostRequestedPagesFirst_FromAccessLogFile() throws Exception {
+        //given
+        Path accessLog = folder.newFile("access.log").toPath();
+        Files.write(accessLog, Arrays.asList("/contact", "/products", "/about", "/products", "/search?q=1"), StandardCharsets.UTF_8);
+        warmer = new CacheWarmer(Collections.singletonList("http://localhost:8080"), Collections.emptyList(), accessLog,
+                2, 1, 1, TimeUnit.MINUTES.toMillis(5), url -> {
+            if (!url.endsWith("sitemap.xml")) {
+                requested.add(url);
+            }
+            return url.endsWith("sitemap.xml") ? SITEMAP : "<html></html>";
+        });
+
+        //when
+        warmer.start();
+
+        //then
+        assertTrue(eventually(() -> requested.size() == 2));
+        assertEquals(Arrays.asList("http://localhost:8080/products/", "http://localhost:8080/about"), requested);
+    }
+
+    @Test
+    public void shouldRankPages_ByPriority_ThenByRequests_ThenInSitemapOrder() {
+        //given
+        List<String> sitemap = CacheWarmer.parseSitemap(SITEMAP);
+        Map<String, Integer> requests = CacheWarmer.countRequests(Stream.of("/products", "/products/", "/about"), SITEMAP_PATHS);
+
+        //when
+        List<String> ranked = CacheWarmer.rank(sitemap, Collections.singletonList("/contact"), requests, 3);
+
+        //then
+        assertEquals(Arrays.asList("http://localhost:8080/contact?a=1&b=2", "http://localhost:8080/products/",
+                "http://localhost:8080/about"), ranked);
+    }
+
+    @Test
+    public void shouldNotBeReady_UntilReadyFractionIsWarm() throws Exception {
+        //given
+        Semaphore pages = new Semaphore(0);
+        warmer = warmer(0.5, TimeUnit.MINUTES.toMillis(5), url -> {
+            if (url.endsWith("sitemap.xml")) {
+                return SITEMAP;
+            }
+            pages.acquireUninterruptibly();
+            requested.add(url);
+            return "<html></html>";
+        });
+
+        //when
+        warmer.start();
+        boolean readyBefore = Readiness.getDefault().isReady();
+        pages.release();
+        assertTrue(eventually(() -> requested.size() == 1));
+        boolean readyAfterOnePage = Readiness.getDefault().isReady();
+        pages.release();
+
+        //then
+        assertFalse(readyBefore);
+        assertFalse(readyAfterOnePage);
+        assertTrue("ready with 2 of 4 pages", eventually(() -> Readiness.getDefault().isReady()));
+        pages.release(2);
+        assertTrue(eventually(() -> requested.size() == 4));
+    }
+
+    @Test
+    public void shouldRequestSitemap_UntilApplicationAnswers() throws Exception {
+        //given
+        AtomicInteger sitemapRequests = new AtomicInteger();
+        warmer = warmer(1, TimeUnit.MINUTES.toMillis(5), url -> {
+            if (url.endsWith("sitemap.xml") && sitemapRequests.incrementAndGet() == 1) {
+                throw new IOException("Connection refused");
+            }
+            requested.add(url);
+            return url.endsWith("sitemap.xml") ? SITEMAP : "<html></html>";
+        });
+
+        //when
+        warmer.start();
+
+        //then
+        assertTrue(eventually(() -> warmer.isWarm()));
+        assertEquals(2, sitemapRequests.get());
+        assertEquals(5, requested.size());
+    }
+
+    @Test
+    public void shouldBeReady_AfterTimeout_IfBackendHangs() throws Exception {
+        //given
+        warmer = warmer(1, 200, url -> {
+            if (url.endsWith("sitemap.xml")) {
+                return SITEMAP;
+            }
+            try {
+                TimeUnit.MINUTES.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Read timed out");
+        });
+
+        //when
+        warmer.start();
+
+        //then
+        assertFalse(warmer.isWarm());
+        assertTrue(eventually(() -> Readiness.getDefault().isReady()));
+    }
+
+    @Test
+    public void shouldWarmAgain_AfterCachesAreCleared() throws Exception {
+        //given
+        warmer = warmer(1, TimeUnit.MINUTES.toMillis(5), url -> {
+            requested.add(url);
+            return url.endsWith("sitemap.xml") ? SITEMAP : "<html></html>";
+        });
+        warmer.start();
+        assertTrue(eventually(() -> warmer.isWarm() && requested.size() == 5));
+
+        //when
+        warmer.warmAgain();
+
+        //then
+        assertTrue(eventually(() -> requested.size() == 10));
+    }
+
+    @Test
+    public void shouldDoNothing_WithoutUrls() {
+        //given
+        warmer = new CacheWarmer(Collections.emptyList(), Collections.emptyList(), null, 10, 2, 1, 1000,
+                url -> {
+                    requested.add(url);
+                    return "";
+                });
+
+        //when
+        warmer.start();
+        warmer.warmAgain();
+
+        //then
+        assertTrue(warmer.isWarm());
+        assertTrue(Readiness.getDefault().isReady());
+        assertTrue(requested.isEmpty());
+    }
+
+    private static CacheWarmer warmer(double readyFraction, long timeoutMillis, CacheWarmer.PageLoader loader) {
+        return new CacheWarmer(Collections.singletonList("http://localhost:8080"), Collections.emptyList(), null,
+                10, 1, readyFraction, timeoutMillis, loader);
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+}
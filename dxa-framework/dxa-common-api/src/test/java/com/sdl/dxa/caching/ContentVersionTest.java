@@ -0,0 +1,102 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class ContentVersionTest {
+
+    @Test
+    public void shouldBeSame_ForSameModificationDates() throws Exception {
+        assertEquals(ContentVersion.of(entity("1-2", "2020-01-01T10:00:00")), ContentVersion.of(entity("1-2", "2020-01-01T10:00:00")));
+        assertEquals(ContentVersion.of(region(entity("1-2", "2020-01-01T10:00:00"))),
+                ContentVersion.of(region(entity("1-2", "2020-01-01T10:00:00"))));
+    }
+
+    @Test
+    public void shouldChange_IfEntityIsModified() throws Exception {
+        assertNotEquals(ContentVersion.of(entity("1-2", "2020-01-01T10:00:00")), ContentVersion.of(entity("1-2", "2020-01-02T10:00:00")));
+        assertNotEquals(ContentVersion.of(region(entity("1-2", "2020-01-01T10:00:00"))),
+                ContentVersion.of(region(entity("1-2", "2020-01-02T10:00:00"))));
+    }
+
+    @Test
+    public void shouldChange_IfTemplateIsModified() {
+        //given
+        TestEntity entity = entity("1-2", "2020-01-01T10:00:00");
+        String version = ContentVersion.of(entity);
+
+        //when
+        entity.getXpmMetadata().put("ComponentTemplateModified", "2020-01-02T10:00:00");
+
+        //then
+        assertNotEquals(version, ContentVersion.of(entity));
+    }
+
+    @Test
+    public void shouldChange_IfNestedRegionChanges() throws Exception {
+        //given
+        RegionModel region = region(entity("1-2", "2020-01-01T10:00:00"));
+        RegionModel nested = region(entity("3-4", "2020-01-01T10:00:00"));
+        region.getRegions().add(nested);
+        String version = ContentVersion.of(region);
+
+        //when
+        nested.addEntity(entity("5-6", "2020-01-01T10:00:00"));
+
+        //then
+        assertNotEquals(version, ContentVersion.of(region));
+    }
+
+    @Test
+    public void shouldUsePageModificationDate() {
+        //given
+        PageModel page = new DefaultPageModel();
+        page.getXpmMetadata().put("PageModified", "2020-01-01T10:00:00");
+        String version = ContentVersion.of(page);
+
+        //when
+        page.getXpmMetadata().put("PageModified", "2020-01-02T10:00:00");
+
+        //then
+        assertNotEquals(version, ContentVersion.of(page));
+    }
+
+    @Test
+    public void shouldHaveNoVersion_WithoutModificationDates() throws Exception {
+        assertNull(ContentVersion.of(null));
+        assertNull(ContentVersion.of(new TestEntity()));
+        assertNull(ContentVersion.of(new DefaultPageModel()));
+        assertNull(ContentVersion.of(region(new TestEntity())));
+    }
+
+    private static RegionModel region(TestEntity entity) throws Exception {
+        RegionModel region = new RegionModelImpl("Main");
+        region.addEntity(entity);
+        return region;
+    }
+
+    private static TestEntity entity(String id, String modified) {
+        TestEntity entity = new TestEntity();
+        entity.setId(id);
+        entity.setHeadline("headline");
+        entity.getXpmMetadata().put("ComponentModified", modified);
+        return entity;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    private static class TestEntity extends AbstractEntityModel {
+
+        private String headline;
+    }
+}
@@ -5,6 +5,8 @@ import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
 import com.sdl.dxa.caching.NamedCacheProvider;
 import com.sdl.dxa.caching.NeverCached;
 import com.sdl.dxa.caching.WebRequestContextLocalizationIdProvider;
+import com.sdl.dxa.performance.CacheMetrics;
+import com.sdl.dxa.performance.MetricsRegistry;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import lombok.AllArgsConstructor;
@@ -88,6 +90,24 @@ public class CopyingCacheTest {
         assertNotSame(added, fromCache);
     }
 
+    @Test
+    public void shouldRecordHitsAndMisses_OnGet() {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "metrics");
+        CacheMetrics metrics = MetricsRegistry.getDefault().cache("test");
+        long hits = metrics.getHits();
+        long misses = metrics.getMisses();
+
+        //when
+        testingCache.get(key);
+        testingCache.addAndGet(key, new TestingValue(1));
+        testingCache.get(key);
+
+        //then
+        assertEquals(hits + 1, metrics.getHits());
+        assertEquals(misses + 1, metrics.getMisses());
+    }
+
     @Test
     public void shouldReturnValue_IfCachingDisabled() {
         //given
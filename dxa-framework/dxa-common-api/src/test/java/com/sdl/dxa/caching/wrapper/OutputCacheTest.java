@@ -0,0 +1,261 @@
+package com.sdl.dxa.caching.wrapper;
+
+import com.sdl.dxa.caching.CacheWarmer;
+import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.DeviceFamilyKeyDimension;
+import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
+import com.sdl.dxa.caching.NoKeyDimension;
+import com.sdl.dxa.caching.UserAgentKeyDimension;
+import com.sdl.dxa.caching.WebRequestContextLocalizationIdProvider;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.MvcData;
+import com.sdl.webapp.common.api.model.mvcdata.MvcDataImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OutputCacheTest {
+
+    private static final List<MvcData> VIEWS = Arrays.asList(view("Core", "Teaser"), view("Core", "Article"),
+            view("Core", "TopNavigation"), view("Core", "Footer"));
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    @Mock
+    private Localization localization;
+
+    @Mock
+    private ContextEngine contextEngine;
+
+    private OutputCache outputCache;
+
+    private String deviceFamily;
+
+    @Before
+    public void init() {
+        when(localization.getId()).thenReturn("42");
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(contextEngine.getDeviceFamily()).thenAnswer(invocation -> deviceFamily);
+
+        LocalizationAwareKeyGenerator keyGenerator = new LocalizationAwareKeyGenerator();
+        WebRequestContextLocalizationIdProvider localizationIdProvider = new WebRequestContextLocalizationIdProvider();
+        ReflectionTestUtils.setField(localizationIdProvider, "webRequestContext", webRequestContext);
+        ReflectionTestUtils.setField(keyGenerator, "localizationIdProvider", localizationIdProvider);
+
+        outputCache = new OutputCache();
+        outputCache.setKeyGenerator(keyGenerator);
+        outputCache.setKeyDimensions(Arrays.asList(new UserAgentKeyDimension(),
+                new DeviceFamilyKeyDimension(() -> contextEngine), new NoKeyDimension()));
+    }
+
+    @Test
+    public void shouldUseUserAgent_ByDefault() throws IOException {
+        //when
+        HitRate hitRate = replay(loadCorpus());
+
+        //then
+        assertEquals(35 * VIEWS.size(), hitRate.keys.size());
+        assertSame(UserAgentKeyDimension.NAME, outputCache.getKeyDimension(VIEWS.get(0)).getName());
+    }
+
+    @Test
+    public void shouldIncreaseHitRate_WithDeviceFamily() throws IOException {
+        //given
+        List<RecordedRequest> corpus = loadCorpus();
+        double userAgentHitRate = replay(corpus).getHitRate();
+        outputCache.setDefaultKeyDimension(DeviceFamilyKeyDimension.NAME);
+
+        //when
+        HitRate hitRate = replay(corpus);
+
+        //then
+        assertEquals("One entry per device family and view", 4 * VIEWS.size(), hitRate.keys.size());
+        assertTrue(hitRate.getHitRate() > userAgentHitRate);
+        assertTrue(hitRate.getHitRate() > 0.99);
+    }
+
+    @Test
+    public void shouldUseDimensionConfiguredForView() throws IOException {
+        //given
+        outputCache.setViewKeyDimensions("Core:Teaser=device-family, Core:TopNavigation=none,Core:Footer=none");
+
+        //when
+        HitRate hitRate = replay(loadCorpus());
+
+        //then
+        assertEquals(4 + 35 + 1 + 1, hitRate.keys.size());
+        assertEquals(DeviceFamilyKeyDimension.NAME, outputCache.getKeyDimension(view("Core", "Teaser")).getName());
+        assertEquals(UserAgentKeyDimension.NAME, outputCache.getKeyDimension(view("Core", "Article")).getName());
+        assertEquals(NoKeyDimension.NAME, outputCache.getKeyDimension(view("Core", "Footer")).getName());
+        assertEquals(UserAgentKeyDimension.NAME, outputCache.getKeyDimension(view("Other", "Footer")).getName());
+        assertEquals(UserAgentKeyDimension.NAME, outputCache.getKeyDimension(null).getName());
+    }
+
+    @Test
+    public void shouldFallbackToUserAgent_IfDimensionIsUnknown() {
+        //given
+        outputCache.setDefaultKeyDimension("unknown");
+        outputCache.setViewKeyDimensions("Core:Teaser=, =none, Core:Article=device-family");
+
+        //then
+        assertEquals(UserAgentKeyDimension.NAME, outputCache.getKeyDimension(view("Core", "Teaser")).getName());
+        assertEquals(DeviceFamilyKeyDimension.NAME, outputCache.getKeyDimension(view("Core", "Article")).getName());
+    }
+
+    @Test
+    public void shouldDistinguishDimensions_WithSameValues() {
+        //given
+        HttpServletRequest request = request("desktop");
+        deviceFamily = "desktop";
+        CompositeOutputCacheKeyBase keyBase = new CompositeOutputCacheKeyBase("1", "name", "false", VIEWS.get(0), request);
+
+        //when
+        Object userAgentKey = outputCache.getSpecificKey(keyBase);
+        outputCache.setDefaultKeyDimension(DeviceFamilyKeyDimension.NAME);
+        Object deviceFamilyKey = outputCache.getSpecificKey(keyBase);
+
+        //then
+        assertNotEquals(userAgentKey, deviceFamilyKey);
+        assertEquals(deviceFamilyKey, outputCache.getSpecificKey(keyBase));
+    }
+
+    @Test
+    public void shouldChangeKey_IfContentVersionChanges() {
+        //given
+        HttpServletRequest request = request("desktop");
+
+        //when
+        Object key = outputCache.getSpecificKey(new CompositeOutputCacheKeyBase("1", "name", "false", VIEWS.get(0), request, 1));
+        Object sameVersionKey = outputCache.getSpecificKey(new CompositeOutputCacheKeyBase("1", "name", "false", VIEWS.get(0), request, 1));
+        Object newVersionKey = outputCache.getSpecificKey(new CompositeOutputCacheKeyBase("1", "name", "false", VIEWS.get(0), request, 2));
+
+        //then
+        assertEquals(key, sameVersionKey);
+        assertNotEquals(key, newVersionKey);
+    }
+
+    @Test
+    public void shouldChangeKey_IfContainerSizeChanges() {
+        //given
+        HttpServletRequest request = request("desktop");
+
+        //when
+        Object fullWidthKey = outputCache.getSpecificKey(new CompositeOutputCacheKeyBase("1", "name", "false", VIEWS.get(0), request, 12, "v1"));
+        Object columnKey = outputCache.getSpecificKey(new CompositeOutputCacheKeyBase("1", "name", "false", VIEWS.get(0), request, 4, "v1"));
+
+        //then
+        assertNotEquals(fullWidthKey, columnKey);
+    }
+
+    @Test
+    public void shouldNotCacheUserAgentOutput_ForWarmingRequests() {
+        //given
+        outputCache.setViewKeyDimensions("Core:Teaser=device-family");
+        HttpServletRequest warming = request("Java/1.8.0_252");
+        when(warming.getHeader(CacheWarmer.WARMING_HEADER)).thenReturn("true");
+        HttpServletRequest visitor = request("Java/1.8.0_252");
+
+        //then
+        assertFalse(outputCache.isCacheable(new CompositeOutputCacheKeyBase("1", "name", "false", view("Core", "Article"), warming)));
+        assertTrue(outputCache.isCacheable(new CompositeOutputCacheKeyBase("1", "name", "false", view("Core", "Teaser"), warming)));
+        assertTrue(outputCache.isCacheable(new CompositeOutputCacheKeyBase("1", "name", "false", view("Core", "Article"), visitor)));
+    }
+
+    private HitRate replay(List<RecordedRequest> corpus) {
+        HitRate hitRate = new HitRate();
+        for (RecordedRequest recorded : corpus) {
+            deviceFamily = recorded.deviceFamily;
+            for (int i = 0; i < recorded.count; i++) {
+                for (MvcData view : VIEWS) {
+                    hitRate.request(outputCache.getSpecificKey(
+                            new CompositeOutputCacheKeyBase("1", view.getViewName(), "false", view, recorded.request)));
+                }
+            }
+        }
+        return hitRate;
+    }
+
+    private List<RecordedRequest> loadCorpus() throws IOException {
+        List<RecordedRequest> corpus = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("output-cache-user-agents.txt").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                corpus.add(new RecordedRequest(Integer.parseInt(columns[0]), columns[1], request(columns[2])));
+            }
+        }
+        return corpus;
+    }
+
+    private static HttpServletRequest request(String userAgent) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("User-Agent")).thenReturn(userAgent);
+        return request;
+    }
+
+    private static MvcData view(String areaName, String viewName) {
+        return MvcDataImpl.newBuilder().areaName(areaName).viewName(viewName).build();
+    }
+
+    private static class RecordedRequest {
+
+        private final int count;
+
+        private final String deviceFamily;
+
+        private final HttpServletRequest request;
+
+        RecordedRequest(int count, String deviceFamily, HttpServletRequest request) {
+            this.count = count;
+            this.deviceFamily = deviceFamily;
+            this.request = request;
+        }
+    }
+
+    private static class HitRate {
+
+        private final Set<Object> keys = new HashSet<>();
+
+        private int requests;
+
+        void request(Object key) {
+            requests++;
+            keys.add(key);
+        }
+
+        double getHitRate() {
+            return 1 - (double) keys.size() / requests;
+        }
+    }
+}
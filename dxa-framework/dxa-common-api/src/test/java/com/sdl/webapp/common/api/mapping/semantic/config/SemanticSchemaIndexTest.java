@@ -0,0 +1,119 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.api.localization.Localization;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SemanticSchemaIndexTest {
+
+    @Test
+    public void shouldFindAllIndexedSchemas() {
+        //given
+        List<SemanticSchema> schemas = new ArrayList<>();
+        for (long id = 1; id <= 1000; id += 7) {
+            schemas.add(schema(id));
+        }
+
+        //when
+        SemanticSchemaIndex index = SemanticSchemaIndex.of(schemas);
+
+        //then
+        assertEquals(schemas.size(), index.size());
+        for (SemanticSchema schema : schemas) {
+            assertSame(schema, index.get(schema.getId()));
+            assertSame(schema, index.get(String.valueOf(schema.getId())));
+        }
+        assertNull(index.get(2L));
+        assertNull(index.get(1001L));
+    }
+
+    @Test
+    public void shouldReturnNull_ForUnknownIds() {
+        //given
+        SemanticSchemaIndex index = SemanticSchemaIndex.of(Collections.singletonList(schema(1)));
+
+        //then
+        assertNull(index.get("2"));
+        assertNull(index.get("-1"));
+        assertSame(index.get(1L), index.get("+1"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldFail_ForInvalidIds() {
+        //given
+        SemanticSchemaIndex index = SemanticSchemaIndex.of(Collections.singletonList(schema(1)));
+
+        //when
+        index.get("tcm:1-2-8");
+    }
+
+    @Test
+    public void shouldBeEmpty_ForNoSchemas() {
+        //when
+        SemanticSchemaIndex index = SemanticSchemaIndex.of(null);
+
+        //then
+        assertEquals(0, index.size());
+        assertNull(index.get(0L));
+    }
+
+    @Test
+    public void shouldParseIds() {
+        assertEquals(0L, SemanticSchemaIndex.parseId("0"));
+        assertEquals(1234L, SemanticSchemaIndex.parseId("1234"));
+        assertEquals(-1L, SemanticSchemaIndex.parseId(" 1"));
+        assertEquals(-1L, SemanticSchemaIndex.parseId(null));
+    }
+
+    @Test
+    public void shouldFallbackToSchemaMap_IfLocalizationHasNoIndex() {
+        //given
+        SemanticSchema schema = schema(5);
+        Localization localization = mock(Localization.class);
+        Map<Long, SemanticSchema> map = ImmutableMap.of(5L, schema);
+        when(localization.getSemanticSchemas()).thenReturn(map);
+
+        //then
+        assertSame(schema, SemanticSchemaIndex.findSemanticSchema(localization, "5"));
+        assertNull(SemanticSchemaIndex.findSemanticSchema(localization, "6"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldFail_ForMissingId() {
+        //given
+        Localization localization = mock(Localization.class);
+        when(localization.getSemanticSchemaIndex()).thenReturn(SemanticSchemaIndex.of(Collections.singletonList(schema(5))));
+
+        //when
+        SemanticSchemaIndex.findSemanticSchema(localization, null);
+    }
+
+    @Test
+    public void shouldUseIndex_IfLocalizationHasOne() {
+        //given
+        SemanticSchema schema = schema(5);
+        Localization localization = mock(Localization.class);
+        when(localization.getSemanticSchemaIndex()).thenReturn(SemanticSchemaIndex.of(Collections.singletonList(schema)));
+
+        //then
+        assertSame(schema, SemanticSchemaIndex.findSemanticSchema(localization, "5"));
+    }
+
+    private static SemanticSchema schema(long id) {
+        EntitySemantics semantics = new EntitySemantics(SemanticVocabulary.SDL_CORE_VOCABULARY, "Article");
+        FieldSemantics fieldSemantics = new FieldSemantics(SemanticVocabulary.SDL_CORE_VOCABULARY, "Article", "headline");
+        SemanticField field = new SemanticField("headline", "/Article/headline", false, Collections.emptyMap());
+        return new SemanticSchema(id, "Article", Collections.singleton(semantics), ImmutableMap.of(fieldSemantics, field));
+    }
+}
@@ -0,0 +1,184 @@
+package com.sdl.webapp.common.api.model;
+
+import com.google.common.collect.Sets;
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class ConditionalEntityTableTest {
+
+    @Test
+    public void shouldFilterLikeThePageModel() throws Exception {
+        //given
+        PageModel page = page();
+        List<ConditionalEntityEvaluator> evaluators = Collections.singletonList(hiding("m2", "h1", "n1", "n3"));
+        PageModel expected = page.deepCopy();
+        expected.filterConditionalEntities(evaluators);
+
+        //when
+        ConditionalEntityTable table = ConditionalEntityTable.compile(page);
+        assertNotNull(table);
+        PageModel copy = page.deepCopy();
+        table.apply(copy, table.evaluate(copy, evaluators));
+
+        //then
+        assertEquals(8, table.size());
+        assertEquals(ids(expected), ids(copy));
+        assertEquals("[Header[Nested[n2], h2], Main[m1, m3]]", ids(copy).toString());
+        assertEquals("the compiled page must not change", ids(page().deepCopy()), ids(page));
+    }
+
+    @Test
+    public void shouldNotChangeCopyIfAllEntitiesAreVisible() throws Exception {
+        //given
+        PageModel page = page();
+        ConditionalEntityTable table = ConditionalEntityTable.compile(page);
+        assertNotNull(table);
+
+        //when
+        PageModel copy = page.deepCopy();
+        BitSet visible = table.evaluate(copy, Collections.singletonList(hiding()));
+        table.apply(copy, visible);
+
+        //then
+        assertEquals(table.size(), visible.cardinality());
+        assertEquals(ids(page), ids(copy));
+    }
+
+    @Test
+    public void shouldKeepEntityVisibleAndThrowFirstExceptionAfterEvaluatingAll() throws Exception {
+        //given
+        PageModel page = page();
+        ConditionalEntityTable table = ConditionalEntityTable.compile(page);
+        assertNotNull(table);
+        List<String> evaluated = new ArrayList<>();
+        ConditionalEntityEvaluator failing = entity -> {
+            evaluated.add(entity.getId());
+            if ("m1".equals(entity.getId())) {
+                throw new ContentProviderException("m1");
+            }
+            return true;
+        };
+
+        //when
+        try {
+            table.evaluate(page.deepCopy(), Collections.singletonList(failing));
+            fail("Exception expected");
+        } catch (ContentProviderException e) {
+            //then
+            assertEquals("m1", e.getMessage());
+        }
+        assertEquals(table.size(), evaluated.size());
+    }
+
+    @Test
+    public void shouldEvaluateEntitiesOfCopy_SoThatEvaluatorsCannotChangeCompiledPage() throws Exception {
+        //given
+        PageModel page = page();
+        ConditionalEntityTable table = ConditionalEntityTable.compile(page);
+        assertNotNull(table);
+        ConditionalEntityEvaluator renaming = entity -> {
+            ((AbstractEntityModel) entity).setId("changed " + entity.getId());
+            return !"changed m2".equals(entity.getId());
+        };
+
+        //when
+        PageModel copy = page.deepCopy();
+        table.apply(copy, table.evaluate(copy, Collections.singletonList(renaming)));
+
+        //then
+        assertEquals(ids(page().deepCopy()), ids(page));
+        assertEquals("[Header[Nested[changed n1, changed n2, changed n3], changed h1, changed h2], Main[changed m1, changed m3]]",
+                ids(copy).toString());
+    }
+
+    @Test
+    public void shouldNotCompilePageWithCustomFiltering() throws Exception {
+        //given
+        DefaultPageModel page = new DefaultPageModel() {
+            @Override
+            public void filterConditionalEntities(Collection<ConditionalEntityEvaluator> evaluators) {
+            }
+        };
+        DefaultPageModel pageWithCustomRegion = new DefaultPageModel();
+        pageWithCustomRegion.getRegions().add(new RegionModelImpl("Custom") {
+            @Override
+            public void filterConditionalEntities(Collection<ConditionalEntityEvaluator> evaluators) {
+            }
+        });
+
+        //when
+        ConditionalEntityTable table = ConditionalEntityTable.compile(page);
+        ConditionalEntityTable tableWithCustomRegion = ConditionalEntityTable.compile(pageWithCustomRegion);
+
+        //then
+        assertNull(table);
+        assertNull(tableWithCustomRegion);
+        assertEquals(0, ConditionalEntityTable.compile(new DefaultPageModel()).size());
+    }
+
+    private static PageModel page() throws Exception {
+        RegionModelImpl nested = new RegionModelImpl("Nested");
+        nested.addEntity(entity("n1"));
+        nested.addEntity(entity("n2"));
+        nested.addEntity(entity("n3"));
+        RegionModelImpl header = new RegionModelImpl("Header");
+        header.getRegions().add(nested);
+        header.addEntity(entity("h1"));
+        header.addEntity(entity("h2"));
+        RegionModelImpl main = new RegionModelImpl("Main");
+        main.addEntity(entity("m1"));
+        main.addEntity(entity("m2"));
+        main.addEntity(entity("m3"));
+
+        DefaultPageModel page = new DefaultPageModel();
+        page.getRegions().add(header);
+        page.getRegions().add(main);
+        return page;
+    }
+
+    private static EntityModel entity(String id) {
+        TestEntity.TestEntityNoFeed entity = new TestEntity.TestEntityNoFeed();
+        entity.setId(id);
+        return entity;
+    }
+
+    private static ConditionalEntityEvaluator hiding(String... ids) {
+        Set<String> hidden = Sets.newHashSet(ids);
+        return entity -> !hidden.contains(entity.getId());
+    }
+
+    private static List<String> ids(PageModel page) {
+        return ids(page.getRegions());
+    }
+
+    private static List<String> ids(Collection<RegionModel> regions) {
+        List<String> ids = new ArrayList<>();
+        for (RegionModel region : regions) {
+            List<String> content = new ArrayList<>();
+            if (!region.getRegions().isEmpty()) {
+                content.addAll(ids(region.getRegions()));
+            }
+            for (EntityModel entity : region.getEntities()) {
+                content.add(entity.getId());
+            }
+            ids.add(region.getName() + content);
+        }
+        return ids;
+    }
+}
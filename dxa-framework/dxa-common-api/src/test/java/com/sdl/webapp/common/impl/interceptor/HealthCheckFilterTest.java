@@ -4,7 +4,10 @@ import org.apache.http.HttpStatus;
 import org.junit.Test;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 public class HealthCheckFilterTest {
 
@@ -20,4 +23,28 @@ public class HealthCheckFilterTest {
         //then
         assertEquals(HttpStatus.SC_OK, response.getStatus());
     }
+
+    @Test
+    public void shouldReturn503_UntilReady() throws Exception {
+        //given
+        HealthCheckFilter filter = new HealthCheckFilter();
+        MockHttpServletResponse warming = new MockHttpServletResponse();
+        MockHttpServletResponse warm = new MockHttpServletResponse();
+        AtomicBoolean ready = new AtomicBoolean();
+        Readiness.getDefault().register("test", ready::get);
+
+        try {
+            //when
+            filter.doFilter(null, warming, null);
+            ready.set(true);
+            filter.doFilter(null, warm, null);
+        } finally {
+            Readiness.getDefault().unregister("test");
+        }
+
+        //then
+        assertEquals(HttpStatus.SC_SERVICE_UNAVAILABLE, warming.getStatus());
+        assertEquals(HttpStatus.SC_OK, warm.getStatus());
+        assertFalse(Readiness.getDefault().getPendingChecks().contains("test"));
+    }
 }
\ No newline at end of file
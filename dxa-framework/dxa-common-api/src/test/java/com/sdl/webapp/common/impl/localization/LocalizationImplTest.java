@@ -159,6 +159,9 @@ public class LocalizationImplTest {
         //then
         assertEquals(schema, local.getSemanticSchemas().get(1L));
         assertEquals(schema2, local.getSemanticSchemas().get(2L));
+        assertEquals(schema, local.getSemanticSchemaIndex().get(1L));
+        assertEquals(schema2, local.getSemanticSchemaIndex().get("2"));
+        assertEquals(2, local.getSemanticSchemaIndex().size());
     }
 
     @Test
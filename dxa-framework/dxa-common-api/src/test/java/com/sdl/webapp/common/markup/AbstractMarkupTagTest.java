@@ -0,0 +1,414 @@
+package com.sdl.webapp.common.markup;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.model.ViewModel;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.api.model.mvcdata.MvcDataImpl;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import com.sdl.webapp.common.controller.ControllerUtils;
+import com.sdl.webapp.common.markup.html.HtmlNode;
+import com.sdl.webapp.common.markup.html.HtmlTextNode;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.jsp.JspWriter;
+import javax.servlet.jsp.PageContext;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.sdl.webapp.common.controller.RequestAttributeNames.PAGE_MODEL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractMarkupTagTest {
+
+    private static final String INCLUDE = "/Core/Entity/Teaser";
+
+    @Mock
+    private PageContext pageContext;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private JspWriter out;
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    @Mock
+    private MarkupDecoratorRegistry markupDecoratorRegistry;
+
+    @Mock
+    private MarkupDecorator markupDecorator;
+
+    @Mock
+    private OutputCache outputCache;
+
+    @Mock
+    private ViewModel model;
+
+    private TestMarkupTag tag;
+
+    private Writer body;
+
+    @Before
+    public void init() throws Exception {
+        when(pageContext.getRequest()).thenReturn(request);
+        when(pageContext.getOut()).thenReturn(out);
+        when(markupDecoratorRegistry.getDecorators("TestMarkup")).thenReturn(Collections.singletonList(markupDecorator));
+        when(markupDecorator.process(any(HtmlNode.class), eq(model), eq(webRequestContext))).thenReturn(new HtmlTextNode("decorated"));
+
+        doAnswer(invocation -> {
+            body = (Writer) invocation.getArguments()[0];
+            return null;
+        }).when(pageContext).pushBody(any(Writer.class));
+        doAnswer(invocation -> {
+            body.write("<div>rendered</div>");
+            return null;
+        }).when(pageContext).include(INCLUDE);
+        doAnswer(invocation -> {
+            body.write("<div>rendered</div>");
+            return null;
+        }).when(pageContext).include(INCLUDE, false);
+
+        tag = new TestMarkupTag();
+        tag.setPageContext(pageContext);
+    }
+
+    @Test
+    public void shouldStreamInclude_IfNoDecoratorRequiresMarkup() throws Exception {
+        //given
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(false);
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        verify(pageContext).include(INCLUDE, false);
+        verify(pageContext).popBody();
+        verify(markupDecorator, never()).process(any(HtmlNode.class), any(ViewModel.class), any(WebRequestContext.class));
+        verify(out).write("<div>rendered</div>");
+    }
+
+    @Test
+    public void shouldRenderErrorViewInstead_IfStreamedIncludeFailsBeforeItIsWritten() throws Exception {
+        //given
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(false);
+        doAnswer(invocation -> {
+            body.write("<div>partial");
+            throw new ServletException("view failed");
+        }).when(pageContext).include(INCLUDE, false);
+
+        //when
+        try {
+            tag.decorateInclude(INCLUDE, model);
+            fail("Include should fail");
+        } catch (ServletException e) {
+            tag.decorateException(model);
+        }
+
+        //then
+        verify(out, never()).write(anyString());
+        verify(pageContext).include(ControllerUtils.getIncludeErrorPath(), false);
+    }
+
+    @Test
+    public void shouldNotAppendErrorView_IfStreamedIncludeFailsAfterItIsPartlyWritten() throws Exception {
+        //given
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(false);
+        String large = Strings.repeat("<p>paragraph</p>", 1000);
+        doAnswer(invocation -> {
+            body.write(large);
+            throw new ServletException("view failed");
+        }).when(pageContext).include(INCLUDE, false);
+
+        //when
+        try {
+            tag.decorateInclude(INCLUDE, model);
+            fail("Include should fail");
+        } catch (ServletException e) {
+            tag.decorateException(model);
+        }
+
+        //then
+        verify(out).write(large);
+        verify(pageContext, never()).include(ControllerUtils.getIncludeErrorPath(), false);
+    }
+
+    @Test
+    public void shouldBufferAndDecorate_IfDecoratorRequiresMarkup() throws Exception {
+        //given
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(true);
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        verify(pageContext).pushBody(any(Writer.class));
+        verify(pageContext).popBody();
+        verify(out).write("decorated");
+    }
+
+    @Test
+    public void shouldBufferWithoutDecorating_IfOutputIsCached() throws Exception {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("1", "key");
+        tag.cacheKey = new CompositeOutputCacheKeyBase("1", "name", INCLUDE, null, null);
+        when(outputCache.isCachingEnabled()).thenReturn(true);
+        when(outputCache.getSpecificKey(tag.cacheKey)).thenReturn(key);
+        when(outputCache.isCacheable(tag.cacheKey)).thenReturn(true);
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(false);
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        ArgumentCaptor<HtmlNode> cached = ArgumentCaptor.forClass(HtmlNode.class);
+        verify(outputCache).addAndGet(eq((Object) key), cached.capture());
+        assertEquals("<div>rendered</div>", cached.getValue().toHtml());
+        verify(markupDecorator, never()).process(any(HtmlNode.class), any(ViewModel.class), any(WebRequestContext.class));
+        verify(out).write("<div>rendered</div>");
+    }
+
+    @Test
+    public void shouldAlwaysBuffer_IfMarkupIsReturned() throws Exception {
+        //given
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(false);
+
+        //when
+        String html = tag.processInclude(INCLUDE, model);
+
+        //then
+        assertEquals("<div>rendered</div>", html);
+        verify(pageContext, never()).include(INCLUDE, false);
+    }
+
+    @Test
+    public void shouldBypassOutputCache_InPreview() throws Exception {
+        //given
+        tag.cacheKey = new CompositeOutputCacheKeyBase("1", "name", INCLUDE, null, null);
+        when(outputCache.isCachingEnabled()).thenReturn(true);
+        when(outputCache.getSpecificKey(tag.cacheKey)).thenReturn(new LocalizationAwareCacheKey("1", "key"));
+        when(webRequestContext.isSessionPreview()).thenReturn(true);
+        when(markupDecorator.isMarkupRequired(model, webRequestContext)).thenReturn(true);
+
+        //when
+        tag.decorateInclude(INCLUDE, model);
+
+        //then
+        verify(outputCache, never()).get(any());
+        verify(outputCache, never()).addAndGet(any(Object.class), any(HtmlNode.class));
+        verify(out).write("decorated");
+    }
+
+    @Test
+    public void shouldReuseEntityOutput_AcrossPages() {
+        //given
+        TestEntity entity = entity("Entity");
+
+        //when
+        setPage("page1");
+        CompositeOutputCacheKeyBase onFirstPage = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+        setPage("page2");
+        CompositeOutputCacheKeyBase onSecondPage = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+
+        //then
+        assertEquals(onFirstPage, onSecondPage);
+        assertEquals("1-2", onSecondPage.getPageId());
+    }
+
+    @Test
+    public void shouldCacheEntityWithCustomController_PerPage() {
+        //given
+        TestEntity entity = entity("Navigation");
+
+        //when
+        setPage("page1");
+        CompositeOutputCacheKeyBase onFirstPage = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+        setPage("page2");
+        CompositeOutputCacheKeyBase onSecondPage = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+
+        //then
+        assertNotEquals(onFirstPage, onSecondPage);
+        assertEquals("page2/1-2", onSecondPage.getPageId());
+    }
+
+    @Test
+    public void shouldChangeEntityKey_IfContentChanges() {
+        //given
+        TestEntity entity = entity("Entity");
+        CompositeOutputCacheKeyBase before = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+
+        //when
+        entity.getXpmMetadata().put("ComponentModified", "2020-02-01T10:00:00");
+        CompositeOutputCacheKeyBase after = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+
+        //then
+        assertNotEquals(before, after);
+        assertEquals(before.getPageId(), after.getPageId());
+    }
+
+    @Test
+    public void shouldCacheEntityOutput_PerContainerSize() {
+        //given
+        TestEntity entity = entity("Entity");
+        setPage("page1");
+
+        //when
+        when(webRequestContext.getContainerSize()).thenReturn(12);
+        CompositeOutputCacheKeyBase fullWidth = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+        when(webRequestContext.getContainerSize()).thenReturn(4);
+        CompositeOutputCacheKeyBase column = tag.getEntityCacheKey(entity, null, INCLUDE).get();
+
+        //then
+        assertNotEquals(fullWidth, column);
+        assertEquals(12, fullWidth.getContainerSize());
+        assertEquals(4, column.getContainerSize());
+    }
+
+    @Test
+    public void shouldCacheEntity_WithoutXpmMetadata() {
+        //given
+        TestEntity entity = entity("Entity");
+        entity.getXpmMetadata().clear();
+
+        //when
+        setPage("page1");
+        Optional<CompositeOutputCacheKeyBase> onFirstPage = tag.getEntityCacheKey(entity, null, INCLUDE);
+        setPage("page2");
+        Optional<CompositeOutputCacheKeyBase> onSecondPage = tag.getEntityCacheKey(entity, null, INCLUDE);
+
+        //then
+        assertTrue(onFirstPage.isPresent());
+        assertNull(onFirstPage.get().getVersion());
+        assertEquals("1-2", onFirstPage.get().getPageId());
+        assertEquals(onFirstPage, onSecondPage);
+    }
+
+    @Test
+    public void shouldCacheRegion_WithoutXpmMetadata() throws Exception {
+        //given
+        RegionModel region = new RegionModelImpl("Main");
+        TestEntity entity = entity("Entity");
+        entity.getXpmMetadata().clear();
+        region.addEntity(entity);
+        PageModel page = mock(PageModel.class);
+        when(page.getId()).thenReturn("page1");
+        when(page.canBeCached()).thenReturn(true);
+        when(request.getAttribute(PAGE_MODEL)).thenReturn(page);
+
+        //when
+        Optional<CompositeOutputCacheKeyBase> key = tag.getRegionCacheKey(region, "Main", INCLUDE);
+
+        //then
+        assertTrue(key.isPresent());
+        assertNull(key.get().getVersion());
+        assertEquals("page1", key.get().getPageId());
+    }
+
+    @Test
+    public void shouldCacheRegionsPerPage_WithEntitiesVersion() throws Exception {
+        //given
+        RegionModel region = new RegionModelImpl("Main");
+        TestEntity entity = entity("Entity");
+        region.addEntity(entity);
+        setPage("page1");
+        CompositeOutputCacheKeyBase onFirstPage = tag.getRegionCacheKey(region, "Main", INCLUDE).get();
+
+        //when
+        setPage("page2");
+        CompositeOutputCacheKeyBase onSecondPage = tag.getRegionCacheKey(region, "Main", INCLUDE).get();
+        entity.getXpmMetadata().put("ComponentModified", "2020-02-01T10:00:00");
+        CompositeOutputCacheKeyBase changed = tag.getRegionCacheKey(region, "Main", INCLUDE).get();
+
+        //then
+        assertEquals("page2", onSecondPage.getPageId());
+        assertNotEquals(onFirstPage, onSecondPage);
+        assertNotEquals(onSecondPage.getVersion(), changed.getVersion());
+    }
+
+    @Test
+    public void shouldNotCacheRegion_WithoutPage() throws Exception {
+        assertFalse(tag.getRegionCacheKey(new RegionModelImpl("Main"), "Main", INCLUDE).isPresent());
+    }
+
+    private void setPage(String id) {
+        PageModel page = mock(PageModel.class);
+        when(page.getId()).thenReturn(id);
+        when(page.canBeCached()).thenReturn(true);
+        when(page.getXpmMetadata()).thenReturn(ImmutableMap.of("PageModified", "2020-01-01T10:00:00"));
+        when(request.getAttribute(PAGE_MODEL)).thenReturn(page);
+    }
+
+    private static TestEntity entity(String controllerName) {
+        TestEntity entity = new TestEntity();
+        entity.setId("1-2");
+        entity.setHeadline("headline");
+        entity.getXpmMetadata().put("ComponentModified", "2020-01-01T10:00:00");
+        entity.getXpmMetadata().put("ComponentTemplateModified", "2019-01-01T10:00:00");
+        entity.setMvcData(MvcDataImpl.newBuilder().areaName("Core").controllerName(controllerName).viewName("Teaser").build());
+        return entity;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    private static class TestEntity extends AbstractEntityModel {
+
+        private String headline;
+    }
+
+    private class TestMarkupTag extends AbstractMarkupTag {
+
+        private CompositeOutputCacheKeyBase cacheKey;
+
+        @Override
+        protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
+            return Optional.ofNullable(cacheKey);
+        }
+
+        @Override
+        protected MarkupDecoratorRegistry getMarkupDecoratorRegistry() {
+            return markupDecoratorRegistry;
+        }
+
+        @Override
+        protected WebRequestContext getWebRequestContext() {
+            return webRequestContext;
+        }
+
+        @Override
+        protected OutputCache getOutputCache() {
+            return outputCache;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Admission and eviction policy of a named cache, on top of the cache's own expiry and size limit.
+ * <p>The policy sees every lookup of a key and decides whether a missed value is stored at all and whether an entry
+ * should be kept when the cache needs room. Policies are configured per cache with
+ * <code>dxa.caching.policy.&lt;cacheName&gt;</code>, see {@link NamedCacheProvider#getCachePolicy(String)}.</p>
+ * <p>Implementations are called on the request path from many threads at once and must be thread-safe and fast.</p>
+ *
+ * @dxa.publicApi
+ */
+public interface CachePolicy {
+
+    /**
+     * Policy that stores every value and leaves eviction to the cache.
+     */
+    CachePolicy ADMIT_ALL = new CachePolicy() {
+        @Override
+        public void recordAccess(@NotNull Object key) {
+        }
+
+        @Override
+        public boolean admit(@NotNull Object key) {
+            return true;
+        }
+
+        @Override
+        public boolean isFrequent(@NotNull Object key) {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "admit-all";
+        }
+    };
+
+    /**
+     * Records a lookup of the key, whether it was found or not.
+     *
+     * @param key key which is looked up
+     */
+    void recordAccess(@NotNull Object key);
+
+    /**
+     * Decides whether a value which was not found is stored in the cache.
+     *
+     * @param key key of the value
+     * @return whether to store the value
+     */
+    boolean admit(@NotNull Object key);
+
+    /**
+     * Decides whether an entry should rather be kept when the cache evicts entries.
+     *
+     * @param key key of the entry
+     * @return whether the cache should evict other entries first
+     */
+    boolean isFrequent(@NotNull Object key);
+
+    /**
+     * Records that the entry of the key was removed or expired.
+     *
+     * @param key key of the entry
+     */
+    default void recordRemoval(@NotNull Object key) {
+    }
+
+    /**
+     * Records that the cache evicted the entry of the key because it needed room, so the cache is full.
+     *
+     * @param key key of the entry
+     */
+    default void recordEviction(@NotNull Object key) {
+        recordRemoval(key);
+    }
+
+    /**
+     * Records that all entries of the cache were removed.
+     */
+    default void recordClear() {
+    }
+}
@@ -0,0 +1,106 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch of 4-bit counters which estimates how often keys were seen recently.
+ * <p>Each key has a counter in four rows. The estimate is the smallest of them, so collisions can only make it too
+ * high. When the sketch has counted ten times as many accesses as it has counters per row, all counters are halved,
+ * so that keys which were popular a while ago lose their weight.</p>
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final AtomicLongArray table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param expectedEntries number of entries of the cache, which sets the width of the sketch
+     */
+    FrequencySketch(int expectedEntries) {
+        int length = Integer.highestOneBit(Math.max(16, Math.min(expectedEntries, 1 << 26)) - 1) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * length;
+    }
+
+    /**
+     * Returns the estimated number of recent accesses to the key, at most 15.
+     */
+    int frequency(@NotNull Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int shift = (start + i) << 2;
+            frequency = Math.min(frequency, (int) ((table.get(indexOf(hash, i)) >>> shift) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Counts an access to the key and halves all counters when the sample is complete.
+     */
+    void increment(@NotNull Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && size.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int shift = counter << 2;
+        long mask = 0xfL << shift;
+        while (true) {
+            long value = table.get(index);
+            if ((value & mask) == mask) {
+                return false;
+            }
+            if (table.compareAndSet(index, value, value + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized void reset() {
+        if (size.get() < sampleSize) {
+            // another thread has just halved the counters
+            return;
+        }
+        for (int i = 0; i < table.length(); i++) {
+            long value;
+            do {
+                value = table.get(i);
+            } while (!table.compareAndSet(i, value, (value >>> 1) & RESET_MASK));
+        }
+        size.set(size.get() / 2);
+    }
+
+    private int indexOf(int hash, int row) {
+        long index = (hash + SEEDS[row]) * SEEDS[row];
+        index += index >>> 32;
+        return ((int) index) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        int spread = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        spread = ((spread >>> 16) ^ spread) * 0x45d9f3b;
+        return (spread >>> 16) ^ spread;
+    }
+}
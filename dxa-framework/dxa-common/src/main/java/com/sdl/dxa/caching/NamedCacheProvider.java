@@ -63,6 +63,17 @@ public interface NamedCacheProvider {
      */
     boolean isCacheEnabled(String cacheName);
 
+    /**
+     * Returns the admission and eviction policy of the cache with the given name.
+     *
+     * @param cacheName name of the cache
+     * @return policy of the cache, {@link CachePolicy#ADMIT_ALL} if it has none
+     * @dxa.publicApi
+     */
+    default CachePolicy getCachePolicy(String cacheName) {
+        return CachePolicy.ADMIT_ALL;
+    }
+
     /**
      * Current cache manager used by this provider.
      *
@@ -0,0 +1,159 @@
+package com.sdl.dxa.caching;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Frequency-aware {@link CachePolicy} in the style of TinyLFU.
+ * <p>Accesses are counted in a small sketch which forgets old accesses over time. The policy follows which keys
+ * the cache holds, in the order they were last looked up. While the cache has room, every missed value is stored.
+ * Once it is full, the least recently used entry is the victim: a missed value is only stored if its key was looked
+ * up more often recently than the victim's, and then the victim is the entry which the cache should evict.
+ * So keys which are requested only once, for instance by a crawler, do not push popular entries out of the
+ * cache.</p>
+ * <p>The cache is full once it {@link #recordEviction(Object) evicts} an entry, so caches which are sized in bytes
+ * are filtered as well as caches sized in entries. Every entry which is removed or expires afterwards makes room for
+ * one missed value; a clear of the cache empties it again.</p>
+ * <p>The expected entries should be about the number of entries the cache holds. The sketch takes 8 bytes per 16
+ * expected entries, rounded up to a power of two.</p>
+ *
+ * @dxa.publicApi
+ */
+public class TinyLfuPolicy implements CachePolicy {
+
+    private static final int UNKNOWN_ROOM = Integer.MAX_VALUE;
+
+    private final FrequencySketch sketch;
+
+    private final int expectedEntries;
+
+    /**
+     * Keys which the cache holds, least recently used first.
+     */
+    private final LinkedHashMap<Object, Boolean> resident = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Number of values which can be stored without a victim, {@link #UNKNOWN_ROOM} until the cache evicts an entry.
+     */
+    private int room = UNKNOWN_ROOM;
+
+    /**
+     * @param expectedEntries number of entries the cache is expected to hold, which sizes the sketch
+     */
+    public TinyLfuPolicy(int expectedEntries) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("Expected entries must be positive, but are " + expectedEntries);
+        }
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.expectedEntries = expectedEntries;
+    }
+
+    @Override
+    public void recordAccess(@NotNull Object key) {
+        sketch.increment(key);
+        // the order of use is a hint, under contention it is better to skip it than to make lookups wait
+        if (lock.tryLock()) {
+            try {
+                resident.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean admit(@NotNull Object key) {
+        lock.lock();
+        try {
+            if (resident.containsKey(key)) {
+                return true;
+            }
+            if (room > 0 || resident.isEmpty()) {
+                if (room != UNKNOWN_ROOM) {
+                    room--;
+                }
+                resident.put(key, Boolean.TRUE);
+                return true;
+            }
+            Iterator<Object> victims = resident.keySet().iterator();
+            Object victim = victims.next();
+            if (sketch.frequency(key) <= sketch.frequency(victim)) {
+                return false;
+            }
+            victims.remove();
+            resident.put(key, Boolean.TRUE);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advises to keep the entries which the policy holds, so that the cache evicts the victims of admission first.
+     */
+    @Override
+    public boolean isFrequent(@NotNull Object key) {
+        lock.lock();
+        try {
+            return resident.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordRemoval(@NotNull Object key) {
+        lock.lock();
+        try {
+            resident.remove(key);
+            if (room != UNKNOWN_ROOM) {
+                room++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordEviction(@NotNull Object key) {
+        lock.lock();
+        try {
+            resident.remove(key);
+            room = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordClear() {
+        lock.lock();
+        try {
+            resident.clear();
+            room = UNKNOWN_ROOM;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the estimated number of recent lookups of the key.
+     *
+     * @param key key of an entry
+     * @return estimated lookups, at most 15
+     */
+    public int frequency(@NotNull Object key) {
+        return sketch.frequency(key);
+    }
+
+    @Override
+    public String toString() {
+        return "tinylfu:" + expectedEntries;
+    }
+}
@@ -0,0 +1,229 @@
+package com.sdl.dxa.common.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Page path analyzed in a single pass, with the normalized forms and flags used by {@link PathUtils}.
+ * <p>The path is scanned once to find the positions of the last slash and dot, and the end of the path is matched
+ * against the index page suffixes (<code>/</code>, <code>/index</code>, <code>/index.html</code>, ignoring case).
+ * All derived values are computed from these positions without regular expressions, and return the original
+ * string if nothing has to change.</p>
+ *
+ * @dxa.publicApi
+ */
+@EqualsAndHashCode(of = "path")
+@ToString(of = "path")
+public final class NormalizedPath {
+
+    private static final String INDEX_SUFFIX = "/index";
+
+    private static final String INDEX_HTML_SUFFIX = "/index.html";
+
+    private static final NormalizedPath NULL_PATH = new NormalizedPath(null);
+
+    private final String path;
+
+    private final int lastSlash;
+
+    private final int lastDot;
+
+    private final int firstNonWhitespace;
+
+    private final boolean withLineTerminator;
+
+    private NormalizedPath(String path) {
+        this.path = path;
+
+        int slash = -1;
+        int dot = -1;
+        int nonWhitespace = -1;
+        boolean lineTerminator = false;
+        int length = path == null ? 0 : path.length();
+        for (int i = 0; i < length; i++) {
+            char c = path.charAt(i);
+            switch (c) {
+                case '/':
+                    slash = i;
+                    break;
+                case '.':
+                    dot = i;
+                    break;
+                // line terminators, which the former regular expressions did not match
+                case '\n':
+                case '\r':
+                case '\u0085':
+                case '\u2028':
+                case '\u2029':
+                    lineTerminator = true;
+                    break;
+                default:
+                    break;
+            }
+            if (nonWhitespace < 0 && !Character.isWhitespace(c)) {
+                nonWhitespace = i;
+            }
+        }
+        this.lastSlash = slash;
+        this.lastDot = dot;
+        this.firstNonWhitespace = nonWhitespace;
+        this.withLineTerminator = lineTerminator;
+    }
+
+    /**
+     * Analyzes the given path.
+     *
+     * @param path path to analyze
+     * @return analyzed path
+     */
+    @NotNull
+    public static NormalizedPath of(@Nullable String path) {
+        return path == null ? NULL_PATH : new NormalizedPath(path);
+    }
+
+    /**
+     * Returns the path as it was given.
+     *
+     * @return original path
+     */
+    @Nullable
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns whether the path has an extension. See {@link PathUtils#hasExtension(String)}.
+     *
+     * @return whether the path has any extension
+     */
+    public boolean hasExtension() {
+        return lastDot > lastSlash;
+    }
+
+    /**
+     * Returns whether the path ends with the default extension. See {@link PathUtils#hasDefaultExtension(String)}.
+     *
+     * @return whether the path ends with the default extension and is not only the extension
+     */
+    public boolean hasDefaultExtension() {
+        return PathUtils.hasDefaultExtension(path);
+    }
+
+    /**
+     * Returns whether {@link #getNormalizedPath() the normalized path} gets the default page name appended,
+     * which is the case for empty paths and paths ending with a slash.
+     *
+     * @return whether the path points to the default page of a folder
+     */
+    public boolean isDefaultPage() {
+        return path == null || path.isEmpty() || path.charAt(path.length() - 1) == '/';
+    }
+
+    /**
+     * Returns whether the path is an <code>index</code> path. See {@link PathUtils#isIndexPath(String)}.
+     *
+     * @return true if index path, false otherwise
+     */
+    public boolean isIndexPath() {
+        if (path == null || withLineTerminator) {
+            return false;
+        }
+        int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        return indexSuffixLength(end) >= 0;
+    }
+
+    /**
+     * Returns the path normalized to have an explicit page name and extension.
+     * See {@link PathUtils#normalizePathToDefaults(String)}.
+     *
+     * @return a normalized path
+     */
+    @NotNull
+    public String getNormalizedPath() {
+        return getNormalizedPath(false);
+    }
+
+    /**
+     * Returns the path normalized to have an explicit page name and extension.
+     * See {@link PathUtils#normalizePathToDefaults(String, boolean)}.
+     *
+     * @param tryIndexPage whether a path without an extension should be treated as a folder
+     * @return a normalized path
+     */
+    @NotNull
+    public String getNormalizedPath(boolean tryIndexPage) {
+        String defaultPage = PathUtils.getDefaultPageName() + PathUtils.getDefaultPageExtension();
+        if (path == null || path.isEmpty()) {
+            return defaultPage;
+        }
+        if (isDefaultPage()) {
+            return path + defaultPage;
+        }
+        if (hasExtension()) {
+            return path;
+        }
+        return tryIndexPage ? path + '/' + defaultPage : path + PathUtils.getDefaultPageExtension();
+    }
+
+    /**
+     * Returns the path without the <code>index</code> part. See {@link PathUtils#stripIndexPath(String)}.
+     *
+     * @return path without 'index' part if any
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String getPathWithoutIndex() {
+        if (path == null || withLineTerminator) {
+            return path;
+        }
+        int suffixLength = indexSuffixLength(path.length());
+        if (suffixLength < 0) {
+            return path;
+        }
+        int mainEnd = path.length() - suffixLength;
+        return firstNonWhitespace < 0 || firstNonWhitespace >= mainEnd ? "/" : path.substring(0, mainEnd);
+    }
+
+    /**
+     * Returns the length of the index suffix the path has before the given end, or -1 if it does not have one.
+     * The suffixes cannot overlap because they end with different characters, so at most one of them can match.
+     */
+    private int indexSuffixLength(int end) {
+        if (end <= 0) {
+            return -1;
+        }
+        switch (path.charAt(end - 1)) {
+            case '/':
+                return 1;
+            case 'x':
+            case 'X':
+                return endsWithIgnoreCase(end, INDEX_SUFFIX) ? INDEX_SUFFIX.length() : -1;
+            case 'l':
+            case 'L':
+                return endsWithIgnoreCase(end, INDEX_HTML_SUFFIX) ? INDEX_HTML_SUFFIX.length() : -1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Compares ignoring case of ASCII letters only, the same way a case-insensitive regular expression does.
+     */
+    private boolean endsWithIgnoreCase(int end, String suffix) {
+        int start = end - suffix.length();
+        if (start < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            char c = path.charAt(start + i);
+            char expected = suffix.charAt(i);
+            if (c != expected && !(c >= 'A' && c <= 'Z' && c + ('a' - 'A') == expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -11,9 +11,7 @@ import java.net.URISyntaxException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
-import static org.springframework.util.StringUtils.isEmpty;
 
 /**
  * This utils class holds helper-methods for the logic related to operations with page paths.
@@ -31,8 +29,6 @@ public final class PathUtils {
 
     private static final Pattern FILE_NAME_PATTERN = Pattern.compile(".*?/?(?<fileName>[^/.]*)(\\.(?<extension>[^/.]*))?$");
 
-    private static final Pattern INDEX_PATH_REGEXP = Pattern.compile("^(?<main>.*)(?<index>/(index(\\.html)?)?)$", Pattern.CASE_INSENSITIVE);
-
     private PathUtils() {
     }
 
@@ -68,7 +64,20 @@ public final class PathUtils {
         securedUrl = url == null ? "" : url;
         securedPath = path == null ? "" : path;
 
-        return securedUrl.concat("/").concat(securedPath).replaceAll("/+", "/");
+        StringBuilder combined = new StringBuilder(securedUrl.length() + securedPath.length() + 1);
+        appendCollapsingSlashes(combined, securedUrl);
+        appendCollapsingSlashes(combined, "/");
+        appendCollapsingSlashes(combined, securedPath);
+        return combined.toString();
+    }
+
+    private static void appendCollapsingSlashes(StringBuilder builder, String part) {
+        for (int i = 0; i < part.length(); i++) {
+            char c = part.charAt(i);
+            if (c != '/' || builder.length() == 0 || builder.charAt(builder.length() - 1) != '/') {
+                builder.append(c);
+            }
+        }
     }
 
     /**
@@ -92,22 +101,7 @@ public final class PathUtils {
 
     public static String normalizePathToDefaults(String path, boolean tryIndexPage) {
         log.trace("normalizePathToDefaults({})", path);
-        String processingPath = path;
-
-        if (isEmpty(processingPath)) {
-            return DEFAULT_PAGE_NAME + DEFAULT_PAGE_EXTENSION;
-        }
-
-        if (processingPath.endsWith("/")) {
-            processingPath = processingPath + DEFAULT_PAGE_NAME + DEFAULT_PAGE_EXTENSION;
-        }
-
-        if (!hasExtension(processingPath)) {
-            processingPath = tryIndexPage
-                    ? processingPath + "/" + DEFAULT_PAGE_NAME + DEFAULT_PAGE_EXTENSION
-                    : processingPath + DEFAULT_PAGE_EXTENSION;
-        }
-
+        String processingPath = NormalizedPath.of(path).getNormalizedPath(tryIndexPage);
         log.trace("return {}", processingPath);
         return processingPath;
     }
@@ -200,7 +194,7 @@ public final class PathUtils {
      * @return true if index path, false otherwise
      */
     public static boolean isIndexPath(@Nullable String urlToCheck) {
-        return urlToCheck != null && INDEX_PATH_REGEXP.matcher(urlToCheck.replaceFirst("/$", "")).matches();
+        return NormalizedPath.of(urlToCheck).isIndexPath();
     }
 
     /**
@@ -242,12 +236,7 @@ public final class PathUtils {
      */
     @Nullable
     public static String stripIndexPath(@Nullable String path) {
-        if (path == null) {
-            return null;
-        }
-
-        Matcher matcher = INDEX_PATH_REGEXP.matcher(path);
-        return matcher.matches() ? defaultIfBlank(matcher.group("main"), "/") : path;
+        return NormalizedPath.of(path).getPathWithoutIndex();
     }
 
     /**
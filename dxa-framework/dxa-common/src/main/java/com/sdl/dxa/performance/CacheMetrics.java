@@ -0,0 +1,49 @@
+package com.sdl.dxa.performance;
+
+/**
+ * Hit and miss counters of a cache, registered as <code>cache.&lt;name&gt;.hits</code>,
+ * <code>cache.&lt;name&gt;.misses</code> and <code>cache.&lt;name&gt;.hit-ratio</code>.
+ *
+ * @dxa.publicApi
+ */
+public final class CacheMetrics {
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    CacheMetrics(MetricsRegistry registry, String cacheName) {
+        String prefix = "cache." + cacheName;
+        this.hits = registry.counter(prefix + ".hits");
+        this.misses = registry.counter(prefix + ".misses");
+        registry.gauge(prefix + ".hit-ratio", this::getHitRatio);
+    }
+
+    /**
+     * Records a lookup.
+     *
+     * @param hit whether the value was found
+     */
+    public void record(boolean hit) {
+        (hit ? hits : misses).inc();
+    }
+
+    public long getHits() {
+        return hits.getCount();
+    }
+
+    public long getMisses() {
+        return misses.getCount();
+    }
+
+    /**
+     * Returns the share of the lookups which found a value.
+     *
+     * @return hit ratio between 0 and 1, or 0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
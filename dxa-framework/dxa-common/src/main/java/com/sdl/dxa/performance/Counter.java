@@ -0,0 +1,46 @@
+package com.sdl.dxa.performance;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter which is cheap to increment from many threads.
+ *
+ * @dxa.publicApi
+ */
+public final class Counter implements Metric {
+
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void inc() {
+        count.increment();
+    }
+
+    /**
+     * Increments the counter by the given value.
+     *
+     * @param value value to add
+     */
+    public void inc(long value) {
+        count.add(value);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return current count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public Long getValue() {
+        return getCount();
+    }
+}
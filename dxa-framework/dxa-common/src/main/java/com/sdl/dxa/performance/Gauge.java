@@ -0,0 +1,14 @@
+package com.sdl.dxa.performance;
+
+/**
+ * Metric which value is computed when it is reported, like a size of a cache.
+ *
+ * @param <T> type of the value
+ * @dxa.publicApi
+ */
+@FunctionalInterface
+public interface Gauge<T> extends Metric {
+
+    @Override
+    T getValue();
+}
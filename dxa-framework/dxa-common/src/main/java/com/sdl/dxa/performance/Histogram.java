@@ -0,0 +1,93 @@
+package com.sdl.dxa.performance;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of non-negative values recorded from many threads without locking.
+ * <p>Values are counted in log-linear buckets: values below 16 are counted exactly, larger values in eight buckets
+ * per power of two, so percentiles are reported with at most 12.5% relative error. Count, sum, minimum and maximum
+ * are exact. Negative values are recorded as zero.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class Histogram implements Metric {
+
+    private static final int EXACT_VALUES = 16;
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int MIN_EXPONENT = 4;
+
+    static final int BUCKETS = EXACT_VALUES + (63 - MIN_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    Histogram() {
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value value to record
+     */
+    public void update(long value) {
+        long recorded = Math.max(value, 0);
+        buckets.incrementAndGet(bucketOf(recorded));
+        sum.add(recorded);
+        min.accumulate(recorded);
+        max.accumulate(recorded);
+    }
+
+    /**
+     * Returns a snapshot of the recorded values. The snapshot is not atomic if values are recorded concurrently:
+     * the sum, minimum and maximum may already include a value which is not counted yet.
+     *
+     * @return snapshot of the recorded values
+     */
+    public Snapshot getSnapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return count == 0 ? Snapshot.EMPTY : new Snapshot(counts, count, sum.sum(), min.get(), max.get());
+    }
+
+    @Override
+    public Snapshot getValue() {
+        return getSnapshot();
+    }
+
+    static int bucketOf(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT_VALUES + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted in the bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < EXACT_VALUES) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT_VALUES) / SUB_BUCKETS + MIN_EXPONENT;
+        int subBucket = (bucket - EXACT_VALUES) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width - 1;
+    }
+}
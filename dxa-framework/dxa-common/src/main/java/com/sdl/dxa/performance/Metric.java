@@ -0,0 +1,16 @@
+package com.sdl.dxa.performance;
+
+/**
+ * Metric registered in {@link MetricsRegistry}.
+ *
+ * @dxa.publicApi
+ */
+public interface Metric {
+
+    /**
+     * Returns the current value of the metric in the form it is reported.
+     *
+     * @return current value
+     */
+    Object getValue();
+}
@@ -0,0 +1,134 @@
+package com.sdl.dxa.performance;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * In-process registry of named metrics: {@link Counter}s, {@link Histogram}s, {@link Timer}s and {@link Gauge}s.
+ * <p>Metrics are created on the first request for a name and live as long as the registry. Recording is lock-free,
+ * so metrics can be updated on the request path. Names are dot-separated, for example
+ * <code>content.page.load</code> or <code>cache.pageModels.hits</code>.</p>
+ * <p>The framework records into the {@link #getDefault() default registry}, which is exposed by the admin endpoint
+ * of the web application.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, CacheMetrics> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the registry used by the framework.
+     *
+     * @return default registry
+     */
+    @NotNull
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if needed.
+     *
+     * @param name name of the metric
+     * @return counter
+     * @throws IllegalArgumentException if a metric of another type has this name
+     */
+    @NotNull
+    public Counter counter(@NotNull String name) {
+        return getOrCreate(name, Counter.class, Counter::new);
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it if needed.
+     *
+     * @param name name of the metric
+     * @return histogram
+     * @throws IllegalArgumentException if a metric of another type has this name
+     */
+    @NotNull
+    public Histogram histogram(@NotNull String name) {
+        return getOrCreate(name, Histogram.class, Histogram::new);
+    }
+
+    /**
+     * Returns the timer with the given name, creating it if needed.
+     *
+     * @param name name of the metric
+     * @return timer
+     * @throws IllegalArgumentException if a metric of another type has this name
+     */
+    @NotNull
+    public Timer timer(@NotNull String name) {
+        return getOrCreate(name, Timer.class, Timer::new);
+    }
+
+    /**
+     * Registers the gauge with the given name unless there is already one.
+     *
+     * @param name  name of the metric
+     * @param gauge gauge to register
+     * @param <T>   type of the value
+     * @return the registered gauge, which is the given one if there was none
+     * @throws IllegalArgumentException if a metric of another type has this name
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> Gauge<T> gauge(@NotNull String name, @NotNull Gauge<T> gauge) {
+        return getOrCreate(name, Gauge.class, () -> gauge);
+    }
+
+    /**
+     * Returns the hit and miss counters of the cache with the given name, creating them if needed.
+     *
+     * @param cacheName name of the cache
+     * @return cache metrics
+     */
+    @NotNull
+    public CacheMetrics cache(@NotNull String cacheName) {
+        CacheMetrics cacheMetrics = caches.get(cacheName);
+        return cacheMetrics != null ? cacheMetrics : caches.computeIfAbsent(cacheName, name -> new CacheMetrics(this, name));
+    }
+
+    /**
+     * Returns all registered metrics sorted by name.
+     *
+     * @return a copy of the registered metrics
+     */
+    @NotNull
+    public SortedMap<String, Metric> getMetrics() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(metrics));
+    }
+
+    /**
+     * Removes the metric with the given name.
+     *
+     * @param name name of the metric
+     * @return whether a metric was removed
+     */
+    public boolean remove(@NotNull String name) {
+        return metrics.remove(name) != null;
+    }
+
+    private <T extends Metric> T getOrCreate(String name, Class<T> type, Supplier<T> factory) {
+        Metric metric = metrics.get(name);
+        if (metric == null) {
+            metric = metrics.computeIfAbsent(name, key -> factory.get());
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + name + " is a " + metric.getClass().getSimpleName() +
+                    ", not a " + type.getSimpleName());
+        }
+        return type.cast(metric);
+    }
+}
@@ -1,43 +1,62 @@
 package com.sdl.dxa.performance;
 
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Objects;
 
 /**
- * Created by inikonov on 9/2/2015.
+ * Measures the time until it is closed, records it into the {@link Timer} with its name
+ * in the {@link MetricsRegistry#getDefault() default registry}, and logs a warning if it exceeds the threshold.
+ * <p>The name is the name of the timer, so it should identify the measured call and not its arguments.
+ * Use {@link MetricsRegistry#timer(String)} directly for calls which need no warning.</p>
  */
 public class Performance implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger("dxa.docs.profiling");
-    private long startTime = System.nanoTime();
-    private long totalTime;
-    private long warnIfMoreThanMillis=2L;
-    private String name=Thread.currentThread().getName();
-    private static AtomicInteger counter=new AtomicInteger();
 
+    /**
+     * Name of the timer of measurements created without a name.
+     */
+    public static final String DEFAULT_NAME = "dxa.performance.unnamed";
+
+    private final Timer.Context context;
+    private final long warnIfMoreThanMillis;
+    private final String name;
+    private final Timer timer;
+
+    /**
+     * @deprecated measurements without a name share one timer, use {@link #Performance(String)}
+     */
+    @Deprecated
     public Performance() {
+        this(DEFAULT_NAME);
     }
 
+    /**
+     * @deprecated measurements without a name share one timer, use {@link #Performance(long, String)}
+     */
+    @Deprecated
     public Performance(long warnIfMoreThanMillis) {
-        this.warnIfMoreThanMillis = warnIfMoreThanMillis;
+        this(warnIfMoreThanMillis, DEFAULT_NAME);
     }
 
-    public Performance(long warnIfMoreThanMillis, String name) {
-        this(warnIfMoreThanMillis);
-        this.name = name;
+    public Performance(long warnIfMoreThanMillis, @NotNull String name) {
+        this.warnIfMoreThanMillis = warnIfMoreThanMillis;
+        this.name = Objects.requireNonNull(name, "name");
+        this.timer = MetricsRegistry.getDefault().timer(name);
+        this.context = timer.time();
     }
 
-    public Performance(String name) {
-        this.name = name;
+    public Performance(@NotNull String name) {
+        this(2L, name);
     }
 
     @Override
     public void close() {
-        counter.incrementAndGet();
-        totalTime = (System.nanoTime() - startTime) / 1_000_000L;
+        long totalTime = context.stop() / 1_000_000L;
         if (totalTime >= warnIfMoreThanMillis) {
-            logger.warn("{} took {} ms ("+counter.get()+" times)", name, totalTime);
+            logger.warn("{} took {} ms ({} times)", name, totalTime, timer.getSnapshot().getCount());
         }
     }
 }
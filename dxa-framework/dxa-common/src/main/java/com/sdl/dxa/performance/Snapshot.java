@@ -0,0 +1,95 @@
+package com.sdl.dxa.performance;
+
+/**
+ * Statistics of the values recorded by a {@link Histogram} or a {@link Timer} at some point in time.
+ *
+ * @dxa.publicApi
+ */
+public final class Snapshot {
+
+    static final Snapshot EMPTY = new Snapshot(new long[Histogram.BUCKETS], 0, 0, 0, 0);
+
+    private final long[] counts;
+
+    private final long count;
+
+    private final long sum;
+
+    private final long min;
+
+    private final long max;
+
+    Snapshot(long[] counts, long count, long sum, long min, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long getP50() {
+        return getPercentile(0.5);
+    }
+
+    public long getP75() {
+        return getPercentile(0.75);
+    }
+
+    public long getP95() {
+        return getPercentile(0.95);
+    }
+
+    public long getP99() {
+        return getPercentile(0.99);
+    }
+
+    /**
+     * Returns the value below which the given fraction of the recorded values falls.
+     *
+     * @param quantile fraction of the values between 0 and 1
+     * @return estimated value, never lower than the minimum or greater than the maximum
+     */
+    public long getPercentile(double quantile) {
+        if (quantile < 0 || quantile > 1 || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException("Quantile " + quantile + " is not in [0..1]");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, Histogram.upperBoundOf(i)));
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "Snapshot(count=" + count + ", min=" + min + ", max=" + max + ", mean=" + getMean() +
+                ", p50=" + getP50() + ", p95=" + getP95() + ", p99=" + getP99() + ")";
+    }
+}
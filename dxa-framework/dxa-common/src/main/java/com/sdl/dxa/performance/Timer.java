@@ -0,0 +1,92 @@
+package com.sdl.dxa.performance;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram. Durations are recorded and reported in microseconds.
+ * <pre><code>
+ * try (Timer.Context ignored = registry.timer("navigation.model").time()) {
+ *     // timed call
+ * }
+ * </code></pre>
+ *
+ * @dxa.publicApi
+ */
+public final class Timer implements Metric {
+
+    private final Histogram histogram = new Histogram();
+
+    Timer() {
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param duration duration
+     * @param unit     unit of the duration
+     */
+    public void update(long duration, TimeUnit unit) {
+        histogram.update(unit.toMicros(duration));
+    }
+
+    /**
+     * Starts timing, the duration is recorded when the returned context is closed.
+     *
+     * @return context to close when the timed operation is finished
+     */
+    public Context time() {
+        return new Context(this, System.nanoTime());
+    }
+
+    /**
+     * Returns a snapshot of the recorded durations in microseconds.
+     *
+     * @return snapshot of the durations
+     */
+    public Snapshot getSnapshot() {
+        return histogram.getSnapshot();
+    }
+
+    @Override
+    public Snapshot getValue() {
+        return getSnapshot();
+    }
+
+    /**
+     * Running measurement of a {@link Timer}.
+     *
+     * @dxa.publicApi
+     */
+    public static final class Context implements AutoCloseable {
+
+        private final Timer timer;
+
+        private final long startTime;
+
+        private boolean stopped;
+
+        private Context(Timer timer, long startTime) {
+            this.timer = timer;
+            this.startTime = startTime;
+        }
+
+        /**
+         * Records the elapsed time, only the first call has an effect.
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long stop() {
+            long elapsed = System.nanoTime() - startTime;
+            if (!stopped) {
+                stopped = true;
+                timer.update(elapsed, TimeUnit.NANOSECONDS);
+            }
+            return elapsed;
+        }
+
+        @Override
+        public void close() {
+            stop();
+        }
+    }
+}
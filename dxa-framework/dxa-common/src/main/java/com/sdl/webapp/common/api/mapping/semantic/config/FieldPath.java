@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.api.mapping.semantic.config;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -10,8 +11,8 @@ import org.jetbrains.annotations.Nullable;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 @Getter
-@ToString
-@EqualsAndHashCode
+@ToString(exclude = "contextFreeXPath")
+@EqualsAndHashCode(exclude = "contextFreeXPath")
 @Slf4j
 public final class FieldPath implements WithXPath {
 
@@ -19,6 +20,12 @@ public final class FieldPath implements WithXPath {
 
     private final FieldPath tail;
 
+    /**
+     * XPath of this path without any context, computed once since paths come from the immutable semantic schemas.
+     */
+    @Getter(AccessLevel.NONE)
+    private final String contextFreeXPath;
+
     public FieldPath(String path) {
         if (path.startsWith("/")) {
             path = path.substring(1);
@@ -32,6 +39,7 @@ public final class FieldPath implements WithXPath {
             this.head = path.substring(0, i);
             this.tail = new FieldPath(path.substring(i));
         }
+        this.contextFreeXPath = buildXPath();
     }
 
     public boolean hasTail() {
@@ -45,29 +53,36 @@ public final class FieldPath implements WithXPath {
     @Override
     @NotNull
     public String getXPath(@Nullable String contextXPath) {
-        FieldPath pathCopy = this;
-
-        StringBuilder builder = new StringBuilder(pathCopy.isMetadata() ? "tcm:Metadata" : "tcm:Content");
-
-        while (true) {
-            builder.append("/custom:").append(pathCopy.getHead());
-            if (!pathCopy.hasTail()) {
-                break;
-            }
-            pathCopy = pathCopy.getTail();
+        if (isNullOrEmpty(contextXPath)) {
+            return contextFreeXPath;
         }
 
-        String xPath = builder.toString();
-        String contextPathWithoutPredicate = null;
-        if (!isNullOrEmpty(contextXPath)) {
-            contextPathWithoutPredicate = contextXPath.split("\\[")[0];
+        int predicateStart = contextXPath.indexOf('[');
+        String contextPathWithoutPredicate = predicateStart < 0 ? contextXPath : contextXPath.substring(0, predicateStart);
+        if (contextPathWithoutPredicate.isEmpty()) {
+            return contextXPath + contextFreeXPath;
+        }
 
-            if (!xPath.startsWith(contextPathWithoutPredicate)) {
-                // This should not happen, but if it happens, we just stick with the original XPath.
-                log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", xPath, contextXPath);
-            }
+        int contextStart = contextFreeXPath.indexOf(contextPathWithoutPredicate);
+        if (contextStart < 0) {
+            // This should not happen, but if it happens, we just stick with the original XPath.
+            log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", contextFreeXPath, contextXPath);
+            return contextFreeXPath;
         }
+        if (contextStart > 0) {
+            log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", contextFreeXPath, contextXPath);
+        }
+        return contextFreeXPath.substring(0, contextStart) + contextXPath +
+                contextFreeXPath.substring(contextStart + contextPathWithoutPredicate.length());
+    }
 
-        return contextPathWithoutPredicate == null ? xPath : xPath.replaceFirst(contextPathWithoutPredicate, contextXPath);
+    private String buildXPath() {
+        StringBuilder builder = new StringBuilder(isMetadata() ? "tcm:Metadata" : "tcm:Content");
+        FieldPath pathCopy = this;
+        while (pathCopy != null) {
+            builder.append("/custom:").append(pathCopy.head);
+            pathCopy = pathCopy.tail;
+        }
+        return builder.toString();
     }
 }
@@ -0,0 +1,236 @@
+package com.sdl.webapp.common.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable TCM URI like <code>tcm:PUB_ID-ITEM_ID</code> or <code>ish:PUB_ID-ITEM_ID-ITEM_TYPE</code>.
+ * <p>URIs are parsed by a hand-written scanner which accepts exactly what the pattern
+ * <code>(tcm|ish):\d+-\d+(-\d+)?</code> accepts, and which does not allocate while validating
+ * or extracting a single component.</p>
+ *
+ * @dxa.publicApi
+ */
+@Getter
+@EqualsAndHashCode
+public final class TcmUri {
+
+    public static final String TCM_NAMESPACE = "tcm";
+
+    public static final String ISH_NAMESPACE = "ish";
+
+    /**
+     * Value of {@link #getItemType()} for short URIs without an item type.
+     */
+    public static final int NO_ITEM_TYPE = -1;
+
+    static final int PUBLICATION_ID = 1;
+
+    static final int ITEM_ID = 2;
+
+    static final int ITEM_TYPE = 3;
+
+    /**
+     * Result of {@link #component(CharSequence, int)} for an invalid URI.
+     */
+    static final int INVALID = -1;
+
+    /**
+     * Result of {@link #component(CharSequence, int)} for a valid URI without an item type.
+     */
+    static final int ABSENT = -2;
+
+    private static final int NAMESPACE_END = 4;
+
+    private final String namespace;
+
+    private final int publicationId;
+
+    private final int itemId;
+
+    private final int itemType;
+
+    private TcmUri(String namespace, int publicationId, int itemId, int itemType) {
+        this.namespace = namespace;
+        this.publicationId = publicationId;
+        this.itemId = itemId;
+        this.itemType = itemType;
+    }
+
+    /**
+     * Creates a short TCM URI without an item type.
+     *
+     * @param namespace     namespace, at this moment only [tcm, ish] are supported
+     * @param publicationId publication ID
+     * @param itemId        item ID
+     * @return TCM URI
+     */
+    @NotNull
+    public static TcmUri of(@NotNull String namespace, int publicationId, int itemId) {
+        return of(namespace, publicationId, itemId, NO_ITEM_TYPE);
+    }
+
+    /**
+     * Creates a TCM URI.
+     *
+     * @param namespace     namespace, at this moment only [tcm, ish] are supported
+     * @param publicationId publication ID
+     * @param itemId        item ID
+     * @param itemType      item type or {@link #NO_ITEM_TYPE}
+     * @return TCM URI
+     */
+    @NotNull
+    public static TcmUri of(@NotNull String namespace, int publicationId, int itemId, int itemType) {
+        return new TcmUri(namespace, publicationId, itemId, itemType);
+    }
+
+    /**
+     * Parses a TCM URI.
+     *
+     * @param uri string to parse
+     * @return TCM URI or {@code null} if the string is not a valid TCM URI
+     * @throws NumberFormatException if the URI is valid but one of its IDs does not fit into an {@code int},
+     *                               same as {@link Integer#parseInt(String)} would
+     */
+    @Nullable
+    @Contract("null -> null")
+    public static TcmUri parse(@Nullable CharSequence uri) {
+        int itemEnd = uri == null ? -1 : itemIdEnd(uri);
+        if (itemEnd < 0) {
+            return null;
+        }
+        int publicationEnd = digitsEnd(uri, NAMESPACE_END);
+        return new TcmUri(uri.charAt(0) == 't' ? TCM_NAMESPACE : ISH_NAMESPACE,
+                toInt(uri, NAMESPACE_END, publicationEnd),
+                toInt(uri, publicationEnd + 1, itemEnd),
+                itemEnd == uri.length() ? NO_ITEM_TYPE : toInt(uri, itemEnd + 1, uri.length()));
+    }
+
+    /**
+     * Checks whether the string is a valid TCM URI.
+     *
+     * @param uri string to check
+     * @return whether the string is a valid TCM URI
+     */
+    @Contract("null -> false")
+    public static boolean isValid(@Nullable CharSequence uri) {
+        return uri != null && itemIdEnd(uri) >= 0;
+    }
+
+    /**
+     * Extracts a single numeric component of a TCM URI without parsing the whole URI into an object.
+     *
+     * @param uri       string to process
+     * @param component one of {@link #PUBLICATION_ID}, {@link #ITEM_ID}, {@link #ITEM_TYPE}
+     * @return value of the component, {@link #INVALID} if the URI is not valid,
+     * or {@link #ABSENT} if the item type is requested for a URI without one
+     * @throws NumberFormatException if the requested component does not fit into an {@code int}
+     */
+    static int component(@NotNull CharSequence uri, int component) {
+        int itemEnd = itemIdEnd(uri);
+        if (itemEnd < 0) {
+            return INVALID;
+        }
+        switch (component) {
+            case PUBLICATION_ID:
+                return toInt(uri, NAMESPACE_END, digitsEnd(uri, NAMESPACE_END));
+            case ITEM_ID:
+                return toInt(uri, digitsEnd(uri, NAMESPACE_END) + 1, itemEnd);
+            case ITEM_TYPE:
+                return itemEnd == uri.length() ? ABSENT : toInt(uri, itemEnd + 1, uri.length());
+            default:
+                throw new IllegalArgumentException("Unknown TCM URI component " + component);
+        }
+    }
+
+    /**
+     * Validates the whole URI and returns the end index of its item ID, or -1 if the URI is not valid.
+     */
+    private static int itemIdEnd(CharSequence uri) {
+        if (!isNamespace(uri)) {
+            return -1;
+        }
+        int publicationEnd = digitsEnd(uri, NAMESPACE_END);
+        if (publicationEnd < 0 || !isChar(uri, publicationEnd, '-')) {
+            return -1;
+        }
+        int itemEnd = digitsEnd(uri, publicationEnd + 1);
+        if (itemEnd < 0 || itemEnd == uri.length()) {
+            return itemEnd;
+        }
+        int typeEnd = isChar(uri, itemEnd, '-') ? digitsEnd(uri, itemEnd + 1) : -1;
+        return typeEnd == uri.length() ? itemEnd : -1;
+    }
+
+    private static boolean isNamespace(CharSequence uri) {
+        if (uri.length() < NAMESPACE_END || uri.charAt(NAMESPACE_END - 1) != ':') {
+            return false;
+        }
+        char first = uri.charAt(0);
+        return first == 't' ? uri.charAt(1) == 'c' && uri.charAt(2) == 'm' :
+                first == 'i' && uri.charAt(1) == 's' && uri.charAt(2) == 'h';
+    }
+
+    private static boolean isChar(CharSequence uri, int index, char expected) {
+        return index < uri.length() && uri.charAt(index) == expected;
+    }
+
+    /**
+     * Returns the end of a non-empty run of ASCII digits starting at the given index, or -1 if there is none.
+     */
+    private static int digitsEnd(CharSequence uri, int from) {
+        int index = from;
+        while (index < uri.length() && isDigit(uri.charAt(index))) {
+            index++;
+        }
+        return index == from ? -1 : index;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int toInt(CharSequence uri, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (uri.charAt(i) - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw new NumberFormatException("For input string: \"" + uri.subSequence(from, to) + "\"");
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns whether this URI has an item type.
+     *
+     * @return whether the item type is set
+     */
+    public boolean hasItemType() {
+        return itemType != NO_ITEM_TYPE;
+    }
+
+    /**
+     * Returns a copy of this URI in another publication.
+     *
+     * @param publicationId publication ID
+     * @return localized TCM URI
+     */
+    @NotNull
+    public TcmUri localize(int publicationId) {
+        return publicationId == this.publicationId ? this : new TcmUri(namespace, publicationId, itemId, itemType);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(namespace.length() + 34)
+                .append(namespace).append(':').append(publicationId).append('-').append(itemId);
+        if (hasItemType()) {
+            builder.append('-').append(itemType);
+        }
+        return builder.toString();
+    }
+}
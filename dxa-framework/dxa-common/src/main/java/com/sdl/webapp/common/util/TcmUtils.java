@@ -1,15 +1,13 @@
 package com.sdl.webapp.common.util;
 
 import com.sdl.dxa.api.datamodel.Constants;
-import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Simple utility functions to process TCM-URIs.
+ * <p>Parsing is delegated to {@link TcmUri}, use {@link TcmUri#parse(CharSequence)} when more than one component
+ * of the same URI is needed.</p>
  *
  * @dxa.publicApi
  */
@@ -40,12 +38,6 @@ public final class TcmUtils {
 
     private static final String DEFAULT_NAMESPACE = Constants.DEFAULT_NAMESPACE;
 
-    private static final String NS_ID_ID = "%s:%s-%s";
-
-    private static final String NS_ID_ID_ID = "%s:%s-%s-%s";
-
-    private static final Pattern URI_SCHEMA = Pattern.compile("(?<namespace>tcm|ish):(?<publicationId>\\d+)-(?<itemId>\\d+)(-(?<itemType>\\d+))?");
-
     private TcmUtils() {
     }
 
@@ -232,7 +224,7 @@ public final class TcmUtils {
     }
 
     private static String buildTcmUriInternal(String namespace, String publicationId, String itemId) {
-        return String.format(NS_ID_ID, namespace, publicationId, itemId);
+        return namespace + ':' + publicationId + '-' + itemId;
     }
 
     /**
@@ -272,11 +264,11 @@ public final class TcmUtils {
     }
 
     private static String buildTcmUriInternal(String namespace, String publicationId, String itemId, String itemType) {
-        return String.format(NS_ID_ID_ID, namespace, publicationId, itemId, itemType);
+        return namespace + ':' + publicationId + '-' + itemId + '-' + itemType;
     }
 
     private static String buildTcmUriInternalForRootPublication(String namespace, String publicationId, String itemType) {
-        return String.format(NS_ID_ID_ID, namespace, "0", publicationId, itemType);
+        return buildTcmUriInternal(namespace, "0", publicationId, itemType);
     }
 
     /**
@@ -286,23 +278,12 @@ public final class TcmUtils {
      * @return item type ID or <code>-1</code> if URI is not valid or null
      */
     public static int getItemType(String tcmUri) {
-        ExtractResult extractResult = extractGroupFromTcm(tcmUri, "itemType");
-        return extractResult.status == ExtractStatus.NO_MATCH ? COMPONENT_ITEM_TYPE : extractResult.getInt();
+        int itemType = extractComponent(tcmUri, TcmUri.ITEM_TYPE);
+        return itemType == TcmUri.ABSENT ? COMPONENT_ITEM_TYPE : itemType;
     }
 
-    private static ExtractResult extractGroupFromTcm(String tcmUri, String group) {
-        if (tcmUri == null) {
-            return new ExtractResult(ExtractStatus.FAILED, null);
-        }
-
-        Matcher matcher = URI_SCHEMA.matcher(tcmUri);
-        if (matcher.matches()) {
-            String match = matcher.group(group);
-            return match == null ?
-                    new ExtractResult(ExtractStatus.NO_MATCH, null) :
-                    new ExtractResult(ExtractStatus.SUCCESS, match);
-        }
-        return new ExtractResult(ExtractStatus.FAILED, null);
+    private static int extractComponent(String tcmUri, int component) {
+        return tcmUri == null ? -1 : TcmUri.component(tcmUri, component);
     }
 
     /**
@@ -312,7 +293,7 @@ public final class TcmUtils {
      * @return publication ID or <code>-1</code> if URI is not valid or null
      */
     public static int getPublicationId(String tcmUri) {
-        return extractGroupFromTcm(tcmUri, "publicationId").getInt();
+        return extractComponent(tcmUri, TcmUri.PUBLICATION_ID);
     }
 
     /**
@@ -335,7 +316,7 @@ public final class TcmUtils {
      * @return item ID or <code>-1</code> if URI is not valid or null
      */
     public static int getItemId(String tcmUri) {
-        return extractGroupFromTcm(tcmUri, "itemId").getInt();
+        return extractComponent(tcmUri, TcmUri.ITEM_ID);
     }
 
     /**
@@ -345,8 +326,10 @@ public final class TcmUtils {
      * @return namespace or <code>-1</code> if URI is not valid or null
      */
     public static String getNamespace(String tcmUri) {
-        ExtractResult extractResult = extractGroupFromTcm(tcmUri, "namespace");
-        return extractResult.status == ExtractStatus.SUCCESS ? extractResult.result : null;
+        if (!TcmUri.isValid(tcmUri)) {
+            return null;
+        }
+        return tcmUri.charAt(0) == 't' ? TcmUri.TCM_NAMESPACE : TcmUri.ISH_NAMESPACE;
     }
 
     /**
@@ -358,15 +341,13 @@ public final class TcmUtils {
      * @return localized TCM URI of an item
      */
     public static String localizeTcmUri(String tcmUri, int publicationId) {
-        Matcher matcher = URI_SCHEMA.matcher(tcmUri);
-        if (!matcher.matches()) {
+        int itemId = TcmUri.component(tcmUri, TcmUri.ITEM_ID);
+        if (itemId == TcmUri.INVALID) {
             log.warn("TCM URI {} is not valid", tcmUri);
             throw new IllegalArgumentException("TCM URI is not valid: " + tcmUri);
         }
-        String itemType = matcher.group("itemType");
-        return itemType == null ? buildTcmUri(publicationId, getItemId(tcmUri)) :
-                buildTcmUri(publicationId, getItemId(tcmUri), Integer.parseInt(itemType));
-
+        int itemType = TcmUri.component(tcmUri, TcmUri.ITEM_TYPE);
+        return itemType == TcmUri.ABSENT ? buildTcmUri(publicationId, itemId) : buildTcmUri(publicationId, itemId, itemType);
     }
 
     /**
@@ -399,23 +380,7 @@ public final class TcmUtils {
      * @return whether the string is TCM URI
      */
     public static boolean isTcmUri(@Nullable Object tcmUri) {
-        return tcmUri != null && URI_SCHEMA.matcher(String.valueOf(tcmUri)).matches();
-    }
-
-    private enum ExtractStatus {
-        FAILED, NO_MATCH, SUCCESS
-    }
-
-    @Value
-    private static class ExtractResult {
-
-        private ExtractStatus status;
-
-        private String result;
-
-        public int getInt() {
-            return status != ExtractStatus.SUCCESS || result == null ? -1 : Integer.parseInt(result);
-        }
+        return tcmUri != null && TcmUri.isValid(tcmUri instanceof CharSequence ? (CharSequence) tcmUri : String.valueOf(tcmUri));
     }
 
     /**
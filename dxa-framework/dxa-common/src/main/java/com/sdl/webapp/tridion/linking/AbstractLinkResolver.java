@@ -2,8 +2,11 @@ package com.sdl.webapp.tridion.linking;
 
 import com.google.common.base.Strings;
 import com.sdl.dxa.common.util.PathUtils;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.dxa.performance.Timer;
 import com.sdl.dxa.tridion.annotations.impl.ValueAnnotationLogger;
 import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.util.TcmUri;
 import com.sdl.webapp.common.util.TcmUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Component;
 public abstract class AbstractLinkResolver implements LinkResolver, InitializingBean {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLinkResolver.class);
 
+    private static final Timer RESOLVE_TIMER = MetricsRegistry.getDefault().timer("link.resolve");
+
     @Value("${dxa.web.link-resolver.remove-extension:#{true}}")
     private boolean shouldRemoveExtension;
 
@@ -32,29 +37,33 @@ public abstract class AbstractLinkResolver implements LinkResolver, Initializing
     public String resolveLink(@Nullable String url, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId) {
         final int publicationId = !Strings.isNullOrEmpty(localizationId) ? Integer.parseInt(localizationId) : 0;
 
-        String resolvedLink = _resolveLink(url, publicationId, resolveToBinary, contextId);
+        String resolvedLink;
+        try (Timer.Context ignored = RESOLVE_TIMER.time()) {
+            resolvedLink = _resolveLink(url, publicationId, resolveToBinary, contextId);
+        }
         String resolvedUrl = shouldStripIndexPath ? PathUtils.stripIndexPath(resolvedLink) : resolvedLink;
         return shouldRemoveExtension ? PathUtils.stripDefaultExtension(resolvedUrl) : resolvedUrl;
     }
 
     @Contract("null, _, _ , null-> null; !null, _, _, !null -> !null")
     private String _resolveLink(String uri, int publicationId, boolean isBinary, String contextId) {
-        if (!TcmUtils.isTcmUri(uri)) {
+        TcmUri tcmUri = TcmUri.parse(uri);
+        if (tcmUri == null) {
             return uri;
         }
 
         //Page ID is either tcm uri or int (in string form) -1 means no page context
         int pageId = getPageId(contextId);
 
-        int itemId = TcmUtils.getItemId(uri);
+        int itemId = tcmUri.getItemId();
 
         ResolvingData resolvingData;
         if (publicationId <= 0) {
-            publicationId = TcmUtils.getPublicationId(uri);
+            publicationId = tcmUri.getPublicationId();
         }
         resolvingData = new ResolvingData(publicationId, itemId, uri, pageId);
 
-        switch (TcmUtils.getItemType(uri)) {
+        switch (tcmUri.hasItemType() ? tcmUri.getItemType() : TcmUtils.COMPONENT_ITEM_TYPE) {
             case TcmUtils.COMPONENT_ITEM_TYPE:
                 if (isBinary) {
                     return resolveBinary(resolvingData);
@@ -69,13 +78,8 @@ public abstract class AbstractLinkResolver implements LinkResolver, Initializing
     }
 
     private int getPageId(String contextId) {
-        int pageId;
-        if (TcmUtils.isTcmUri(contextId)) {
-            pageId = TcmUtils.getItemId(contextId);
-        } else {
-            pageId = NumberUtils.toInt(contextId, -1);
-        }
-        return pageId;
+        TcmUri contextUri = TcmUri.parse(contextId);
+        return contextUri != null ? contextUri.getItemId() : NumberUtils.toInt(contextId, -1);
     }
 
     protected abstract String resolveComponent(ResolvingData resolvingData);
@@ -0,0 +1,178 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLfuPolicyTest {
+
+    @Test
+    public void shouldAdmitSingleLookup_WhileCacheHasRoom() {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(1000);
+
+        //when
+        policy.recordAccess("pagemodel [/about] 42 noclaims");
+
+        //then
+        assertTrue(policy.admit("pagemodel [/about] 42 noclaims"));
+        assertTrue(policy.isFrequent("pagemodel [/about] 42 noclaims"));
+    }
+
+    @Test
+    public void shouldAdmitEveryKey_UntilCacheEvicts() {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(1);
+        admit(policy, "home");
+        admit(policy, "landing");
+        policy.recordAccess("home");
+
+        //when
+        policy.recordEviction("landing");
+        policy.recordAccess("crawled");
+        boolean crawled = policy.admit("crawled");
+
+        //then
+        assertFalse("cache is full after its first eviction", crawled);
+        assertTrue(policy.isFrequent("home"));
+    }
+
+    @Test
+    public void shouldAdmitKeys_OnlyIfLookedUpMoreOftenThanVictim() {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(2);
+        admit(policy, "home");
+        admit(policy, "landing");
+        admit(policy, "outdated");
+        policy.recordEviction("outdated");
+        policy.recordAccess("home");
+        policy.recordAccess("home");
+
+        //when
+        policy.recordAccess("crawled");
+        boolean crawled = policy.admit("crawled");
+        for (int i = 0; i < 3; i++) {
+            policy.recordAccess("popular");
+        }
+        boolean popular = policy.admit("popular");
+
+        //then
+        assertFalse("looked up as often as the victim", crawled);
+        assertTrue(popular);
+        assertTrue(policy.isFrequent("home"));
+        assertTrue(policy.isFrequent("popular"));
+        assertFalse("victim should be evicted", policy.isFrequent("landing"));
+    }
+
+    @Test
+    public void shouldAdmitKeys_AfterEntriesAreRemoved() {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(1);
+        admit(policy, "home");
+        admit(policy, "outdated");
+        policy.recordEviction("outdated");
+        policy.recordAccess("home");
+        policy.recordAccess("about");
+        policy.recordAccess("contact");
+        boolean beforeRemoval = policy.admit("about");
+
+        //when
+        policy.recordRemoval("home");
+        boolean afterRemoval = policy.admit("about");
+        policy.recordClear();
+        boolean afterClear = policy.admit("contact");
+
+        //then
+        assertFalse(beforeRemoval);
+        assertTrue(afterRemoval);
+        assertTrue(afterClear);
+        assertFalse(policy.isFrequent("about"));
+    }
+
+    @Test
+    public void shouldNeverUnderestimate_BeforeCountersAreHalved() {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(1000);
+        int keys = 1000;
+
+        //when
+        for (int key = 0; key < keys; key++) {
+            for (int i = 0; i <= key % 10; i++) {
+                policy.recordAccess("page-" + key);
+            }
+        }
+
+        //then
+        long overestimated = 0;
+        for (int key = 0; key < keys; key++) {
+            int frequency = policy.frequency("page-" + key);
+            assertTrue("page-" + key + " estimated " + frequency, frequency >= key % 10 + 1);
+            overestimated += frequency - (key % 10 + 1);
+        }
+        assertTrue("overestimated by " + overestimated, overestimated < keys / 2);
+    }
+
+    @Test
+    public void shouldForgetOldLookups() {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(1024);
+        for (int i = 0; i < 20; i++) {
+            policy.recordAccess("home");
+        }
+        int popular = policy.frequency("home");
+
+        //when
+        for (int key = 0; key < 30_000; key++) {
+            policy.recordAccess("crawled-" + key);
+        }
+
+        //then
+        assertEquals("counters saturate", 15, popular);
+        assertTrue("estimated " + policy.frequency("home"), policy.frequency("home") < 8);
+    }
+
+    @Test
+    public void shouldCountConcurrentLookups() throws InterruptedException {
+        //given
+        TinyLfuPolicy policy = new TinyLfuPolicy(100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 3; i++) {
+                    policy.recordAccess("home");
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        //then
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(12, policy.frequency("home"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequirePositiveExpectedEntries() {
+        new TinyLfuPolicy(0);
+    }
+
+    private static void admit(TinyLfuPolicy policy, String key) {
+        policy.recordAccess(key);
+        assertTrue(key + " admitted", policy.admit(key));
+    }
+}
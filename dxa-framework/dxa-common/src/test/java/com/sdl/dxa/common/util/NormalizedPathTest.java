@@ -0,0 +1,160 @@
+package com.sdl.dxa.common.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class NormalizedPathTest {
+
+    private static final long SEED = 20171115L;
+
+    /**
+     * The pattern {@link PathUtils} used before {@link NormalizedPath}, results must stay the same.
+     */
+    private static final Pattern INDEX_PATH_REGEXP = Pattern.compile("^(?<main>.*)(?<index>/(index(\\.html)?)?)$", Pattern.CASE_INSENSITIVE);
+
+    private static final List<String> CORPUS = Arrays.asList(null, "", "/", "//", "///", " ", " /", "/ ", "index", "/index",
+            "/index.html", "/INDEX.HTML", "/Index.Html", "index.html", "/index/", "/index.html/", "/index.htm", "/indexes",
+            "/myindex", "/my/index", "/en", "/en/", "/en/index", "/en/index.html", "/en/articles/news.html",
+            "/en/articles/news", "/en/articles/", "/en/system/config/_all.json", "/media/image.jpg", "/media/file.tar.gz",
+            "/en/articles/../index.html", "/en/articles.old/page", "/en//double//slash", "/search?q=index",
+            "/page#/index", "/en/index\n", "/en/\nindex", "\u2028/index", "/en/\u0130ndex", "/en/\u0131ndex.html",
+            "/en/\u212aey/index", "tcm:1-2-64", "http://localhost:8080/en/index.html", "/\u00e4rticles/\u00fcber/",
+            "\t/index", "   /   ");
+
+    private static final String[] FRAGMENTS = {"/", "//", "index", "INDEX", "Index", ".html", ".HTML", ".htm", ".", "en",
+            "page", " ", "\t", "\n", "\r", "\u0085", "\u2028", "\u0130", "x", "l", "-", "?"};
+
+    @Test
+    public void shouldAnalyzePath() {
+        //when
+        NormalizedPath path = NormalizedPath.of("/en/articles/");
+
+        //then
+        assertEquals("/en/articles/", path.getPath());
+        assertEquals("/en/articles/index.html", path.getNormalizedPath());
+        assertEquals("/en/articles", path.getPathWithoutIndex());
+        assertTrue(path.isDefaultPage());
+        assertFalse(path.isIndexPath());
+        assertFalse(path.hasExtension());
+        assertFalse(path.hasDefaultExtension());
+    }
+
+    @Test
+    public void shouldAnalyzeNullPath() {
+        //when
+        NormalizedPath path = NormalizedPath.of(null);
+
+        //then
+        assertNull(path.getPath());
+        assertEquals("index.html", path.getNormalizedPath());
+        assertNull(path.getPathWithoutIndex());
+        assertFalse(path.isIndexPath());
+        assertFalse(path.hasExtension());
+    }
+
+    @Test
+    public void shouldReturnSameString_IfNothingChanges() {
+        //given
+        String page = "/en/articles/news.html";
+
+        //then
+        assertTrue(NormalizedPath.of("/en/index.html").isIndexPath());
+        assertSame(page, NormalizedPath.of(page).getNormalizedPath());
+        assertSame(page, NormalizedPath.of(page).getPathWithoutIndex());
+    }
+
+    @Test
+    public void shouldBeSameAsRegex_ForCorpus() {
+        for (String path : CORPUS) {
+            assertSameAsReference(path);
+        }
+    }
+
+    @Test
+    public void shouldBeSameAsRegex_ForRandomPaths() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int fragments = random.nextInt(7);
+            for (int j = 0; j < fragments; j++) {
+                builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameAsReference(builder.toString());
+        }
+    }
+
+    @Test
+    public void shouldCombinePaths_SameAsRegex() {
+        //given
+        List<String> parts = new ArrayList<>(CORPUS);
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < 5000; i++) {
+            String url = parts.get(random.nextInt(parts.size()));
+            String path = parts.get(random.nextInt(parts.size()));
+
+            //when
+            String combined = PathUtils.combinePath(url, path);
+
+            //then
+            String expected = url == null && path == null ? null :
+                    (url == null ? "" : url).concat("/").concat(path == null ? "" : path).replaceAll("/+", "/");
+            assertEquals(url + " + " + path, expected, combined);
+        }
+    }
+
+    private static void assertSameAsReference(String path) {
+        NormalizedPath normalizedPath = NormalizedPath.of(path);
+        String message = String.valueOf(path);
+
+        assertEquals(message, isIndexPath(path), normalizedPath.isIndexPath());
+        assertEquals(message, isIndexPath(path), PathUtils.isIndexPath(path));
+        assertEquals(message, stripIndexPath(path), normalizedPath.getPathWithoutIndex());
+        assertEquals(message, stripIndexPath(path), PathUtils.stripIndexPath(path));
+        assertEquals(message, normalizePathToDefaults(path, false), normalizedPath.getNormalizedPath());
+        assertEquals(message, normalizePathToDefaults(path, true), PathUtils.normalizePathToDefaults(path, true));
+        if (path != null) {
+            assertEquals(message, PathUtils.hasExtension(path), normalizedPath.hasExtension());
+            assertEquals(message, normalizePathToDefaults(path, false).equals(path + "index.html"), normalizedPath.isDefaultPage());
+        }
+    }
+
+    private static boolean isIndexPath(String urlToCheck) {
+        return urlToCheck != null && INDEX_PATH_REGEXP.matcher(urlToCheck.replaceFirst("/$", "")).matches();
+    }
+
+    private static String stripIndexPath(String path) {
+        if (path == null) {
+            return null;
+        }
+        Matcher matcher = INDEX_PATH_REGEXP.matcher(path);
+        return matcher.matches() ? defaultIfBlank(matcher.group("main"), "/") : path;
+    }
+
+    private static String normalizePathToDefaults(String path, boolean tryIndexPage) {
+        String processingPath = path;
+        if (processingPath == null || processingPath.isEmpty()) {
+            return "index.html";
+        }
+        if (processingPath.endsWith("/")) {
+            processingPath = processingPath + "index.html";
+        }
+        if (!(processingPath.lastIndexOf('.') > processingPath.lastIndexOf('/'))) {
+            processingPath = tryIndexPage ? processingPath + "/index.html" : processingPath + ".html";
+        }
+        return processingPath;
+    }
+}
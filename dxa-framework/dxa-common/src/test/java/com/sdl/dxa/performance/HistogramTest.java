@@ -0,0 +1,128 @@
+package com.sdl.dxa.performance;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HistogramTest {
+
+    private static final long SEED = 20171201L;
+
+    @Test
+    public void shouldBeEmpty_IfNothingRecorded() {
+        //when
+        Snapshot snapshot = new Histogram().getSnapshot();
+
+        //then
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getP99());
+        assertEquals(0, snapshot.getMean(), 0);
+    }
+
+    @Test
+    public void shouldReportExactValues_ForSmallValues() {
+        //given
+        Histogram histogram = new Histogram();
+
+        //when
+        for (int i = 1; i <= 10; i++) {
+            histogram.update(i);
+        }
+        histogram.update(-5);
+
+        //then
+        Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(11, snapshot.getCount());
+        assertEquals(55, snapshot.getSum());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(10, snapshot.getMax());
+        assertEquals(5, snapshot.getP50());
+        assertEquals(10, snapshot.getP99());
+        assertEquals(0, snapshot.getPercentile(0));
+    }
+
+    @Test
+    public void shouldMapValuesToContiguousBuckets() {
+        long previousBound = -1;
+        for (int bucket = 0; bucket < Histogram.BUCKETS; bucket++) {
+            long upperBound = Histogram.upperBoundOf(bucket);
+            assertEquals(bucket, Histogram.bucketOf(previousBound + 1));
+            assertEquals(bucket, Histogram.bucketOf(upperBound));
+            previousBound = upperBound;
+        }
+        assertEquals(Long.MAX_VALUE, previousBound);
+    }
+
+    @Test
+    public void shouldEstimatePercentiles_WithinRelativeError() {
+        //given
+        Histogram histogram = new Histogram();
+        Random random = new Random(SEED);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.update(values[i]);
+        }
+        Arrays.sort(values);
+
+        //when
+        Snapshot snapshot = histogram.getSnapshot();
+
+        //then
+        for (double quantile : new double[]{0.01, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1}) {
+            long expected = values[(int) Math.ceil(quantile * values.length) - 1];
+            long actual = snapshot.getPercentile(quantile);
+            assertTrue(quantile + ": " + expected + " vs " + actual, actual >= expected && actual <= expected * 1.125 + 1);
+        }
+    }
+
+    @Test
+    public void shouldCountAllValues_IfRecordedConcurrently() throws Exception {
+        //given
+        Histogram histogram = new Histogram();
+        int threads = 8;
+        int valuesPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> sums = new ArrayList<>();
+
+        //when
+        for (int thread = 0; thread < threads; thread++) {
+            long seed = SEED + thread;
+            sums.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                long sum = 0;
+                start.await();
+                for (int i = 0; i < valuesPerThread; i++) {
+                    long value = random.nextInt(1_000_000);
+                    histogram.update(value);
+                    sum += value;
+                }
+                return sum;
+            }));
+        }
+        start.countDown();
+        long expectedSum = 0;
+        for (Future<Long> sum : sums) {
+            expectedSum += sum.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(threads * valuesPerThread, snapshot.getCount());
+        assertEquals(expectedSum, snapshot.getSum());
+        assertTrue(snapshot.getMax() < 1_000_000);
+    }
+}
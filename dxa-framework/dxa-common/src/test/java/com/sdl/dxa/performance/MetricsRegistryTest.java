@@ -0,0 +1,185 @@
+package com.sdl.dxa.performance;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void shouldReturnSameMetric_ForSameName() {
+        //given
+        MetricsRegistry registry = new MetricsRegistry();
+
+        //then
+        assertSame(registry.counter("a"), registry.counter("a"));
+        assertSame(registry.timer("b"), registry.timer("b"));
+        assertSame(registry.histogram("c"), registry.histogram("c"));
+        assertSame(registry.cache("d"), registry.cache("d"));
+    }
+
+    @Test
+    public void shouldRecordPerformance_IntoTimerOfSameName() {
+        //given
+        long count = MetricsRegistry.getDefault().timer("test.performance").getSnapshot().getCount();
+
+        //when
+        try (Performance ignored = new Performance(1_000L, "test.performance")) {
+            assertTrue(MetricsRegistry.getDefault().getMetrics().containsKey("test.performance"));
+        }
+
+        //then
+        assertEquals(count + 1, MetricsRegistry.getDefault().timer("test.performance").getSnapshot().getCount());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void shouldRecordUnnamedPerformance_IntoDefaultTimer() {
+        //given
+        long count = MetricsRegistry.getDefault().timer(Performance.DEFAULT_NAME).getSnapshot().getCount();
+
+        //when
+        try (Performance ignored = new Performance()) {
+            assertTrue(MetricsRegistry.getDefault().getMetrics().containsKey(Performance.DEFAULT_NAME));
+        }
+        try (Performance ignored = new Performance(1_000L)) {
+            assertTrue(MetricsRegistry.getDefault().getMetrics().containsKey(Performance.DEFAULT_NAME));
+        }
+
+        //then
+        assertEquals(count + 2, MetricsRegistry.getDefault().timer(Performance.DEFAULT_NAME).getSnapshot().getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFail_IfNameIsUsedByAnotherType() {
+        //given
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("name");
+
+        //when
+        registry.timer("name");
+    }
+
+    @Test
+    public void shouldKeepFirstGauge() {
+        //given
+        MetricsRegistry registry = new MetricsRegistry();
+        Gauge<Integer> first = () -> 1;
+
+        //when
+        Gauge<Integer> registered = registry.gauge("gauge", first);
+        Gauge<Integer> second = registry.gauge("gauge", () -> 2);
+
+        //then
+        assertSame(first, registered);
+        assertSame(first, second);
+        assertEquals(1, registry.getMetrics().get("gauge").getValue());
+    }
+
+    @Test
+    public void shouldRegisterCacheMetrics() {
+        //given
+        MetricsRegistry registry = new MetricsRegistry();
+        CacheMetrics cache = registry.cache("pageModels");
+
+        //when
+        cache.record(true);
+        cache.record(true);
+        cache.record(true);
+        cache.record(false);
+
+        //then
+        assertEquals(3L, registry.getMetrics().get("cache.pageModels.hits").getValue());
+        assertEquals(1L, registry.getMetrics().get("cache.pageModels.misses").getValue());
+        assertEquals(0.75, registry.getMetrics().get("cache.pageModels.hit-ratio").getValue());
+        assertEquals(0.0, registry.cache("empty").getHitRatio(), 0);
+    }
+
+    @Test
+    public void shouldListMetricsByName() {
+        //given
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer("z");
+        registry.counter("a");
+        registry.histogram("m");
+
+        //when
+        List<String> names = new ArrayList<>(registry.getMetrics().keySet());
+
+        //then
+        assertEquals("[a, m, z]", names.toString());
+        assertTrue(registry.remove("m"));
+        assertFalse(registry.remove("m"));
+    }
+
+    @Test
+    public void shouldRecordTimeInMicroseconds() {
+        //given
+        Timer timer = new MetricsRegistry().timer("timer");
+
+        //when
+        timer.update(3, TimeUnit.MILLISECONDS);
+        Timer.Context context = timer.time();
+        context.stop();
+        context.close();
+
+        //then
+        Snapshot snapshot = timer.getSnapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(3000, snapshot.getMax());
+    }
+
+    @Test
+    public void shouldCountAccurately_IfRecordedConcurrently() throws Exception {
+        //given
+        MetricsRegistry registry = new MetricsRegistry();
+        int threads = 8;
+        int iterations = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int thread = 0; thread < threads; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    registry.counter("counter").inc();
+                    registry.cache("cache").record(i % 4 != 0);
+                    try (Timer.Context ignored = registry.timer("timer").time()) {
+                        registry.counter("counter-" + (i % 16)).inc(2);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        long total = (long) threads * iterations;
+        assertEquals(total, registry.counter("counter").getCount());
+        assertEquals(total, registry.timer("timer").getSnapshot().getCount());
+        assertEquals(total * 3 / 4, registry.cache("cache").getHits());
+        assertEquals(total / 4, registry.cache("cache").getMisses());
+        long sum = 0;
+        for (int i = 0; i < 16; i++) {
+            sum += registry.counter("counter-" + i).getCount();
+        }
+        assertEquals(total * 2, sum);
+    }
+}
@@ -33,4 +33,36 @@ public class FieldPathTest {
         assertTrue(metadata2.isMetadata());
         assertFalse(test.isMetadata());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReuseContextFreeXPath() {
+        //given
+        FieldPath path = new FieldPath("/Metadata/Test/Test2");
+
+        //when
+        String first = path.getXPath(null);
+        String second = path.getXPath("");
+
+        //then
+        assertEquals("tcm:Metadata/custom:Metadata/custom:Test/custom:Test2", first);
+        assertTrue(first == second);
+    }
+
+    @Test
+    public void shouldApplyContextXPath() {
+        //given
+        FieldPath path = new FieldPath("/TSISchema/Test/Test2");
+
+        //then
+        assertEquals("tcm:Content/custom:TSISchema/custom:Test[2]/custom:Test2",
+                path.getXPath("tcm:Content/custom:TSISchema/custom:Test[2]"));
+        assertEquals("[1]tcm:Content/custom:TSISchema/custom:Test/custom:Test2", path.getXPath("[1]"));
+        assertEquals("tcm:Content/custom:TSISchema/custom:Test/custom:Test2", path.getXPath("tcm:Content/custom:Other[1]"));
+    }
+
+    @Test
+    public void shouldIgnoreCachedXPath_InEquality() {
+        assertEquals(new FieldPath("/Test/Test2"), new FieldPath("Test/Test2"));
+        assertEquals(new FieldPath("/Test/Test2").hashCode(), new FieldPath("Test/Test2").hashCode());
+    }
+}
@@ -0,0 +1,166 @@
+package com.sdl.webapp.common.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TcmUriTest {
+
+    private static final long SEED = 20170901L;
+
+    /**
+     * The pattern {@link TcmUtils} used before {@link TcmUri}, the scanner must accept exactly the same strings.
+     */
+    private static final Pattern URI_SCHEMA = Pattern.compile("(?<namespace>tcm|ish):(?<publicationId>\\d+)-(?<itemId>\\d+)(-(?<itemType>\\d+))?");
+
+    private static final String[] FRAGMENTS = {"tcm", "ish", "tcM", "is", ":", "-", "0", "1", "42", "007", "2147483647",
+            "2147483648", "99999999999", " ", "x", "\u0661", "--", "tcm:", "ish:1-2"};
+
+    @Test
+    public void shouldParseTcmUri() {
+        //when
+        TcmUri uri = TcmUri.parse("tcm:1-2-16");
+
+        //then
+        assertEquals("tcm", uri.getNamespace());
+        assertEquals(1, uri.getPublicationId());
+        assertEquals(2, uri.getItemId());
+        assertEquals(16, uri.getItemType());
+        assertTrue(uri.hasItemType());
+        assertEquals("tcm:1-2-16", uri.toString());
+    }
+
+    @Test
+    public void shouldParseShortIshUri() {
+        //when
+        TcmUri uri = TcmUri.parse("ish:10054-64587");
+
+        //then
+        assertSame(TcmUri.ISH_NAMESPACE, uri.getNamespace());
+        assertEquals(10054, uri.getPublicationId());
+        assertEquals(64587, uri.getItemId());
+        assertFalse(uri.hasItemType());
+        assertEquals(TcmUri.NO_ITEM_TYPE, uri.getItemType());
+        assertEquals("ish:10054-64587", uri.toString());
+    }
+
+    @Test
+    public void shouldNotParseInvalidUris() {
+        assertNull(TcmUri.parse(null));
+        assertNull(TcmUri.parse(""));
+        assertNull(TcmUri.parse("tcm:"));
+        assertNull(TcmUri.parse("tcm:1"));
+        assertNull(TcmUri.parse("tcm:1-"));
+        assertNull(TcmUri.parse("tcm:1-2-"));
+        assertNull(TcmUri.parse("tcm:1-2-3-4"));
+        assertNull(TcmUri.parse("TCM:1-2"));
+        assertNull(TcmUri.parse("tcm:-1-2"));
+        assertNull(TcmUri.parse(" tcm:1-2"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldThrowNumberFormatException_IfIdDoesNotFitIntoInt() {
+        TcmUri.parse("tcm:1-2147483648");
+    }
+
+    @Test
+    public void shouldBeValueObject() {
+        //given
+        TcmUri uri = TcmUri.of("tcm", 1, 2, 64);
+
+        //then
+        assertEquals(uri, TcmUri.parse("tcm:1-2-64"));
+        assertEquals(uri.hashCode(), TcmUri.parse("tcm:1-2-64").hashCode());
+        assertNotEquals(uri, TcmUri.parse("tcm:1-2"));
+        assertEquals(TcmUri.parse("tcm:8-2-64"), uri.localize(8));
+        assertSame(uri, uri.localize(1));
+    }
+
+    @Test
+    public void shouldAcceptSameUrisAsRegex_ForRandomStrings() throws Exception {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int fragments = random.nextInt(8);
+            for (int j = 0; j < fragments; j++) {
+                builder.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameAsRegex(builder.toString());
+        }
+    }
+
+    @Test
+    public void shouldAcceptSameUrisAsRegex_ForAlmostValidUris() throws Exception {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 20000; i++) {
+            //given
+            String uri = (random.nextBoolean() ? "tcm:" : "ish:") + random.nextInt(Integer.MAX_VALUE) + "-" +
+                    Math.abs(random.nextLong() % 10_000_000_000L) + (random.nextBoolean() ? "-" + random.nextInt(2048) : "");
+            char[] chars = uri.toCharArray();
+            if (random.nextInt(3) == 0) {
+                chars[random.nextInt(chars.length)] = "tcmish:-0123456789 ".charAt(random.nextInt(19));
+            }
+
+            assertSameAsRegex(new String(chars));
+        }
+    }
+
+    @Test
+    public void shouldRoundTrip_ForRandomUris() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10000; i++) {
+            //given
+            TcmUri uri = TcmUri.of(random.nextBoolean() ? TcmUri.TCM_NAMESPACE : TcmUri.ISH_NAMESPACE,
+                    random.nextInt(Integer.MAX_VALUE), random.nextInt(Integer.MAX_VALUE),
+                    random.nextBoolean() ? TcmUri.NO_ITEM_TYPE : random.nextInt(2048));
+
+            //when
+            String string = uri.toString();
+
+            //then
+            assertEquals(uri, TcmUri.parse(string));
+            assertEquals(string, TcmUri.parse(string).toString());
+            assertTrue(TcmUtils.isTcmUri(string));
+        }
+    }
+
+    private static void assertSameAsRegex(String uri) throws Exception {
+        Matcher matcher = URI_SCHEMA.matcher(uri);
+        boolean matches = matcher.matches();
+
+        assertEquals(uri, matches, TcmUri.isValid(uri));
+        assertEquals(uri, matches, TcmUtils.isTcmUri(uri));
+        assertEquals(uri, matches, TcmUtils.isTcmUri(new StringBuilder(uri)));
+        assertEquals(uri, matches ? matcher.group("namespace") : null, TcmUtils.getNamespace(uri));
+        assertSameResult(uri, () -> matches ? Integer.parseInt(matcher.group("publicationId")) : -1, () -> TcmUtils.getPublicationId(uri));
+        assertSameResult(uri, () -> matches ? Integer.parseInt(matcher.group("itemId")) : -1, () -> TcmUtils.getItemId(uri));
+        assertSameResult(uri, () -> !matches ? -1 : matcher.group("itemType") == null ? TcmUtils.COMPONENT_ITEM_TYPE :
+                Integer.parseInt(matcher.group("itemType")), () -> TcmUtils.getItemType(uri));
+    }
+
+    private static void assertSameResult(String uri, Callable<Integer> expected, Callable<Integer> actual) throws Exception {
+        Object expectedResult;
+        try {
+            expectedResult = expected.call();
+        } catch (NumberFormatException e) {
+            expectedResult = e.getMessage();
+        }
+        Object actualResult;
+        try {
+            actualResult = actual.call();
+        } catch (NumberFormatException e) {
+            actualResult = e.getMessage();
+        }
+        assertEquals(uri, expectedResult, actualResult);
+    }
+}
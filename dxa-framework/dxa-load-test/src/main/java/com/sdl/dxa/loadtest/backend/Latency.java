@@ -0,0 +1,77 @@
+package com.sdl.dxa.loadtest.backend;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency injected by the local content backend before each answer, to simulate the network and the content service.
+ * The delay is the base latency plus a uniformly distributed random jitter.
+ *
+ * @dxa.publicApi
+ */
+@Getter
+public final class Latency {
+
+    private static final Latency NONE = new Latency(0, 0);
+
+    private final long baseMillis;
+
+    private final long jitterMillis;
+
+    private Latency(long baseMillis, long jitterMillis) {
+        this.baseMillis = baseMillis;
+        this.jitterMillis = jitterMillis;
+    }
+
+    /**
+     * Returns a latency of the base delay plus up to the jitter.
+     *
+     * @param baseMillis   base delay in milliseconds
+     * @param jitterMillis maximum random delay added to the base delay in milliseconds
+     * @return the latency
+     */
+    @NotNull
+    public static Latency of(long baseMillis, long jitterMillis) {
+        if (baseMillis < 0 || jitterMillis < 0) {
+            throw new IllegalArgumentException("Latency cannot be negative");
+        }
+        return baseMillis == 0 && jitterMillis == 0 ? NONE : new Latency(baseMillis, jitterMillis);
+    }
+
+    @NotNull
+    public static Latency none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the next delay.
+     *
+     * @return delay in milliseconds
+     */
+    public long nextMillis() {
+        return jitterMillis == 0 ? baseMillis : baseMillis + ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+    }
+
+    /**
+     * Sleeps for the next delay.
+     */
+    public void await() {
+        long delay = nextMillis();
+        if (delay == 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return jitterMillis == 0 ? baseMillis + "ms" : baseMillis + "ms+" + jitterMillis + "ms";
+    }
+}
@@ -0,0 +1,36 @@
+package com.sdl.dxa.loadtest.backend;
+
+import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.contentmodel.generated.ClaimValue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Provides the client of a {@link LocalContentBackend}. Claims are accepted and ignored, since the synthetic site
+ * is the same for all visitors.
+ *
+ * @dxa.publicApi
+ */
+public class LocalApiClientProvider implements ApiClientProvider {
+
+    private final ApiClient client;
+
+    public LocalApiClientProvider(@NotNull LocalContentBackend backend) {
+        this.client = backend.createClient();
+    }
+
+    @Override
+    public ApiClient getClient() {
+        return client;
+    }
+
+    @Override
+    public void addGlobalClaim(ClaimValue claim) {
+        // the synthetic site does not depend on claims
+    }
+
+    @Override
+    public void removeGlobalClaim(ClaimValue claim) {
+        // the synthetic site does not depend on claims
+    }
+}
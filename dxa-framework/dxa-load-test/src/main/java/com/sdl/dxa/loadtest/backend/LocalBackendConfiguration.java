@@ -0,0 +1,65 @@
+package com.sdl.dxa.loadtest.backend;
+
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+
+/**
+ * Replaces the Public Content API with a {@link LocalContentBackend} when the <code>dxa.loadtest</code> profile is active,
+ * so that the web application can be load tested without Tridion.
+ * <p>The synthetic site and the latency of the backend are configured with the properties:</p>
+ * <ul>
+ * <li><code>dxa.loadtest.publication</code>: ID of the publication, 5 by default</li>
+ * <li><code>dxa.loadtest.pages</code>: number of pages besides the home and section index pages, 200 by default</li>
+ * <li><code>dxa.loadtest.entities</code>: number of entities on each page, 10 by default</li>
+ * <li><code>dxa.loadtest.latency.ms</code>: latency of each call to the backend, 0 by default</li>
+ * <li><code>dxa.loadtest.latency.jitter.ms</code>: maximum random latency added to each call, 0 by default</li>
+ * <li><code>dxa.loadtest.binaries.port</code>: port of the binary server, any free port by default</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+@Profile("dxa.loadtest")
+public class LocalBackendConfiguration {
+
+    @Bean
+    public SyntheticSite syntheticSite(@Value("${dxa.loadtest.publication:5}") int publicationId,
+                                       @Value("${dxa.loadtest.pages:200}") int pageCount,
+                                       @Value("${dxa.loadtest.entities:10}") int entitiesPerPage) {
+        SyntheticSite site = SyntheticSite.generate(publicationId, pageCount, entitiesPerPage);
+        log.warn("The content is served by the local load test backend: {} pages with {} entities in publication {}",
+                site.getPages().size(), entitiesPerPage, publicationId);
+        return site;
+    }
+
+    @Bean
+    public Latency localBackendLatency(@Value("${dxa.loadtest.latency.ms:0}") long latencyMillis,
+                                       @Value("${dxa.loadtest.latency.jitter.ms:0}") long jitterMillis) {
+        return Latency.of(latencyMillis, jitterMillis);
+    }
+
+    @Bean(destroyMethod = "close")
+    public LocalBinaryServer localBinaryServer(SyntheticSite syntheticSite, Latency localBackendLatency,
+                                               @Value("${dxa.loadtest.binaries.port:0}") int port) throws IOException {
+        return new LocalBinaryServer(syntheticSite, localBackendLatency, port);
+    }
+
+    @Bean
+    public LocalContentBackend localContentBackend(SyntheticSite syntheticSite, Latency localBackendLatency,
+                                                   LocalBinaryServer localBinaryServer) {
+        return new LocalContentBackend(syntheticSite, localBackendLatency, localBinaryServer.getBaseUrl());
+    }
+
+    @Bean
+    @Primary
+    public ApiClientProvider localApiClientProvider(LocalContentBackend localContentBackend) {
+        return new LocalApiClientProvider(localContentBackend);
+    }
+}
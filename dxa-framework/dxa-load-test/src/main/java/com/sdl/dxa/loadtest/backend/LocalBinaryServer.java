@@ -0,0 +1,97 @@
+package com.sdl.dxa.loadtest.backend;
+
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP server on the loopback interface which serves the binaries of a {@link SyntheticSite}, because the framework
+ * downloads binaries from the URLs the content service reports. Binaries are served at
+ * <code>/binaries/{publicationId}{path}</code> after the configured {@link Latency}.
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class LocalBinaryServer implements AutoCloseable {
+
+    private static final String CONTEXT = "/binaries/";
+
+    private final SyntheticSite site;
+
+    private final Latency latency;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    /**
+     * Starts a server.
+     *
+     * @param site    site to serve the binaries of
+     * @param latency latency of each download
+     * @param port    port to listen on, or {@code 0} for any free port
+     * @throws IOException if the server cannot be started
+     */
+    public LocalBinaryServer(@NotNull SyntheticSite site, @NotNull Latency latency, int port) throws IOException {
+        this.site = site;
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "dxa-loadtest-binaries");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext(CONTEXT, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Serving binaries of the synthetic site at {}", getBaseUrl());
+    }
+
+    /**
+     * Returns the base URL of the binaries, which is followed by the publication ID and the path of a binary.
+     *
+     * @return base URL without a trailing slash
+     */
+    @NotNull
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/binaries";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            latency.await();
+            String path = exchange.getRequestURI().getPath().substring(CONTEXT.length());
+            int slash = path.indexOf('/');
+            byte[] content = null;
+            if (slash > 0 && String.valueOf(site.getPublicationId()).equals(path.substring(0, slash))) {
+                content = site.getFile(path.substring(slash));
+            }
+            if (content == null || !"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(content == null ? 404 : 405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(content);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
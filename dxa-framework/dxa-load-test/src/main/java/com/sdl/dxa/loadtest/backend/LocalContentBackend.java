@@ -0,0 +1,364 @@
+package com.sdl.dxa.loadtest.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import com.sdl.dxa.loadtest.site.SyntheticSite.Page;
+import com.sdl.dxa.loadtest.site.SyntheticSite.Section;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.contentmodel.ContextData;
+import com.sdl.web.pca.client.contentmodel.Pagination;
+import com.sdl.web.pca.client.contentmodel.generated.Ancestor;
+import com.sdl.web.pca.client.contentmodel.generated.BinaryComponent;
+import com.sdl.web.pca.client.contentmodel.generated.BinaryVariant;
+import com.sdl.web.pca.client.contentmodel.generated.BinaryVariantConnection;
+import com.sdl.web.pca.client.contentmodel.generated.BinaryVariantEdge;
+import com.sdl.web.pca.client.contentmodel.generated.Component;
+import com.sdl.web.pca.client.contentmodel.generated.CustomMetaConnection;
+import com.sdl.web.pca.client.contentmodel.generated.InputItemFilter;
+import com.sdl.web.pca.client.contentmodel.generated.ItemConnection;
+import com.sdl.web.pca.client.contentmodel.generated.ItemEdge;
+import com.sdl.web.pca.client.contentmodel.generated.PageSitemapItem;
+import com.sdl.web.pca.client.contentmodel.generated.Publication;
+import com.sdl.web.pca.client.contentmodel.generated.PublicationMapping;
+import com.sdl.web.pca.client.contentmodel.generated.SitemapItem;
+import com.sdl.web.pca.client.contentmodel.generated.TaxonomySitemapItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Local replacement of the Public Content API which serves a {@link SyntheticSite}.
+ * <p>The backend answers the calls of the framework on the {@link ApiClient}: publication mappings, page and entity
+ * models, links, the taxonomy sitemap, item queries and the binaries of the configuration files. The GraphQL queries
+ * are built by the client library, so the backend stands in for the client rather than for the HTTP endpoint; only the
+ * binaries are downloaded over HTTP, from the {@link LocalBinaryServer}. Every call waits for the configured
+ * {@link Latency} and is counted in the <code>loadtest.backend.*</code> counters of the default
+ * {@link MetricsRegistry}.</p>
+ * <p>The models are created for each call, since the framework may modify what the client returns.</p>
+ *
+ * @dxa.publicApi
+ */
+public class LocalContentBackend implements InvocationHandler {
+
+    private static final String PUBLISH_DATE = "2019-01-01T00:00:00.000Z";
+
+    private static final String SITEMAP_ROOT_ID = "t" + SyntheticSite.TAXONOMY_ID;
+
+    private final SyntheticSite site;
+
+    private final Latency latency;
+
+    private final String binaryBaseUrl;
+
+    private final MetricsRegistry metricsRegistry;
+
+    private final ContextData globalContextData = new ContextData();
+
+    /**
+     * Creates a backend.
+     *
+     * @param site          site to serve
+     * @param latency       latency of each call
+     * @param binaryBaseUrl base URL the binaries are downloaded from, see {@link LocalBinaryServer#getBaseUrl()}
+     */
+    public LocalContentBackend(@NotNull SyntheticSite site, @NotNull Latency latency, @NotNull String binaryBaseUrl) {
+        this(site, latency, binaryBaseUrl, MetricsRegistry.getDefault());
+    }
+
+    LocalContentBackend(SyntheticSite site, Latency latency, String binaryBaseUrl, MetricsRegistry metricsRegistry) {
+        this.site = site;
+        this.latency = latency;
+        this.binaryBaseUrl = binaryBaseUrl.endsWith("/") ? binaryBaseUrl.substring(0, binaryBaseUrl.length() - 1) : binaryBaseUrl;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Creates an {@link ApiClient} which is answered by this backend. The client is thread-safe.
+     *
+     * @return the client
+     */
+    @NotNull
+    public ApiClient createClient() {
+        return (ApiClient) Proxy.newProxyInstance(ApiClient.class.getClassLoader(), new Class<?>[]{ApiClient.class}, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeObjectMethod(proxy, name, args);
+        }
+        if (name.startsWith("set")) {
+            // the default model and link rendering types, which are what the backend serves anyway
+            return null;
+        }
+        if ("getGlobalContextData".equals(name)) {
+            return globalContextData;
+        }
+
+        metricsRegistry.counter("loadtest.backend." + name).inc();
+        latency.await();
+        Object[] arguments = args == null ? new Object[0] : args;
+        switch (name) {
+            case "getPublicationMapping":
+                return getPublicationMapping();
+            case "getPublication":
+                return getPublication(intArg(arguments, 1));
+            case "getPageModelData":
+                return getPageModelData(intArg(arguments, 1), arguments[2]);
+            case "getEntityModelData":
+                return getEntityModelData(intArg(arguments, 1), intArg(arguments, 2));
+            case "getBinaryComponent":
+                return getBinaryComponent(intArg(arguments, 1), arguments[2]);
+            case "resolveComponentLink":
+                return resolveComponentLink(intArg(arguments, 1), intArg(arguments, 2));
+            case "resolvePageLink":
+                return resolvePageLink(intArg(arguments, 1), intArg(arguments, 2));
+            case "resolveBinaryLink":
+                return null;
+            case "getSitemap":
+                return getSitemap(intArg(arguments, 1), intArg(arguments, 2));
+            case "getSitemapSubtree":
+                return getSitemapSubtree(intArg(arguments, 1), (String) arguments[2], intArg(arguments, 3),
+                        arguments[4] == Ancestor.INCLUDE);
+            case "executeItemQuery":
+                return executeItemQuery((InputItemFilter) arguments[0], (Pagination) arguments[2]);
+            default:
+                throw new UnsupportedOperationException("The local content backend does not support " + method);
+        }
+    }
+
+    private Object invokeObjectMethod(Object proxy, String name, Object[] args) {
+        switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "LocalContentBackend(publicationId=" + site.getPublicationId() + ", latency=" + latency + ")";
+        }
+    }
+
+    private static int intArg(Object[] args, int index) {
+        Object arg = args[index];
+        if (arg instanceof Number) {
+            return ((Number) arg).intValue();
+        }
+        Integer value = arg == null ? null : parseInt(String.valueOf(arg));
+        return value == null ? -1 : value;
+    }
+
+    @Nullable
+    private static Integer parseInt(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean isServed(int publicationId) {
+        return publicationId == site.getPublicationId();
+    }
+
+    private PublicationMapping getPublicationMapping() {
+        PublicationMapping mapping = new PublicationMapping();
+        mapping.setPublicationId(site.getPublicationId());
+        mapping.setPath("/");
+        return mapping;
+    }
+
+    private Publication getPublication(int publicationId) {
+        if (!isServed(publicationId)) {
+            return null;
+        }
+        Publication publication = new Publication();
+        publication.setPublicationUrl("/");
+        return publication;
+    }
+
+    private JsonNode getPageModelData(int publicationId, Object pathOrId) {
+        Page page = null;
+        if (isServed(publicationId)) {
+            page = pathOrId instanceof Number ? site.getPage(((Number) pathOrId).intValue()) : site.getPage((String) pathOrId);
+        }
+        // the provider cannot map a missing node and tries the index page or reports that the page is not found
+        return page == null ? MissingNode.getInstance() : site.getPageModel(page);
+    }
+
+    private JsonNode getEntityModelData(int publicationId, int componentId) {
+        JsonNode entity = isServed(publicationId) ? site.getEntityModel(componentId) : null;
+        return entity == null ? MissingNode.getInstance() : entity;
+    }
+
+    private BinaryComponent getBinaryComponent(int publicationId, Object pathOrId) {
+        if (!isServed(publicationId) || !(pathOrId instanceof String) || site.getFile((String) pathOrId) == null) {
+            // the synthetic site has no multimedia components
+            return null;
+        }
+        String path = (String) pathOrId;
+        BinaryVariant variant = new BinaryVariant();
+        variant.setPath(path);
+        variant.setType(path.endsWith(".json") ? "application/json" : null);
+        variant.setDownloadUrl(binaryBaseUrl + "/" + publicationId + path);
+        BinaryVariantEdge edge = new BinaryVariantEdge();
+        edge.setNode(variant);
+        BinaryVariantConnection variants = new BinaryVariantConnection();
+        variants.setEdges(Collections.singletonList(edge));
+
+        BinaryComponent binaryComponent = new BinaryComponent();
+        binaryComponent.setVariants(variants);
+        binaryComponent.setLastPublishDate(PUBLISH_DATE);
+        return binaryComponent;
+    }
+
+    private String resolveComponentLink(int publicationId, int componentId) {
+        Page page = isServed(publicationId) ? site.getPageOfComponent(componentId) : null;
+        return page == null ? null : page.getPublishedUrl();
+    }
+
+    private String resolvePageLink(int publicationId, int pageId) {
+        Page page = isServed(publicationId) ? site.getPage(pageId) : null;
+        return page == null ? null : page.getPublishedUrl();
+    }
+
+    private TaxonomySitemapItem getSitemap(int publicationId, int depth) {
+        return isServed(publicationId) ? sitemapRoot(depth) : null;
+    }
+
+    private TaxonomySitemapItem[] getSitemapSubtree(int publicationId, @Nullable String id, int depth, boolean includeAncestors) {
+        if (!isServed(publicationId)) {
+            return new TaxonomySitemapItem[0];
+        }
+        if (id == null || SITEMAP_ROOT_ID.equals(id)) {
+            return new TaxonomySitemapItem[]{sitemapRoot(depth)};
+        }
+        for (Section section : site.getSections()) {
+            if (sectionId(section).equals(id)) {
+                TaxonomySitemapItem sectionItem = sectionItem(section, depth);
+                if (!includeAncestors) {
+                    return new TaxonomySitemapItem[]{sectionItem};
+                }
+                // the only ancestor of a section is the root, which then contains just the path to the section
+                TaxonomySitemapItem root = sitemapRoot(0);
+                root.setItems(Collections.singletonList(sectionItem));
+                return new TaxonomySitemapItem[]{root};
+            }
+        }
+        return new TaxonomySitemapItem[0];
+    }
+
+    /**
+     * Returns the root of the sitemap with the given depth of descendants, where a negative depth is unlimited.
+     */
+    private TaxonomySitemapItem sitemapRoot(int depth) {
+        TaxonomySitemapItem root = taxonomyItem(SITEMAP_ROOT_ID, "Home", "/");
+        List<SitemapItem> items = new ArrayList<>();
+        if (depth != 0) {
+            items.add(pageItem(site.getHomePage(), 0));
+            for (Section section : site.getSections()) {
+                items.add(sectionItem(section, depth - 1));
+            }
+        }
+        root.setItems(items);
+        root.setHasChildNodes(true);
+        root.setClassifiedItemsCount(1);
+        return root;
+    }
+
+    private TaxonomySitemapItem sectionItem(Section section, int depth) {
+        TaxonomySitemapItem item = taxonomyItem(sectionId(section), section.getTitle(), section.getIndexPage().getUrl());
+        List<SitemapItem> items = new ArrayList<>();
+        if (depth != 0) {
+            items.add(pageItem(section.getIndexPage(), 0));
+            for (int i = 0; i < section.getPages().size(); i++) {
+                items.add(pageItem(section.getPages().get(i), i + 1));
+            }
+        }
+        item.setItems(items);
+        item.setHasChildNodes(true);
+        item.setClassifiedItemsCount(section.getPages().size() + 1);
+        return item;
+    }
+
+    private String sectionId(Section section) {
+        return SITEMAP_ROOT_ID + "-k" + section.getKeywordId();
+    }
+
+    private static TaxonomySitemapItem taxonomyItem(String id, String title, String url) {
+        TaxonomySitemapItem item = new TaxonomySitemapItem();
+        item.setId(id);
+        item.setTitle(title);
+        item.setOriginalTitle(title);
+        item.setUrl(url);
+        item.setType("TaxonomyNode");
+        item.setVisible(true);
+        return item;
+    }
+
+    private static PageSitemapItem pageItem(Page page, int position) {
+        PageSitemapItem item = new PageSitemapItem();
+        item.setId(SITEMAP_ROOT_ID + "-p" + page.getId());
+        item.setTitle(page.getTitle());
+        // the sequence prefix orders the pages in the navigation and is removed from the title by the framework
+        item.setOriginalTitle(String.format("%03d %s", position, page.getTitle()));
+        item.setUrl(page.getPublishedUrl().replaceFirst("\\.html$", ""));
+        item.setType("Page");
+        item.setVisible(true);
+        return item;
+    }
+
+    private ItemConnection executeItemQuery(@Nullable InputItemFilter filter, @Nullable Pagination pagination) {
+        List<ItemEdge> edges = new ArrayList<>();
+        if (matches(filter)) {
+            int first = pagination == null || pagination.getFirst() <= 0 ? Integer.MAX_VALUE : pagination.getFirst();
+            Integer after = pagination == null || pagination.getAfter() == null ? null : parseInt(pagination.getAfter());
+            int index = 0;
+            for (Page page : site.getPages()) {
+                for (int componentId : page.getComponentIds()) {
+                    if ((after == null || index > after) && edges.size() < first) {
+                        ItemEdge edge = new ItemEdge();
+                        edge.setNode(component(componentId, page));
+                        edge.setCursor(String.valueOf(index));
+                        edges.add(edge);
+                    }
+                    index++;
+                }
+            }
+        }
+        ItemConnection connection = new ItemConnection();
+        connection.setEdges(edges);
+        return connection;
+    }
+
+    private boolean matches(@Nullable InputItemFilter filter) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter.getPublicationIds() != null && !filter.getPublicationIds().isEmpty()
+                && !filter.getPublicationIds().contains(site.getPublicationId())) {
+            return false;
+        }
+        return filter.getSchema() == null || String.valueOf(SyntheticSite.TEASER_SCHEMA_ID).equals(filter.getSchema().getId());
+    }
+
+    private Component component(int componentId, Page page) {
+        CustomMetaConnection customMetas = new CustomMetaConnection();
+        customMetas.setEdges(Collections.emptyList());
+        Component component = new Component();
+        component.setItemId(componentId);
+        component.setSchemaId(SyntheticSite.TEASER_SCHEMA_ID);
+        component.setTitle("Teaser " + componentId + " on " + page.getTitle());
+        component.setLastPublishDate(PUBLISH_DATE);
+        component.setCustomMetas(customMetas);
+        return component;
+    }
+}
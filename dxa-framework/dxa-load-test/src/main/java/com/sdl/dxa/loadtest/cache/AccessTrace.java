@@ -0,0 +1,153 @@
+package com.sdl.dxa.loadtest.cache;
+
+import com.sdl.dxa.caching.CachePolicy;
+import org.ehcache.Cache;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sequence of requested paths to replay against a cache, for comparing the hit rates of cache configurations
+ * and {@link CachePolicy policies} without a running web application.
+ * <p>A trace is a text file with a path per line. Lines of an access log in the common or combined log format are
+ * also accepted; the path of their request line is taken without the query string. Empty lines and lines starting
+ * with <code>#</code> are skipped.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class AccessTrace {
+
+    private static final Pattern REQUEST_LINE = Pattern.compile("\"[A-Z]+ ([^ ?\"]+)[^ \"]* HTTP/[0-9.]+\"");
+
+    private final List<String> paths;
+
+    private AccessTrace(List<String> paths) {
+        this.paths = Collections.unmodifiableList(paths);
+    }
+
+    /**
+     * Creates a trace of the given paths.
+     *
+     * @param paths requested paths in the order of the requests
+     * @return the trace
+     */
+    @NotNull
+    public static AccessTrace of(@NotNull List<String> paths) {
+        return new AccessTrace(new ArrayList<>(paths));
+    }
+
+    /**
+     * Reads a recorded trace or access log.
+     *
+     * @param file trace file
+     * @return the trace
+     * @throws IOException if the file cannot be read
+     */
+    @NotNull
+    public static AccessTrace read(@NotNull Path file) throws IOException {
+        List<String> paths = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                Matcher request = REQUEST_LINE.matcher(line);
+                paths.add(request.find() ? request.group(1) : line);
+            }
+        }
+        return new AccessTrace(paths);
+    }
+
+    /**
+     * Generates a trace of visitors and a crawler. Visitors request the paths with a Zipf distribution, the first
+     * path being the most popular; the crawler requests all paths one after the other, over and over again.
+     *
+     * @param paths        paths of the site, the most popular first
+     * @param requests     number of requests
+     * @param skew         skew of the Zipf distribution, around 1 for web sites
+     * @param crawlerShare share of the requests which come from the crawler, between 0 and 1
+     * @param seed         seed of the random numbers
+     * @return the trace
+     */
+    @NotNull
+    public static AccessTrace visitorsAndCrawler(@NotNull List<String> paths, int requests, double skew,
+                                                 double crawlerShare, long seed) {
+        double[] cumulative = new double[paths.size()];
+        double total = 0;
+        for (int rank = 0; rank < paths.size(); rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        Random random = new Random(seed);
+        List<String> trace = new ArrayList<>(requests);
+        int crawled = 0;
+        for (int i = 0; i < requests; i++) {
+            if (random.nextDouble() < crawlerShare) {
+                trace.add(paths.get(crawled++ % paths.size()));
+            } else {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                trace.add(paths.get(rank < 0 ? Math.min(-rank - 1, paths.size() - 1) : rank));
+            }
+        }
+        return new AccessTrace(trace);
+    }
+
+    /**
+     * Writes the trace with a path per line, so that it can be read again.
+     *
+     * @param file trace file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(@NotNull Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String path : paths) {
+                writer.write(path);
+                writer.newLine();
+            }
+        }
+    }
+
+    @NotNull
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Replays the trace like the content provider uses its caches: every lookup is recorded by the policy, and a
+     * missed value is loaded and stored if the policy admits it.
+     *
+     * @param cache  cache to replay against, which should be empty
+     * @param policy policy of the cache
+     * @param loader loads a missed value for a path
+     * @param <V>    type of the values
+     * @return hit rate of the replay between 0 and 1
+     */
+    public <V> double replay(@NotNull Cache<String, V> cache, @NotNull CachePolicy policy,
+                             @NotNull Function<String, V> loader) {
+        long hits = 0;
+        for (String path : paths) {
+            policy.recordAccess(path);
+            if (cache.get(path) != null) {
+                hits++;
+            } else if (policy.admit(path)) {
+                cache.put(path, loader.apply(path));
+            }
+        }
+        return paths.isEmpty() ? 0 : (double) hits / paths.size();
+    }
+}
@@ -0,0 +1,208 @@
+package com.sdl.dxa.loadtest.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import com.sdl.dxa.performance.Counter;
+import com.sdl.dxa.performance.Histogram;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.dxa.performance.Snapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Load driver which requests the pages of a {@link SyntheticSite} from a running web application and reports
+ * the throughput and the latency percentiles.
+ * <p>Run it with <code>java -cp dxa-load-test.jar:... com.sdl.dxa.loadtest.driver.LoadDriver [options]</code>
+ * against a web application started with the <code>dxa.loadtest</code> profile. Options:</p>
+ * <ul>
+ * <li><code>--base-url</code>: URL of the web application, <code>http://localhost:8080</code> by default</li>
+ * <li><code>--threads</code>: number of concurrent clients, 16 by default</li>
+ * <li><code>--warmup</code>: seconds of requests before measuring, 10 by default</li>
+ * <li><code>--duration</code>: seconds of measured requests, 60 by default</li>
+ * <li><code>--pages</code>: number of pages of the site, as <code>dxa.loadtest.pages</code> of the web application, 200 by default</li>
+ * <li><code>--report</code>: file to write the report to as JSON, <code>load-report.json</code> by default</li>
+ * </ul>
+ * <p>Every client requests all pages in the order of the sitemap, starting at a different page. A request fails if it
+ * cannot be sent or its status is not <code>2xx</code>; only successful requests count for the latency.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class LoadDriver {
+
+    private static final int TIMEOUT_MILLIS = 30_000;
+
+    private final String baseUrl;
+
+    private final List<String> paths;
+
+    private final int threads;
+
+    private final Histogram latencies;
+
+    private final Counter errors;
+
+    private final AtomicBoolean measuring = new AtomicBoolean();
+
+    /**
+     * Creates a driver.
+     *
+     * @param baseUrl URL of the web application
+     * @param paths   paths to request, relative to the base URL
+     * @param threads number of concurrent clients
+     */
+    public LoadDriver(@NotNull String baseUrl, @NotNull List<String> paths, int threads) {
+        if (paths.isEmpty() || threads < 1) {
+            throw new IllegalArgumentException("The load driver needs at least one path and one thread");
+        }
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.paths = Collections.unmodifiableList(new ArrayList<>(paths));
+        this.threads = threads;
+        MetricsRegistry metrics = new MetricsRegistry();
+        this.latencies = metrics.histogram("loadtest.latency");
+        this.errors = metrics.counter("loadtest.errors");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        SyntheticSite site = SyntheticSite.generate(1, Integer.parseInt(options.getOrDefault("pages", "200")), 0);
+        List<String> paths = new ArrayList<>();
+        for (SyntheticSite.Page page : site.getPages()) {
+            paths.add(page.getUrl());
+        }
+
+        LoadDriver driver = new LoadDriver(options.getOrDefault("base-url", "http://localhost:8080"), paths,
+                Integer.parseInt(options.getOrDefault("threads", "16")));
+        LoadReport report = driver.run(Long.parseLong(options.getOrDefault("warmup", "10")),
+                Long.parseLong(options.getOrDefault("duration", "60")));
+
+        System.out.println(report);
+        File reportFile = new File(options.getOrDefault("report", "load-report.json"));
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+        System.out.println("Report written to " + reportFile.getAbsolutePath());
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected options as '--name value' but got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    /**
+     * Requests the pages for the warm-up time, then for the given duration while measuring.
+     *
+     * @param warmupSeconds   seconds before measuring
+     * @param durationSeconds seconds of measuring
+     * @return the report of the measured requests
+     * @throws InterruptedException if the run is interrupted
+     */
+    @NotNull
+    public LoadReport run(long warmupSeconds, long durationSeconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int offset = i * paths.size() / threads;
+                clients.add(executor.submit(() -> requestUntil(offset, end)));
+            }
+            long now;
+            while ((now = System.nanoTime()) < measureFrom) {
+                TimeUnit.NANOSECONDS.sleep(measureFrom - now);
+            }
+            measuring.set(true);
+            log.info("Warm-up finished, measuring for {}s", durationSeconds);
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A client of the load driver failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return report((System.nanoTime() - measureFrom) / 1e9);
+    }
+
+    private void requestUntil(int offset, long end) {
+        int next = offset;
+        while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            String path = paths.get(next);
+            next = (next + 1) % paths.size();
+            long requestStart = System.nanoTime();
+            boolean success = request(path);
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStart);
+            if (measuring.get()) {
+                if (success) {
+                    latencies.update(micros);
+                } else {
+                    errors.inc();
+                }
+            }
+        }
+    }
+
+    private boolean request(String path) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            int status = connection.getResponseCode();
+            InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            if (body != null) {
+                // reading the body to the end lets the connection be reused
+                try (InputStream in = body) {
+                    byte[] buffer = new byte[8192];
+                    while (in.read(buffer) != -1) {
+                        // discard
+                    }
+                }
+            }
+            if (status < 200 || status >= 300) {
+                log.debug("Request of {} returned status {}", path, status);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            log.debug("Request of {} failed", path, e);
+            if (connection != null) {
+                connection.disconnect();
+            }
+            return false;
+        }
+    }
+
+    private LoadReport report(double seconds) {
+        Snapshot snapshot = latencies.getSnapshot();
+        return new LoadReport(baseUrl, threads, seconds, snapshot.getCount() + errors.getCount(), errors.getCount(),
+                seconds > 0 ? snapshot.getCount() / seconds : 0,
+                snapshot.getMean() / 1000, snapshot.getP50() / 1000.0, snapshot.getP95() / 1000.0,
+                snapshot.getP99() / 1000.0, snapshot.getMax() / 1000.0);
+    }
+}
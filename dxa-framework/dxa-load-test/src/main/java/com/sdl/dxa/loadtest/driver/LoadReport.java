@@ -0,0 +1,44 @@
+package com.sdl.dxa.loadtest.driver;
+
+import lombok.Value;
+
+/**
+ * Result of a load test run. Latencies are in milliseconds and measured from sending the request until the response
+ * body is read.
+ *
+ * @dxa.publicApi
+ */
+@Value
+public class LoadReport {
+
+    private String baseUrl;
+
+    private int threads;
+
+    private double durationSeconds;
+
+    private long requests;
+
+    private long errors;
+
+    private double throughput;
+
+    private double meanMillis;
+
+    private double p50Millis;
+
+    private double p95Millis;
+
+    private double p99Millis;
+
+    private double maxMillis;
+
+    @Override
+    public String toString() {
+        return String.format("%d requests (%d errors) in %.1fs with %d threads against %s%n" +
+                        "throughput: %.1f requests/s%n" +
+                        "latency: mean %.2fms, p50 %.2fms, p95 %.2fms, p99 %.2fms, max %.2fms",
+                requests, errors, durationSeconds, threads, baseUrl, throughput,
+                meanMillis, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
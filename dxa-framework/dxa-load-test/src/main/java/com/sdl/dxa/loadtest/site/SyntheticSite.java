@@ -0,0 +1,444 @@
+package com.sdl.dxa.loadtest.site;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Site generated for load tests, as the content backend would publish it: R2 page and entity models, the configuration
+ * files of the localization and a sitemap.
+ * <p>The site has a home page and sections of up to {@value #PAGES_PER_SECTION} pages with an index page each. Every page
+ * has the given number of teaser entities in its <code>Main</code> region, and each teaser links to the first teaser
+ * of the next page, so that rendering a page also resolves links. The site only depends on its size, so the load
+ * driver can generate the same site to know its URLs.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class SyntheticSite {
+
+    /**
+     * Number of the pages in a section, besides the index page.
+     */
+    public static final int PAGES_PER_SECTION = 10;
+
+    /**
+     * ID of the taxonomy of the sitemap.
+     */
+    public static final int TAXONOMY_ID = 1;
+
+    /**
+     * ID of the schema of the teasers.
+     */
+    public static final int TEASER_SCHEMA_ID = 2000;
+
+    /**
+     * Version of the HTML design assets.
+     */
+    public static final String VERSION = "v1.0";
+
+    private static final int FIRST_PAGE_ID = 1000;
+
+    private static final int FIRST_COMPONENT_ID = 100000;
+
+    private static final int FIRST_KEYWORD_ID = 100;
+
+    private static final int TEASER_TEMPLATE_ID = 2740;
+
+    private static final String DEFAULT_EXTENSION = ".html";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    @Getter
+    private final int publicationId;
+
+    @Getter
+    private final Page homePage;
+
+    @Getter
+    private final List<Section> sections;
+
+    private final Map<String, Page> pagesByUrl = new HashMap<>();
+
+    private final Map<Integer, Page> pagesById = new HashMap<>();
+
+    private final Map<Integer, Page> pagesByComponentId = new HashMap<>();
+
+    private final Map<String, byte[]> files = new HashMap<>();
+
+    private SyntheticSite(int publicationId, Page homePage, List<Section> sections) {
+        this.publicationId = publicationId;
+        this.homePage = homePage;
+        this.sections = Collections.unmodifiableList(sections);
+
+        for (Page page : getPages()) {
+            pagesByUrl.put(page.getPublishedUrl(), page);
+            pagesById.put(page.getId(), page);
+            for (int componentId : page.getComponentIds()) {
+                pagesByComponentId.put(componentId, page);
+            }
+        }
+        addConfiguration();
+    }
+
+    /**
+     * Generates a site.
+     *
+     * @param publicationId   ID of the publication
+     * @param pageCount       number of the pages besides the home and section index pages
+     * @param entitiesPerPage number of the entities on each page
+     * @return the site
+     */
+    @NotNull
+    public static SyntheticSite generate(int publicationId, int pageCount, int entitiesPerPage) {
+        if (pageCount < 0 || entitiesPerPage < 0) {
+            throw new IllegalArgumentException("Page and entity counts cannot be negative");
+        }
+        Generator generator = new Generator(entitiesPerPage);
+        Page homePage = generator.page("/", "Home");
+        List<Section> sections = new ArrayList<>();
+        int sectionCount = (pageCount + PAGES_PER_SECTION - 1) / PAGES_PER_SECTION;
+        for (int s = 1; s <= sectionCount; s++) {
+            String sectionUrl = "/section-" + s + "/";
+            Page indexPage = generator.page(sectionUrl, "Section " + s);
+            List<Page> pages = new ArrayList<>();
+            for (int p = 1; p <= PAGES_PER_SECTION && (s - 1) * PAGES_PER_SECTION + p <= pageCount; p++) {
+                pages.add(generator.page(sectionUrl + "page-" + p, "Page " + s + "." + p));
+            }
+            sections.add(new Section(FIRST_KEYWORD_ID + s, "Section " + s, indexPage, Collections.unmodifiableList(pages)));
+        }
+        return new SyntheticSite(publicationId, homePage, sections);
+    }
+
+    /**
+     * Returns all the pages in the order of the sitemap.
+     *
+     * @return all pages
+     */
+    @NotNull
+    public List<Page> getPages() {
+        List<Page> pages = new ArrayList<>();
+        pages.add(homePage);
+        for (Section section : sections) {
+            pages.add(section.getIndexPage());
+            pages.addAll(section.getPages());
+        }
+        return pages;
+    }
+
+    /**
+     * Returns the page with the given URL, with or without the default extension and the index page name.
+     *
+     * @param url URL of the page
+     * @return the page or {@code null} if there is none
+     */
+    @Nullable
+    public Page getPage(@Nullable String url) {
+        if (url == null) {
+            return null;
+        }
+        return pagesByUrl.get(toPublishedUrl(url));
+    }
+
+    @Nullable
+    public Page getPage(int pageId) {
+        return pagesById.get(pageId);
+    }
+
+    /**
+     * Returns the page which has the component with the given ID.
+     *
+     * @param componentId ID of the component
+     * @return the page or {@code null} if no page has the component
+     */
+    @Nullable
+    public Page getPageOfComponent(int componentId) {
+        return pagesByComponentId.get(componentId);
+    }
+
+    /**
+     * Returns the R2 page model of the page.
+     *
+     * @param page page of this site
+     * @return a new page model
+     */
+    @NotNull
+    public ObjectNode getPageModel(@NotNull Page page) {
+        ObjectNode pageModel = NODES.objectNode();
+        pageModel.put("Id", String.valueOf(page.getId()));
+        pageModel.put("Title", page.getTitle());
+        pageModel.put("UrlPath", page.getUrl().endsWith("/") ? page.getUrl() + "index" : page.getUrl());
+        pageModel.putObject("Meta").put("description", "Description of " + page.getTitle());
+        mvcData(pageModel, "GeneralPage");
+        ObjectNode xpmMetadata = pageModel.putObject("XpmMetadata");
+        xpmMetadata.put("PageID", tcmUri(page.getId(), 64));
+        xpmMetadata.put("PageModified", "2019-01-01T00:00:00");
+        xpmMetadata.put("PageTemplateID", tcmUri(131, 128));
+        xpmMetadata.put("PageTemplateModified", "2019-01-01T00:00:00");
+
+        ObjectNode region = pageModel.putArray("Regions").addObject();
+        region.put("Name", "Main");
+        mvcData(region, "Main");
+        ArrayNode entities = region.putArray("Entities");
+        for (int componentId : page.getComponentIds()) {
+            entities.add(getEntityModel(componentId));
+        }
+        return pageModel;
+    }
+
+    /**
+     * Returns the R2 entity model of the component.
+     *
+     * @param componentId ID of the component
+     * @return a new entity model or {@code null} if there is no such component
+     */
+    @Nullable
+    public ObjectNode getEntityModel(int componentId) {
+        Page page = getPageOfComponent(componentId);
+        if (page == null) {
+            return null;
+        }
+        Page linkedPage = getPage(page.getId() + 1);
+        String link = linkedPage == null || linkedPage.getComponentIds().isEmpty() ? "/" : tcmUri(linkedPage.getComponentIds().get(0));
+
+        ObjectNode entity = NODES.objectNode();
+        entity.put("Id", String.valueOf(componentId));
+        entity.put("SchemaId", String.valueOf(TEASER_SCHEMA_ID));
+        ObjectNode content = entity.putObject("Content");
+        content.put("headline", "Teaser " + componentId);
+        ObjectNode text = content.putObject("text");
+        text.put("$type", "RichTextData");
+        text.putArray("Fragments").add("<p>Text of teaser " + componentId + " on " + page.getTitle() +
+                " with a <a href=\"" + link + "\">link</a> to the next page.</p>");
+        mvcData(entity, "Teaser");
+        ObjectNode xpmMetadata = entity.putObject("XpmMetadata");
+        xpmMetadata.put("ComponentID", tcmUri(componentId));
+        xpmMetadata.put("ComponentModified", "2019-01-01T00:00:00");
+        xpmMetadata.put("ComponentTemplateID", tcmUri(TEASER_TEMPLATE_ID, 32));
+        xpmMetadata.put("ComponentTemplateModified", "2019-01-01T00:00:00");
+        xpmMetadata.put("IsRepositoryPublished", false);
+        return entity;
+    }
+
+    /**
+     * Returns the published file with the given path, such as the configuration of the localization.
+     *
+     * @param path path of the file, with or without the version of the HTML design
+     * @return content of the file or {@code null} if there is no such file
+     */
+    @Nullable
+    public byte[] getFile(@Nullable String path) {
+        if (path == null) {
+            return null;
+        }
+        byte[] content = files.get(path);
+        return content != null ? content : files.get(path.replaceFirst("^/system/v\\d+\\.\\d+/", "/system/"));
+    }
+
+    /**
+     * Returns the paths of all published files.
+     *
+     * @return paths of the files
+     */
+    @NotNull
+    public List<String> getFilePaths() {
+        List<String> paths = new ArrayList<>(files.keySet());
+        Collections.sort(paths);
+        return paths;
+    }
+
+    @NotNull
+    public String tcmUri(int itemId) {
+        return "tcm:" + publicationId + "-" + itemId;
+    }
+
+    @NotNull
+    private String tcmUri(int itemId, int itemType) {
+        return tcmUri(itemId) + "-" + itemType;
+    }
+
+    private static String toPublishedUrl(String url) {
+        String path = url.startsWith("/") ? url : "/" + url;
+        if (path.endsWith("/")) {
+            return path + "index" + DEFAULT_EXTENSION;
+        }
+        return path.endsWith(DEFAULT_EXTENSION) ? path : path + DEFAULT_EXTENSION;
+    }
+
+    private static void mvcData(ObjectNode model, String viewName) {
+        ObjectNode mvcData = model.putObject("MvcData");
+        mvcData.put("AreaName", "Core");
+        mvcData.put("ViewName", viewName);
+    }
+
+    private void addConfiguration() {
+        Map<String, Object> siteLocalization = new LinkedHashMap<>();
+        siteLocalization.put("Id", String.valueOf(publicationId));
+        siteLocalization.put("Path", "/");
+        siteLocalization.put("Language", "en");
+        siteLocalization.put("IsMaster", true);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("defaultLocalization", true);
+        config.put("staging", false);
+        config.put("mediaRoot", "/media/");
+        config.put("siteLocalizations", Collections.singletonList(siteLocalization));
+        config.put("files", Collections.singletonList("/system/config/core.json"));
+        addFile("/system/config/_all.json", config);
+        Map<String, Object> coreConfig = new LinkedHashMap<>();
+        coreConfig.put("culture", "en-US");
+        coreConfig.put("language", "en");
+        addFile("/system/config/core.json", coreConfig);
+
+        addFile("/system/resources/_all.json", Collections.singletonMap("files", Collections.singletonList("/system/resources/core.json")));
+        Map<String, Object> resources = new LinkedHashMap<>();
+        resources.put("pageTitleSeparator", " | ");
+        resources.put("pageTitlePostfix", "Synthetic Site");
+        addFile("/system/resources/core.json", resources);
+
+        addFile("/version.json", Collections.singletonMap("version", VERSION));
+        addFile("/system/mappings/schemas.json", Collections.singletonList(teaserSchema()));
+        List<Map<String, Object>> vocabularies = new ArrayList<>();
+        vocabularies.add(vocabulary("tri", "http://www.sdl.com/web/schemas/core"));
+        vocabularies.add(vocabulary("s", "http://schema.org/"));
+        addFile("/system/mappings/vocabularies.json", vocabularies);
+        addFile("/system/mappings/includes.json", Collections.emptyMap());
+        addFile("/system/mappings/regions.json", Collections.emptyList());
+    }
+
+    private static Map<String, Object> teaserSchema() {
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (String field : new String[]{"headline", "text"}) {
+            Map<String, Object> fieldSchema = new LinkedHashMap<>();
+            fieldSchema.put("Name", field);
+            fieldSchema.put("Path", "/Teaser/" + field);
+            fieldSchema.put("IsMultiValue", false);
+            fieldSchema.put("Semantics", Collections.singletonList(semantics("Teaser", field)));
+            fieldSchema.put("Fields", Collections.emptyList());
+            fields.add(fieldSchema);
+        }
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("Id", TEASER_SCHEMA_ID);
+        schema.put("RootElement", "Teaser");
+        schema.put("Fields", fields);
+        schema.put("Semantics", Collections.singletonList(semantics("Teaser", null)));
+        return schema;
+    }
+
+    private static Map<String, Object> semantics(String entity, String property) {
+        Map<String, Object> semantics = new LinkedHashMap<>();
+        semantics.put("Prefix", "tri");
+        semantics.put("Entity", entity);
+        if (property != null) {
+            semantics.put("Property", property);
+        }
+        return semantics;
+    }
+
+    private static Map<String, Object> vocabulary(String prefix, String vocab) {
+        Map<String, Object> vocabulary = new LinkedHashMap<>();
+        vocabulary.put("Prefix", prefix);
+        vocabulary.put("Vocab", vocab);
+        return vocabulary;
+    }
+
+    private void addFile(String path, Object content) {
+        try {
+            files.put(path, OBJECT_MAPPER.writeValueAsString(content).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + path, e);
+        }
+    }
+
+    private static final class Generator {
+
+        private final int entitiesPerPage;
+
+        private int nextPageId = FIRST_PAGE_ID;
+
+        private int nextComponentId = FIRST_COMPONENT_ID;
+
+        private Generator(int entitiesPerPage) {
+            this.entitiesPerPage = entitiesPerPage;
+        }
+
+        private Page page(String url, String title) {
+            List<Integer> componentIds = new ArrayList<>(entitiesPerPage);
+            for (int i = 0; i < entitiesPerPage; i++) {
+                componentIds.add(nextComponentId++);
+            }
+            return new Page(nextPageId++, url, title, Collections.unmodifiableList(componentIds));
+        }
+    }
+
+    /**
+     * Page of the synthetic site.
+     */
+    @Getter
+    public static final class Page {
+
+        private final int id;
+
+        /**
+         * URL of the page as it is requested, like <code>/section-1/</code> or <code>/section-1/page-2</code>.
+         */
+        private final String url;
+
+        private final String title;
+
+        private final List<Integer> componentIds;
+
+        private Page(int id, String url, String title, List<Integer> componentIds) {
+            this.id = id;
+            this.url = url;
+            this.title = title;
+            this.componentIds = componentIds;
+        }
+
+        /**
+         * Returns the URL the page is published at, like <code>/section-1/index.html</code>
+         * or <code>/section-1/page-2.html</code>.
+         *
+         * @return the published URL
+         */
+        public String getPublishedUrl() {
+            return toPublishedUrl(url);
+        }
+    }
+
+    /**
+     * Section of the synthetic site, which is a keyword of the sitemap taxonomy.
+     */
+    @Getter
+    public static final class Section {
+
+        private final int keywordId;
+
+        private final String title;
+
+        private final Page indexPage;
+
+        private final List<Page> pages;
+
+        private Section(int keywordId, String title, Page indexPage, List<Page> pages) {
+            this.keywordId = keywordId;
+            this.title = title;
+            this.indexPage = indexPage;
+            this.pages = pages;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.sdl.dxa.loadtest.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import com.sdl.dxa.loadtest.site.SyntheticSite.Page;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.contentmodel.Pagination;
+import com.sdl.web.pca.client.contentmodel.enums.ContentIncludeMode;
+import com.sdl.web.pca.client.contentmodel.enums.ContentType;
+import com.sdl.web.pca.client.contentmodel.enums.DataModelType;
+import com.sdl.web.pca.client.contentmodel.enums.DcpType;
+import com.sdl.web.pca.client.contentmodel.enums.PageInclusion;
+import com.sdl.web.pca.client.contentmodel.generated.Ancestor;
+import com.sdl.web.pca.client.contentmodel.generated.BinaryComponent;
+import com.sdl.web.pca.client.contentmodel.generated.InputItemFilter;
+import com.sdl.web.pca.client.contentmodel.generated.ItemConnection;
+import com.sdl.web.pca.client.contentmodel.generated.TaxonomySitemapItem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+
+import static com.sdl.web.pca.client.contentmodel.enums.ContentNamespace.Sites;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LocalContentBackendTest {
+
+    private static final int PUBLICATION_ID = 5;
+
+    private final SyntheticSite site = SyntheticSite.generate(PUBLICATION_ID, 15, 2);
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    private LocalBinaryServer binaryServer;
+
+    private ApiClient client;
+
+    @Before
+    public void init() throws Exception {
+        binaryServer = new LocalBinaryServer(site, Latency.none(), 0);
+        client = new LocalContentBackend(site, Latency.none(), binaryServer.getBaseUrl(), metricsRegistry).createClient();
+    }
+
+    @After
+    public void stop() {
+        binaryServer.close();
+    }
+
+    @Test
+    public void shouldServePageModel_ByUrl() {
+        //when
+        JsonNode pageModel = client.getPageModelData(Sites, PUBLICATION_ID, "/section-1/page-2.html", ContentType.MODEL,
+                DataModelType.R2, PageInclusion.INCLUDE, ContentIncludeMode.INCLUDE_DATA_AND_RENDER, null);
+
+        //then
+        assertEquals("Page 1.2", pageModel.get("Title").asText());
+        assertEquals(1, metricsRegistry.counter("loadtest.backend.getPageModelData").getCount());
+    }
+
+    @Test
+    public void shouldReturnMissingNode_IfPageIsNotFound() {
+        //when
+        JsonNode pageModel = client.getPageModelData(Sites, PUBLICATION_ID, "/section-1.html", ContentType.MODEL,
+                DataModelType.R2, PageInclusion.INCLUDE, ContentIncludeMode.INCLUDE_DATA_AND_RENDER, null);
+
+        //then
+        assertTrue(pageModel.isMissingNode());
+    }
+
+    @Test
+    public void shouldServeEntityModel_AndResolveLinks() {
+        //given
+        Page page = site.getPage("/section-2/page-1");
+        int componentId = page.getComponentIds().get(0);
+
+        //when
+        JsonNode entityModel = client.getEntityModelData(Sites, PUBLICATION_ID, componentId, 0, ContentType.MODEL,
+                DataModelType.R2, DcpType.DEFAULT, ContentIncludeMode.INCLUDE_DATA_AND_RENDER, null);
+
+        //then
+        assertEquals(String.valueOf(componentId), entityModel.get("Id").asText());
+        assertEquals("/section-2/page-1.html", client.resolveComponentLink(Sites, PUBLICATION_ID, componentId, 0, null, true));
+        assertEquals("/section-2/index.html", client.resolvePageLink(Sites, PUBLICATION_ID, page.getId() - 1, true));
+        assertNull(client.resolvePageLink(Sites, PUBLICATION_ID, 1, true));
+    }
+
+    @Test
+    public void shouldServeConfiguration_AsBinaries() throws Exception {
+        //when
+        BinaryComponent binary = client.getBinaryComponent(Sites, PUBLICATION_ID, "/system/config/_all.json", "", null);
+
+        //then
+        String downloadUrl = binary.getVariants().getEdges().get(0).getNode().getDownloadUrl();
+        assertArrayEquals(site.getFile("/system/config/_all.json"), download(downloadUrl));
+        assertNull(client.getBinaryComponent(Sites, PUBLICATION_ID, "/media/unknown.png", "", null));
+    }
+
+    @Test
+    public void shouldServeSitemap_WithDepth() {
+        //when
+        TaxonomySitemapItem root = client.getSitemap(Sites, PUBLICATION_ID, 1, null);
+        TaxonomySitemapItem[] subtree = client.getSitemapSubtree(Sites, PUBLICATION_ID, "t1-k102", 1, Ancestor.NONE, null);
+
+        //then
+        assertEquals(3, root.getItems().size());
+        assertTrue(((TaxonomySitemapItem) root.getItems().get(1)).getItems().isEmpty());
+        assertEquals(1, subtree.length);
+        assertEquals(6, subtree[0].getItems().size());
+        assertEquals("/section-2/page-5", subtree[0].getItems().get(5).getUrl());
+    }
+
+    @Test
+    public void shouldPageItemQueries_ByCursor() {
+        //given
+        Pagination pagination = new Pagination();
+        pagination.setFirst(4);
+
+        //when
+        ItemConnection firstPage = client.executeItemQuery(new InputItemFilter(), null, pagination, null,
+                ContentIncludeMode.EXCLUDE, false, null);
+        pagination.setAfter(firstPage.getEdges().get(3).getCursor());
+        ItemConnection secondPage = client.executeItemQuery(new InputItemFilter(), null, pagination, null,
+                ContentIncludeMode.EXCLUDE, false, null);
+
+        //then
+        assertEquals(4, firstPage.getEdges().size());
+        assertEquals("4", secondPage.getEdges().get(0).getCursor());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldFail_ForUnsupportedCalls() throws Exception {
+        //given
+        LocalContentBackend backend = new LocalContentBackend(site, Latency.none(), binaryServer.getBaseUrl(), metricsRegistry);
+
+        //when
+        backend.invoke(client, Runnable.class.getMethod("run"), null);
+    }
+
+    private static byte[] download(String url) throws Exception {
+        try (InputStream in = new URL(url).openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
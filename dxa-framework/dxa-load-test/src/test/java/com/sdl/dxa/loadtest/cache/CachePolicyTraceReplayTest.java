@@ -0,0 +1,151 @@
+package com.sdl.dxa.loadtest.cache;
+
+import com.sdl.dxa.caching.CachePolicy;
+import com.sdl.dxa.caching.TinyLfuPolicy;
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.Cache;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.event.EventType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.config.builders.CacheEventListenerConfigurationBuilder.newEventListenerConfiguration;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Replays a trace of visitors and a crawler on a synthetic site of 20k pages against a cache of 1000 entries,
+ * and against a heap sized in bytes, with Ehcache's own eviction and with the TinyLFU policy, and compares the hit rates.
+ */
+@Slf4j
+public class CachePolicyTraceReplayTest {
+
+    private static final int CACHE_SIZE = 1000;
+
+    private static List<String> pathsByPopularity;
+
+    private static CacheManager cacheManager;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void generateSite() {
+        List<String> paths = SyntheticSite.generate(1, 20_000, 0).getPages().stream()
+                .map(SyntheticSite.Page::getUrl)
+                .collect(Collectors.toList());
+        // the home page is the most popular, the other pages are popular in random order
+        List<String> others = new ArrayList<>(paths.subList(1, paths.size()));
+        Collections.shuffle(others, new Random(42));
+        pathsByPopularity = new ArrayList<>();
+        pathsByPopularity.add(paths.get(0));
+        pathsByPopularity.addAll(others);
+        cacheManager = CacheManagerBuilder.newCacheManagerBuilder().build(true);
+    }
+
+    @AfterClass
+    public static void closeCacheManager() {
+        cacheManager.close();
+    }
+
+    @Test
+    public void shouldHitMore_WithTinyLfu_WhenCrawlerSweepsTheSite() throws Exception {
+        //given
+        Path file = folder.newFile("trace.txt").toPath();
+        AccessTrace.visitorsAndCrawler(pathsByPopularity, 200_000, 0.9, 0.3, 42).write(file);
+        AccessTrace trace = AccessTrace.read(file);
+        TinyLfuPolicy tinyLfu = new TinyLfuPolicy(CACHE_SIZE);
+
+        //when
+        double plainHitRate = trace.replay(cache("plain", CachePolicy.ADMIT_ALL), CachePolicy.ADMIT_ALL, this::render);
+        double tinyLfuHitRate = trace.replay(cache("tinyLfu", tinyLfu), tinyLfu, this::render);
+
+        //then
+        log.info("Replayed {} requests: hit rate {} without policy, {} with {}", trace.getPaths().size(),
+                plainHitRate, tinyLfuHitRate, tinyLfu);
+        assertEquals(200_000, trace.getPaths().size());
+        assertTrue("TinyLFU hit rate " + tinyLfuHitRate + ", plain hit rate " + plainHitRate,
+                tinyLfuHitRate > plainHitRate + 0.03);
+    }
+
+    @Test
+    public void shouldHitMore_WithTinyLfu_WhenHeapIsSizedInBytes() throws Exception {
+        //given
+        AccessTrace trace = AccessTrace.visitorsAndCrawler(pathsByPopularity, 200_000, 0.9, 0.3, 42);
+        // the heap holds far fewer entries than the policy expects, so only its evictions tell that it is full
+        TinyLfuPolicy tinyLfu = new TinyLfuPolicy(10_000);
+        ResourcePoolsBuilder heapInBytes = ResourcePoolsBuilder.newResourcePoolsBuilder().heap(256, MemoryUnit.KB);
+
+        //when
+        double plainHitRate = trace.replay(cache("plainInBytes", CachePolicy.ADMIT_ALL, heapInBytes),
+                CachePolicy.ADMIT_ALL, this::render);
+        Cache<String, String> tinyLfuCache = cache("tinyLfuInBytes", tinyLfu, heapInBytes);
+        double tinyLfuHitRate = trace.replay(tinyLfuCache, tinyLfu, this::render);
+
+        //then
+        int entries = 0;
+        for (Cache.Entry<String, String> ignored : tinyLfuCache) {
+            entries++;
+        }
+        log.info("Replayed {} requests on a heap of 256 KB holding {} entries: hit rate {} without policy, {} with {}",
+                trace.getPaths().size(), entries, plainHitRate, tinyLfuHitRate, tinyLfu);
+        assertTrue("heap holds " + entries + " entries", entries < 10_000);
+        assertTrue("TinyLFU hit rate " + tinyLfuHitRate + ", plain hit rate " + plainHitRate,
+                tinyLfuHitRate > plainHitRate + 0.03);
+    }
+
+    @Test
+    public void shouldReadPaths_FromAccessLog() throws Exception {
+        //given
+        Path file = folder.newFile("access.log").toPath();
+        Files.write(file, Arrays.asList(
+                "# recorded on the live site",
+                "10.0.0.1 - - [01/Jan/2020:12:00:00 +0000] \"GET /section-1/page-2?utm=mail HTTP/1.1\" 200 5120 \"-\" \"Mozilla/5.0\"",
+                "",
+                "/section-3/"), StandardCharsets.UTF_8);
+
+        //when
+        AccessTrace trace = AccessTrace.read(file);
+
+        //then
+        assertEquals(Arrays.asList("/section-1/page-2", "/section-3/"), trace.getPaths());
+    }
+
+    private Cache<String, String> cache(String name, CachePolicy policy) {
+        return cache(name, policy, ResourcePoolsBuilder.heap(CACHE_SIZE));
+    }
+
+    private Cache<String, String> cache(String name, CachePolicy policy, ResourcePoolsBuilder resources) {
+        return cacheManager.createCache(name, newCacheConfigurationBuilder(String.class, String.class, resources)
+                .withEvictionAdvisor((key, value) -> policy.isFrequent(key))
+                .add(newEventListenerConfiguration(event -> {
+                    if (event.getType() == EventType.EVICTED) {
+                        policy.recordEviction(event.getKey());
+                    } else {
+                        policy.recordRemoval(event.getKey());
+                    }
+                }, EventType.EVICTED, EventType.EXPIRED, EventType.REMOVED).unordered().synchronous()));
+    }
+
+    private String render(String path) {
+        return "<html>" + path + "</html>";
+    }
+}
@@ -0,0 +1,161 @@
+package com.sdl.dxa.loadtest.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.CacheTiers;
+import com.sdl.dxa.loadtest.site.SyntheticSite;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.Cache;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Caches the page models of a synthetic site of 100k pages, as the Model Service sends them, in a heap-only cache
+ * and in a cache with a small heap and an off-heap tier, then compares the heap which the caches retain and the hit
+ * rates of reading random pages, and logs the garbage collections while reading.
+ * <p>Needs a heap of 2 GB and 256 MB off heap, so it only runs in the <code>benchmarks</code> profile.</p>
+ */
+@Slf4j
+public class TieredCacheSyntheticSiteTest {
+
+    private static final int PAGES = 100_000;
+
+    private static final int READS = 200_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new DataModelSpringConfiguration().dxaR2ObjectMapper();
+
+    private static SyntheticSite site;
+
+    private static CacheManager cacheManager;
+
+    @BeforeClass
+    public static void generateSite() {
+        site = SyntheticSite.generate(1, PAGES, 0);
+        cacheManager = CacheManagerBuilder.newCacheManagerBuilder().build(true);
+    }
+
+    @AfterClass
+    public static void closeCacheManager() {
+        cacheManager.close();
+    }
+
+    @Test
+    public void shouldRetainLessHeap_WithOffHeapTier() throws Exception {
+        //given
+        Cache<String, Object> heapOnly = cache("heapOnly", "heap:" + PAGES);
+        Cache<String, Object> tiered = cache("tiered", "heap:1000, offheap:256MB");
+
+        //when
+        Usage heapOnlyUsage = cacheSiteAndReadRandomPages(heapOnly);
+        Usage tieredUsage = cacheSiteAndReadRandomPages(tiered);
+
+        //then
+        assertTrue("Tiered hit rate " + tieredUsage.hitRate, tieredUsage.hitRate > 0.99);
+        assertTrue("Tiered hit rate " + tieredUsage.hitRate + ", heap-only hit rate " + heapOnlyUsage.hitRate,
+                tieredUsage.hitRate >= heapOnlyUsage.hitRate);
+        // reads from off heap deserialize the values, so the tiered cache trades retained heap for young collections
+        assertTrue("Tiered cache retains " + tieredUsage.retainedBytes + " bytes of heap, heap-only cache " +
+                heapOnlyUsage.retainedBytes, tieredUsage.retainedBytes * 4 < heapOnlyUsage.retainedBytes);
+    }
+
+    @Test
+    public void shouldReadPagesFromOffHeap_AsTheyWereCached() throws Exception {
+        //given
+        Cache<String, Object> tiered = cache("roundTrip", "heap:10, offheap:16MB");
+        SyntheticSite.Page page = site.getPage("/section-42/page-7");
+
+        //when
+        tiered.put(page.getUrl(), pageModel(page));
+        for (int i = 0; i < 100; i++) {
+            SyntheticSite.Page other = site.getPages().get(i);
+            tiered.put(other.getUrl(), pageModel(other));
+        }
+        PageModelData cached = (PageModelData) tiered.get(page.getUrl());
+
+        //then
+        assertEquals(String.valueOf(page.getId()), cached.getId());
+        assertEquals(page.getTitle(), cached.getTitle());
+        assertEquals("Main", cached.getRegions().get(0).getName());
+    }
+
+    private static Cache<String, Object> cache(String name, String tiers) {
+        return cacheManager.createCache(name, CacheTiers.parse(tiers)
+                .applyTo(newCacheConfigurationBuilder(String.class, Object.class, ResourcePoolsBuilder.heap(1))));
+    }
+
+    private static Usage cacheSiteAndReadRandomPages(Cache<String, Object> cache) throws Exception {
+        List<SyntheticSite.Page> pages = site.getPages();
+        long usedBefore = usedHeapAfterCollection();
+        for (SyntheticSite.Page page : pages) {
+            cache.put(page.getUrl(), pageModel(page));
+        }
+        long retainedBytes = usedHeapAfterCollection() - usedBefore;
+
+        Random random = new Random(42);
+        long collections = collections();
+        long collectionMillis = collectionMillis();
+        long start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < READS; i++) {
+            if (cache.get(pages.get(random.nextInt(pages.size())).getUrl()) != null) {
+                hits++;
+            }
+        }
+        Usage usage = new Usage((double) hits / READS, retainedBytes);
+        log.info("Cache '{}': retains {} bytes of heap, hit rate {}, {} reads in {}ms with {} collections taking {}ms",
+                cache.getRuntimeConfiguration().getResourcePools(), usage.retainedBytes, usage.hitRate, READS,
+                (System.nanoTime() - start) / 1_000_000, collections() - collections, collectionMillis() - collectionMillis);
+        cache.clear();
+        return usage;
+    }
+
+    private static PageModelData pageModel(SyntheticSite.Page page) throws Exception {
+        return OBJECT_MAPPER.treeToValue(site.getPageModel(page), PageModelData.class);
+    }
+
+    private static long usedHeapAfterCollection() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long collections() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long collectionMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    @AllArgsConstructor
+    private static class Usage {
+
+        private final double hitRate;
+
+        private final long retainedBytes;
+    }
+}
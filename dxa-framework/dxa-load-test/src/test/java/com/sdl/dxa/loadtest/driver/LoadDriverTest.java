@@ -0,0 +1,84 @@
+package com.sdl.dxa.loadtest.driver;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LoadDriverTest {
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    @Before
+    public void start() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "page".getBytes();
+            exchange.sendResponseHeaders(exchange.getRequestURI().getPath().equals("/missing") ? 404 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    @After
+    public void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldReportThroughputAndLatency() throws Exception {
+        //given
+        LoadDriver driver = new LoadDriver(baseUrl, Arrays.asList("/", "/section-1/page-1"), 2);
+
+        //when
+        LoadReport report = driver.run(0, 1);
+
+        //then
+        assertTrue(report.getRequests() > 0);
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getP50Millis() <= report.getP99Millis());
+        assertTrue(report.getP99Millis() <= report.getMaxMillis());
+    }
+
+    @Test
+    public void shouldCountErrors() throws Exception {
+        //given
+        LoadDriver driver = new LoadDriver(baseUrl, Arrays.asList("/", "/missing"), 1);
+
+        //when
+        LoadReport report = driver.run(0, 1);
+
+        //then
+        assertTrue(report.getErrors() > 0);
+        assertTrue(report.getErrors() < report.getRequests());
+    }
+
+    @Test
+    public void shouldParseOptions() {
+        //when
+        Map<String, String> options = LoadDriver.parseOptions(new String[]{"--threads", "4", "--base-url", "http://host"});
+
+        //then
+        assertEquals("4", options.get("threads"));
+        assertEquals("http://host", options.get("base-url"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFail_IfOptionHasNoValue() {
+        //when
+        LoadDriver.parseOptions(new String[]{"--threads"});
+    }
+}
@@ -0,0 +1,96 @@
+package com.sdl.dxa.loadtest.site;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.loadtest.site.SyntheticSite.Page;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SyntheticSiteTest {
+
+    @Test
+    public void shouldGenerateSections_WithIndexPages() {
+        //when
+        SyntheticSite site = SyntheticSite.generate(5, 25, 3);
+
+        //then
+        assertEquals(3, site.getSections().size());
+        assertEquals(10, site.getSections().get(0).getPages().size());
+        assertEquals(5, site.getSections().get(2).getPages().size());
+        assertEquals(1 + 3 + 25, site.getPages().size());
+        assertEquals("/section-3/page-5", site.getSections().get(2).getPages().get(4).getUrl());
+    }
+
+    @Test
+    public void shouldGenerateSameSite_ForSameSize() {
+        //when
+        SyntheticSite first = SyntheticSite.generate(5, 15, 2);
+        SyntheticSite second = SyntheticSite.generate(5, 15, 2);
+
+        //then
+        assertEquals(first.getPageModel(first.getPage("/section-2/page-3")).toString(),
+                second.getPageModel(second.getPage("/section-2/page-3")).toString());
+    }
+
+    @Test
+    public void shouldFindPages_ByPublishedUrl() {
+        //given
+        SyntheticSite site = SyntheticSite.generate(5, 15, 2);
+
+        //then
+        assertSame(site.getHomePage(), site.getPage("/index.html"));
+        assertSame(site.getHomePage(), site.getPage("/"));
+        assertEquals("/section-1/index.html", site.getPage("/section-1/").getPublishedUrl());
+        assertEquals("Page 2.3", site.getPage("/section-2/page-3.html").getTitle());
+        assertNull(site.getPage("/section-1.html"));
+        assertNull(site.getPage("/section-9/page-1.html"));
+    }
+
+    @Test
+    public void shouldBuildPageModel_WithEntitiesAndLinks() {
+        //given
+        SyntheticSite site = SyntheticSite.generate(5, 15, 2);
+        Page page = site.getPage("/section-1/page-1");
+        Page next = site.getPage(page.getId() + 1);
+
+        //when
+        JsonNode pageModel = site.getPageModel(page);
+
+        //then
+        assertEquals(String.valueOf(page.getId()), pageModel.get("Id").asText());
+        JsonNode entities = pageModel.get("Regions").get(0).get("Entities");
+        assertEquals(2, entities.size());
+        assertEquals(String.valueOf(SyntheticSite.TEASER_SCHEMA_ID), entities.get(0).get("SchemaId").asText());
+        assertTrue(entities.get(0).get("Content").get("text").get("Fragments").get(0).asText()
+                .contains("href=\"" + site.tcmUri(next.getComponentIds().get(0)) + "\""));
+        assertSame(page, site.getPageOfComponent(page.getComponentIds().get(1)));
+    }
+
+    @Test
+    public void shouldPublishConfiguration_OfLocalization() throws Exception {
+        //given
+        SyntheticSite site = SyntheticSite.generate(5, 1, 1);
+
+        //when
+        JsonNode config = new ObjectMapper().readTree(new String(site.getFile("/system/config/_all.json"), StandardCharsets.UTF_8));
+
+        //then
+        assertEquals("5", config.get("siteLocalizations").get(0).get("Id").asText());
+        assertNotNull(site.getFile("/system/mappings/schemas.json"));
+        assertNotNull(site.getFile("/system/" + SyntheticSite.VERSION + "/mappings/vocabularies.json"));
+        assertNull(site.getFile("/system/config/unknown.json"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotGenerateSite_WithNegativeSize() {
+        //when
+        SyntheticSite.generate(5, -1, 1);
+    }
+}
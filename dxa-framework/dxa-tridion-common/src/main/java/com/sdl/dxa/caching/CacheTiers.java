@@ -0,0 +1,182 @@
+package com.sdl.dxa.caching;
+
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.spi.serialization.Serializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Storage tiers of a named cache: heap, off-heap and local disk.
+ * <p>Tiers are given as a comma-separated list of <code>tier:size</code> pairs, for instance
+ * <code>heap:1000, offheap:256MB, disk:2GB</code>. The heap is sized in entries unless its size has a unit; off-heap
+ * and disk are sized in memory with one of the units <code>B</code>, <code>KB</code>, <code>MB</code> or
+ * <code>GB</code>. As Ehcache requires, the heap is mandatory and every tier must be larger than the one before it.
+ * A disk tier written as <code>disk:2GB:persistent</code> keeps its entries when the web application restarts.</p>
+ * <p>Off-heap and disk tiers store values serialized, so caches which have them get the {@link DxaCacheSerializer}
+ * for keys and values. This works for serializable values and for the R2 data model, but not for view models.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class CacheTiers {
+
+    private static final Pattern TIER = Pattern.compile("(heap|offheap|disk):(\\d+)([a-z]*)(:persistent)?");
+
+    private final String specification;
+
+    private final ResourcePools resourcePools;
+
+    private final boolean heapOnly;
+
+    private final boolean withDisk;
+
+    private CacheTiers(String specification, ResourcePools resourcePools, boolean heapOnly, boolean withDisk) {
+        this.specification = specification;
+        this.resourcePools = resourcePools;
+        this.heapOnly = heapOnly;
+        this.withDisk = withDisk;
+    }
+
+    /**
+     * Parses tiers like <code>heap:1000, offheap:256MB, disk:2GB</code>.
+     *
+     * @param specification comma-separated list of tiers and their sizes
+     * @return the tiers
+     * @throws IllegalArgumentException if the specification has unknown or repeated tiers, no heap or invalid sizes
+     */
+    @NotNull
+    public static CacheTiers parse(@NotNull String specification) {
+        ResourcePoolsBuilder pools = ResourcePoolsBuilder.newResourcePoolsBuilder();
+        boolean heap = false;
+        boolean offheap = false;
+        boolean disk = false;
+        for (String tier : specification.toLowerCase(Locale.ROOT).split(",")) {
+            Matcher matcher = TIER.matcher(tier.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid cache tier '" + tier.trim() + "' in '" + specification +
+                        "', expected 'heap:<entries>', 'heap:<size><unit>', 'offheap:<size><unit>' or 'disk:<size><unit>[:persistent]'");
+            }
+            boolean persistent = matcher.group(4) != null;
+            if (persistent && !"disk".equals(matcher.group(1))) {
+                throw new IllegalArgumentException("Only the disk tier can be persistent in '" + specification + "'");
+            }
+            long size = Long.parseLong(matcher.group(2));
+            String unit = matcher.group(3);
+            switch (matcher.group(1)) {
+                case "heap":
+                    heap = single(heap, "heap", specification);
+                    pools = pools.heap(size, unit.isEmpty() ? EntryUnit.ENTRIES : memoryUnit(unit, specification));
+                    break;
+                case "offheap":
+                    offheap = single(offheap, "offheap", specification);
+                    pools = pools.offheap(size, memoryUnit(unit, specification));
+                    break;
+                default:
+                    disk = single(disk, "disk", specification);
+                    pools = pools.disk(size, memoryUnit(unit, specification), persistent);
+                    break;
+            }
+        }
+        if (!heap) {
+            throw new IllegalArgumentException("Cache tiers '" + specification + "' have no heap tier");
+        }
+        try {
+            // Ehcache checks the sizes of the tiers against each other only when building
+            return new CacheTiers(specification.trim(), pools.build(), !offheap && !disk, disk);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cache tiers '" + specification + "': " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean single(boolean present, String tier, String specification) {
+        if (present) {
+            throw new IllegalArgumentException("Cache tier '" + tier + "' is given twice in '" + specification + "'");
+        }
+        return true;
+    }
+
+    private static MemoryUnit memoryUnit(String unit, String specification) {
+        switch (unit) {
+            case "b":
+                return MemoryUnit.B;
+            case "kb":
+                return MemoryUnit.KB;
+            case "mb":
+                return MemoryUnit.MB;
+            case "gb":
+                return MemoryUnit.GB;
+            default:
+                throw new IllegalArgumentException("Invalid memory unit '" + unit + "' in cache tiers '" + specification +
+                        "', expected B, KB, MB or GB");
+        }
+    }
+
+    /**
+     * Returns whether values are only stored on the heap.
+     *
+     * @return {@code true} if there is neither an off-heap nor a disk tier
+     */
+    public boolean isHeapOnly() {
+        return heapOnly;
+    }
+
+    /**
+     * Returns whether values are also stored on the local disk.
+     *
+     * @return {@code true} if there is a disk tier
+     */
+    public boolean hasDisk() {
+        return withDisk;
+    }
+
+    /**
+     * Returns the same tiers without the disk tier, for cache managers which have no persistence directory.
+     *
+     * @return tiers without the disk, or these tiers if there is no disk tier
+     */
+    @NotNull
+    public CacheTiers withoutDisk() {
+        if (!withDisk) {
+            return this;
+        }
+        ResourcePoolsBuilder pools = ResourcePoolsBuilder.newResourcePoolsBuilder();
+        for (ResourceType<?> type : resourcePools.getResourceTypeSet()) {
+            if (type != ResourceType.Core.DISK) {
+                pools = pools.with(resourcePools.getPoolForResource(type));
+            }
+        }
+        boolean offheap = resourcePools.getResourceTypeSet().contains(ResourceType.Core.OFFHEAP);
+        return new CacheTiers(specification + " (without disk)", pools.build(), !offheap, false);
+    }
+
+    /**
+     * Configures a cache with these tiers and, if values leave the heap, with the {@link DxaCacheSerializer}.
+     *
+     * @param builder configuration of the cache
+     * @param <K>     type of keys
+     * @param <V>     type of values
+     * @return configuration with these tiers
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <K, V> CacheConfigurationBuilder<K, V> applyTo(@NotNull CacheConfigurationBuilder<K, V> builder) {
+        CacheConfigurationBuilder<K, V> tiered = builder.withResourcePools(resourcePools);
+        if (heapOnly) {
+            return tiered;
+        }
+        Serializer serializer = new DxaCacheSerializer();
+        return tiered.withKeySerializer((Serializer<K>) serializer).withValueSerializer((Serializer<V>) serializer);
+    }
+
+    @Override
+    public String toString() {
+        return specification;
+    }
+}
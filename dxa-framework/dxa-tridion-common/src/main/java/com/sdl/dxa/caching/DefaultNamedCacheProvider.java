@@ -1,5 +1,7 @@
 package com.sdl.dxa.caching;
 
+import com.sdl.dxa.caching.invalidation.Invalidation;
+import com.sdl.dxa.caching.invalidation.InvalidationListener;
 import com.sdl.web.client.cache.CacheProviderInitializer;
 import com.sdl.web.client.cache.GeneralCacheProvider;
 import com.sdl.web.client.configuration.ClientConstants;
@@ -11,16 +13,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Triple;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.EventType;
 import org.ehcache.expiry.Duration;
 import org.ehcache.xml.XmlConfiguration;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
@@ -37,6 +44,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
@@ -45,20 +53,30 @@ import java.util.concurrent.TimeUnit;
 import static com.sdl.web.client.configuration.ClientConstants.Cache.DEFAULT_CACHE_URI;
 import static java.nio.file.Files.exists;
 import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.config.builders.CacheEventListenerConfigurationBuilder.newEventListenerConfiguration;
 import static org.ehcache.expiry.Duration.of;
 import static org.ehcache.expiry.Expirations.timeToLiveExpiration;
 import static org.ehcache.jsr107.Eh107Configuration.fromEhcacheCacheConfiguration;
 
 /**
  * Default implementation of DXA cache.
+ * <p>Caches which are not configured in the cache configuration file are created from its <code>default</code> template.
+ * Their storage tiers can be set per cache with the property <code>dxa.caching.tiers.&lt;cache name&gt;</code>,
+ * see {@link CacheTiers}. Their eviction also follows the {@link CachePolicy} which is set per cache with
+ * <code>dxa.caching.policy.&lt;cache name&gt;</code>: <code>tinylfu</code>, <code>tinylfu:&lt;expected entries&gt;</code>
+ * or the class name of a policy with a constructor without arguments.</p>
+ * <p>Invalidations received from other nodes of the cluster clear a cache; invalidations of a localization clear
+ * all caches, as a refresh of the localization does on the node where it is requested.</p>
  *
  * @dxa.publicApi
  */
 @Slf4j
 @Component
-public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader implements NamedCacheProvider {
+public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader implements NamedCacheProvider, InvalidationListener {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultNamedCacheProvider.class);
 
+    private static final int DEFAULT_POLICY_ENTRIES = 10000;
+
     @Value("#{'${dxa.caching.disabled.caches}'.split('[,\\s]')}")
     private Set<String> disabledCaches;
 
@@ -68,6 +86,9 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
     @Value("${dxa.caching.configuration:#{null}}")
     private String cachingConfigurationFile;
 
+    @Autowired
+    private Environment environment;
+
     private boolean isCilConfigUsed;
 
     @Getter
@@ -77,6 +98,8 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
 
     private ConcurrentMap<Triple<String, Class, Class>, Cache> ownCaches = new ConcurrentSkipListMap<>();
 
+    private final ConcurrentMap<String, CachePolicy> cachePolicies = new ConcurrentHashMap<>();
+
     private com.sdl.web.client.cache.CacheProvider cilCacheProvider;
 
     public DefaultNamedCacheProvider() throws ConfigurationException {
@@ -102,6 +125,17 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         requiredCaches.forEach(this::getCache);
     }
 
+    /**
+     * Closes the cache manager, which is needed for caches with persistent disk tiers to keep their entries.
+     */
+    @PreDestroy
+    public void close() {
+        if (cacheManager != null && !cacheManager.isClosed()) {
+            log.info("Closing cache manager");
+            cacheManager.close();
+        }
+    }
+
     @Override
     protected String getServiceUrl() {
         return "";
@@ -113,7 +147,7 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         Cache<K, V> newCache = cacheManager.getCache(cacheName, keyType, valueType);
         if (newCache == null) {
             log.debug("Cache name '{}' for such key/value does not exist, auto-creating...", cacheName);
-            newCache = cacheManager.createCache(cacheName, buildDefaultCacheConfiguration(keyType, valueType));
+            newCache = createCache(cacheName, keyType, valueType);
         }
 
         if (ownCachesNames.add(cacheName)) {
@@ -146,11 +180,137 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         return isCacheEnabled() && !disabledCaches.contains(cacheName);
     }
 
+    @Override
+    public CachePolicy getCachePolicy(String cacheName) {
+        return cachePolicies.computeIfAbsent(cacheName, this::createCachePolicy);
+    }
+
+    @Override
+    public void onInvalidation(@NotNull Invalidation invalidation) {
+        if (cacheManager == null) {
+            return;
+        }
+        if (invalidation.isCache()) {
+            Cache<Object, Object> cache = findCache(invalidation.getCacheName());
+            if (cache == null) {
+                log.debug("Ignoring {}, there is no such cache", invalidation);
+            } else {
+                cache.clear();
+                getCachePolicy(cache.getName()).recordClear();
+            }
+        } else if (invalidation.getLocalizationId() != null) {
+            log.info("Clearing all caches, localization {} was refreshed on another node", invalidation.getLocalizationId());
+            for (String cacheName : cacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = findCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                    getCachePolicy(cacheName).recordClear();
+                }
+            }
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> findCache(String cacheName) {
+        for (Map.Entry<Triple<String, Class, Class>, Cache> entry : ownCaches.entrySet()) {
+            if (entry.getKey().getLeft().equals(cacheName)) {
+                return entry.getValue();
+            }
+        }
+        try {
+            return cacheManager.getCache(cacheName);
+        } catch (IllegalArgumentException e) {
+            // a cache with key and value types configured in XML cannot be looked up without them
+            log.warn("Cannot look up cache '{}' without its types", cacheName, e);
+            return null;
+        }
+    }
+
+    @NotNull
+    private CachePolicy createCachePolicy(String cacheName) {
+        String specification = environment == null ? null : environment.getProperty("dxa.caching.policy." + cacheName);
+        if (specification == null || specification.trim().isEmpty()) {
+            return CachePolicy.ADMIT_ALL;
+        }
+        try {
+            CachePolicy policy = parseCachePolicy(specification.trim());
+            log.info("Cache '{}' uses policy {}", cacheName, policy);
+            return policy;
+        } catch (IllegalArgumentException | ClassCastException | ReflectiveOperationException e) {
+            log.warn("Ignoring policy '{}' of cache '{}', all values will be cached", specification, cacheName, e);
+            return CachePolicy.ADMIT_ALL;
+        }
+    }
+
+    @NotNull
+    private static CachePolicy parseCachePolicy(String specification) throws ReflectiveOperationException {
+        if ("none".equals(specification)) {
+            return CachePolicy.ADMIT_ALL;
+        }
+        if ("tinylfu".equals(specification)) {
+            return new TinyLfuPolicy(DEFAULT_POLICY_ENTRIES);
+        }
+        if (specification.startsWith("tinylfu:")) {
+            return new TinyLfuPolicy(Integer.parseInt(specification.substring("tinylfu:".length()).trim()));
+        }
+        return Class.forName(specification).asSubclass(CachePolicy.class).getDeclaredConstructor().newInstance();
+    }
+
+    private <K, V> Cache<K, V> createCache(String cacheName, Class<K> keyType, Class<V> valueType) {
+        CacheConfigurationBuilder<K, V> configuration = buildDefaultCacheConfiguration(keyType, valueType);
+        CachePolicy policy = getCachePolicy(cacheName);
+        if (policy != CachePolicy.ADMIT_ALL) {
+            // Ehcache evicts the least recently used of a few sampled entries, skipping those it is advised to keep
+            configuration = configuration.withEvictionAdvisor((key, value) -> policy.isFrequent(key))
+                    .add(newEventListenerConfiguration(event -> recordRemoval(policy, event),
+                            EventType.EVICTED, EventType.EXPIRED, EventType.REMOVED).unordered().synchronous());
+        }
+        CacheTiers tiers = getCacheTiers(cacheName);
+        if (tiers == null) {
+            return cacheManager.createCache(cacheName, fromEhcacheCacheConfiguration(configuration));
+        }
+        log.info("Creating cache '{}' with tiers {}", cacheName, tiers);
+        try {
+            return cacheManager.createCache(cacheName, fromEhcacheCacheConfiguration(tiers.applyTo(configuration)));
+        } catch (RuntimeException e) {
+            if (!tiers.hasDisk()) {
+                throw e;
+            }
+            // the disk tier needs a <persistence> directory in the cache configuration file
+            log.warn("Cannot create cache '{}' with a disk tier, is a persistence directory configured? " +
+                    "Creating it without the disk", cacheName, e);
+            return cacheManager.createCache(cacheName, fromEhcacheCacheConfiguration(tiers.withoutDisk().applyTo(configuration)));
+        }
+    }
+
+    private static void recordRemoval(CachePolicy policy, CacheEvent<?, ?> event) {
+        if (event.getType() == EventType.EVICTED) {
+            policy.recordEviction(event.getKey());
+        } else {
+            policy.recordRemoval(event.getKey());
+        }
+    }
+
+    @Nullable
+    private CacheTiers getCacheTiers(String cacheName) {
+        String specification = environment == null ? null : environment.getProperty("dxa.caching.tiers." + cacheName);
+        if (specification == null || specification.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return CacheTiers.parse(specification);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring tiers of cache '{}', will be using default configuration", cacheName, e);
+            return null;
+        }
+    }
+
     @NotNull
-    private <K, V> javax.cache.configuration.Configuration<K, V> buildDefaultCacheConfiguration(Class<K> keyType, Class<V> valueType) {
-        return fromEhcacheCacheConfiguration(isCilConfigUsed ?
+    private <K, V> CacheConfigurationBuilder<K, V> buildDefaultCacheConfiguration(Class<K> keyType, Class<V> valueType) {
+        return isCilConfigUsed ?
                 buildDefaultCilCacheConfiguration(keyType, valueType) :
-                buildDefaultConfigCacheConfiguration(keyType, valueType));
+                buildDefaultConfigCacheConfiguration(keyType, valueType);
     }
 
     @NotNull
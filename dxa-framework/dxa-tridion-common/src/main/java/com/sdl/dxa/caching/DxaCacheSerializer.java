@@ -0,0 +1,152 @@
+package com.sdl.dxa.caching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
+import org.ehcache.spi.serialization.Serializer;
+import org.ehcache.spi.serialization.SerializerException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Ehcache {@link Serializer} for keys and values of DXA caches which are stored off the heap or on the local disk.
+ * <p>Types of the R2 data model ({@code com.sdl.dxa.api.datamodel}) are not serializable; they are stored as their
+ * class name followed by their R2 JSON, as the Model Service sends them. All other values must be {@link Serializable}
+ * and are stored with Java serialization. View models are neither, so caches of view models must stay on the heap.</p>
+ * <p>The serializer has no state and can also be configured in <code>ehcache.xml</code> as a default serializer.</p>
+ *
+ * @dxa.publicApi
+ */
+public class DxaCacheSerializer implements Serializer<Object> {
+
+    private static final String DATA_MODEL_PACKAGE = "com.sdl.dxa.api.datamodel.";
+
+    private static final byte JAVA = 'J';
+
+    private static final byte DATA_MODEL = 'D';
+
+    private final ClassLoader classLoader;
+
+    public DxaCacheSerializer() {
+        this(DxaCacheSerializer.class.getClassLoader());
+    }
+
+    /**
+     * Constructor used by Ehcache for serializers configured in XML.
+     *
+     * @param classLoader class loader to load the classes of values with
+     */
+    public DxaCacheSerializer(ClassLoader classLoader) {
+        this.classLoader = classLoader == null ? DxaCacheSerializer.class.getClassLoader() : classLoader;
+    }
+
+    @Override
+    public ByteBuffer serialize(Object object) throws SerializerException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try {
+            if (object.getClass().getName().startsWith(DATA_MODEL_PACKAGE)) {
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeByte(DATA_MODEL);
+                out.writeUTF(object.getClass().getName());
+                out.flush();
+                R2Mapper.INSTANCE.writeValue(bytes, object);
+            } else if (object instanceof Serializable) {
+                bytes.write(JAVA);
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(object);
+                }
+            } else {
+                throw new SerializerException("Cannot store " + object.getClass().getName() + " off the heap, " +
+                        "it is neither serializable nor a type of the data model; keep its cache on the heap only");
+            }
+        } catch (IOException e) {
+            throw new SerializerException("Cannot serialize " + object.getClass().getName(), e);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Override
+    public Object read(ByteBuffer binary) throws ClassNotFoundException, SerializerException {
+        try (InputStream in = new ByteBufferInputStream(binary.duplicate())) {
+            int format = in.read();
+            if (format == DATA_MODEL) {
+                DataInputStream data = new DataInputStream(in);
+                Class<?> type = Class.forName(data.readUTF(), false, classLoader);
+                return R2Mapper.INSTANCE.readValue(in, type);
+            }
+            if (format == JAVA) {
+                try (ObjectInputStream objects = new ClassLoaderObjectInputStream(in, classLoader)) {
+                    return objects.readObject();
+                }
+            }
+            throw new SerializerException("Unknown format " + format + " of a cached value");
+        } catch (IOException e) {
+            throw new SerializerException("Cannot deserialize a cached value", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object object, ByteBuffer binary) throws ClassNotFoundException, SerializerException {
+        return Objects.equals(object, read(binary));
+    }
+
+    private static final class R2Mapper {
+
+        // classpath scanning of the data model is done once, when the first data model value is cached
+        private static final ObjectMapper INSTANCE = new DataModelSpringConfiguration().dxaR2ObjectMapper();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NotNull byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        private ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(description.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                // primitive types and classes of the JDK
+                return super.resolveClass(description);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.performance.CacheMetrics;
+import com.sdl.dxa.performance.MetricsRegistry;
+import org.springframework.cache.jcache.JCacheCache;
+
+import javax.cache.Cache;
+
+/**
+ * {@link JCacheCache} which records hits and misses of lookups in the {@link MetricsRegistry#getDefault() default registry}
+ * and stores values only if the {@link CachePolicy} of the cache admits them.
+ */
+class MeteredJCacheCache extends JCacheCache {
+
+    private final CacheMetrics metrics;
+
+    private final CachePolicy policy;
+
+    MeteredJCacheCache(Cache<Object, Object> jcache, CachePolicy policy) {
+        super(jcache);
+        this.metrics = MetricsRegistry.getDefault().cache(jcache.getName());
+        this.policy = policy != null ? policy : CachePolicy.ADMIT_ALL;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        policy.recordAccess(key);
+        Object value = super.lookup(key);
+        metrics.record(value != null);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (policy.admit(key)) {
+            super.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return policy.admit(key) ? super.putIfAbsent(key, value) : null;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        policy.recordClear();
+    }
+}
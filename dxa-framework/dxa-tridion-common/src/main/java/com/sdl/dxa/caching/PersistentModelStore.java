@@ -0,0 +1,518 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.performance.CacheMetrics;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.webapp.common.api.localization.Localization;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Store of page and entity model data on the local disk, which survives restarts of the web application.
+ * <p>After a restart the in-memory caches are empty, and without this store every page would be requested from the
+ * backend at once. The store is a second level behind the in-memory caches: data which is not in memory is read from
+ * the disk, and data loaded from the backend is also written to the disk. It is disabled unless
+ * <code>dxa.caching.persistent.directory</code> is set.</p>
+ * <p>Every entry is a file with a format version, the ID and version of the localization, the time it was written
+ * and a checksum. An entry is discarded and deleted when its format or localization version differs from the current
+ * one, when it is older than <code>dxa.caching.persistent.max.age</code>, when it was written before the localization
+ * was last {@link #invalidate(String) published}, or when it is corrupt. Entries are written to temporary files which
+ * are then moved into place, so a crash can only leave temporary files behind; these are deleted on startup.</p>
+ * <p>Entries which are not read again are removed by a sweep on startup and every
+ * <code>dxa.caching.persistent.sweep.interval</code>: it deletes the expired entries and those written before their
+ * localization was published, and if the store is larger than <code>dxa.caching.persistent.max.size</code>, the oldest
+ * entries until it is at 90% of that size. A sweep also runs as soon as the entries written since the last one make
+ * the store larger than the maximum size.</p>
+ * <p>Values are serialized with the {@link DxaCacheSerializer} on the calling thread, because the caller may change
+ * them afterwards, and written to the disk in the background.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+@Component
+public class PersistentModelStore implements AutoCloseable {
+
+    static final short FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x44584145;
+
+    private static final String ENTRY_SUFFIX = ".entry";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final String PUBLISHED_FILE = "published";
+
+    private static final int MAX_PENDING_WRITES = 1000;
+
+    private static final int MAX_HEADER_STRING_LENGTH = 1024;
+
+    private final Path directory;
+
+    private final long maxAgeMillis;
+
+    private final long maxSizeBytes;
+
+    private final Clock clock;
+
+    private final ExecutorService writer;
+
+    private final DxaCacheSerializer serializer = new DxaCacheSerializer();
+
+    private final Map<String, Long> publishedAt = new ConcurrentHashMap<>();
+
+    private final CacheMetrics metrics = MetricsRegistry.getDefault().cache("persistentModels");
+
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * @param directory            directory of the store, the store is disabled if it is empty
+     * @param maxAgeSeconds        time after which an entry expires, in seconds
+     * @param maxSizeMegabytes     maximum size of all entries in MB, {@code 0} for no limit
+     * @param sweepIntervalSeconds time between two sweeps of expired entries, in seconds, {@code 0} to sweep only
+     *                             on startup and when the store is too large
+     */
+    @Autowired
+    public PersistentModelStore(@Value("${dxa.caching.persistent.directory:}") String directory,
+                                @Value("${dxa.caching.persistent.max.age:300}") long maxAgeSeconds,
+                                @Value("${dxa.caching.persistent.max.size:1024}") long maxSizeMegabytes,
+                                @Value("${dxa.caching.persistent.sweep.interval:600}") long sweepIntervalSeconds) {
+        this(directory == null || directory.trim().isEmpty() ? null : Paths.get(directory.trim()),
+                TimeUnit.SECONDS.toMillis(maxAgeSeconds), maxSizeMegabytes * 1024 * 1024, Clock.systemUTC(), newWriter());
+        if (isEnabled() && sweepIntervalSeconds > 0) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dxa-persistent-model-store-sweep");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // the sweep runs on the writer, so it does not delete files which are being written
+            sweeper.scheduleWithFixedDelay(() -> execute(this::sweep), sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    PersistentModelStore(@Nullable Path directory, long maxAgeMillis, long maxSizeBytes, Clock clock, ExecutorService writer) {
+        this.directory = directory;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxSizeBytes = maxSizeBytes;
+        this.clock = clock;
+        this.writer = writer;
+        if (directory != null) {
+            log.info("Persistent model store in {}, entries expire after {}s, maximum size {} MB",
+                    directory, maxAgeMillis / 1000, maxSizeBytes > 0 ? maxSizeBytes / (1024 * 1024) : "unlimited");
+            writer.execute(() -> {
+                deleteTemporaryFiles();
+                sweep();
+            });
+        }
+    }
+
+    private static ExecutorService newWriter() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING_WRITES),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dxa-persistent-model-store");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // a missing entry only means another request to the backend later
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Returns whether the store is enabled.
+     *
+     * @return {@code true} if a directory is configured
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Reads an entry which is still valid for the localization.
+     *
+     * @param localization current localization
+     * @param key          key of the entry
+     * @param type         expected type of the value
+     * @param <T>          type of the value
+     * @return the value, or {@code null} if there is no valid entry
+     */
+    @Nullable
+    public <T> T get(@NotNull Localization localization, @NotNull String key, @NotNull Class<T> type) {
+        if (directory == null) {
+            return null;
+        }
+        Path file = entryFile(localization.getId(), key);
+        T value = null;
+        try {
+            value = read(file, localization, key, type);
+        } catch (NoSuchFileException e) {
+            // not stored
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            log.warn("Discarding corrupt entry {} of key {}", file, key, e);
+            delete(file);
+        }
+        metrics.record(value != null);
+        return value;
+    }
+
+    @Nullable
+    private <T> T read(Path file, Localization localization, String key, Class<T> type) throws IOException, ClassNotFoundException {
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length < Long.BYTES) {
+            throw new IOException("Entry is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Long.BYTES);
+        if (crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - Long.BYTES, Long.BYTES).getLong()) {
+            throw new IOException("Checksum of the entry does not match");
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - Long.BYTES));
+        if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+            log.debug("Discarding entry {} of another format", file);
+            delete(file);
+            return null;
+        }
+        String localizationId = readString(in);
+        String localizationVersion = readString(in);
+        long writtenAt = in.readLong();
+        if (!localizationId.equals(localization.getId()) || !localizationVersion.equals(versionOf(localization))) {
+            log.debug("Discarding entry {} of localization {} version {}", file, localizationId, localizationVersion);
+            delete(file);
+            return null;
+        }
+        if (writtenAt + maxAgeMillis <= clock.millis() || writtenAt <= getPublishedAt(localizationId)) {
+            log.debug("Discarding expired entry {}", file);
+            delete(file);
+            return null;
+        }
+        if (!key.equals(readString(in))) {
+            // another key with the same hash, will be overwritten
+            return null;
+        }
+        byte[] payload = readBytes(in);
+        Object value = serializer.read(ByteBuffer.wrap(payload));
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Writes an entry in the background.
+     *
+     * @param localization current localization
+     * @param key          key of the entry
+     * @param value        value to store, either serializable or a type of the data model
+     */
+    public void put(@NotNull Localization localization, @NotNull String key, @NotNull Object value) {
+        if (directory == null) {
+            return;
+        }
+        byte[] entry;
+        try {
+            entry = entry(localization, key, value);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot store value of key {} of type {}", key, value.getClass().getName(), e);
+            return;
+        }
+        Path file = entryFile(localization.getId(), key);
+        execute(() -> {
+            if (write(file, entry) && maxSizeBytes > 0 && storedBytes.addAndGet(entry.length) > maxSizeBytes) {
+                sweep();
+            }
+        });
+    }
+
+    private void execute(Runnable task) {
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Persistent model store is closed");
+        }
+    }
+
+    private byte[] entry(Localization localization, String key, Object value) throws IOException {
+        ByteBuffer payload = serializer.serialize(value);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.remaining() + 256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writeString(out, localization.getId());
+        writeString(out, versionOf(localization));
+        out.writeLong(clock.millis());
+        writeString(out, key);
+        out.writeInt(payload.remaining());
+        out.write(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Discards all entries of a localization written until now, for instance because it was published again.
+     * They are deleted by a sweep in the background.
+     *
+     * @param localizationId ID of the localization
+     */
+    public void invalidate(@NotNull String localizationId) {
+        if (directory == null) {
+            return;
+        }
+        long now = clock.millis();
+        publishedAt.put(localizationId, now);
+        Path file = localizationDirectory(localizationId).resolve(PUBLISHED_FILE);
+        write(file, String.valueOf(now).getBytes(StandardCharsets.US_ASCII));
+        log.info("Invalidated persistent entries of localization {}", localizationId);
+        execute(this::sweep);
+    }
+
+    private long getPublishedAt(String localizationId) {
+        return publishedAt.computeIfAbsent(localizationId, id -> {
+            try {
+                byte[] bytes = Files.readAllBytes(localizationDirectory(id).resolve(PUBLISHED_FILE));
+                return Long.parseLong(new String(bytes, StandardCharsets.US_ASCII).trim());
+            } catch (NoSuchFileException e) {
+                return 0L;
+            } catch (IOException | NumberFormatException e) {
+                // without knowing when it was published, no entry written until now can be trusted
+                log.warn("Cannot read the publish time of localization {}, discarding its entries", id, e);
+                return clock.millis();
+            }
+        });
+    }
+
+    /**
+     * Deletes the entries which expired or were written before their localization was published, and then the oldest
+     * entries if the store is larger than its maximum size. Entries of another localization version are
+     * deleted when they are read or when they expire.
+     */
+    void sweep() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        long now = clock.millis();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX)).collect(Collectors.toList());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot sweep the persistent model store in {}", directory, e);
+            return;
+        }
+
+        List<StoredEntry> entries = new ArrayList<>();
+        int expired = 0;
+        for (Path file : files) {
+            StoredEntry entry = readHeader(file);
+            if (entry == null || entry.writtenAt + maxAgeMillis <= now || entry.writtenAt <= getPublishedAt(entry.localizationId)) {
+                delete(file);
+                expired++;
+            } else {
+                entries.add(entry);
+            }
+        }
+
+        long size = 0;
+        for (StoredEntry entry : entries) {
+            size += entry.size;
+        }
+        int evicted = 0;
+        if (maxSizeBytes > 0 && size > maxSizeBytes) {
+            // evicts a tenth more, so that the next writes do not start another sweep right away
+            long targetSize = maxSizeBytes - maxSizeBytes / 10;
+            entries.sort(Comparator.comparingLong(entry -> entry.writtenAt));
+            for (StoredEntry entry : entries) {
+                if (size <= targetSize) {
+                    break;
+                }
+                delete(entry.file);
+                size -= entry.size;
+                evicted++;
+            }
+        }
+        storedBytes.set(size);
+        log.debug("Swept persistent model store: deleted {} expired and {} evicted entries, keeping {} entries of {} bytes",
+                expired, evicted, entries.size() - evicted, size);
+    }
+
+    @Nullable
+    private static StoredEntry readHeader(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 512))) {
+            if (in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION) {
+                return null;
+            }
+            String localizationId = new String(readHeaderBytes(in), StandardCharsets.UTF_8);
+            readHeaderBytes(in);
+            long writtenAt = in.readLong();
+            return new StoredEntry(file, localizationId, writtenAt, Files.size(file));
+        } catch (IOException e) {
+            log.debug("Cannot read the header of {}", file, e);
+            return null;
+        }
+    }
+
+    private static byte[] readHeaderBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_HEADER_STRING_LENGTH) {
+            throw new IOException("Invalid length " + length + " in the header");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Stops writing and waits for pending writes.
+     */
+    @Override
+    @PreDestroy
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Persistent model store did not finish writing in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean write(Path file, byte[] content) {
+        Path temporary = file.resolveSibling(file.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(temporary, content);
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            log.warn("Cannot write {}", file, e);
+            delete(temporary);
+            return false;
+        }
+    }
+
+    private void deleteTemporaryFiles() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX)).forEach(file -> {
+                log.debug("Deleting {} left by an interrupted write", file);
+                delete(file);
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot delete temporary files in {}", directory, e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Cannot delete {}", file, e);
+        }
+    }
+
+    private Path localizationDirectory(String localizationId) {
+        return directory.resolve(localizationId.replaceAll("[^A-Za-z0-9_-]", "_"));
+    }
+
+    private Path entryFile(String localizationId, String key) {
+        String hash = sha1(key);
+        return localizationDirectory(localizationId).resolve(hash.substring(0, 2)).resolve(hash + ENTRY_SUFFIX);
+    }
+
+    private static String versionOf(Localization localization) {
+        return localization.getVersion() == null ? "" : localization.getVersion();
+    }
+
+    private static String sha1(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid length " + length + " in the entry");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static final class StoredEntry {
+
+        private final Path file;
+
+        private final String localizationId;
+
+        private final long writtenAt;
+
+        private final long size;
+
+        private StoredEntry(Path file, String localizationId, long writtenAt, long size) {
+            this.file = file;
+            this.localizationId = localizationId;
+            this.writtenAt = writtenAt;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Cache} with stale-while-revalidate semantics on top of another cache.
+ * <p>Each value is stored with the time it was put. Until the soft TTL it is fresh. After the soft TTL it is stale:
+ * {@link #get(Object, Callable)} and {@link #getAndRevalidate(Object, Revalidation)} still return it at once, and
+ * one revalidation per key runs in the background to replace it. After the hard TTL, or after {@link #evict(Object)}
+ * or {@link #clear()}, the value is gone. If no hard TTL is given, the expiry of the underlying cache is the hard TTL.</p>
+ * <p>Plain lookups with {@link #get(Object)} cannot revalidate, so they treat stale values as missing.</p>
+ * <p>Values are stored wrapped, so caches with off-heap or disk tiers need {@link Serializable} values.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class RevalidatingCache implements Cache {
+
+    private final Cache delegate;
+
+    private final long softTtlMillis;
+
+    private final long hardTtlMillis;
+
+    private final Clock clock;
+
+    private final Executor executor;
+
+    private final ConcurrentMap<Object, Boolean> revalidating = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate      cache which stores the values
+     * @param softTtlMillis time after which values are stale and are revalidated
+     * @param hardTtlMillis time after which values are gone, or {@code 0} to leave it to the underlying cache
+     * @param clock         clock to time values with
+     * @param executor      runs the revalidations
+     */
+    public RevalidatingCache(@NotNull Cache delegate, long softTtlMillis, long hardTtlMillis,
+                             @NotNull Clock clock, @NotNull Executor executor) {
+        if (softTtlMillis <= 0 || (hardTtlMillis > 0 && hardTtlMillis < softTtlMillis)) {
+            throw new IllegalArgumentException("Soft TTL of cache " + delegate.getName() + " must be positive and not " +
+                    "longer than its hard TTL, but is " + softTtlMillis + " ms with a hard TTL of " + hardTtlMillis + " ms");
+        }
+        this.delegate = delegate;
+        this.softTtlMillis = softTtlMillis;
+        this.hardTtlMillis = hardTtlMillis;
+        this.clock = clock;
+        this.executor = executor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = lookup(key);
+        return entry == null || isStale(entry) ? null : new SimpleValueWrapper(entry.value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns the value, loading it on a miss. A stale value is returned as is, and the loader replaces it in the
+     * background. For {@code @Cacheable(sync = true)} methods the loader is the method itself, so it runs outside of
+     * the request and must not use request-scoped beans; read what it needs from the request before the lookup.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = getAndRevalidate(key, () -> put(key, valueLoader.call()));
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Returns the value, fresh or stale. If it is stale, the revalidation is started in the background unless one
+     * is already running for the key. The revalidation is skipped if the value is replaced or evicted before it runs.
+     * The revalidation should {@link #put(Object, Object) put} a new value or
+     * {@link #evict(Object) evict} the stale one; if it fails, the stale value is kept and the next read of the key
+     * starts another revalidation.
+     *
+     * @param key          key of the value
+     * @param revalidation replaces the value if it is stale
+     * @return the value, or {@code null} if there is none or it is past its hard TTL
+     */
+    @Nullable
+    public ValueWrapper getAndRevalidate(@NotNull Object key, @NotNull Revalidation revalidation) {
+        Entry entry = lookup(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isStale(entry)) {
+            revalidate(key, entry, revalidation);
+        }
+        return new SimpleValueWrapper(entry.value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Entry(value, clock.millis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, new Entry(value, clock.millis()));
+        Object entry = existing == null ? null : existing.get();
+        return entry instanceof Entry ? new SimpleValueWrapper(((Entry) entry).value) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Nullable
+    private Entry lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        Object entry = wrapper == null ? null : wrapper.get();
+        if (!(entry instanceof Entry)) {
+            return null;
+        }
+        if (hardTtlMillis > 0 && clock.millis() - ((Entry) entry).loadedAt >= hardTtlMillis) {
+            delegate.evict(key);
+            return null;
+        }
+        return (Entry) entry;
+    }
+
+    private boolean isStale(Entry entry) {
+        return clock.millis() - entry.loadedAt >= softTtlMillis;
+    }
+
+    private void revalidate(Object key, Entry stale, Revalidation revalidation) {
+        if (revalidating.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        log.debug("Revalidating stale value of {} in cache {}", key, getName());
+        try {
+            executor.execute(() -> {
+                try {
+                    Entry current = lookup(key);
+                    if (current == null || current.loadedAt != stale.loadedAt) {
+                        log.debug("Value of {} in cache {} was replaced before its revalidation", key, getName());
+                        return;
+                    }
+                    revalidation.revalidate();
+                } catch (Exception e) {
+                    log.warn("Cannot revalidate {} in cache {}, keeping the stale value", key, getName(), e);
+                } finally {
+                    revalidating.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Too many revalidations, {} in cache {} stays stale for now", key, getName());
+            revalidating.remove(key);
+        }
+    }
+
+    /**
+     * Replaces a stale value, see {@link #getAndRevalidate(Object, Revalidation)}.
+     */
+    @FunctionalInterface
+    public interface Revalidation {
+
+        void revalidate() throws Exception;
+    }
+
+    private static final class Entry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object value;
+
+        private final long loadedAt;
+
+        private Entry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
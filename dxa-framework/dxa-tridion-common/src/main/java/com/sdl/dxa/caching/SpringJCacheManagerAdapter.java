@@ -4,16 +4,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.jcache.JCacheCache;
 import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.core.env.Environment;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Stores a collection of Spring's {@link Cache}s.
+ * <p>A cache with a soft TTL in <code>dxa.caching.soft.ttl.&lt;cacheName&gt;</code> (seconds) is a
+ * {@link RevalidatingCache}, optionally with a hard TTL in <code>dxa.caching.hard.ttl.&lt;cacheName&gt;</code>.</p>
  */
 @Slf4j
 public class SpringJCacheManagerAdapter implements CacheManager {
@@ -24,8 +31,17 @@ public class SpringJCacheManagerAdapter implements CacheManager {
 
     private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
 
+    private final Environment environment;
+
+    private volatile Executor revalidationExecutor;
+
     public SpringJCacheManagerAdapter(@NotNull NamedCacheProvider cacheProvider) {
+        this(cacheProvider, null);
+    }
+
+    public SpringJCacheManagerAdapter(@NotNull NamedCacheProvider cacheProvider, Environment environment) {
         this.cacheProvider = cacheProvider;
+        this.environment = environment;
     }
 
     @Override
@@ -34,7 +50,7 @@ public class SpringJCacheManagerAdapter implements CacheManager {
             boolean cacheEnabled = cacheProvider.isCacheEnabled(name);
             log.info("Cache [{}] is {}", name, cacheEnabled ? "enabled" : "disabled");
             Cache cache = cacheEnabled
-                    ? new JCacheCache(cacheProvider.getCache(name))
+                    ? revalidating(new MeteredJCacheCache(cacheProvider.getCache(name), cacheProvider.getCachePolicy(name)))
                     : noOpCacheManager.getCache(name);
             caches.putIfAbsent(name, cache);
         }
@@ -43,6 +59,60 @@ public class SpringJCacheManagerAdapter implements CacheManager {
         return cache;
     }
 
+    private Cache revalidating(Cache cache) {
+        long softTtl;
+        try {
+            softTtl = getSeconds("dxa.caching.soft.ttl." + cache.getName());
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring the soft TTL of cache [{}]: {}", cache.getName(), e.getMessage());
+            return cache;
+        }
+        if (softTtl <= 0) {
+            return cache;
+        }
+        try {
+            long hardTtl = getSeconds("dxa.caching.hard.ttl." + cache.getName());
+            Cache revalidating = new RevalidatingCache(cache, TimeUnit.SECONDS.toMillis(softTtl),
+                    TimeUnit.SECONDS.toMillis(hardTtl), Clock.systemUTC(), getRevalidationExecutor());
+            log.info("Cache [{}] serves stale values after {} s while revalidating them", cache.getName(), softTtl);
+            return revalidating;
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring the soft TTL of cache [{}]: {}", cache.getName(), e.getMessage());
+            return cache;
+        }
+    }
+
+    private long getSeconds(String property) {
+        String seconds = environment == null ? null : environment.getProperty(property);
+        if (seconds == null || seconds.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(seconds.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(property + " must be a number of seconds, but is '" + seconds + "'", e);
+        }
+    }
+
+    private Executor getRevalidationExecutor() {
+        if (revalidationExecutor == null) {
+            synchronized (this) {
+                if (revalidationExecutor == null) {
+                    // revalidations beyond the queue are rejected and retried on a later read
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(4, 4, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(1000), runnable -> {
+                        Thread thread = new Thread(runnable, "dxa-cache-revalidation");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.allowCoreThreadTimeOut(true);
+                    revalidationExecutor = executor;
+                }
+            }
+        }
+        return revalidationExecutor;
+    }
+
     @Override
     public Collection<String> getCacheNames() {
         return new ArrayList<>(caches.keySet());
@@ -14,6 +14,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -33,6 +34,9 @@ public class TridionCacheConfiguration extends CachingConfigurerSupport {
     @Qualifier("compositeCacheManager")
     CacheManager compositeCacheManager;
 
+    @Autowired
+    private Environment environment;
+
     @Autowired
     public TridionCacheConfiguration(LocalizationAwareKeyGenerator localizationAwareKeyGenerator,
                                      NamedCacheProvider defaultCacheProvider) {
@@ -44,7 +48,7 @@ public class TridionCacheConfiguration extends CachingConfigurerSupport {
     @Override
     public CacheManager cacheManager() {
         CompositeCacheManager compositeCacheManager = new CompositeCacheManager(
-                new SpringJCacheManagerAdapter(defaultCacheProvider));
+                new SpringJCacheManagerAdapter(defaultCacheProvider, environment));
         compositeCacheManager.setFallbackToNoOpCache(true);
         return compositeCacheManager;
     }
@@ -0,0 +1,156 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transport which posts invalidations as JSON to the other nodes of the cluster, listed by their base URLs.
+ * Every node receives them at {@link #PATH} and hands them to {@link #receive(String, String)}.
+ * <p>Requests carry a shared secret in the {@link #SECRET_HEADER} header, and requests without it are rejected, so
+ * a secret is required. The list of peers may include the node itself, so that all nodes can share a configuration.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class HttpPeerTransport implements InvalidationTransport {
+
+    /**
+     * Path at which nodes receive invalidations.
+     */
+    public static final String PATH = "/admin/invalidate";
+
+    /**
+     * Request header with the shared secret.
+     */
+    public static final String SECRET_HEADER = "X-DXA-Invalidation-Secret";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<URL> peers;
+
+    private final byte[] secret;
+
+    private final int timeoutMillis;
+
+    private volatile Consumer<Invalidation> receiver;
+
+    /**
+     * @param peers         base URLs of the nodes, such as <code>http://node-2:8080</code>
+     * @param secret        secret shared by the nodes
+     * @param timeoutMillis connect and read timeout of a request
+     * @throws IllegalArgumentException if a URL is invalid or the secret is empty
+     */
+    public HttpPeerTransport(@NotNull Collection<String> peers, @Nullable String secret, int timeoutMillis) {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("Invalidations over HTTP need a shared secret");
+        }
+        List<URL> urls = new ArrayList<>();
+        for (String peer : peers) {
+            String baseUrl = peer.trim();
+            if (baseUrl.isEmpty()) {
+                continue;
+            }
+            try {
+                urls.add(new URL((baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl) + PATH));
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("Invalid URL of peer " + baseUrl, e);
+            }
+        }
+        this.peers = Collections.unmodifiableList(urls);
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void start(@NotNull Consumer<Invalidation> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void send(@NotNull Invalidation invalidation) throws IOException {
+        byte[] body = MAPPER.writeValueAsBytes(invalidation);
+        List<String> failed = new ArrayList<>();
+        for (URL peer : peers) {
+            try {
+                post(peer, body);
+            } catch (IOException e) {
+                log.debug("Cannot send invalidation {} to {}", invalidation.getId(), peer, e);
+                failed.add(peer + " (" + e.getMessage() + ")");
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new IOException("Cannot send invalidation " + invalidation.getId() + " to " + failed);
+        }
+    }
+
+    /**
+     * Receives an invalidation posted by another node.
+     *
+     * @param secret value of the {@link #SECRET_HEADER} header
+     * @param body   body of the request
+     * @return whether the invalidation was accepted, {@code false} if the secret is wrong or the transport is closed
+     * @throws IOException if the body is not an invalidation
+     */
+    public boolean receive(@Nullable String secret, @NotNull String body) throws IOException {
+        if (secret == null || !MessageDigest.isEqual(this.secret, secret.getBytes(StandardCharsets.UTF_8))) {
+            return false;
+        }
+        Consumer<Invalidation> current = receiver;
+        if (current == null) {
+            return false;
+        }
+        current.accept(MAPPER.readValue(body, Invalidation.class));
+        return true;
+    }
+
+    @Override
+    public void close() {
+        receiver = null;
+    }
+
+    @NotNull
+    public List<URL> getPeers() {
+        return peers;
+    }
+
+    @Override
+    public String toString() {
+        return "http:" + peers;
+    }
+
+    private void post(URL peer, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) peer.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8));
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+            int status = connection.getResponseCode();
+            if (status / 100 != 2) {
+                throw new IOException("HTTP status " + status);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
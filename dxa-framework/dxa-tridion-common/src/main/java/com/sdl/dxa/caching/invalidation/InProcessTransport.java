@@ -0,0 +1,72 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Transport between nodes which run in the same JVM, for example several application contexts in a test. The nodes
+ * share a {@link Network}, and every invalidation sent on it is delivered to all of them.
+ *
+ * @dxa.publicApi
+ */
+public class InProcessTransport implements InvalidationTransport {
+
+    private final Network network;
+
+    private volatile Consumer<Invalidation> receiver;
+
+    /**
+     * @param network network shared by the nodes
+     */
+    public InProcessTransport(@NotNull Network network) {
+        this.network = network;
+    }
+
+    @Override
+    public void start(@NotNull Consumer<Invalidation> receiver) {
+        this.receiver = receiver;
+        network.members.add(this);
+    }
+
+    @Override
+    public void send(@NotNull Invalidation invalidation) throws IOException {
+        for (InProcessTransport member : network.members) {
+            member.deliver(invalidation);
+        }
+    }
+
+    @Override
+    public void close() {
+        network.members.remove(this);
+        receiver = null;
+    }
+
+    /**
+     * Delivers an invalidation to this node.
+     *
+     * @param invalidation received invalidation
+     */
+    protected void deliver(@NotNull Invalidation invalidation) {
+        Consumer<Invalidation> current = receiver;
+        if (current != null) {
+            current.accept(invalidation);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "in-process";
+    }
+
+    /**
+     * Nodes which receive the invalidations sent by each other.
+     */
+    public static final class Network {
+
+        private final List<InProcessTransport> members = new CopyOnWriteArrayList<>();
+    }
+}
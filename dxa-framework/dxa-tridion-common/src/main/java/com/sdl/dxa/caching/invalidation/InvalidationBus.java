@@ -0,0 +1,210 @@
+package com.sdl.dxa.caching.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts cache invalidations to the other nodes of a cluster, so that they discard data which has changed instead
+ * of serving it until it expires.
+ * <p>{@link #publish(Invalidation)} sends an invalidation in the background, sending it again with exponential
+ * backoff until the {@link InvalidationTransport transport} accepts it or the attempts run out. Delivery is therefore
+ * at least once: a node drops the invalidations it has already received, as well as its own ones, and hands every
+ * other invalidation once to all {@link InvalidationListener} beans.</p>
+ * <p>The transport is set with <code>dxa.caching.invalidation.transport</code>: <code>loopback</code> for a single
+ * node, <code>http</code> for the nodes listed in <code>dxa.caching.invalidation.peers</code>, or the class name of a
+ * transport with a constructor without arguments. If only peers are set, HTTP is used. If the configured transport
+ * cannot be created, for example because the secret is missing, the application does not start.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+@Component
+public class InvalidationBus implements AutoCloseable {
+
+    private static final int REMEMBERED_INVALIDATIONS = 10000;
+
+    private static final int HTTP_TIMEOUT_MILLIS = 5000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final InvalidationTransport transport;
+
+    private final int maxAttempts;
+
+    private final long retryDelayMillis;
+
+    private final ScheduledExecutorService sender = newSender();
+
+    private final Set<String> received = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > REMEMBERED_INVALIDATIONS;
+        }
+    });
+
+    private List<InvalidationListener> listeners = Collections.emptyList();
+
+    private volatile boolean closed;
+
+    @Autowired
+    public InvalidationBus(@Value("${dxa.caching.invalidation.transport:}") String transport,
+                           @Value("${dxa.caching.invalidation.peers:}") String peers,
+                           @Value("${dxa.caching.invalidation.secret:}") String secret,
+                           @Value("${dxa.caching.invalidation.attempts:5}") int maxAttempts,
+                           @Value("${dxa.caching.invalidation.retry.delay:1000}") long retryDelayMillis) {
+        this(createTransport(transport, peers, secret), maxAttempts, retryDelayMillis);
+    }
+
+    /**
+     * @param transport        transport to the other nodes
+     * @param maxAttempts      how many times an invalidation is sent before it is given up
+     * @param retryDelayMillis delay before the second attempt, doubled for every further attempt
+     */
+    public InvalidationBus(@NotNull InvalidationTransport transport, int maxAttempts, long retryDelayMillis) {
+        if (maxAttempts < 1 || retryDelayMillis < 0) {
+            throw new IllegalArgumentException("Invalidations need at least one attempt and a retry delay which is " +
+                    "not negative, but have " + maxAttempts + " attempts and " + retryDelayMillis + " ms delay");
+        }
+        this.transport = transport;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    @NotNull
+    private static InvalidationTransport createTransport(String transport, String peers, String secret) {
+        String name = transport.trim().isEmpty() ? (peers.trim().isEmpty() ? "loopback" : "http") : transport.trim();
+        try {
+            switch (name) {
+                case "loopback":
+                    return new LoopbackTransport();
+                case "http":
+                    return new HttpPeerTransport(Arrays.asList(peers.split("[,\\s]+")), secret, HTTP_TIMEOUT_MILLIS);
+                default:
+                    return Class.forName(name).asSubclass(InvalidationTransport.class).getDeclaredConstructor().newInstance();
+            }
+        } catch (IllegalArgumentException | ClassCastException | ReflectiveOperationException e) {
+            // a node which silently keeps its invalidations to itself would serve stale data in the cluster
+            throw new IllegalArgumentException("Cannot create invalidation transport '" + name + "': " + e.getMessage(), e);
+        }
+    }
+
+    private static ScheduledExecutorService newSender() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "dxa-cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return executor;
+    }
+
+    @Autowired(required = false)
+    public void setListeners(List<InvalidationListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(this::receive);
+        log.info("Node {} exchanges cache invalidations over {}", nodeId, transport);
+    }
+
+    /**
+     * Sends an invalidation to the other nodes. It is not applied on this node, the caller has done that already.
+     *
+     * @param invalidation invalidation to send
+     */
+    public void publish(@NotNull Invalidation invalidation) {
+        Invalidation sent = invalidation.from(nodeId);
+        remember(sent);
+        log.debug("Publishing {}", sent);
+        schedule(sent, 1, 0);
+    }
+
+    @NotNull
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @NotNull
+    public InvalidationTransport getTransport() {
+        return transport;
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        transport.close();
+        int unsent = sender.shutdownNow().size();
+        if (unsent > 0) {
+            log.warn("{} cache invalidations are not sent because the application is stopping", unsent);
+        }
+    }
+
+    private void schedule(Invalidation invalidation, int attempt, long delayMillis) {
+        try {
+            sender.schedule(() -> send(invalidation, attempt), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Invalidation bus is closed, {} is not sent", invalidation);
+        }
+    }
+
+    private void send(Invalidation invalidation, int attempt) {
+        try {
+            transport.send(invalidation);
+        } catch (IOException | RuntimeException e) {
+            if (attempt >= maxAttempts) {
+                log.error("Cannot send {} after {} attempts, other nodes keep the data until it expires",
+                        invalidation, attempt, e);
+                return;
+            }
+            long delayMillis = retryDelayMillis << Math.min(attempt - 1, 16);
+            log.warn("Cannot send {}, attempt {} of {}, retrying in {} ms: {}",
+                    invalidation, attempt, maxAttempts, delayMillis, e.getMessage());
+            schedule(invalidation, attempt + 1, delayMillis);
+        }
+    }
+
+    private void receive(Invalidation invalidation) {
+        if (nodeId.equals(invalidation.getOrigin()) || !remember(invalidation)) {
+            log.trace("Ignoring {}, it is from this node or already received", invalidation);
+            return;
+        }
+        log.debug("Received {}", invalidation);
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Listener {} cannot apply {}", listener, invalidation, e);
+            }
+        }
+    }
+
+    private boolean remember(Invalidation invalidation) {
+        synchronized (received) {
+            return received.add(invalidation.getId());
+        }
+    }
+}
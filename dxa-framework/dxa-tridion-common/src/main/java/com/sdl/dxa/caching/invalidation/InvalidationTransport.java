@@ -0,0 +1,39 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidations between the nodes of a cluster for the {@link InvalidationBus}.
+ * <p>A transport does not need to be reliable: the bus sends again what could not be sent, and drops what it has
+ * already received. It may also deliver an invalidation back to its sender, which the bus ignores.</p>
+ *
+ * @dxa.publicApi
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    /**
+     * Starts receiving invalidations from the other nodes.
+     *
+     * @param receiver called for every received invalidation
+     */
+    void start(@NotNull Consumer<Invalidation> receiver);
+
+    /**
+     * Sends an invalidation to the other nodes.
+     *
+     * @param invalidation invalidation to send
+     * @throws IOException if it could not be sent to all nodes, then it is sent again later
+     */
+    void send(@NotNull Invalidation invalidation) throws IOException;
+
+    /**
+     * Stops receiving invalidations.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
+}
@@ -0,0 +1,39 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport of a single node, which delivers every invalidation back to its sender. This is the default when no
+ * other nodes are configured; the bus ignores its own invalidations, so nothing is applied twice.
+ *
+ * @dxa.publicApi
+ */
+public class LoopbackTransport implements InvalidationTransport {
+
+    private volatile Consumer<Invalidation> receiver;
+
+    @Override
+    public void start(@NotNull Consumer<Invalidation> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void send(@NotNull Invalidation invalidation) {
+        Consumer<Invalidation> current = receiver;
+        if (current != null) {
+            current.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void close() {
+        receiver = null;
+    }
+
+    @Override
+    public String toString() {
+        return "loopback";
+    }
+}
@@ -1,8 +1,7 @@
 package com.sdl.dxa.tridion.pcaclient;
 
-import com.sdl.odata.client.api.exception.ODataClientRuntimeException;
-import com.sdl.web.client.configuration.api.ConfigurationException;
-import com.sdl.web.client.impl.OAuthTokenProvider;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManager;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManagerHolder;
 import com.sdl.web.pca.client.auth.Authentication;
 import org.apache.http.HttpRequest;
 import org.slf4j.Logger;
@@ -18,33 +17,21 @@ import static com.sdl.dxa.tridion.common.ConfigurationConstants.AUTHORIZATION_HE
 public class ApiClientAuthentication implements Authentication {
     private static final Logger LOG = LoggerFactory.getLogger(ApiClientAuthentication.class);
 
-    private OAuthTokenProvider tokenProvider;
-
-    ApiClientAuthentication() {
-    }
+    private final OAuthTokenManager tokenManager;
 
     @Autowired
-    public ApiClientAuthentication(GraphQlServiceConfigurationLoader configurationLoader) {
-        try {
-            tokenProvider = new OAuthTokenProvider(configurationLoader.getOauthTokenProviderConfiguration());
-        } catch (ConfigurationException e) {
-            LOG.warn("Unable to read configuration for token provider.", e);
-        } catch (ODataClientRuntimeException e) {
-            LOG.warn("Unable to initialize Token Provider.", e);
-        }
+    public ApiClientAuthentication(OAuthTokenManagerHolder tokenManagerHolder,
+                                   GraphQlServiceConfigurationLoader configurationLoader) {
+        tokenManager = tokenManagerHolder.getTokenManager(configurationLoader);
     }
 
     @Override
     public void applyManualAuthentication(HttpRequest request) {
-        if (tokenProvider != null) {
+        if (tokenManager != null) {
             LOG.debug("Request is secured, adding security token");
-            request.addHeader(AUTHORIZATION_HEADER, "Bearer " + tokenProvider.getToken());
+            request.addHeader(AUTHORIZATION_HEADER, "Bearer " + tokenManager.getToken());
         } else {
             LOG.trace("Request is not secured. Token provider is not available.");
         }
     }
-
-    void setTokenProvider(OAuthTokenProvider tokenProvider) {
-        this.tokenProvider = tokenProvider;
-    }
 }
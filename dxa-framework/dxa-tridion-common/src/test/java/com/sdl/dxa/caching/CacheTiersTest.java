@@ -0,0 +1,78 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CacheTiersTest {
+
+    @Test
+    public void shouldParseAllTiers() {
+        //when
+        CacheTiers tiers = CacheTiers.parse(" heap:1000, OFFHEAP:256MB ,disk:2gb");
+
+        //then
+        assertFalse(tiers.isHeapOnly());
+        assertTrue(tiers.hasDisk());
+    }
+
+    @Test
+    public void shouldParseHeapOnly_InEntriesAndMemory() {
+        //when
+        CacheTiers entries = CacheTiers.parse("heap:10000");
+        CacheTiers memory = CacheTiers.parse("heap:64MB");
+
+        //then
+        assertTrue(entries.isHeapOnly());
+        assertTrue(memory.isHeapOnly());
+        assertFalse(memory.hasDisk());
+    }
+
+    @Test
+    public void shouldParsePersistentDisk() {
+        //when
+        CacheTiers tiers = CacheTiers.parse("heap:1000, disk:256MB:persistent");
+
+        //then
+        assertTrue(tiers.hasDisk());
+        assertFalse(tiers.isHeapOnly());
+    }
+
+    @Test
+    public void shouldRemoveDiskTier() {
+        //given
+        CacheTiers tiers = CacheTiers.parse("heap:1000, offheap:16MB, disk:1GB");
+        CacheTiers heapAndDisk = CacheTiers.parse("heap:1000, disk:1GB");
+
+        //when
+        CacheTiers withoutDisk = tiers.withoutDisk();
+
+        //then
+        assertFalse(withoutDisk.hasDisk());
+        assertFalse(withoutDisk.isHeapOnly());
+        assertTrue(heapAndDisk.withoutDisk().isHeapOnly());
+    }
+
+    @Test
+    public void shouldRejectInvalidTiers() {
+        shouldReject("offheap:256MB");
+        shouldReject("heap:1000, heap:2000");
+        shouldReject("heap:1000, offheap:256");
+        shouldReject("heap:1000, offheap:256TB");
+        shouldReject("heap:1000, cloud:1GB");
+        shouldReject("heap:64MB, offheap:16MB");
+        shouldReject("heap:1000, offheap:16MB:persistent");
+        shouldReject("");
+    }
+
+    private static void shouldReject(String specification) {
+        try {
+            CacheTiers.parse(specification);
+            fail("Tiers '" + specification + "' should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import org.ehcache.spi.serialization.SerializerException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DxaCacheSerializerTest {
+
+    private final DxaCacheSerializer serializer = new DxaCacheSerializer();
+
+    @Test
+    public void shouldRoundTripDataModel_AsR2Json() throws Exception {
+        //given
+        PageModelData page = new PageModelData()
+                .setId("42")
+                .setTitle("Page")
+                .setRegions(Collections.singletonList(new RegionModelData("Main", null,
+                        Collections.singletonList(new EntityModelData().setId("1")), null)));
+
+        //when
+        ByteBuffer binary = serializer.serialize(page);
+        PageModelData read = (PageModelData) serializer.read(binary);
+
+        //then
+        assertEquals('D', binary.get(0));
+        assertEquals("42", read.getId());
+        assertEquals("Page", read.getTitle());
+        assertEquals("1", read.getRegions().get(0).getEntities().get(0).getId());
+    }
+
+    @Test
+    public void shouldRoundTripSerializableValues() throws Exception {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("1", "key");
+
+        //when
+        Object read = serializer.read(serializer.serialize(Arrays.asList("a", "b")));
+
+        //then
+        assertEquals(Arrays.asList("a", "b"), read);
+        assertTrue(serializer.equals(key, serializer.serialize(key)));
+    }
+
+    @Test(expected = SerializerException.class)
+    public void shouldRejectViewModels() {
+        //when
+        serializer.serialize(new DefaultPageModel());
+    }
+}
@@ -0,0 +1,303 @@
+package com.sdl.dxa.caching;
+
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.webapp.common.api.localization.Localization;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PersistentModelStoreTest {
+
+    private static final String KEY = "pagemodel [/index] 42 noclaims";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+
+    private Localization localization;
+
+    private Instant now = Instant.parse("2020-01-01T12:00:00Z");
+
+    private PersistentModelStore store;
+
+    @Before
+    public void init() {
+        directory = folder.getRoot().toPath();
+        localization = localization("42", "v1.0");
+        store = newStore();
+    }
+
+    @After
+    public void close() {
+        store.close();
+    }
+
+    @Test
+    public void shouldReadEntries_AfterRestart() {
+        //given
+        store.put(localization, KEY, page("Home"));
+        store.close();
+
+        //when
+        store = newStore();
+        PageModelData page = store.get(localization, KEY, PageModelData.class);
+
+        //then
+        assertNotNull(page);
+        assertEquals("Home", page.getTitle());
+        assertNull(store.get(localization, "pagemodel [/other] 42 noclaims", PageModelData.class));
+        assertNull("wrong type", store.get(localization, KEY, String.class));
+    }
+
+    @Test
+    public void shouldDiscardEntries_OfAnotherLocalizationVersion() throws IOException {
+        //given
+        store.put(localization, KEY, page("Home"));
+        store.close();
+
+        //when
+        store = newStore();
+        PageModelData page = store.get(localization("42", "v2.0"), KEY, PageModelData.class);
+
+        //then
+        assertNull(page);
+        assertTrue("discarded entries are deleted", entries().isEmpty());
+    }
+
+    @Test
+    public void shouldDiscardExpiredEntries() {
+        //given
+        store.put(localization, KEY, page("Home"));
+
+        //when
+        now = now.plusSeconds(299);
+        PageModelData fresh = store.get(localization, KEY, PageModelData.class);
+        now = now.plusSeconds(1);
+        PageModelData expired = store.get(localization, KEY, PageModelData.class);
+
+        //then
+        assertNotNull(fresh);
+        assertNull(expired);
+    }
+
+    @Test
+    public void shouldDiscardEntriesWrittenBeforePublishing_AlsoAfterRestart() {
+        //given
+        Localization other = localization("43", "v1.0");
+        store.put(localization, KEY, page("Home"));
+        store.put(other, KEY, page("Other"));
+        now = now.plusSeconds(1);
+
+        //when
+        store.invalidate("42");
+        store.close();
+        store = newStore();
+        now = now.plusSeconds(1);
+        PageModelData beforePublish = store.get(localization, KEY, PageModelData.class);
+        store.put(localization, KEY, page("Republished"));
+        PageModelData afterPublish = store.get(localization, KEY, PageModelData.class);
+
+        //then
+        assertNull(beforePublish);
+        assertNotNull(afterPublish);
+        assertEquals("Republished", afterPublish.getTitle());
+        assertEquals("Other", store.get(other, KEY, PageModelData.class).getTitle());
+    }
+
+    @Test
+    public void shouldRecoverFromPartialAndCorruptWrites() throws IOException {
+        //given
+        store.put(localization, KEY, page("Home"));
+        store.put(localization, "entitymodel [[1-2]] 42 noclaims", page("Entity"));
+        store.close();
+        List<Path> entries = entries();
+        assertEquals(2, entries.size());
+        byte[] content = Files.readAllBytes(entries.get(0));
+        // a write interrupted before the move and an entry truncated by the file system
+        Path temporary = entries.get(0).resolveSibling(entries.get(0).getFileName() + ".1a2b.tmp");
+        Files.write(temporary, content);
+        Files.write(entries.get(0), Arrays.copyOf(content, content.length / 2));
+        // an entry with a flipped bit
+        byte[] flipped = Files.readAllBytes(entries.get(1));
+        flipped[flipped.length / 2] ^= 1;
+        Files.write(entries.get(1), flipped);
+
+        //when
+        store = newStore();
+        PageModelData first = store.get(localization, KEY, PageModelData.class);
+        PageModelData second = store.get(localization, "entitymodel [[1-2]] 42 noclaims", PageModelData.class);
+
+        //then
+        assertNull(first);
+        assertNull(second);
+        assertTrue(entries().isEmpty());
+        assertFalse("temporary files are deleted on startup", Files.exists(temporary));
+        store.put(localization, KEY, page("Home"));
+        assertEquals("Home", store.get(localization, KEY, PageModelData.class).getTitle());
+    }
+
+    @Test
+    public void shouldSweepExpiredAndInvalidatedEntries_WhichAreNotReadAgain() throws IOException {
+        //given
+        Localization other = localization("43", "v1.0");
+        store.put(localization, KEY, page("Home"));
+        store.put(other, "pagemodel [/old] 43 noclaims", page("Old"));
+        now = now.plusSeconds(200);
+        store.put(other, "pagemodel [/new] 43 noclaims", page("New"));
+        store.invalidate("42");
+        now = now.plusSeconds(100);
+
+        //when
+        store.sweep();
+
+        //then
+        assertEquals(1, entries().size());
+        assertEquals("New", store.get(other, "pagemodel [/new] 43 noclaims", PageModelData.class).getTitle());
+    }
+
+    @Test
+    public void shouldEvictOldestEntries_IfStoreIsTooLarge() throws IOException {
+        //given
+        store.put(localization, "pagemodel [/page-1] 42 noclaims", page("Home"));
+        long entrySize = Files.size(entries().get(0));
+        store.close();
+        store = newStore(entrySize * 5 / 2);
+        now = now.plusSeconds(1);
+        store.put(localization, "pagemodel [/page-2] 42 noclaims", page("Home"));
+
+        //when
+        now = now.plusSeconds(1);
+        store.put(localization, "pagemodel [/page-3] 42 noclaims", page("Home"));
+
+        //then
+        assertEquals(2, entries().size());
+        assertNull(store.get(localization, "pagemodel [/page-1] 42 noclaims", PageModelData.class));
+        assertNotNull(store.get(localization, "pagemodel [/page-2] 42 noclaims", PageModelData.class));
+        assertNotNull(store.get(localization, "pagemodel [/page-3] 42 noclaims", PageModelData.class));
+    }
+
+    @Test
+    public void shouldDoNothing_IfDisabled() {
+        //given
+        PersistentModelStore disabled = new PersistentModelStore("", 300, 1024, 600);
+
+        //when
+        disabled.put(localization, KEY, page("Home"));
+        disabled.invalidate("42");
+
+        //then
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.get(localization, KEY, PageModelData.class));
+        disabled.close();
+    }
+
+    private PersistentModelStore newStore() {
+        return newStore(0);
+    }
+
+    private PersistentModelStore newStore(long maxSizeBytes) {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        return new PersistentModelStore(directory, TimeUnit.SECONDS.toMillis(300), maxSizeBytes, clock, new DirectExecutorService());
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(".entry")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static PageModelData page(String title) {
+        return new PageModelData().setId("1").setTitle(title);
+    }
+
+    private static Localization localization(String id, String version) {
+        Localization localization = mock(Localization.class);
+        when(localization.getId()).thenReturn(id);
+        when(localization.getVersion()).thenReturn(version);
+        return localization;
+    }
+
+    /**
+     * Writes on the calling thread, so that entries are on the disk when {@code put} returns.
+     */
+    private static final class DirectExecutorService extends AbstractExecutorService {
+
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            if (shutdown) {
+                throw new RejectedExecutionException();
+            }
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.sdl.dxa.caching;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RevalidatingCacheTest {
+
+    private static final long SOFT_TTL = TimeUnit.SECONDS.toMillis(60);
+
+    private static final long HARD_TTL = TimeUnit.SECONDS.toMillis(300);
+
+    private Instant now = Instant.parse("2020-01-01T12:00:00Z");
+
+    private final Queue<Runnable> background = new ArrayDeque<>();
+
+    private ExecutorService threads;
+
+    private RevalidatingCache cache;
+
+    @Before
+    public void init() {
+        cache = new RevalidatingCache(new ConcurrentMapCache("pageModels"), SOFT_TTL, HARD_TTL, clock(), background::add);
+    }
+
+    @After
+    public void shutdown() {
+        if (threads != null) {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldServeFreshValues_WithoutLoading() {
+        //given
+        SlowLoader loader = new SlowLoader(0);
+        cache.put("key", "v0");
+
+        //when
+        now = now.plusSeconds(59);
+        String value = cache.get("key", loader);
+
+        //then
+        assertEquals("v0", value);
+        assertEquals(0, loader.calls.get());
+        assertTrue(background.isEmpty());
+    }
+
+    @Test
+    public void shouldServeStaleValue_AndRevalidateOnceInBackground() {
+        //given
+        SlowLoader loader = new SlowLoader(0);
+        cache.put("key", "v0");
+        now = now.plusSeconds(60);
+
+        //when
+        String first = cache.get("key", loader);
+        String second = cache.get("key", loader);
+        int scheduled = background.size();
+        runBackground();
+        String revalidated = cache.get("key", loader);
+
+        //then
+        assertEquals("v0", first);
+        assertEquals("v0", second);
+        assertEquals("one revalidation per key", 1, scheduled);
+        assertEquals(1, loader.calls.get());
+        assertEquals("v1", revalidated);
+        assertTrue("the revalidated value is fresh", background.isEmpty());
+    }
+
+    @Test
+    public void shouldNotWaitForSlowRevalidation() throws Exception {
+        //given
+        threads = Executors.newSingleThreadExecutor();
+        cache = new RevalidatingCache(new ConcurrentMapCache("pageModels"), SOFT_TTL, HARD_TTL, clock(), threads);
+        SlowLoader loader = new SlowLoader(TimeUnit.SECONDS.toMillis(2));
+        cache.put("key", "v0");
+        now = now.plusSeconds(61);
+
+        //when
+        long start = System.nanoTime();
+        String stale = cache.get("key", loader);
+        for (int i = 0; i < 100; i++) {
+            cache.get("key", loader);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        loader.started.await(1, TimeUnit.SECONDS);
+
+        //then
+        assertEquals("v0", stale);
+        assertTrue("readers took " + elapsed + " ms", elapsed < 1000);
+        assertEquals(1, loader.calls.get());
+    }
+
+    @Test
+    public void shouldTreatStaleValues_AsMissing_ForPlainLookups() {
+        //given
+        cache.put("key", "v0");
+
+        //when
+        now = now.plusSeconds(60);
+
+        //then
+        assertNull(cache.get("key"));
+        assertNull(cache.get("key", String.class));
+        assertEquals("v0", cache.getAndRevalidate("key", () -> {
+        }).get());
+    }
+
+    @Test
+    public void shouldRemoveValues_AfterHardTtl() {
+        //given
+        SlowLoader loader = new SlowLoader(0);
+        cache.put("key", "v0");
+
+        //when
+        now = now.plusSeconds(300);
+        Cache.ValueWrapper expired = cache.getAndRevalidate("key", () -> cache.put("key", "unexpected"));
+        String loaded = cache.get("key", loader);
+
+        //then
+        assertNull(expired);
+        assertEquals("loaded synchronously", "v1", loaded);
+        assertTrue(background.isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveValues_OnInvalidation() {
+        //given
+        SlowLoader loader = new SlowLoader(0);
+        cache.put("key", "v0");
+        cache.put("other", "v0");
+
+        //when
+        cache.evict("key");
+        String evicted = cache.get("key", loader);
+        cache.clear();
+
+        //then
+        assertEquals("v1", evicted);
+        assertNull(cache.get("key"));
+        assertNull(cache.get("other"));
+    }
+
+    @Test
+    public void shouldKeepStaleValue_IfRevalidationFails() {
+        //given
+        cache.put("key", "v0");
+        now = now.plusSeconds(60);
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        cache.getAndRevalidate("key", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("backend is down");
+        });
+        runBackground();
+        Cache.ValueWrapper stale = cache.getAndRevalidate("key", () -> cache.put("key", "v1"));
+        runBackground();
+
+        //then
+        assertEquals(1, attempts.get());
+        assertEquals("v0", stale.get());
+        assertEquals("retried on the next read", "v1", cache.get("key").get());
+    }
+
+    @Test
+    public void shouldSkipRevalidation_IfValueIsReplacedBeforeItRuns() {
+        //given
+        cache.put("key", "v0");
+        now = now.plusSeconds(60);
+        AtomicInteger revalidations = new AtomicInteger();
+
+        //when
+        Cache.ValueWrapper stale = cache.getAndRevalidate("key", () -> {
+            revalidations.incrementAndGet();
+            cache.put("key", "unexpected");
+        });
+        now = now.plusSeconds(1);
+        cache.put("key", "v1");
+        runBackground();
+
+        //then
+        assertEquals("v0", stale.get());
+        assertEquals(0, revalidations.get());
+        assertEquals("v1", cache.get("key").get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireSoftTtl_NotLongerThanHardTtl() {
+        new RevalidatingCache(new ConcurrentMapCache("pageModels"), HARD_TTL, SOFT_TTL, clock(), background::add);
+    }
+
+    private void runBackground() {
+        Runnable task;
+        while ((task = background.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+    }
+
+    /**
+     * Stands in for a backend which takes a while to answer; every call returns the next version of the value.
+     */
+    private static final class SlowLoader implements Callable<String> {
+
+        private final long latencyMillis;
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private SlowLoader(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public String call() throws InterruptedException {
+            int call = calls.incrementAndGet();
+            started.countDown();
+            Thread.sleep(latencyMillis);
+            return "v" + call;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HttpPeerTransportTest {
+
+    private static final String SECRET = "s3cret";
+
+    private final List<Invalidation> received = new CopyOnWriteArrayList<>();
+
+    private HttpServer peer;
+
+    private HttpPeerTransport receiving;
+
+    @Before
+    public void startPeer() throws IOException {
+        receiving = new HttpPeerTransport(Collections.emptyList(), SECRET, 1000);
+        receiving.start(received::add);
+        peer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // stands in for AdminController of the other node
+        peer.createContext(HttpPeerTransport.PATH, exchange -> {
+            String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            boolean accepted = receiving.receive(exchange.getRequestHeaders().getFirst(HttpPeerTransport.SECRET_HEADER), body);
+            exchange.sendResponseHeaders(accepted ? 204 : 403, -1);
+            exchange.close();
+        });
+        peer.start();
+    }
+
+    @After
+    public void stopPeer() {
+        peer.stop(0);
+    }
+
+    @Test
+    public void shouldPostInvalidation_ToPeers() throws IOException {
+        //given
+        HttpPeerTransport sending = new HttpPeerTransport(Collections.singletonList(peerUrl() + "/"), SECRET, 1000);
+        Invalidation invalidation = Invalidation.ofCache("pageModels").from("node-1");
+
+        //when
+        sending.send(invalidation);
+
+        //then
+        assertEquals(1, received.size());
+        Invalidation delivered = received.get(0);
+        assertEquals(invalidation, delivered);
+        assertEquals("node-1", delivered.getOrigin());
+        assertEquals("pageModels", delivered.getCacheName());
+        assertTrue(delivered.isCache());
+        assertEquals(invalidation.getCreatedAt(), delivered.getCreatedAt());
+    }
+
+    @Test
+    public void shouldFail_IfAnyPeerIsUnreachable_AfterSendingToTheOthers() throws IOException {
+        //given
+        HttpServer stopped = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        String stoppedUrl = "http://127.0.0.1:" + stopped.getAddress().getPort();
+        stopped.stop(0);
+        HttpPeerTransport sending = new HttpPeerTransport(Arrays.asList(stoppedUrl, peerUrl()), SECRET, 1000);
+
+        //when
+        try {
+            sending.send(Invalidation.ofLocalization("42").from("node-1"));
+            fail("one peer is down");
+        } catch (IOException e) {
+            //then
+            assertTrue(e.getMessage(), e.getMessage().contains(stoppedUrl));
+        }
+        assertEquals(1, received.size());
+        assertEquals("42", received.get(0).getLocalizationId());
+    }
+
+    @Test
+    public void shouldReject_WrongSecret() throws IOException {
+        //given
+        HttpPeerTransport sending = new HttpPeerTransport(Collections.singletonList(peerUrl()), "guessed", 1000);
+
+        //when
+        try {
+            sending.send(Invalidation.ofCache("pageModels").from("node-1"));
+            fail("the peer denies the request");
+        } catch (IOException e) {
+            //then
+            assertTrue(e.getMessage(), e.getMessage().contains("403"));
+        }
+        assertFalse(receiving.receive(null, "{}"));
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void shouldClearCache_IfInvalidationCarriesUnknownFields() throws IOException {
+        //when
+        boolean accepted = receiving.receive(SECRET, "{\"id\":\"1\",\"origin\":\"node-1\",\"cacheName\":\"pageModels\"," +
+                "\"key\":\"pagemodel [/index] 5 noclaims\",\"createdAt\":0}");
+
+        //then
+        assertTrue(accepted);
+        assertEquals(1, received.size());
+        assertTrue(received.get(0).isCache());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireSecret() {
+        new HttpPeerTransport(Collections.singletonList(peerUrl()), "", 1000);
+    }
+
+    private String peerUrl() {
+        return "http://127.0.0.1:" + peer.getAddress().getPort();
+    }
+}
@@ -0,0 +1,251 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs nodes of a cluster as application contexts in one JVM, connected by an {@link InProcessTransport}.
+ * The caches and the admin service of a node receiving invalidations are tested in the web application.
+ */
+public class InvalidationBusTest {
+
+    private final List<AnnotationConfigApplicationContext> nodes = new ArrayList<>();
+
+    private InProcessTransport.Network network;
+
+    @Before
+    public void init() {
+        network = new InProcessTransport.Network();
+    }
+
+    @After
+    public void closeNodes() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    public void shouldDeliverInvalidation_ToOtherNodes() throws InterruptedException {
+        //given
+        List<AnnotationConfigApplicationContext> cluster = startNodes(3, new InProcessTransport(network));
+        RecordingListener second = listener(cluster.get(1));
+        RecordingListener third = listener(cluster.get(2));
+
+        //when
+        bus(cluster.get(0)).publish(Invalidation.ofCache("pageModels"));
+
+        //then
+        assertTrue(second.awaitInvalidations(1));
+        assertTrue(third.awaitInvalidations(1));
+        assertEquals("pageModels", second.received.get(0).getCacheName());
+        assertEquals("pageModels", third.received.get(0).getCacheName());
+        assertTrue("the publisher applies its invalidations itself", listener(cluster.get(0)).received.isEmpty());
+    }
+
+    @Test
+    public void shouldApplyInvalidationOnce_WhenTransportDeliversItTwice() throws InterruptedException {
+        //given
+        List<AnnotationConfigApplicationContext> cluster = startNodes(2, new DuplicatingTransport(network));
+        RecordingListener second = listener(cluster.get(1));
+
+        //when
+        bus(cluster.get(0)).publish(Invalidation.ofLocalization("42"));
+        bus(cluster.get(0)).publish(Invalidation.ofCache("pageModels"));
+
+        //then
+        assertTrue(second.awaitInvalidations(2));
+        Thread.sleep(100);
+        assertEquals(2, second.received.size());
+        assertEquals("42", second.received.get(0).getLocalizationId());
+        assertTrue(second.received.get(1).isCache());
+    }
+
+    @Test
+    public void shouldSendAgain_AfterTransportFailures() throws InterruptedException {
+        //given
+        FlakyTransport flaky = new FlakyTransport(network, 2);
+        List<AnnotationConfigApplicationContext> cluster = startNodes(2, flaky);
+        RecordingListener second = listener(cluster.get(1));
+
+        //when
+        bus(cluster.get(0)).publish(Invalidation.ofCache("pageModels"));
+
+        //then
+        assertTrue(second.awaitInvalidations(1));
+        assertEquals(3, flaky.attempts.get());
+        assertEquals(1, second.received.size());
+    }
+
+    @Test
+    public void shouldGiveUp_AfterMaxAttempts() throws InterruptedException {
+        //given
+        FlakyTransport broken = new FlakyTransport(network, Integer.MAX_VALUE);
+        List<AnnotationConfigApplicationContext> cluster = startNodes(2, broken);
+
+        //when
+        bus(cluster.get(0)).publish(Invalidation.ofCache("pageModels"));
+
+        //then
+        assertTrue(broken.gaveUp.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(3, broken.attempts.get());
+        assertTrue(listener(cluster.get(1)).received.isEmpty());
+    }
+
+    @Test
+    public void shouldStopReceiving_WhenNodeIsClosed() throws InterruptedException {
+        //given
+        List<AnnotationConfigApplicationContext> cluster = startNodes(3, new InProcessTransport(network));
+        RecordingListener second = listener(cluster.get(1));
+        RecordingListener third = listener(cluster.get(2));
+
+        //when
+        cluster.get(1).close();
+        bus(cluster.get(0)).publish(Invalidation.ofCache("pageModels"));
+
+        //then
+        assertTrue(third.awaitInvalidations(1));
+        Thread.sleep(100);
+        assertTrue(second.received.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotStart_IfHttpTransportHasNoSecret() {
+        new InvalidationBus("http", "http://node-1:8080, http://node-2:8080", "", 5, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotStart_IfTransportClassIsUnknown() {
+        new InvalidationBus("com.example.MissingTransport", "", "", 5, 1000);
+    }
+
+    @Test
+    public void shouldUseLoopback_IfNothingIsConfigured() {
+        //when
+        InvalidationBus bus = new InvalidationBus("", "", "", 5, 1000);
+
+        //then
+        assertTrue(bus.getTransport() instanceof LoopbackTransport);
+        bus.close();
+    }
+
+    /**
+     * Starts nodes, the first one sending over the given transport.
+     */
+    private List<AnnotationConfigApplicationContext> startNodes(int count, InProcessTransport first) {
+        List<AnnotationConfigApplicationContext> cluster = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AnnotationConfigApplicationContext node = new AnnotationConfigApplicationContext();
+            node.getBeanFactory().registerSingleton("transport", i == 0 ? first : new InProcessTransport(network));
+            node.register(NodeConfiguration.class);
+            node.refresh();
+            nodes.add(node);
+            cluster.add(node);
+        }
+        return cluster;
+    }
+
+    private static InvalidationBus bus(AnnotationConfigApplicationContext node) {
+        return node.getBean(InvalidationBus.class);
+    }
+
+    private static RecordingListener listener(AnnotationConfigApplicationContext node) {
+        return node.getBean(RecordingListener.class);
+    }
+
+    @Configuration
+    static class NodeConfiguration {
+
+        @Bean
+        public InvalidationBus invalidationBus(InProcessTransport transport) {
+            return new InvalidationBus(transport, 3, 10);
+        }
+
+        @Bean
+        public RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    /**
+     * Listener of a node, which records what other nodes invalidate.
+     */
+    static class RecordingListener implements InvalidationListener {
+
+        private final List<Invalidation> received = new CopyOnWriteArrayList<>();
+
+        private final Object lock = new Object();
+
+        @Override
+        public void onInvalidation(@NotNull Invalidation invalidation) {
+            synchronized (lock) {
+                received.add(invalidation);
+                lock.notifyAll();
+            }
+        }
+
+        boolean awaitInvalidations(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            synchronized (lock) {
+                while (received.size() < count && System.currentTimeMillis() < deadline) {
+                    lock.wait(100);
+                }
+                return received.size() >= count;
+            }
+        }
+    }
+
+    private static class DuplicatingTransport extends InProcessTransport {
+
+        DuplicatingTransport(Network network) {
+            super(network);
+        }
+
+        @Override
+        public void send(@NotNull Invalidation invalidation) throws IOException {
+            super.send(invalidation);
+            super.send(invalidation);
+        }
+    }
+
+    private static class FlakyTransport extends InProcessTransport {
+
+        private final int failures;
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private final CountDownLatch gaveUp = new CountDownLatch(1);
+
+        FlakyTransport(Network network, int failures) {
+            super(network);
+            this.failures = failures;
+        }
+
+        @Override
+        public void send(@NotNull Invalidation invalidation) throws IOException {
+            int attempt = attempts.incrementAndGet();
+            if (attempt <= failures) {
+                if (attempt == 3) {
+                    gaveUp.countDown();
+                }
+                throw new IOException("node is unreachable");
+            }
+            super.send(invalidation);
+        }
+    }
+}
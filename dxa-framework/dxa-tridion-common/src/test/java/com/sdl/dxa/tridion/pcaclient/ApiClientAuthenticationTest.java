@@ -1,36 +1,87 @@
 package com.sdl.dxa.tridion.pcaclient;
 
-import com.sdl.web.client.impl.OAuthTokenProvider;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManager;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManagerHolder;
+import com.sdl.dxa.tridion.oauth.AccessToken;
+import com.sdl.dxa.tridion.oauth.TokenSource;
 import org.apache.http.HttpRequest;
 import org.apache.http.message.BasicHttpRequest;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
-import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ApiClientAuthenticationTest {
 
     @Mock
-    private OAuthTokenProvider tokenProvider;
+    private TokenSource tokenSource;
 
-    @Spy
-    @InjectMocks
-    private ApiClientAuthentication authentication = new ApiClientAuthentication();
+    @Mock
+    private OAuthTokenManagerHolder tokenManagerHolder;
+
+    @Mock
+    private GraphQlServiceConfigurationLoader configurationLoader;
+
+    private OAuthTokenManager tokenManager;
+
+    @After
+    public void closeTokenManager() {
+        if (tokenManager != null) {
+            tokenManager.close();
+        }
+    }
 
     @Test
-    public void applyManualAuthentication() {
-        authentication.setTokenProvider(tokenProvider);
-        Mockito.when(tokenProvider.getToken()).thenReturn("12345");
+    public void applyManualAuthentication() throws Exception {
+        //given
+        tokenManager = new OAuthTokenManager(tokenSource);
+        when(tokenManagerHolder.getTokenManager(configurationLoader)).thenReturn(tokenManager);
+        when(tokenSource.fetchToken()).thenReturn(AccessToken.expiringIn("12345", 60_000));
         HttpRequest request = new BasicHttpRequest("GET", "http://service");
 
-        authentication.applyManualAuthentication(request);
+        //when
+        new ApiClientAuthentication(tokenManagerHolder, configurationLoader).applyManualAuthentication(request);
 
+        //then
         assertEquals("Bearer 12345", request.getFirstHeader("Authorization").getValue());
     }
+
+    @Test
+    public void shouldShareToken_WithOtherClientsOfHolder() throws Exception {
+        //given
+        tokenManager = new OAuthTokenManager(tokenSource);
+        when(tokenManagerHolder.getTokenManager(configurationLoader)).thenReturn(tokenManager);
+        when(tokenSource.fetchToken()).thenReturn(AccessToken.expiringIn("12345", 60_000));
+        HttpRequest request = new BasicHttpRequest("GET", "http://service");
+        HttpRequest other = new BasicHttpRequest("GET", "http://service");
+
+        //when
+        tokenManager.getToken();
+        new ApiClientAuthentication(tokenManagerHolder, configurationLoader).applyManualAuthentication(request);
+        new ApiClientAuthentication(tokenManagerHolder, configurationLoader).applyManualAuthentication(other);
+
+        //then
+        assertEquals("Bearer 12345", other.getFirstHeader("Authorization").getValue());
+        verify(tokenSource, times(1)).fetchToken();
+    }
+
+    @Test
+    public void shouldNotAuthenticate_IfNotSecured() {
+        //given
+        HttpRequest request = new BasicHttpRequest("GET", "http://service");
+
+        //when
+        new ApiClientAuthentication(tokenManagerHolder, configurationLoader).applyManualAuthentication(request);
+
+        //then
+        assertNull(request.getFirstHeader("Authorization"));
+    }
 }
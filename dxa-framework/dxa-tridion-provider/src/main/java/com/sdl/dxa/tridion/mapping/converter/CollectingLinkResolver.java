@@ -0,0 +1,122 @@
+package com.sdl.dxa.tridion.mapping.converter;
+
+import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.model.entity.Link;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects links found while mapping a view model and resolves them later in one go.
+ * <p>Converters {@link #collect(LinkResolver, String, String, String) hand over} a link to resolve and get a {@link Link}
+ * back whose URL is set once {@link #resolveCollected()} is called. Each distinct link is resolved only once,
+ * no matter how many fields refer to it.</p>
+ * <p>Instances are not thread-safe and are meant to live as long as the mapping of a single view model.</p>
+ */
+@Slf4j
+public class CollectingLinkResolver {
+
+    private final Map<LinkKey, List<Link>> pending = new LinkedHashMap<>();
+
+    private final Map<LinkKey, String> resolved = new HashMap<>();
+
+    /**
+     * Registers a link for deferred resolution.
+     *
+     * @param linkResolver   resolver to use for this link
+     * @param url            the TCM URI to resolve
+     * @param localizationId the localization ID to use
+     * @param contextId      the ID of the context page
+     * @return a link whose URL is set now if it was resolved before, or on the next {@link #resolveCollected()}
+     */
+    @NotNull
+    public Link collect(@NotNull LinkResolver linkResolver, @Nullable String url, @Nullable String localizationId, @Nullable String contextId) {
+        LinkKey key = new LinkKey(linkResolver, url, localizationId, contextId);
+        Link link = new Link();
+        if (resolved.containsKey(key)) {
+            link.setUrl(resolved.get(key));
+        } else {
+            pending.computeIfAbsent(key, k -> new ArrayList<>()).add(link);
+        }
+        return link;
+    }
+
+    /**
+     * Resolves a link right away, reusing an earlier resolution of the same link if there is one.
+     *
+     * @param linkResolver   resolver to use for this link
+     * @param url            the TCM URI to resolve
+     * @param localizationId the localization ID to use
+     * @param contextId      the ID of the context page
+     * @return the resolved URL
+     */
+    @Nullable
+    public String resolve(@NotNull LinkResolver linkResolver, @Nullable String url, @Nullable String localizationId, @Nullable String contextId) {
+        return resolve(new LinkKey(linkResolver, url, localizationId, contextId));
+    }
+
+    /**
+     * Resolves all links collected so far and sets their URLs.
+     *
+     * @return number of distinct links resolved by this call
+     */
+    public int resolveCollected() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        int count = pending.size();
+        for (Map.Entry<LinkKey, List<Link>> entry : pending.entrySet()) {
+            String url = resolve(entry.getKey());
+            for (Link link : entry.getValue()) {
+                link.setUrl(url);
+            }
+        }
+        pending.clear();
+        log.trace("Resolved {} collected links", count);
+        return count;
+    }
+
+    /**
+     * Returns whether there are links waiting for {@link #resolveCollected()}.
+     *
+     * @return {@code true} if there are unresolved links
+     */
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    private String resolve(LinkKey key) {
+        if (resolved.containsKey(key)) {
+            return resolved.get(key);
+        }
+        String url = key.linkResolver.resolveLink(key.url, key.localizationId, key.contextId);
+        resolved.put(key, url);
+        return url;
+    }
+
+    @EqualsAndHashCode
+    private static final class LinkKey {
+
+        private final LinkResolver linkResolver;
+
+        private final String url;
+
+        private final String localizationId;
+
+        private final String contextId;
+
+        private LinkKey(LinkResolver linkResolver, String url, String localizationId, String contextId) {
+            this.linkResolver = linkResolver;
+            this.url = url;
+            this.localizationId = localizationId;
+            this.contextId = contextId;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.sdl.dxa.tridion.mapping.converter;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.sdl.dxa.tridion.mapping.converter.SemanticModelConverter.getTypeInformation;
+
+/**
+ * Dispatch table of {@link SemanticModelConverter}s keyed by source type and target type.
+ * <p>Converters registered for exact source types are put to the table when it is built. Source types that are not
+ * registered are resolved once to the converter of their nearest registered supertype (superclasses first, then
+ * interfaces) and remembered. The {@link TypeInformation} for a target type, including the element type for collections,
+ * is also computed once per (source type, target type) pair, so a dispatch is a single map lookup.</p>
+ */
+final class ConverterDispatchTable {
+
+    private static final Dispatch UNSUPPORTED = new Dispatch(null, null);
+
+    private final Map<Class<?>, SemanticModelConverter<?>> converters;
+
+    private final ConcurrentMap<Class<?>, Dispatch> bySourceType = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<DispatchKey, Dispatch> dispatches = new ConcurrentHashMap<>();
+
+    ConverterDispatchTable(Collection<? extends SemanticModelConverter<?>> semanticModelConverters) {
+        Map<Class<?>, SemanticModelConverter<?>> registered = new HashMap<>();
+        semanticModelConverters.forEach(converter ->
+                converter.getTypes().forEach(type -> registered.put(type, converter)));
+        this.converters = ImmutableMap.copyOf(registered);
+        this.converters.forEach((type, converter) -> bySourceType.put(type, new Dispatch(converter, null)));
+    }
+
+    /**
+     * Finds a converter and the target type information for the given source and target types.
+     *
+     * @param sourceType type of the value to convert
+     * @param targetType type to convert to
+     * @return dispatch with a converter, or {@code null} if no converter supports the source type
+     */
+    @Nullable
+    Dispatch get(@NotNull Class<?> sourceType, @NotNull TypeDescriptor targetType) {
+        DispatchKey key = new DispatchKey(sourceType, targetType);
+        Dispatch dispatch = dispatches.get(key);
+        if (dispatch == null) {
+            SemanticModelConverter<?> converter = getConverter(sourceType);
+            dispatch = converter == null ? UNSUPPORTED : new Dispatch(converter, getTypeInformation(targetType));
+            dispatches.putIfAbsent(key, dispatch);
+        }
+        return dispatch == UNSUPPORTED ? null : dispatch;
+    }
+
+    /**
+     * Finds a converter for the given source type, falling back to the nearest registered supertype.
+     *
+     * @param sourceType type of the value to convert
+     * @return converter or {@code null} if no converter supports the source type
+     */
+    @Nullable
+    SemanticModelConverter<?> getConverter(@NotNull Class<?> sourceType) {
+        Dispatch dispatch = bySourceType.computeIfAbsent(sourceType, type -> {
+            SemanticModelConverter<?> converter = findBySupertype(type);
+            return converter == null ? UNSUPPORTED : new Dispatch(converter, null);
+        });
+        return dispatch.getConverter();
+    }
+
+    /**
+     * Returns the converters registered for exact source types.
+     *
+     * @return registered converters by source type
+     */
+    Map<Class<?>, SemanticModelConverter<?>> getRegisteredConverters() {
+        return converters;
+    }
+
+    @Nullable
+    private SemanticModelConverter<?> findBySupertype(Class<?> sourceType) {
+        for (Class<?> type = sourceType.getSuperclass(); type != null; type = type.getSuperclass()) {
+            SemanticModelConverter<?> converter = converters.get(type);
+            if (converter != null) {
+                return converter;
+            }
+        }
+
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            Collections.addAll(queue, type.getInterfaces());
+        }
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            SemanticModelConverter<?> converter = converters.get(type);
+            if (converter != null) {
+                return converter;
+            }
+            Collections.addAll(queue, type.getInterfaces());
+        }
+        return null;
+    }
+
+    @Getter
+    static final class Dispatch {
+
+        private final SemanticModelConverter<?> converter;
+
+        private final TypeInformation typeInformation;
+
+        private Dispatch(SemanticModelConverter<?> converter, TypeInformation typeInformation) {
+            this.converter = converter;
+            this.typeInformation = typeInformation;
+        }
+    }
+
+    @EqualsAndHashCode
+    private static final class DispatchKey {
+
+        private final Class<?> sourceType;
+
+        private final TypeDescriptor targetType;
+
+        private DispatchKey(Class<?> sourceType, TypeDescriptor targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.sdl.dxa.tridion.mapping.converter;
+
+import lombok.EqualsAndHashCode;
+import org.jetbrains.annotations.NotNull;
+
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of immutable {@link DateTimeFormatter}s per locale and pattern used by the semantic model converters.
+ * <p>Unlike {@link java.text.DateFormat} the formatters are thread-safe, so each of them is created once and shared.</p>
+ */
+public final class DateTimeFormatters {
+
+    private static final ConcurrentMap<FormatterKey, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private DateTimeFormatters() {
+    }
+
+    /**
+     * Returns a lenient formatter for the given pattern and locale.
+     *
+     * @param pattern pattern as in {@link DateTimeFormatter#ofPattern(String)}
+     * @param locale  locale of the formatter
+     * @return cached formatter
+     */
+    @NotNull
+    public static DateTimeFormatter forPattern(@NotNull String pattern, @NotNull Locale locale) {
+        return FORMATTERS.computeIfAbsent(new FormatterKey(pattern, locale), key -> new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .parseLenient()
+                .appendPattern(key.pattern)
+                .toFormatter(key.locale));
+    }
+
+    /**
+     * Returns a formatter with the {@link FormatStyle#SHORT short} date and time pattern of the locale, which is what
+     * {@link java.text.DateFormat#getInstance()} uses.
+     *
+     * @param locale locale of the formatter
+     * @return cached formatter
+     */
+    @NotNull
+    public static DateTimeFormatter shortDateTime(@NotNull Locale locale) {
+        return forPattern(DateTimeFormatterBuilder.getLocalizedDateTimePattern(
+                FormatStyle.SHORT, FormatStyle.SHORT, IsoChronology.INSTANCE, locale), locale);
+    }
+
+    /**
+     * Parses a date the same way as {@link java.text.DateFormat#getInstance()} does for the given locale,
+     * and also accepts ISO-8601 date-times. Local date-times are interpreted in the system default time zone.
+     *
+     * @param value  string to parse
+     * @param locale locale to parse in
+     * @return parsed date
+     * @throws DateTimeParseException if the string cannot be parsed
+     */
+    @NotNull
+    public static Date parseDate(@NotNull String value, @NotNull Locale locale) {
+        DateTimeFormatter shortDateTime = shortDateTime(locale);
+        DateTimeFormatter formatter = matches(shortDateTime, value) ? shortDateTime : DateTimeFormatter.ISO_DATE_TIME;
+        return toDate(formatter.parseBest(value, ZonedDateTime::from, LocalDateTime::from));
+    }
+
+    /**
+     * Checks whether the formatter reads the whole string, without throwing an exception if it doesn't,
+     * because filling the stack trace of a parse exception costs more than the parsing itself.
+     */
+    private static boolean matches(DateTimeFormatter formatter, String value) {
+        ParsePosition position = new ParsePosition(0);
+        return formatter.parseUnresolved(value, position) != null
+                && position.getErrorIndex() < 0 && position.getIndex() == value.length();
+    }
+
+    private static Date toDate(TemporalAccessor parsed) {
+        Instant instant = parsed instanceof ZonedDateTime
+                ? ((ZonedDateTime) parsed).toInstant()
+                : ((LocalDateTime) parsed).atZone(ZoneId.systemDefault()).toInstant();
+        return Date.from(instant);
+    }
+
+    @EqualsAndHashCode
+    private static final class FormatterKey {
+
+        private final String pattern;
+
+        private final Locale locale;
+
+        private FormatterKey(String pattern, Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+    }
+}
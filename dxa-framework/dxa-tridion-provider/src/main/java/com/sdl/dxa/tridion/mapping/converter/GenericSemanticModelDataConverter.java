@@ -20,12 +20,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
 import java.util.Set;
 
-import static com.sdl.dxa.tridion.mapping.converter.SemanticModelConverter.getTypeInformation;
-
 /**
  * Implementation capable to convert R2 data model to a semantic entity class fulfilling needs of {@link ModelBuilderPipeline}.
  * Selects specific converter out of set of {@link SemanticModelConverter}s and delegates conversion to it.
@@ -41,7 +38,7 @@ public class GenericSemanticModelDataConverter {
     @Autowired
     private LinkResolver linkResolver;
 
-    private Map<Class<?>, SemanticModelConverter<?>> converters = new HashMap<>();
+    private ConverterDispatchTable dispatchTable = new ConverterDispatchTable(Collections.emptySet());
 
     private static String resolveLink(String itemId, WebRequestContext webRequestContext, LinkResolver linkResolver) {
         String publicationId = webRequestContext.getLocalization().getId();
@@ -51,9 +48,7 @@ public class GenericSemanticModelDataConverter {
 
     @Autowired
     public void setConverters(Set<SemanticModelConverter<?>> semanticModelConverters) {
-        semanticModelConverters.forEach(sourceConverter ->
-                sourceConverter.getTypes().forEach(aClass ->
-                        converters.put(aClass, sourceConverter)));
+        this.dispatchTable = new ConverterDispatchTable(semanticModelConverters);
     }
 
     @NotNull
@@ -61,21 +56,16 @@ public class GenericSemanticModelDataConverter {
                           ModelBuilderPipeline pipeline, DefaultSemanticFieldDataProvider dataProvider) throws FieldConverterException {
         Class<?> sourceType = toConvert.getClass();
 
-        //typecast is safe which is guaranteed by the fact of a presence of a converter in a collection
-        //noinspection unchecked
-        return getSourceConverter(sourceType).convert(toConvert, getTypeInformation(targetType), semanticField, pipeline, dataProvider);
-    }
-
-    @NotNull
-    private SemanticModelConverter getSourceConverter(Class<?> sourceType) throws UnsupportedTargetTypeException {
-
-        SemanticModelConverter semanticModelConverter = converters.get(sourceType);
-
-        if (semanticModelConverter == null) {
+        ConverterDispatchTable.Dispatch dispatch = dispatchTable.get(sourceType, targetType);
+        if (dispatch == null) {
             log.warn("Cannot get a source converter for {}", sourceType);
             throw new UnsupportedTargetTypeException(sourceType);
         }
-        return semanticModelConverter;
+
+        //typecast is safe which is guaranteed by the fact of a presence of a converter in a dispatch table
+        //noinspection unchecked
+        return ((SemanticModelConverter<Object>) dispatch.getConverter())
+                .convert(toConvert, dispatch.getTypeInformation(), semanticField, pipeline, dataProvider);
     }
 
     public Object selfLink(Object toLink, TypeDescriptor targetType, ModelBuilderPipeline pipeline) throws DxaException {
@@ -73,7 +73,7 @@ public class KeywordModelDataConverter implements SemanticModelConverter<Keyword
 
         @Override
         public SemanticFieldDataProvider getDataProvider() {
-            return DefaultSemanticFieldDataProvider.getFor(toConvert, dataProvider.getSemanticSchema());
+            return DefaultSemanticFieldDataProvider.getFor(toConvert, dataProvider.getSemanticSchema(), dataProvider);
         }
     }
 
@@ -16,8 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 @Slf4j
 @Component
@@ -28,33 +32,66 @@ public class RichTextDataConverter implements SemanticModelConverter<RichTextDat
                           ModelBuilderPipeline pipeline, DefaultSemanticFieldDataProvider dataProvider) throws FieldConverterException {
         Class<?> objectType = targetType.getObjectType();
 
-        List<RichTextFragment> fragments = new ArrayList<>();
-        for (Object fragment : toConvert.getValues()) {
+        List<Object> values = toConvert.getValues();
+        RichTextFragment[] fragments = new RichTextFragment[values.size()];
+        List<Integer> embeddedPositions = new ArrayList<>();
+        int i = 0;
+        for (Object fragment : values) {
             if (fragment instanceof String) {
-                fragments.add(new RichTextFragmentImpl((String) fragment));
+                fragments[i] = new RichTextFragmentImpl((String) fragment);
             } else {
-                log.debug("Fragment {} is a not a string but perhaps EntityModelData, skipping link resolving", fragment);
-                EntityModel embeddedItem;
-                EntityModelData entityModelData = (EntityModelData) fragment;
-                try {
-                    if (entityModelData.getBinaryContent() != null) {
-                        embeddedItem = pipeline.createEntityModel(entityModelData, MediaItem.class);
-                    } else {
-                        embeddedItem = pipeline.createEntityModel(entityModelData, EntityModel.class);
-                    }
-                } catch (DxaException e) {
-                    throw new FieldConverterException("Cannot create an instance of Media Item in RichText, model id " + entityModelData.getId(), e);
-                }
-                embeddedItem.setEmbedded(true);
-                fragments.add(embeddedItem);
+                embeddedPositions.add(i);
             }
+            i++;
+        }
+
+        if (!embeddedPositions.isEmpty()) {
+            buildEmbeddedEntities(values, embeddedPositions, fragments, pipeline);
         }
 
-        RichText richText = new RichText(fragments);
+        RichText richText = new RichText(new ArrayList<>(Arrays.asList(fragments)));
 
         return convertToCollectionIfNeeded(objectType == String.class ? richText.toString() : richText, targetType);
     }
 
+    /**
+     * Builds all embedded entities of a rich text in one pass after the text fragments are collected.
+     * Embedded entities that occur several times with the same ID are built once and shared.
+     */
+    private void buildEmbeddedEntities(List<Object> values, List<Integer> positions, RichTextFragment[] fragments,
+                                       ModelBuilderPipeline pipeline) throws FieldConverterException {
+        log.debug("Building {} embedded entities of a rich text", positions.size());
+        List<Object> embedded = values instanceof RandomAccess ? values : new ArrayList<>(values);
+        Map<String, EntityModel> builtById = new HashMap<>();
+        for (int position : positions) {
+            EntityModelData entityModelData = (EntityModelData) embedded.get(position);
+            String id = entityModelData.getId();
+            EntityModel embeddedItem = id == null ? null : builtById.get(id);
+            if (embeddedItem == null) {
+                embeddedItem = buildEmbeddedEntity(entityModelData, pipeline);
+                if (id != null) {
+                    builtById.put(id, embeddedItem);
+                }
+            }
+            fragments[position] = embeddedItem;
+        }
+    }
+
+    private EntityModel buildEmbeddedEntity(EntityModelData entityModelData, ModelBuilderPipeline pipeline) throws FieldConverterException {
+        EntityModel embeddedItem;
+        try {
+            if (entityModelData.getBinaryContent() != null) {
+                embeddedItem = pipeline.createEntityModel(entityModelData, MediaItem.class);
+            } else {
+                embeddedItem = pipeline.createEntityModel(entityModelData, EntityModel.class);
+            }
+        } catch (DxaException e) {
+            throw new FieldConverterException("Cannot create an instance of Media Item in RichText, model id " + entityModelData.getId(), e);
+        }
+        embeddedItem.setEmbedded(true);
+        return embeddedItem;
+    }
+
     @Override
     public List<Class<? extends RichTextData>> getTypes() {
         return Collections.singletonList(RichTextData.class);
@@ -14,11 +14,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.text.DateFormat;
-import java.text.ParseException;
+import java.time.DateTimeException;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Component
 @Slf4j
@@ -36,8 +37,8 @@ public class StringModelConverter implements SemanticModelConverter<String> {
         Object result;
         if (Date.class.isAssignableFrom(objectType)) {
             try {
-                result = DateFormat.getInstance().parse(toConvert);
-            } catch (ParseException e) {
+                result = DateTimeFormatters.parseDate(toConvert, Locale.getDefault(Locale.Category.FORMAT));
+            } catch (DateTimeException e) {
                 throw new FieldConverterException("Cannot parse a date string " + toConvert + " to a date of class Date");
             }
         } else if (DateTime.class == objectType) {
@@ -49,10 +50,7 @@ public class StringModelConverter implements SemanticModelConverter<String> {
         } else if (String.class == objectType) {
             result = toConvert;
         } else if (Link.class.isAssignableFrom(objectType)) {
-            Link link = new Link();
-            String url = linkResolver.resolveLink(toConvert, webRequestContext.getLocalization().getId(), webRequestContext.getPageContextId());
-            link.setUrl(url);
-            result = link;
+            result = resolveLink(toConvert, targetType, dataProvider);
         } else if (RichText.class.isAssignableFrom(objectType)) {
             result = new RichText(toConvert);
         } else {
@@ -62,6 +60,25 @@ public class StringModelConverter implements SemanticModelConverter<String> {
         return convertToCollectionIfNeeded(result, targetType);
     }
 
+    private Link resolveLink(String toConvert, TypeInformation targetType, DefaultSemanticFieldDataProvider dataProvider) {
+        String localizationId = webRequestContext.getLocalization().getId();
+        String pageContextId = webRequestContext.getPageContextId();
+        if (dataProvider == null) {
+            Link link = new Link();
+            link.setUrl(linkResolver.resolveLink(toConvert, localizationId, pageContextId));
+            return link;
+        }
+        CollectingLinkResolver linkCollector = dataProvider.getLinkCollector();
+        if (!dataProvider.isDeferringLinks()
+                || targetType.isCollection() && Set.class.isAssignableFrom(targetType.getCollectionType())) {
+            // hash code of a link depends on its URL, so links put into sets are resolved right away
+            Link link = new Link();
+            link.setUrl(linkCollector.resolve(linkResolver, toConvert, localizationId, pageContextId));
+            return link;
+        }
+        return linkCollector.collect(linkResolver, toConvert, localizationId, pageContextId);
+    }
+
     @Override
     public List<Class<? extends String>> getTypes() {
         return Collections.singletonList(String.class);
@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.Map;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchemaIndex.findSemanticSchema;
 import static java.lang.Boolean.parseBoolean;
 
 @Slf4j
@@ -125,7 +126,7 @@ public abstract class Converter<T> {
                 keywordModel = new KeywordModel();
             } else {
                 try {
-                    SemanticSchema semanticSchema = localization.getSemanticSchemas().get(Long.parseLong(schemaId));
+                    SemanticSchema semanticSchema = findSemanticSchema(localization, schemaId);
                     if (semanticSchema == null) {
                         log.warn("Semantic schema with schemaId {} is not found in localization {}, skipping semantic mapping", schemaId, localization);
                         throw new SemanticMappingException("Semantic schema not found");
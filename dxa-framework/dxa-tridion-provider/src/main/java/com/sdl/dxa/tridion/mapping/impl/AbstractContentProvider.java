@@ -1,10 +1,18 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.google.common.cache.CacheBuilder;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.PersistentModelStore;
+import com.sdl.dxa.caching.RevalidatingCache;
 import com.sdl.dxa.common.ClaimValues;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.dxa.performance.Timer;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.ConditionalEntityTable;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.exceptions.DxaRuntimeException;
@@ -12,6 +20,7 @@ import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebContext;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
@@ -22,11 +31,39 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public abstract class AbstractContentProvider {
 
+    private static final Timer PAGE_LOAD_TIMER = MetricsRegistry.getDefault().timer("content.page.load");
+
+    private static final Timer ENTITY_LOAD_TIMER = MetricsRegistry.getDefault().timer("content.entity.load");
+
+    private static final String NO_CLAIMS = " noclaims";
+
+    private static final Object NOT_FETCHED = new Object();
+
     private List<ConditionalEntityEvaluator> entityEvaluators = Collections.emptyList();
+    /**
+     * Decision tables of the cached page models; weak keys compare by identity and let the tables go with the models.
+     */
+    private final com.google.common.cache.Cache<PageModel, Optional<ConditionalEntityTable>> entityTables =
+            CacheBuilder.newBuilder().weakKeys().build();
+    /**
+     * Model data fetched in the background for stale cached models, which are then built from it by one request.
+     * {@link #NOT_FETCHED} marks a stale model whose data could not be fetched outside of a request.
+     */
+    private final com.google.common.cache.Cache<String, Object> revalidatedData =
+            CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(1, TimeUnit.MINUTES).build();
+    /**
+     * Keys of the stale models which a request is rebuilding, so that the other requests keep serving the stale model.
+     */
+    private final ConcurrentMap<String, Boolean> rebuilding = new ConcurrentHashMap<>();
+    private PersistentModelStore modelStore;
     protected WebRequestContext webRequestContext;
     private final Cache pagemodelCache;
     private final Cache entitymodelCache;
@@ -42,6 +79,11 @@ public abstract class AbstractContentProvider {
         this.entityEvaluators = entityEvaluators;
     }
 
+    @Autowired(required = false)
+    public void setModelStore(PersistentModelStore modelStore) {
+        this.modelStore = modelStore;
+    }
+
 
     /**
      * This default implementation handles caching and cloning the pagemodel.
@@ -58,29 +100,32 @@ public abstract class AbstractContentProvider {
         try {
             Assert.notNull(localization);
             String key = createKeyForCacheByPath(path, localization, "pagemodel");
+            String dataKey = createKeyForCacheByPath(path, localization, "pagemodeldata");
             SimpleValueWrapper simpleValueWrapper = null;
             if (!webRequestContext.isSessionPreview()) {
-                simpleValueWrapper = (SimpleValueWrapper) pagemodelCache.get(key);
+                simpleValueWrapper = getCached(pagemodelCache, key,
+                        () -> revalidate(pagemodelCache, key, dataKey, () -> fetchPageData(path, localization)));
             }
-            if (simpleValueWrapper != null) {
+            boolean cached = simpleValueWrapper != null;
+            if (cached) {
                 //Pagemodel is in cache
                 pageModel = (PageModel) simpleValueWrapper.get();
+                if (startRebuild(key, dataKey)) {
+                    try {
+                        pageModel = loadPage(path, localization);
+                        cached = cachePageModel(pageModel, key, localization, false);
+                    } finally {
+                        finishRebuild(key, dataKey);
+                    }
+                }
             } else {
                 //Not in cache, load from backend.
-                pageModel = loadPage(path, localization);
-                if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                    pagemodelCache.put(key, pageModel);
-                    pagemodelCache.put(createKeyForCacheByPath(pageModel.getId(), localization, "pagemodel"), pageModel);
+                try (Timer.Context ignored = PAGE_LOAD_TIMER.time()) {
+                    pageModel = loadPage(path, localization);
                 }
+                cached = cachePageModel(pageModel, key, localization, false);
             }
-            try {
-                // Make a deep copy
-                pageModel = pageModel.deepCopy();
-            } catch (DxaRuntimeException e) {
-                throw new ContentProviderException("PageModel for " + key + " cannot be copied", e);
-            }
-            //filterConditionalEntities modifies the pagemodel, that is why the deep copy is done.
-            pageModel.filterConditionalEntities(entityEvaluators);
+            pageModel = copyWithVisibleEntities(pageModel, key, cached);
 
             webRequestContext.setPage(pageModel);
             return pageModel;
@@ -96,6 +141,42 @@ public abstract class AbstractContentProvider {
         }
     }
 
+    /**
+     * Returns a deep copy of the page model without the entities that the conditional entity evaluators exclude.
+     * The copy is needed because the entities are removed from it, and because controllers may change the model.
+     * The evaluators only see the entities of the copy. For a cached page model, the conditions are evaluated
+     * with a decision table compiled once for the model.
+     */
+    private PageModel copyWithVisibleEntities(PageModel pageModel, String key, boolean cached) throws ContentProviderException {
+        ConditionalEntityTable table = cached && !entityEvaluators.isEmpty() ? getEntityTable(pageModel) : null;
+
+        PageModel copy;
+        try {
+            // Make a deep copy
+            copy = pageModel.deepCopy();
+        } catch (DxaRuntimeException e) {
+            throw new ContentProviderException("PageModel for " + key + " cannot be copied", e);
+        }
+
+        if (table != null) {
+            table.apply(copy, table.evaluate(copy, entityEvaluators));
+        } else {
+            //filterConditionalEntities modifies the pagemodel, that is why the deep copy is done.
+            copy.filterConditionalEntities(entityEvaluators);
+        }
+        return copy;
+    }
+
+    @Nullable
+    private ConditionalEntityTable getEntityTable(PageModel pageModel) {
+        Optional<ConditionalEntityTable> table = entityTables.getIfPresent(pageModel);
+        if (table == null) {
+            table = Optional.ofNullable(ConditionalEntityTable.compile(pageModel));
+            entityTables.put(pageModel, table);
+        }
+        return table.orElse(null);
+    }
+
     @NotNull
     private String createKeyForCacheByPath(String path, Localization localization, String type) {
         return type + " [" + path + "] " + localization.getId() + getClaimCacheKey() ;
@@ -121,30 +202,33 @@ public abstract class AbstractContentProvider {
         try {
             Assert.notNull(localization);
             String key = createKeyForCacheById("" + pageId, localization, "pagemodel");
+            String dataKey = createKeyForCacheById("" + pageId, localization, "pagemodeldata");
 
             SimpleValueWrapper simpleValueWrapper = null;
             if (!webRequestContext.isSessionPreview()) {
-                simpleValueWrapper = (SimpleValueWrapper) pagemodelCache.get(key);
+                simpleValueWrapper = getCached(pagemodelCache, key,
+                        () -> revalidate(pagemodelCache, key, dataKey, () -> fetchPageData(pageId, localization)));
             }
-            if (simpleValueWrapper != null) {
+            boolean cached = simpleValueWrapper != null;
+            if (cached) {
                 //Pagemodel is in cache
                 pageModel = (PageModel) simpleValueWrapper.get();
+                if (startRebuild(key, dataKey)) {
+                    try {
+                        pageModel = loadPage(pageId, localization);
+                        cached = cachePageModel(pageModel, key, localization, true);
+                    } finally {
+                        finishRebuild(key, dataKey);
+                    }
+                }
             } else {
                 //Not in cache, load from backend.
-                pageModel = loadPage(pageId, localization);
-                if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                    pagemodelCache.put(key, pageModel);
-                    pagemodelCache.put(createKeyForCacheByPath(pageModel.getUrl(), localization, "pagemodel"), pageModel);
+                try (Timer.Context ignored = PAGE_LOAD_TIMER.time()) {
+                    pageModel = loadPage(pageId, localization);
                 }
+                cached = cachePageModel(pageModel, key, localization, true);
             }
-            try {
-                // Make a deep copy
-                pageModel = pageModel.deepCopy();
-            } catch (DxaRuntimeException e) {
-                throw new ContentProviderException("PageModel for " + key + " cannot be copied", e);
-            }
-            //filterConditionalEntities modifies the pagemodel, that is why the deep copy is done.
-            pageModel.filterConditionalEntities(entityEvaluators);
+            pageModel = copyWithVisibleEntities(pageModel, key, cached);
 
             webRequestContext.setPage(pageModel);
             return pageModel;
@@ -166,11 +250,11 @@ public abstract class AbstractContentProvider {
     private String getClaimCacheKey() {
         ClaimStore currentClaimStore = WebContext.getCurrentClaimStore();
         if (currentClaimStore == null) {
-            return " noclaims";
+            return NO_CLAIMS;
         }
         Map<URI, Object> claimValues = currentClaimStore.getClaimValues();
         if (claimValues == null || claimValues.isEmpty()) {
-            return " noclaims";
+            return NO_CLAIMS;
         }
         String conditions = claimValues
                 .entrySet()
@@ -184,12 +268,188 @@ public abstract class AbstractContentProvider {
                 .replaceAll("(,\\s<-n->)++", ",<-n->")
                 .replaceAll(",<-n->,","\n\n")
                 .replaceAll("\\{<-n->\\n", "{");
-        return com.google.common.base.Strings.isNullOrEmpty(conditions) ? " noclaims" : " claims:" + conditions;
+        return com.google.common.base.Strings.isNullOrEmpty(conditions) ? NO_CLAIMS : " claims:" + conditions;
+    }
+
+    /**
+     * Looks up a cached model. If the cache serves stale models while revalidating them, a stale model is returned
+     * and its data is fetched again in the background. Models for claims are not revalidated, because the claims
+     * of the request are not available in the background; for them a stale model is a miss.
+     */
+    private SimpleValueWrapper getCached(Cache cache, String key, RevalidatingCache.Revalidation revalidation) {
+        if (cache instanceof RevalidatingCache && key.endsWith(NO_CLAIMS)) {
+            return (SimpleValueWrapper) ((RevalidatingCache) cache).getAndRevalidate(key, revalidation);
+        }
+        return (SimpleValueWrapper) cache.get(key);
+    }
+
+    /**
+     * Fetches the data of a stale model. View models can only be built in a request, so the data is kept until
+     * a request {@link #startRebuild(String, String) rebuilds} the model from it, and the stale model is served
+     * meanwhile. If the data cannot be fetched outside of a request, the rebuilding request loads it.
+     */
+    private void revalidate(Cache cache, String key, String dataKey, ModelDataLoader<?> fetcher) throws ContentProviderException {
+        // the data is fetched already and waits for a rebuild, or the model was rebuilt, which puts it before
+        // the data is discarded; a plain lookup returns only fresh models
+        if (revalidatedData.getIfPresent(dataKey) != null || cache.get(key) != null) {
+            return;
+        }
+        Object data = fetcher.load();
+        revalidatedData.put(dataKey, data == null ? NOT_FETCHED : data);
+    }
+
+    /**
+     * Checks whether the request should rebuild a stale model from its revalidated data. Only one request per key
+     * rebuilds it, the others keep serving the stale model until it is replaced.
+     */
+    private boolean startRebuild(String key, String dataKey) {
+        if (revalidatedData.getIfPresent(dataKey) == null || rebuilding.putIfAbsent(key, Boolean.TRUE) != null) {
+            return false;
+        }
+        // another request may have rebuilt the model and discarded the data just before
+        if (revalidatedData.getIfPresent(dataKey) == null) {
+            rebuilding.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    private void finishRebuild(String key, String dataKey) {
+        revalidatedData.invalidate(dataKey);
+        rebuilding.remove(key);
+    }
+
+    /**
+     * Caches a page model by its path and by its ID.
+     *
+     * @return whether the page model is cached
+     */
+    private boolean cachePageModel(PageModel pageModel, String key, Localization localization, boolean keyedById) {
+        if (!pageModel.canBeCached() || webRequestContext.isSessionPreview()) {
+            pagemodelCache.evict(key);
+            return false;
+        }
+        pagemodelCache.put(key, pageModel);
+        pagemodelCache.put(keyedById ? createKeyForCacheByPath(pageModel.getUrl(), localization, "pagemodel")
+                : createKeyForCacheById(pageModel.getId(), localization, "pagemodel"), pageModel);
+        return true;
     }
 
     abstract PageModel loadPage(String path, Localization localization) throws ContentProviderException;
     abstract PageModel loadPage(int pageId, Localization localization) throws ContentProviderException;
 
+    /**
+     * Fetches the data of a page from the backend, without the {@link PersistentModelStore}.
+     * This may run outside of a request, when a stale page model is revalidated.
+     *
+     * @param path         path of the page
+     * @param localization localization of the page
+     * @return page data, or {@code null} if this provider cannot fetch it outside of a request
+     * @throws ContentProviderException if the backend fails
+     */
+    @Nullable
+    PageModelData fetchPageData(String path, Localization localization) throws ContentProviderException {
+        return null;
+    }
+
+    /**
+     * Fetches the data of a page by its ID, see {@link #fetchPageData(String, Localization)}.
+     */
+    @Nullable
+    PageModelData fetchPageData(int pageId, Localization localization) throws ContentProviderException {
+        return null;
+    }
+
+    /**
+     * Fetches the data of an entity, see {@link #fetchPageData(String, Localization)}.
+     */
+    @Nullable
+    EntityModelData fetchEntityData(String componentId, Localization localization) throws ContentProviderException {
+        return null;
+    }
+
+    /**
+     * Loads the data of a page from the {@link PersistentModelStore} if it is enabled and has the page,
+     * otherwise with the loader, and then stores it for the next restart.
+     *
+     * @param path         path of the page
+     * @param localization localization of the page
+     * @param loader       loads the data from the backend
+     * @return page data
+     * @throws ContentProviderException if the loader fails
+     */
+    protected PageModelData loadPageData(String path, Localization localization,
+                                         ModelDataLoader<PageModelData> loader) throws ContentProviderException {
+        return loadModelData(createKeyForCacheByPath(path, localization, "pagemodeldata"), localization, PageModelData.class, loader);
+    }
+
+    /**
+     * Loads the data of a page by its ID, see {@link #loadPageData(String, Localization, ModelDataLoader)}.
+     *
+     * @param pageId       ID of the page
+     * @param localization localization of the page
+     * @param loader       loads the data from the backend
+     * @return page data
+     * @throws ContentProviderException if the loader fails
+     */
+    protected PageModelData loadPageData(int pageId, Localization localization,
+                                         ModelDataLoader<PageModelData> loader) throws ContentProviderException {
+        return loadModelData(createKeyForCacheById("" + pageId, localization, "pagemodeldata"), localization, PageModelData.class, loader);
+    }
+
+    /**
+     * Loads the data of an entity, see {@link #loadPageData(String, Localization, ModelDataLoader)}.
+     *
+     * @param componentId  ID of the entity
+     * @param localization localization of the entity
+     * @param loader       loads the data from the backend
+     * @return entity data
+     * @throws ContentProviderException if the loader fails
+     */
+    protected EntityModelData loadEntityData(String componentId, Localization localization,
+                                             ModelDataLoader<EntityModelData> loader) throws ContentProviderException {
+        return loadModelData(createKeyForCacheById(componentId, localization, "entitymodeldata"), localization, EntityModelData.class, loader);
+    }
+
+    private <T> T loadModelData(String key, Localization localization, Class<T> type,
+                                ModelDataLoader<T> loader) throws ContentProviderException {
+        if (webRequestContext.isSessionPreview()) {
+            return loader.load();
+        }
+        boolean storeEnabled = modelStore != null && modelStore.isEnabled();
+        // read only, other requests may need the data until the rebuilt model is cached
+        Object revalidated = revalidatedData.getIfPresent(key);
+        if (type.isInstance(revalidated)) {
+            if (storeEnabled) {
+                modelStore.put(localization, key, revalidated);
+            }
+            return type.cast(revalidated);
+        }
+        if (!storeEnabled) {
+            return loader.load();
+        }
+        // the stored data of a stale model is as old as the model, so it is loaded again
+        T data = revalidated == NOT_FETCHED ? null : modelStore.get(localization, key, type);
+        if (data == null) {
+            data = loader.load();
+            if (data != null) {
+                modelStore.put(localization, key, data);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Loads model data from the backend.
+     *
+     * @param <T> type of the data
+     */
+    @FunctionalInterface
+    protected interface ModelDataLoader<T> {
+
+        T load() throws ContentProviderException;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -199,22 +459,27 @@ public abstract class AbstractContentProvider {
         Assert.notNull(id);
         long time = System.currentTimeMillis();
         String key = createKeyForCacheById(id, localization, "entitymodel");
+        String dataKey = createKeyForCacheById(id, localization, "entitymodeldata");
         SimpleValueWrapper simpleValueWrapper = null;
         if (!webRequestContext.isSessionPreview()) {
-            simpleValueWrapper = (SimpleValueWrapper) entitymodelCache.get(key);
+            simpleValueWrapper = getCached(entitymodelCache, key,
+                    () -> revalidate(entitymodelCache, key, dataKey, () -> fetchEntityData(id, localization)));
         }
         EntityModel entityModel = null;
         if (simpleValueWrapper != null) {
             //EntityModel is in cache
             entityModel = (EntityModel) simpleValueWrapper.get();
+            if (startRebuild(key, dataKey)) {
+                try {
+                    entityModel = loadEntityModel(id, key);
+                } finally {
+                    finishRebuild(key, dataKey);
+                }
+            }
         } else {
             //Not in cache, load from backend.
-            entityModel = getEntityModel(id);
-            if (entityModel.getXpmMetadata() != null) {
-                entityModel.getXpmMetadata().put("IsQueryBased", true);
-            }
-            if (entityModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                entitymodelCache.put(key, entityModel);
+            try (Timer.Context ignored = ENTITY_LOAD_TIMER.time()) {
+                entityModel = loadEntityModel(id, key);
             }
         }
 
@@ -234,5 +499,18 @@ public abstract class AbstractContentProvider {
         return entityModel;
     }
 
+    private EntityModel loadEntityModel(String id, String key) throws ContentProviderException {
+        EntityModel entityModel = getEntityModel(id);
+        if (entityModel.getXpmMetadata() != null) {
+            entityModel.getXpmMetadata().put("IsQueryBased", true);
+        }
+        if (entityModel.canBeCached() && !webRequestContext.isSessionPreview()) {
+            entitymodelCache.put(key, entityModel);
+        } else {
+            entitymodelCache.evict(key);
+        }
+        return entityModel;
+    }
+
     protected abstract EntityModel getEntityModel(String componentId) throws ContentProviderException;
 }
@@ -100,24 +100,41 @@ public class DefaultContentProvider extends AbstractContentProvider implements C
     }
 
     protected PageModel loadPage(String path, Localization localization) throws ContentProviderException {
-        PageModelData modelData = modelService.loadPageModel(
+        PageModelData modelData = loadPageData(path, localization, () -> fetchPageData(path, localization));
+        return builderPipeline.createPageModel(modelData);
+    }
+
+    protected PageModel loadPage(int pageId, Localization localization) throws ContentProviderException {
+        PageModelData modelData = loadPageData(pageId, localization, () -> fetchPageData(pageId, localization));
+        return builderPipeline.createPageModel(modelData);
+    }
+
+    @Override
+    PageModelData fetchPageData(String path, Localization localization) throws ContentProviderException {
+        return modelService.loadPageModel(
                 PageRequestDto.builder(localization.getId(), path)
                         .includePages(INCLUDE)
                         .build());
-        return builderPipeline.createPageModel(modelData);
     }
 
-    protected PageModel loadPage(int pageId, Localization localization) throws ContentProviderException {
-        PageModelData modelData = modelService.loadPageModel(
+    @Override
+    PageModelData fetchPageData(int pageId, Localization localization) throws ContentProviderException {
+        return modelService.loadPageModel(
                 PageRequestDto.builder(localization.getId(), pageId)
                         .includePages(INCLUDE)
                         .build());
-        return builderPipeline.createPageModel(modelData);
+    }
+
+    @Override
+    EntityModelData fetchEntityData(String componentId, Localization localization) throws ContentProviderException {
+        return modelService.loadEntity(localization.getId(), componentId);
     }
 
     @NotNull
     protected EntityModel getEntityModel(String componentId) throws ContentProviderException {
-        EntityModelData modelData = modelService.loadEntity(webRequestContext.getLocalization().getId(), componentId);
+        Localization localization = webRequestContext.getLocalization();
+        EntityModelData modelData = loadEntityData(componentId, localization,
+                () -> fetchEntityData(componentId, localization));
         try {
             return builderPipeline.createEntityModel(modelData);
         } catch (DxaException e) {
@@ -51,6 +51,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchemaIndex.findSemanticSchema;
+
 /**
  * Default implementation of {@link EntityModelBuilder} and {@link PageModelBuilder}. Priority of this builder is always {@code highest precedence}.
  *
@@ -93,7 +95,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
                 log.debug("Expected class is pre-set to {} for model {}", expectedClass, modelData);
                 // https://jira.sdl.com/browse/TSI-2273
                 // we currently ignore the base type because of the issue but don't ignore the fact that it's set
-                SemanticSchema semanticSchema = webRequestContext.getLocalization().getSemanticSchemas().get(Long.parseLong(modelData.getSchemaId()));
+                SemanticSchema semanticSchema = findSemanticSchema(webRequestContext.getLocalization(), modelData.getSchemaId());
                 modelType = viewModelRegistry.getMappedModelTypes(semanticSchema.getFullyQualifiedNames(), expectedClass);
             } else {
                 mvcData = createMvcData(modelData.getMvcData(), DefaultsMvcData.ENTITY);
@@ -140,8 +142,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         List<SemanticSchema> allSchemas = getInheritedSemanticSchemas(viewModelData, localization);
         SemanticSchema semanticSchema = null;
         if (!Strings.isNullOrEmpty(viewModelData.getSchemaId())) {
-            long schemaId = Long.parseLong(viewModelData.getSchemaId());
-            semanticSchema = localization.getSemanticSchemas().get(schemaId);
+            semanticSchema = findSemanticSchema(localization, viewModelData.getSchemaId());
         } else {
             if (allSchemas.isEmpty()) {
                 return viewModelType.newInstance();
@@ -149,8 +150,12 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
             semanticSchema = allSchemas.get(0);
         }
         Map<FieldSemantics, SemanticField> semanticFields = getAllSemanticFields(semanticSchema, viewModelData);
-        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getFor(viewModelData, semanticSchema);
-        return semanticMapper.createEntity(viewModelType, semanticFields, dataProvider);
+        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getWithDeferredLinks(viewModelData, semanticSchema);
+        T viewModel = semanticMapper.createEntity(viewModelType, semanticFields, dataProvider);
+        if (dataProvider != null) {
+            dataProvider.resolveCollectedLinks();
+        }
+        return viewModel;
     }
 
     protected List<SemanticSchema> getInheritedSemanticSchemas(ViewModelData viewModelData, Localization localization) {
@@ -162,7 +167,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         ListWrapper<String> allInheritedSchemas = (ListWrapper<String>) schemas;
         return allInheritedSchemas.getValues()
                 .stream()
-                .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(schemaId)))
+                .map(schemaId -> findSemanticSchema(localization, schemaId))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
@@ -192,7 +197,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         ListWrapper<String> inheritedSchemas = (ListWrapper<String>) schemas;
         allAncestorsSemanticFields.putAll(inheritedSchemas.getValues()
                 .stream()
-                        .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(schemaId)))
+                        .map(schemaId -> findSemanticSchema(localization, schemaId))
                         .filter(Objects::nonNull)
                         .map(SemanticSchema::getSemanticFields)
                         .flatMap(fieldMap -> fieldMap.entrySet().stream())
@@ -364,7 +369,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
 
     void processOwnSchema(RegionModelData regionModelData, Class<? extends ViewModel> viewModelType, RegionModel regionModel, String schemaId) {
         Localization localization = webRequestContext.getLocalization();
-        SemanticSchema semanticSchema = localization.getSemanticSchemas().get(Long.parseLong(schemaId));
+        SemanticSchema semanticSchema = findSemanticSchema(localization, schemaId);
 
         List<SemanticSchema> allSchemas = semanticSchema == null ? getInheritedSemanticSchemas(regionModelData, localization) : Collections.emptyList();
         semanticSchema = semanticSchema == null && !allSchemas.isEmpty()
@@ -372,10 +377,14 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
                 : semanticSchema;
         Map<FieldSemantics, SemanticField> semanticFields = getAllSemanticFields(semanticSchema, regionModelData);
 
+        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getWithDeferredLinks(regionModelData, semanticSchema);
         semanticMapper.mapSemanticFields(viewModelType,
                 semanticFields,
-                DefaultSemanticFieldDataProvider.getFor(regionModelData, semanticSchema),
+                dataProvider,
                 regionModel);
+        if (dataProvider != null) {
+            dataProvider.resolveCollectedLinks();
+        }
     }
 
     ViewModel createRegionModel(RegionModelData regionModelData, Class<? extends ViewModel> viewModelType) throws ReflectiveOperationException {
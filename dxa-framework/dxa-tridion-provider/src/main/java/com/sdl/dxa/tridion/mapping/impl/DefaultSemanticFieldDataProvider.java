@@ -8,6 +8,7 @@ import com.sdl.dxa.api.datamodel.model.util.CanWrapContentAndMetadata;
 import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
 import com.sdl.dxa.api.datamodel.model.util.ModelDataWrapper;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.converter.CollectingLinkResolver;
 import com.sdl.dxa.tridion.mapping.converter.GenericSemanticModelDataConverter;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.mapping.semantic.FieldData;
@@ -28,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.TypeDescriptor;
 
 import java.util.HashMap;
@@ -41,14 +43,18 @@ import static com.sdl.webapp.common.util.ApplicationContextHolder.getContext;
 @Slf4j
 public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvider {
 
-    private ModelDataWrapper dataWrapper;
+    private static volatile Collaborators sharedCollaborators;
+
+    private final ModelDataWrapper dataWrapper;
 
     @Getter
-    private SemanticSchema semanticSchema;
+    private final SemanticSchema semanticSchema;
+
+    private final Collaborators collaborators;
 
-    private GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+    private final CollectingLinkResolver linkCollector;
 
-    private ModelBuilderPipeline pipeline;
+    private final boolean deferringLinks;
 
     private int embeddingLevel = 0;
 
@@ -56,25 +62,96 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
 
     private String context = null;
 
-    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema) {
+    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema,
+                                             Collaborators collaborators, CollectingLinkResolver linkCollector,
+                                             boolean deferringLinks) {
         this.dataWrapper = dataWrapper;
         this.semanticSchema = semanticSchema;
-        this.genericSemanticModelDataConverter = getContext().getBean(GenericSemanticModelDataConverter.class);
-        this.pipeline = getContext().getBean(ModelBuilderPipeline.class);
+        this.collaborators = collaborators;
+        this.linkCollector = linkCollector;
+        this.deferringLinks = deferringLinks;
     }
 
+    /**
+     * Creates a provider for the given model which resolves links as soon as they are mapped.
+     *
+     * @param model          model to provide data from
+     * @param semanticSchema semantic schema of the model
+     * @return data provider or {@code null} if the model cannot be wrapped
+     */
     @Nullable
     public static DefaultSemanticFieldDataProvider getFor(ViewModelData model, SemanticSchema semanticSchema) {
-        return getFor((Object) model, semanticSchema);
+        return getFor(model, semanticSchema, null);
+    }
+
+    /**
+     * Creates a provider for the given model which collects links and leaves their URLs unset until
+     * {@link #resolveCollectedLinks()} is called, so that each distinct link of the view model is resolved once.
+     * The caller must call {@link #resolveCollectedLinks()} when the mapping is done.
+     *
+     * @param model          model to provide data from
+     * @param semanticSchema semantic schema of the model
+     * @return data provider or {@code null} if the model cannot be wrapped
+     */
+    @Nullable
+    public static DefaultSemanticFieldDataProvider getWithDeferredLinks(ViewModelData model, SemanticSchema semanticSchema) {
+        return create(model, semanticSchema, null, true);
+    }
+
+    /**
+     * Creates a provider for the given model. If a parent provider is given, its collaborators and link collector are reused,
+     * so no bean lookups are done and links of the whole view model are resolved together.
+     *
+     * @param model          model to provide data from
+     * @param semanticSchema semantic schema of the model
+     * @param parent         provider whose collaborators are reused, or {@code null} for a root provider
+     * @return data provider or {@code null} if the model cannot be wrapped
+     */
+    @Nullable
+    public static DefaultSemanticFieldDataProvider getFor(@NotNull Object model, SemanticSchema semanticSchema,
+                                                          @Nullable DefaultSemanticFieldDataProvider parent) {
+        return create(model, semanticSchema, parent, parent != null && parent.deferringLinks);
     }
 
     @Nullable
-    private static DefaultSemanticFieldDataProvider getFor(@NotNull Object model, SemanticSchema semanticSchema) {
+    private static DefaultSemanticFieldDataProvider create(@NotNull Object model, SemanticSchema semanticSchema,
+                                                           @Nullable DefaultSemanticFieldDataProvider parent, boolean deferringLinks) {
         if (!(model instanceof CanWrapContentAndMetadata)) {
             log.debug("Type {} is not supported by embedded SemanticFieldDataProvider", model.getClass());
             return null;
         }
-        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema);
+        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema,
+                parent == null ? Collaborators.resolve() : parent.collaborators,
+                parent == null ? new CollectingLinkResolver() : parent.linkCollector,
+                deferringLinks);
+    }
+
+    /**
+     * Returns the link collector shared by this provider and all providers derived from it.
+     * Links collected there get their URLs on {@link #resolveCollectedLinks()}.
+     *
+     * @return link collector of this provider
+     */
+    @NotNull
+    public CollectingLinkResolver getLinkCollector() {
+        return linkCollector;
+    }
+
+    /**
+     * Returns whether links mapped with this provider are left unresolved until {@link #resolveCollectedLinks()}.
+     *
+     * @return {@code true} if the provider was created with {@link #getWithDeferredLinks(ViewModelData, SemanticSchema)}
+     * or derived from such a provider
+     */
+    public boolean isDeferringLinks() {
+        return deferringLinks;
+    }
+
+    /**
+     * Resolves the links collected while mapping with this provider and the providers derived from it.
+     */
+    public void resolveCollectedLinks() {
+        linkCollector.resolveCollected();
     }
 
     /**
@@ -87,7 +164,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider iteration(Object model, SemanticField semanticField, int index) {
-        DefaultSemanticFieldDataProvider provider = getFor(model, semanticSchema);
+        DefaultSemanticFieldDataProvider provider = getFor(model, semanticSchema, this);
         if (provider != null) {
             provider.embeddingLevel = this.embeddingLevel;
             provider.iteration = index + 1;
@@ -106,7 +183,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider embedded(Object value) {
-        DefaultSemanticFieldDataProvider provider = getFor(value, this.semanticSchema);
+        DefaultSemanticFieldDataProvider provider = getFor(value, this.semanticSchema, this);
         if (provider != null) {
             provider.iteration = this.iteration;
             provider.context = this.context;
@@ -135,7 +212,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return null;
         }
 
-        Object value = genericSemanticModelDataConverter.convert(field.get(), targetType, semanticField, pipeline, this);
+        Object value = collaborators.converter.convert(field.get(), targetType, semanticField, collaborators.pipeline, this);
 
         return new FieldData(value, semanticField.getXPath(this.context));
     }
@@ -145,7 +222,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         Class<?> objectType = targetType.getObjectType();
         if (MediaItem.class.isAssignableFrom(objectType) || Link.class.isAssignableFrom(objectType) || String.class.isAssignableFrom(objectType)) {
             try {
-                return genericSemanticModelDataConverter.selfLink(dataWrapper.getWrappedModel(), targetType, pipeline);
+                return collaborators.converter.selfLink(dataWrapper.getWrappedModel(), targetType, collaborators.pipeline);
             } catch (DxaException e) {
                 throw new SemanticMappingException("Failed self-linking " + targetType, e);
             }
@@ -185,7 +262,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             {
                 if (value instanceof KeywordModelData) 
                 {
-                    T keyword = (T) genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(KeywordModel.class), null, pipeline, this);
+                    T keyword = (T) collaborators.converter.convert(value, TypeDescriptor.valueOf(KeywordModel.class), null, collaborators.pipeline, this);
                     
                     fieldData.put(entry.getKey(), keyword);
                 }             
@@ -194,8 +271,8 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             {
                 Optional<T> emdTcmUri = (Optional<T>) getEntityModelDataTcmUriOrNull(value);
                 fieldData.put(entry.getKey(), emdTcmUri.orElse(
-                    (T) genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(String.class), null,
-                            pipeline, this)));
+                    (T) collaborators.converter.convert(value, TypeDescriptor.valueOf(String.class), null,
+                            collaborators.pipeline, this)));
             }   
         }
     }
@@ -213,7 +290,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return Optional.empty();
         }
 
-        String localizationId = getContext().getBean(WebRequestContext.class).getLocalization().getId();
+        String localizationId = collaborators.getWebRequestContext().getLocalization().getId();
         return Optional.of(TcmUtils.buildTcmUri(localizationId, modelData.getId()));
     }
 
@@ -249,4 +326,44 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         return Optional.ofNullable(field);
     }
 
+    /**
+     * Spring beans the providers depend on. They are looked up once per application context
+     * and shared by all providers instead of being fetched for every mapped entity.
+     */
+    private static final class Collaborators {
+
+        private final ApplicationContext applicationContext;
+
+        private final GenericSemanticModelDataConverter converter;
+
+        private final ModelBuilderPipeline pipeline;
+
+        private volatile WebRequestContext webRequestContext;
+
+        private Collaborators(ApplicationContext applicationContext) {
+            this.applicationContext = applicationContext;
+            this.converter = applicationContext.getBean(GenericSemanticModelDataConverter.class);
+            this.pipeline = applicationContext.getBean(ModelBuilderPipeline.class);
+        }
+
+        private WebRequestContext getWebRequestContext() {
+            // only needed for a rarely used path, so it is looked up on the first use
+            WebRequestContext context = webRequestContext;
+            if (context == null) {
+                context = applicationContext.getBean(WebRequestContext.class);
+                webRequestContext = context;
+            }
+            return context;
+        }
+
+        private static Collaborators resolve() {
+            ApplicationContext applicationContext = getContext();
+            Collaborators collaborators = sharedCollaborators;
+            if (collaborators == null || collaborators.applicationContext != applicationContext) {
+                collaborators = new Collaborators(applicationContext);
+                sharedCollaborators = collaborators;
+            }
+            return collaborators;
+        }
+    }
 }
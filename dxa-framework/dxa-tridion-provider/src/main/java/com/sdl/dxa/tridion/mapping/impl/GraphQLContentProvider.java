@@ -35,8 +35,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
@@ -44,6 +44,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.servlet.http.HttpSession;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +66,7 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
     private final WebRequestContext webRequestContext;
     private ApiClientProvider pcaClientProvider;
     private CacheManager cacheManager;
+    private final Cache staticContentItemsCache;
 
     @Autowired
     public GraphQLContentProvider(WebRequestContext webRequestContext,
@@ -76,6 +78,7 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
         this.webRequestContext = webRequestContext;
         this.pcaClientProvider = pcaClientProvider;
         this.cacheManager = cacheManager;
+        this.staticContentItemsCache = cacheManager.getCache("staticContentItems");
         this.staticContentResolver = staticContentResolver;
         this.builderPipeline = builderPipeline;
         this.graphQLProvider = graphQLProvider;
@@ -175,29 +178,45 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
     }
 
     protected PageModel loadPage(String path, Localization localization) throws ContentProviderException {
+        PageModelData pageModelData = loadPageData(path, localization, () -> fetchPageData(path, localization));
+
+        return builderPipeline.createPageModel(pageModelData);
+    }
+
+    @Override
+    PageModel loadPage(int pageId, Localization localization) throws ContentProviderException {
+        PageModelData pageModelData = loadPageData(pageId, localization, () -> fetchPageData(pageId, localization));
+
+        return builderPipeline.createPageModel(pageModelData);
+    }
+
+    @Override
+    PageModelData fetchPageData(String path, Localization localization) throws ContentProviderException {
         PageRequestDto pageRequest = PageRequestDto.builder(localization.getId(), path)
                 .includePages(PageRequestDto.PageInclusion.INCLUDE)
                 .uriType(localization.getCmUriScheme())
                 .build();
-        PageModelData pageModelData = graphQLProvider.loadPage(PageModelData.class, pageRequest, ContentType.MODEL);
-
-        return builderPipeline.createPageModel(pageModelData);
+        return graphQLProvider.loadPage(PageModelData.class, pageRequest, ContentType.MODEL);
     }
 
     @Override
-    PageModel loadPage(int pageId, Localization localization) throws ContentProviderException {
-        PageModelData pageModelData = graphQLProvider.loadPage(PageModelData.class,
+    PageModelData fetchPageData(int pageId, Localization localization) throws ContentProviderException {
+        return graphQLProvider.loadPage(PageModelData.class,
                 localization.getCmUriScheme(), Integer.parseInt(localization.getId()), pageId,
                 ContentType.MODEL, DataModelType.R2, PageInclusion.INCLUDE, null);
+    }
 
-        return builderPipeline.createPageModel(pageModelData);
+    @Override
+    EntityModelData fetchEntityData(String componentId, Localization localization) throws ContentProviderException {
+        EntityRequestDto entityRequest = EntityRequestDto.builder(localization.getId(), componentId).build();
+        return graphQLProvider.getEntityModelData(entityRequest);
     }
 
     @NotNull
     protected EntityModel getEntityModel(String componentId) throws ContentProviderException {
         Localization localization = webRequestContext.getLocalization();
-        EntityRequestDto entityRequest = EntityRequestDto.builder(localization.getId(), componentId).build();
-        EntityModelData entityModelData = graphQLProvider.getEntityModelData(entityRequest);
+        EntityModelData entityModelData = loadEntityData(componentId, localization,
+                () -> fetchEntityData(componentId, localization));
         try {
             return builderPipeline.createEntityModel(entityModelData);
         } catch (DxaException ex) {
@@ -205,11 +224,13 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The items are cached in {@code staticContentItems}. The base URL of the request is read before the cache
+     * lookup, so that the loader does not need the request: a {@link com.sdl.dxa.caching.RevalidatingCache} runs it
+     * in the background to revalidate a stale item.</p>
+     */
     @Override
-    @Cacheable(condition = "#binaryId != null && #localization != null && #localization.id != null",
-            cacheNames = "staticContentItems",
-            key = "{#binaryId, #localization.id}",
-            sync = true)
     public StaticContentItem getStaticContent(int binaryId, Localization localization) throws ContentProviderException {
         String localizationId = localization.getId();
         String localizationPath = localization.getPath();
@@ -219,7 +240,18 @@ public class GraphQLContentProvider extends AbstractContentProvider implements C
                 .baseUrl(webRequestContext.getBaseUrl())
                 .uriType(contentNamespace)
                 .build();
-        return staticContentResolver.getStaticContent(requestDto);
+        if (localizationId == null) {
+            return staticContentResolver.getStaticContent(requestDto);
+        }
+        try {
+            return staticContentItemsCache.get(Arrays.asList(binaryId, localizationId),
+                    () -> staticContentResolver.getStaticContent(requestDto));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof ContentProviderException) {
+                throw (ContentProviderException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -41,21 +41,16 @@ import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -89,12 +84,18 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     private DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     private ThreadLocal<DocumentBuilder> documentBuilderThreadLocal = new ThreadLocal<>();
     private ThreadLocal<Transformer> transformerThreadLocal = new ThreadLocal<>();
-    private XPathFactory xPathFactory = XPathFactory.newInstance();
-    private final XPathExpression linkXPath;
-    private ThreadLocal<Map<String, XPathExpression>> xpathExpressionCacheThreadLocal = new ThreadLocal<>();
+    private final boolean filterXPathResultsOverridden;
 
+    /**
+     * Creates the builder. It does not compile XPath expressions anymore, the exception is only declared so that
+     * code which creates the builder and handles it keeps compiling.
+     *
+     * @throws XPathExpressionException never
+     */
     public StronglyTypedTopicBuilder() throws XPathExpressionException {
-        linkXPath = getXpathExpression(".//a");
+        Method filterXPathResults = ReflectionUtils.findMethod(getClass(), "filterXPathResults", NodeList.class, String.class);
+        this.filterXPathResultsOverridden = filterXPathResults != null
+                && filterXPathResults.getDeclaringClass() != StronglyTypedTopicBuilder.class;
     }
 
     /**
@@ -149,12 +150,9 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
 
     protected Element parseXhtml(GenericTopic genericTopic) throws ParserConfigurationException, IOException, SAXException {
         DocumentBuilder builder = getBuilder();
-        StringBuilder xmlStringBuilder = new StringBuilder();
-        xmlStringBuilder.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>");
-        xmlStringBuilder.append("<topic>");
-        xmlStringBuilder.append(genericTopic.getTopicBody());
-        xmlStringBuilder.append("</topic>");
-        Document topicXmlDoc = builder.parse(new InputSource(new StringReader(xmlStringBuilder.toString())));
+        // Wrap the XHTML fragment into a root element while reading instead of copying the body into a new string
+        Document topicXmlDoc = builder.parse(new InputSource(
+                new WrappingReader("<topic>", String.valueOf(genericTopic.getTopicBody()), "</topic>")));
 
         Element topicElement = topicXmlDoc.getDocumentElement();
 
@@ -202,28 +200,12 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     }
 
     /**
-     * Get a XPathExpression for a string.
-     * This implementation ensures that you get a XPathExpression that is specific for this thread.
+     * Returns the XPath expression equivalent to the selection made by {@link #selectElements(Element, String)}.
+     * It is not evaluated by this builder and is only used for logging.
      *
-     * @param xPath
-     * @return a XpathExpression
-     * @throws XPathExpressionException
+     * @param propertyName DITA property name
+     * @return XPath expression
      */
-    private XPathExpression getXpathExpression(String xPath) throws XPathExpressionException {
-        Map<String, XPathExpression> xpathExpressionCache = xpathExpressionCacheThreadLocal.get();
-        if (xpathExpressionCache == null) {
-            xpathExpressionCache = new HashMap<>();
-            xpathExpressionCacheThreadLocal.set(xpathExpressionCache);
-        }
-
-        XPathExpression result = xpathExpressionCache.get(xPath);
-        if (result == null) {
-            result = xPathFactory.newXPath().compile(xPath);
-            xpathExpressionCache.put(xPath, result);
-        }
-        return result;
-    }
-
     protected String getPropertyXPath(String propertyName) {
         if (SELF.equals(propertyName))
             return ".";
@@ -237,26 +219,108 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
     }
 
     /**
-     * Filters the XHTML elements found by the XPath query.
+     * Selects the XHTML elements for a DITA property by walking the DOM tree.
+     *
+     * The selection is the same as evaluating {@link #getPropertyXPath(String)} on the context element:
+     * for each segment of the property name, the descendants whose class attribute contains the segment,
+     * in document order and without duplicates. No XPath engine is involved, so no extra tree model is built
+     * for every evaluation.
+     *
+     * @param contextElement element to select from
+     * @param propertyName DITA property name
+     * @return selected elements, possibly empty
+     */
+    protected List<Element> selectElements(Element contextElement, String propertyName) {
+        return selectElements(contextElement, propertyName, Integer.MAX_VALUE);
+    }
+
+    private List<Element> selectElements(Element contextElement, String propertyName, int limit) {
+        if (SELF.equals(propertyName)) {
+            List<Element> result = new ArrayList<>(1);
+            result.add(contextElement);
+            return result;
+        }
+
+        String[] propertyNameSegments = propertyName.split("/");
+        List<Element> current = Collections.singletonList(contextElement);
+        for (int i = 0; i < propertyNameSegments.length; i++) {
+            int segmentLimit = i == propertyNameSegments.length - 1 ? limit : Integer.MAX_VALUE;
+            List<Element> next = new ArrayList<>();
+            Element scope = null;
+            for (Element element : current) {
+                // Descendants of an element nested in the previous scope were already visited
+                if (scope != null && isDescendant(element, scope)) {
+                    continue;
+                }
+                scope = element;
+                if (collectDescendants(element, propertyNameSegments[i], segmentLimit, next)) {
+                    break;
+                }
+            }
+            if (next.isEmpty()) {
+                return next;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Adds descendants of the given element whose class attribute contains the class fragment in document order.
+     *
+     * @return whether the limit was reached
+     */
+    private static boolean collectDescendants(Element root, String classFragment, int limit, List<Element> result) {
+        Node node = root.getFirstChild();
+        while (node != null) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                if (((Element) node).getAttribute("class").contains(classFragment)) {
+                    result.add((Element) node);
+                    if (result.size() >= limit) {
+                        return true;
+                    }
+                }
+                if (node.hasChildNodes()) {
+                    node = node.getFirstChild();
+                    continue;
+                }
+            }
+            while (node.getNextSibling() == null) {
+                node = node.getParentNode();
+                if (node == root) {
+                    return false;
+                }
+            }
+            node = node.getNextSibling();
+        }
+        return false;
+    }
+
+    private static boolean isDescendant(Node node, Node ancestor) {
+        for (Node parent = node.getParentNode(); parent != null; parent = parent.getParentNode()) {
+            if (parent == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Filters the XHTML elements selected for a DITA property.
      *
-     * Because we use "contains" in the XPath, it may match on part of a class name.
+     * Because the selection uses "contains", it may match on part of a class name.
      * We filter out any partial matches here.
      *
-     * @param htmlNodes list of html nodes
+     * @param htmlElements selected elements
      * @param ditaPropertyName property name
-     * @return List of filtered elements
+     * @return List of filtered elements or null if nothing was selected
      */
-    protected List<Element> filterXPathResults(NodeList htmlNodes, String ditaPropertyName) {
-        if (htmlNodes == null || htmlNodes.getLength() == 0)
+    protected List<Element> filterElements(List<Element> htmlElements, String ditaPropertyName) {
+        if (htmlElements == null || htmlElements.isEmpty())
             return null;
 
-        List<Element> result = new ArrayList<>(htmlNodes.getLength());
-
         if (ditaPropertyName.equals(SELF)) {
-            for (int i = 0; i < htmlNodes.getLength(); i++) {
-                result.add((Element) htmlNodes.item(i));
-            }
-            return result;
+            return htmlElements;
         }
 
         // Only look at last path segment
@@ -264,18 +328,66 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         if (lastSlashPos >= 0)
             ditaPropertyName = ditaPropertyName.substring(lastSlashPos + 1);
 
+        List<Element> result = new ArrayList<>(htmlElements.size());
+        for (Element htmlElement : htmlElements) {
+            if (hasClass(htmlElement.getAttribute("class"), ditaPropertyName)) {
+                result.add(htmlElement);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filters the XHTML elements found by an XPath query.
+     *
+     * @param htmlNodes list of html nodes
+     * @param ditaPropertyName property name
+     * @return List of filtered elements
+     * The builder does not evaluate XPath anymore, but if a subclass overrides this method,
+     * the selected elements are passed to it instead of to {@link #filterElements(List, String)}.
+     *
+     * @deprecated the builder does not evaluate XPath anymore, override {@link #filterElements(List, String)}
+     */
+    @Deprecated
+    protected List<Element> filterXPathResults(NodeList htmlNodes, String ditaPropertyName) {
+        if (htmlNodes == null || htmlNodes.getLength() == 0)
+            return null;
+
+        List<Element> elements = new ArrayList<>(htmlNodes.getLength());
         for (int i = 0; i < htmlNodes.getLength(); i++) {
             Node htmlNode = htmlNodes.item(i);
             if (htmlNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element htmlElement = (Element) htmlNode;
+                elements.add((Element) htmlNode);
+            }
+        }
+        return filterElements(elements, ditaPropertyName);
+    }
 
-                String[] classes = htmlElement.getAttribute("class").split(" ");
-                if (new HashSet(Arrays.asList(classes)).contains(ditaPropertyName)) {
-                    result.add(htmlElement);
-                }
+    /**
+     * Filters the selected elements with {@link #filterXPathResults(NodeList, String)} if a subclass overrides it,
+     * so that the override keeps working, or with {@link #filterElements(List, String)} otherwise.
+     */
+    @SuppressWarnings("deprecation")
+    private List<Element> filterSelectedElements(List<Element> htmlElements, String ditaPropertyName) {
+        return filterXPathResultsOverridden
+                ? filterXPathResults(new ElementList(htmlElements), ditaPropertyName)
+                : filterElements(htmlElements, ditaPropertyName);
+    }
+
+    /**
+     * Checks whether a space-separated class attribute contains the class name as a whole token.
+     */
+    private static boolean hasClass(String classes, String className) {
+        int length = className.length();
+        int from = 0;
+        while ((from = classes.indexOf(className, from)) >= 0) {
+            int end = from + length;
+            if ((from == 0 || classes.charAt(from - 1) == ' ') && (end == classes.length() || classes.charAt(end) == ' ')) {
+                return true;
             }
+            from++;
         }
-        return result;
+        return false;
     }
 
     protected <T extends ViewModel> Class<T> determineTopicType(Element rootElement, Map<String, Field> registeredTopicTypes) {
@@ -291,18 +403,11 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
                 continue;
             }
 
-            String xPath = getPropertyXPath(propertyName);
-            XPathExpression xpathToTry = null;
-            Element matchedElement = null;
-
-            try {
-                xpathToTry = getXpathExpression(xPath);
-
-                LOG.debug("Trying XPath \"" + xPath + "\" for type '" + modelType.getDeclaringClass().getName() + "'");
-                matchedElement = (Element) xpathToTry.evaluate(rootElement, XPathConstants.NODE);
-            } catch (XPathExpressionException e) {
-                LOG.warn("Error evaluating Xpath", e);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Trying XPath \"" + getPropertyXPath(propertyName) + "\" for type '" + modelType.getDeclaringClass().getName() + "'");
             }
+            List<Element> matchedElements = selectElements(rootElement, propertyName, 1);
+            Element matchedElement = matchedElements.isEmpty() ? null : matchedElements.get(0);
 
             if (matchedElement != null) {
                 LOG.debug("Matching XHTML element found.");
@@ -355,28 +460,16 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
             List<Element> htmlElements = null;
             for (FieldSemantics fieldSemantics : registrySemantics) {
                 String ditaPropertyName = fieldSemantics.getPropertyName();
-                String propertyXPath = getPropertyXPath(ditaPropertyName);
-                XPathExpression xpathToTry = null;
-                NodeList xPathResults = null;
-
-                try {
-                    xpathToTry = getXpathExpression(propertyXPath);
-
-                    LOG.debug("Trying XPath \"" + propertyXPath + "\" for property '" + fieldSemantics.getPropertyName() + "'");
-                    xPathResults = (NodeList) xpathToTry.evaluate(rootElement, XPathConstants.NODESET);
-                    htmlElements = filterXPathResults(xPathResults, ditaPropertyName);
-                    if (htmlElements != null && !htmlElements.isEmpty()) {
-                        setFieldValueViaFieldAccess(stronglyTypedTopic, field, htmlElements);
-                    }
-                    LOG.debug("No XHTML elements found for DITA property '" + ditaPropertyName + "'.");
-                } catch (XPathExpressionException e) {
-                    LOG.warn("Failed to evaluate Xpath", e);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Trying XPath \"" + getPropertyXPath(ditaPropertyName) + "\" for property '" + ditaPropertyName + "'");
                 }
+                htmlElements = filterSelectedElements(selectElements(rootElement, ditaPropertyName), ditaPropertyName);
                 if (htmlElements == null || htmlElements.isEmpty()) {
-                    LOG.debug("Unable to map property '" + fieldSemantics.getPropertyName() + "'");
+                    LOG.debug("No XHTML elements found for DITA property '" + ditaPropertyName + "'.");
                     continue;
                 }
                 LOG.debug(htmlElements.size() + " XHTML elements found.");
+                setFieldValueViaFieldAccess(stronglyTypedTopic, field, htmlElements);
             }
         });
     }
@@ -448,11 +541,8 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         if ("a".equals(htmlElement.getTagName())) {
             hyperlink = htmlElement;
         } else {
-            try {
-                hyperlink = (Element) linkXPath.evaluate(htmlElement, XPathConstants.NODE);
-            } catch (XPathExpressionException e) {
-                LOG.warn("Couldn't find <a> tag in {}", htmlElement, e);
-            }
+            // Same as the first match of ".//a"; the node list is evaluated lazily and stops at the first match
+            hyperlink = (Element) htmlElement.getElementsByTagName("a").item(0);
             if (hyperlink == null) {
                 LOG.debug("No hyperlink found in XHTML element: {}", htmlElement);
                 return null;
@@ -509,4 +599,64 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
         //Just after DefaultModelBuilder (which has Ordered.HIGHEST_PRECEDENCE)
         return Ordered.HIGHEST_PRECEDENCE + 1;
     }
+
+    /**
+     * Exposes selected elements as a {@link NodeList} for overrides of {@link #filterXPathResults(NodeList, String)}.
+     */
+    private static final class ElementList implements NodeList {
+
+        private final List<Element> elements;
+
+        private ElementList(List<Element> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Node item(int index) {
+            return index >= 0 && index < elements.size() ? elements.get(index) : null;
+        }
+
+        @Override
+        public int getLength() {
+            return elements.size();
+        }
+    }
+
+    /**
+     * Reads a sequence of strings as one character stream without concatenating them.
+     */
+    private static final class WrappingReader extends Reader {
+
+        private final String[] parts;
+
+        private int part;
+
+        private int position;
+
+        private WrappingReader(String... parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            while (part < parts.length && position == parts[part].length()) {
+                part++;
+                position = 0;
+            }
+            if (part == parts.length) {
+                return -1;
+            }
+            int count = Math.min(length, parts[part].length() - position);
+            parts[part].getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
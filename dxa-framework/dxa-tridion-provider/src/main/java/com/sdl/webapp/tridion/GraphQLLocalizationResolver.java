@@ -103,23 +103,36 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         if (localization == null) {
             return false;
         }
-        String localizationId = localization.getId();
+        return refreshLocalization(localization.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean refreshLocalization(String localizationId) {
+        if (localizationId == null) {
+            return false;
+        }
         Set<String> toRemove = new HashSet<>();
-        for (Map.Entry<String, Localization> entry : localizations.entrySet()) {
-            String id = entry.getValue().getId();
-            if (id != null && id.equals(localizationId)) {
-                toRemove.add(entry.getKey());
-                LOG.debug("Found cached localization with id: {} and url: {}",
-                        localizationId, entry.getKey());
+        synchronized (localizations) {
+            for (Map.Entry<String, Localization> entry : localizations.entrySet()) {
+                String id = entry.getValue().getId();
+                if (id != null && id.equals(localizationId)) {
+                    toRemove.add(entry.getKey());
+                    LOG.debug("Found cached localization with id: {} and url: {}",
+                            localizationId, entry.getKey());
+                }
             }
         }
+        boolean removed = false;
         for (String idToRemove : toRemove) {
             if (localizations.remove(idToRemove) != null) {
                 LOG.debug("Removed cached localization with id: {}", localizationId);
-                return true;
+                removed = true;
             }
         }
-        return false;
+        return removed;
     }
 
     protected PublicationMappingData getPublicationMappingData(String url) throws PublicationMappingNotFoundException {
@@ -89,7 +89,17 @@ public class TridionLocalizationResolver implements LocalizationResolver {
         if (localization == null) {
             return false;
         }
-        String localizationId = localization.getId();
+        return refreshLocalization(localization.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean refreshLocalization(String localizationId) {
+        if (localizationId == null) {
+            return false;
+        }
         if (localizations.remove(localizationId) != null) {
             LOG.debug("Removed cached localization with id: {}", localizationId);
             return true;
@@ -1,16 +1,22 @@
 package com.sdl.webapp.tridion.contextengine;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.sdl.context.api.Aspect;
 import com.sdl.context.api.ContextMap;
 import com.sdl.context.api.exception.ResolverException;
 import com.sdl.context.api.resolution.Evidence;
 import com.sdl.context.api.resolution.EvidenceBuilder;
 import com.sdl.context.odata.client.api.ODataContextEngine;
+import com.sdl.dxa.performance.CacheMetrics;
+import com.sdl.dxa.performance.MetricsRegistry;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.contextengine.ContextClaimsProvider;
-import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.exceptions.DxaException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,14 +27,28 @@ import javax.servlet.http.HttpServletRequest;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
-
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Context claims provider which resolves the claims with the Context Service.
+ * <p>Resolved claims are cached by the evidence they depend on: the normalized User-Agent, the <code>context</code>
+ * cookie and the publication ID if it is sent. The cache holds the claims already flattened to
+ * <code>aspect.property</code> names, for all aspects and per aspect, so repeated visitors with the same browser cost
+ * neither a call to the Context Service nor the flattening. The size and expiry of the cache are set with
+ * <code>dxa.context.claims.cache.size</code> (entries, 0 disables the cache) and
+ * <code>dxa.context.claims.cache.expiry</code> (seconds).</p>
+ */
 @Component
 @Slf4j
 public class ContextServiceClaimsProvider implements ContextClaimsProvider {
 
     private static final String CONTEXT_COOKIE_NAME = "context";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final CacheMetrics CACHE_METRICS = MetricsRegistry.getDefault().cache("contextClaims");
+
     @Value("${dxa.context.service.publication.id:false}")
     private boolean isPublicationIdExpected;
 
@@ -41,55 +61,45 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
     @Autowired
     private HttpServletRequest request;
 
-    private static Map<String, Object> getClaimsMap(ContextMap<? extends Aspect> contextMap, String aspectName) {
-
-        log.trace("#getClaimsMap(ContextMap<? extends Aspect> {}, String {})", contextMap, aspectName);
+    private Cache<ClaimsKey, ResolvedClaims> claimsCache;
 
-        if (contextMap == null) {
-            log.warn("contextMap is null for aspect {}, returning empty claims map", aspectName);
-            return Collections.emptyMap();
-        }
+    @Autowired
+    void configureClaimsCache(@Value("${dxa.context.claims.cache.size:10000}") long maximumSize,
+                              @Value("${dxa.context.claims.cache.expiry:3600}") long expirySeconds) {
+        claimsCache = maximumSize <= 0 ? null : CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expirySeconds, TimeUnit.SECONDS)
+                .build();
+    }
 
-        if (Strings.isNullOrEmpty(aspectName)) {
-            Set<String> keySet = contextMap.keySet();
-            Map<String, Object> result = new HashMap<>(keySet.size());
-            for (String key : keySet) {
-                if (!Strings.isNullOrEmpty(key)) {
-                    result.putAll(getClaimsMap(contextMap, key));
-                }
-            }
+    @Override
+    public Map<String, Object> getContextClaims(String aspectName) throws DxaException {
+        ClaimsKey key = new ClaimsKey(normalizeUserAgent(request.getHeader("user-agent")), getContextCookie(),
+                isPublicationIdExpected ? Integer.valueOf(webRequestContext.getLocalization().getId()) : null);
 
-            return result;
-        } else {
-            return getClaimsForAspect(contextMap, aspectName);
+        ResolvedClaims claims = claimsCache == null ? null : claimsCache.getIfPresent(key);
+        if (claimsCache != null) {
+            CACHE_METRICS.record(claims != null);
         }
-    }
-
-    private static Map<String, Object> getClaimsForAspect(ContextMap<? extends Aspect> contextMap, String aspectName) {
-        Aspect aspect = contextMap.get(aspectName);
-        Map<String, Object> result = new HashMap<>(aspect.size());
-        for (String key : aspect.keySet()) {
-            result.put(String.format("%s.%s", aspectName, key), aspect.get(key));
+        if (claims == null) {
+            claims = resolve(key, aspectName);
+            if (claimsCache != null && claims != ResolvedClaims.EMPTY) {
+                claimsCache.put(key, claims);
+            }
         }
-        return result;
+        return claims.get(aspectName);
     }
 
-    @Override
-    public Map<String, Object> getContextClaims(String aspectName) throws DxaException {
+    private ResolvedClaims resolve(ClaimsKey key, String aspectName) throws DxaException {
         EvidenceBuilder evidenceBuilder = new EvidenceBuilder()
-                .with("user-agent", request.getHeader("user-agent"));
+                .with("user-agent", key.getUserAgent());
 
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if (CONTEXT_COOKIE_NAME.equals(cookie.getName())) {
-                    evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + cookie.getValue());
-                }
-            }
+        if (key.getContextCookie() != null) {
+            evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + key.getContextCookie());
         }
 
-        if (isPublicationIdExpected) {
-            Localization localization = webRequestContext.getLocalization();
-            evidenceBuilder.withPublicationId(Integer.valueOf(localization.getId()));
+        if (key.getPublicationId() != null) {
+            evidenceBuilder.withPublicationId(key.getPublicationId());
         }
 
         ContextMap<? extends Aspect> contextMap;
@@ -105,11 +115,93 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
             throw new DxaException("An error occurred while resolving evidence using the Context Service.", e);
         }
 
-        return getClaimsMap(contextMap, aspectName);
+        if (contextMap == null) {
+            log.warn("contextMap is null for aspect {}, returning empty claims map", aspectName);
+            return ResolvedClaims.EMPTY;
+        }
+        return ResolvedClaims.of(contextMap);
+    }
+
+    private String getContextCookie() {
+        String value = null;
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (CONTEXT_COOKIE_NAME.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Normalizes the User-Agent header, so that headers which differ only in surrounding or repeated whitespace
+     * share a cache entry.
+     */
+    static String normalizeUserAgent(String userAgent) {
+        if (userAgent == null) {
+            return null;
+        }
+        return WHITESPACE.matcher(userAgent.trim()).replaceAll(" ");
     }
 
     @Override
     public String getDeviceFamily() {
         return null;
     }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class ClaimsKey {
+
+        private final String userAgent;
+
+        private final String contextCookie;
+
+        private final Integer publicationId;
+    }
+
+    /**
+     * Claims of a context map flattened to <code>aspect.property</code> names, for all aspects and per aspect.
+     */
+    private static final class ResolvedClaims {
+
+        private static final ResolvedClaims EMPTY = new ResolvedClaims(Collections.emptyMap(), Collections.emptyMap());
+
+        private final Map<String, Object> allClaims;
+
+        private final Map<String, Map<String, Object>> claimsByAspect;
+
+        private ResolvedClaims(Map<String, Object> allClaims, Map<String, Map<String, Object>> claimsByAspect) {
+            this.allClaims = allClaims;
+            this.claimsByAspect = claimsByAspect;
+        }
+
+        static ResolvedClaims of(ContextMap<? extends Aspect> contextMap) {
+            Map<String, Object> allClaims = new HashMap<>();
+            Map<String, Map<String, Object>> claimsByAspect = new HashMap<>();
+            for (String aspectName : contextMap.keySet()) {
+                Aspect aspect = contextMap.get(aspectName);
+                if (Strings.isNullOrEmpty(aspectName) || aspect == null) {
+                    continue;
+                }
+                Map<String, Object> claims = new HashMap<>(aspect.size());
+                String prefix = aspectName + '.';
+                for (String key : aspect.keySet()) {
+                    claims.put(prefix + key, aspect.get(key));
+                }
+                allClaims.putAll(claims);
+                claimsByAspect.put(aspectName, Collections.unmodifiableMap(claims));
+            }
+            return new ResolvedClaims(Collections.unmodifiableMap(allClaims), claimsByAspect);
+        }
+
+        Map<String, Object> get(String aspectName) {
+            if (Strings.isNullOrEmpty(aspectName)) {
+                return allClaims;
+            }
+            return claimsByAspect.getOrDefault(aspectName, Collections.emptyMap());
+        }
+    }
 }
@@ -71,7 +71,7 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
 
     @Override
     public SitemapItem getNavigationModel(Localization localization) throws NavigationProviderException {
-        try(Performance perf = new Performance(1_000L, "getNavigationModel")) {
+        try (Performance perf = new Performance(1_000L, "navigation.model")) {
             Optional<SitemapItemModelData> navigationModel = getNavigationModelInternal(localization);
 
             if (!navigationModel.isPresent()) {
@@ -84,7 +84,7 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
 
     @Override
     public NavigationLinks getTopNavigationLinks(String requestPath, Localization localization) throws NavigationProviderException {
-        try(Performance perf = new Performance(1_000L, "getTopNavigationLinks")) {
+        try (Performance perf = new Performance(1_000L, "navigation.top")) {
             Optional<SitemapItemModelData> navigationModel = getNavigationModelInternal(localization);
 
             if (!navigationModel.isPresent()) {
@@ -97,7 +97,7 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
 
     @Override
     public NavigationLinks getContextNavigationLinks(String requestPath, Localization localization) throws NavigationProviderException {
-        try(Performance perf = new Performance(1_000L, "getContextNavigationLinks")) {
+        try (Performance perf = new Performance(1_000L, "navigation.context")) {
             Optional<SitemapItemModelData> navigationModel = getNavigationModelInternal(localization);
 
             if (!navigationModel.isPresent()) {
@@ -118,7 +118,7 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
 
     @Override
     public NavigationLinks getBreadcrumbNavigationLinks(String requestPath, Localization localization) throws NavigationProviderException {
-        try(Performance perf = new Performance(1_000L, "getBreadcrumbNavigationLinks")) {
+        try (Performance perf = new Performance(1_000L, "navigation.breadcrumb")) {
             Optional<SitemapItemModelData> navigationModel = getNavigationModelInternal(localization);
 
             if (!navigationModel.isPresent()) {
@@ -135,7 +135,7 @@ public class DynamicNavigationProvider implements NavigationProvider, OnDemandNa
 
     @Override
     public Collection<SitemapItem> getNavigationSubtree(@Nullable String sitemapItemId, @NonNull NavigationFilter navigationFilter, @NonNull Localization localization) throws DxaItemNotFoundException {
-        try(Performance perf = new Performance(1_000L, "getNavigationSubtree")) {
+        try (Performance perf = new Performance(1_000L, "navigation.subtree")) {
             Optional<Collection<SitemapItemModelData>> subtree;
             SitemapRequestDto requestDto = SitemapRequestDto
                     .builder(Integer.parseInt(localization.getId()))
@@ -13,10 +13,10 @@ import org.jsoup.nodes.Comment;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
-import org.jsoup.select.Elements;
 
 /**
  * Entity XPM Markup
+ * <p>Injects the XPM markup of the entity and its properties into the rendered markup without parsing it.</p>
  *
  * @author nic
  */
@@ -32,7 +32,9 @@ public class EntityXpmMarkup implements MarkupDecorator {
      * <p>processProperty.</p>
      *
      * @param propertyElement a {@link org.jsoup.nodes.Element} object.
+     * @deprecated since the markup is not parsed any more, properties are processed by {@link XpmMarkupInjector}
      */
+    @Deprecated
     protected static void processProperty(Element propertyElement) {
 
         String xpath = propertyElement.attr("data-entity-property-xpath");
@@ -54,7 +56,9 @@ public class EntityXpmMarkup implements MarkupDecorator {
      *
      * @param propertyElement a {@link org.jsoup.nodes.Element} object.
      * @return a boolean.
+     * @deprecated since the markup is not parsed any more, properties are processed by {@link XpmMarkupInjector}
      */
+    @Deprecated
     protected static boolean propertyXpmMarkupAlreadyGenerated(Element propertyElement) {
         int index = 0;
         Node node = null;
@@ -76,6 +80,15 @@ public class EntityXpmMarkup implements MarkupDecorator {
         return new HtmlCommentNode(entity.getXpmMarkup(localization));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>XPM markup is only generated in a preview session.</p>
+     */
+    @Override
+    public boolean isMarkupRequired(ViewModel model, WebRequestContext webRequestContext) {
+        return webRequestContext.isSessionPreview();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -93,15 +106,10 @@ public class EntityXpmMarkup implements MarkupDecorator {
 
             // Inject the XPM markup inside the entity markup
             //
-            ParsableHtmlNode entityMarkup = (ParsableHtmlNode) markup;
-            Element html = entityMarkup.getHtmlElement();
-            if (html != null) {   // If an HTML element (not a comment etc)
-                html.prepend(buildXpmMarkup(entity, webRequestContext.getLocalization()).toHtml());
-                Elements properties = html.select("[data-entity-property-xpath]");
-                for (Element property : properties) {
-                    processProperty(property);
-                }
-
+            String injected = XpmMarkupInjector.injectEntityMarkup(markup.toHtml(),
+                    buildXpmMarkup(entity, webRequestContext.getLocalization()).toHtml());
+            if (injected != null) {   // If an HTML element (not a comment etc)
+                markup = new ParsableHtmlNode(injected);
                 markupInjected = true;
             }
         }
@@ -0,0 +1,385 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Minimal tokenizer of rendered HTML fragments used to inject XPM markup without building a DOM.
+ * <p>This is not a parser: it only splits the markup into text, tags, comments and declarations, knows which elements
+ * are void and which contain raw text, and does not decode anything but attribute values. Positions are indexes
+ * in the original string, so the markup can be copied through unchanged except for the places which are edited.</p>
+ */
+final class HtmlTokenizer {
+
+    enum Token {
+        TEXT, START_TAG, END_TAG, COMMENT, DECLARATION, END
+    }
+
+    private static final Set<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList("area", "base", "br", "col", "embed",
+            "hr", "img", "input", "keygen", "link", "meta", "param", "source", "track", "wbr"));
+
+    private static final Set<String> RAW_TEXT_ELEMENTS = new HashSet<>(Arrays.asList("script", "style", "textarea",
+            "title", "xmp", "iframe", "noembed", "noframes"));
+
+    private final String html;
+
+    private final int length;
+
+    private int position;
+
+    private Token token;
+
+    private int tokenStart;
+
+    private int tokenEnd;
+
+    private int nameEnd;
+
+    private String tagName;
+
+    private boolean selfClosing;
+
+    private String rawTextElement;
+
+    HtmlTokenizer(String html) {
+        this(html, 0);
+    }
+
+    HtmlTokenizer(String html, int position) {
+        this.html = html;
+        this.length = html.length();
+        this.position = position;
+    }
+
+    /**
+     * Moves to the next token.
+     *
+     * @return type of the token
+     */
+    Token next() {
+        tokenStart = position;
+        tagName = null;
+        selfClosing = false;
+        if (position >= length) {
+            tokenEnd = length;
+            return token = Token.END;
+        }
+
+        if (rawTextElement != null) {
+            String element = rawTextElement;
+            rawTextElement = null;
+            int end = indexOfEndTag(element, position);
+            if (end > position) {
+                return text(end);
+            }
+        }
+
+        if (html.charAt(position) == '<' && position + 1 < length) {
+            char next = html.charAt(position + 1);
+            if (html.startsWith("<!--", position)) {
+                return comment();
+            }
+            if (next == '!' || next == '?') {
+                int end = html.indexOf('>', position);
+                return token(Token.DECLARATION, end < 0 ? length : end + 1);
+            }
+            if (next == '/' && position + 2 < length && isLetter(html.charAt(position + 2))) {
+                readTagName(position + 2);
+                int end = html.indexOf('>', nameEnd);
+                return token(Token.END_TAG, end < 0 ? length : end + 1);
+            }
+            if (isLetter(next)) {
+                return startTag();
+            }
+        }
+        int end = html.indexOf('<', position + 1);
+        return text(end < 0 ? length : end);
+    }
+
+    Token getToken() {
+        return token;
+    }
+
+    int getTokenStart() {
+        return tokenStart;
+    }
+
+    int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Returns the lower-cased name of the current start or end tag.
+     */
+    String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Returns whether the current start tag cannot have children, because it is void or self-closing.
+     */
+    boolean isEmptyElement() {
+        return selfClosing || VOID_ELEMENTS.contains(tagName);
+    }
+
+    /**
+     * Returns whether the current token is a text consisting of whitespace only.
+     */
+    boolean isWhitespace() {
+        if (token != Token.TEXT) {
+            return false;
+        }
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            if (!Character.isWhitespace(html.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the text of the current comment.
+     */
+    String getCommentData() {
+        int start = Math.min(tokenStart + 4, tokenEnd);
+        int end = html.startsWith("-->", tokenEnd - 3) ? Math.max(start, tokenEnd - 3) : tokenEnd;
+        return html.substring(start, end);
+    }
+
+    /**
+     * Finds an attribute of the current start tag.
+     *
+     * @param name lower-cased name of the attribute
+     * @return the attribute or {@code null} if the tag does not have it
+     */
+    Attribute getAttribute(String name) {
+        int index = nameEnd;
+        int end = selfClosing ? tokenEnd - 2 : tokenEnd - 1;
+        while (index < end) {
+            int attributeStart = index;
+            while (index < end && (Character.isWhitespace(html.charAt(index)) || html.charAt(index) == '/')) {
+                index++;
+            }
+            int attributeNameStart = index;
+            while (index < end && !isAttributeNameEnd(html.charAt(index))) {
+                index++;
+            }
+            int attributeNameEnd = index;
+            if (attributeNameEnd == attributeNameStart) {
+                index++;
+                continue;
+            }
+            while (index < end && Character.isWhitespace(html.charAt(index))) {
+                index++;
+            }
+            int valueStart = attributeNameEnd;
+            int valueEnd = attributeNameEnd;
+            if (index < end && html.charAt(index) == '=') {
+                index++;
+                while (index < end && Character.isWhitespace(html.charAt(index))) {
+                    index++;
+                }
+                if (index < end && (html.charAt(index) == '"' || html.charAt(index) == '\'')) {
+                    int close = html.indexOf(html.charAt(index), index + 1);
+                    valueStart = index + 1;
+                    valueEnd = close < 0 || close > end ? end : close;
+                    index = valueEnd + 1;
+                } else {
+                    valueStart = index;
+                    while (index < end && !Character.isWhitespace(html.charAt(index)) && html.charAt(index) != '>') {
+                        index++;
+                    }
+                    valueEnd = index;
+                }
+            } else {
+                index = attributeNameEnd;
+            }
+            if (html.regionMatches(true, attributeNameStart, name, 0, name.length())
+                    && attributeNameEnd - attributeNameStart == name.length()) {
+                return new Attribute(attributeStart, Math.min(index, end), decode(html, valueStart, valueEnd));
+            }
+        }
+        return null;
+    }
+
+    private Token startTag() {
+        readTagName(position + 1);
+        int index = nameEnd;
+        int end = -1;
+        while (index < length) {
+            char c = html.charAt(index);
+            if (c == '>') {
+                end = index + 1;
+                break;
+            }
+            if (c == '=') {
+                index++;
+                while (index < length && Character.isWhitespace(html.charAt(index))) {
+                    index++;
+                }
+                if (index < length && (html.charAt(index) == '"' || html.charAt(index) == '\'')) {
+                    int close = html.indexOf(html.charAt(index), index + 1);
+                    index = close < 0 ? length : close + 1;
+                }
+                continue;
+            }
+            index++;
+        }
+        if (end < 0) {
+            end = length;
+        }
+        selfClosing = end - 2 >= nameEnd && html.charAt(end - 1) == '>' && html.charAt(end - 2) == '/';
+        if (!selfClosing && RAW_TEXT_ELEMENTS.contains(tagName)) {
+            rawTextElement = tagName;
+        }
+        return token(Token.START_TAG, end);
+    }
+
+    private Token comment() {
+        int end;
+        if (html.startsWith("<!-->", position)) {
+            end = position + 5;
+        } else if (html.startsWith("<!--->", position)) {
+            end = position + 6;
+        } else {
+            int close = html.indexOf("-->", position + 4);
+            end = close < 0 ? length : close + 3;
+        }
+        return token(Token.COMMENT, end);
+    }
+
+    private Token text(int end) {
+        return token(Token.TEXT, end);
+    }
+
+    private Token token(Token type, int end) {
+        tokenEnd = end;
+        position = end;
+        return token = type;
+    }
+
+    private void readTagName(int from) {
+        int index = from;
+        while (index < length && !isTagNameEnd(html.charAt(index))) {
+            index++;
+        }
+        nameEnd = index;
+        tagName = html.substring(from, index).toLowerCase(Locale.ROOT);
+    }
+
+    private int indexOfEndTag(String element, int from) {
+        int index = from;
+        while ((index = html.indexOf("</", index)) >= 0) {
+            if (html.regionMatches(true, index + 2, element, 0, element.length())
+                    && (index + 2 + element.length() == length || isTagNameEnd(html.charAt(index + 2 + element.length())))) {
+                return index;
+            }
+            index += 2;
+        }
+        return length;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isTagNameEnd(char c) {
+        return Character.isWhitespace(c) || c == '/' || c == '>';
+    }
+
+    private static boolean isAttributeNameEnd(char c) {
+        return Character.isWhitespace(c) || c == '/' || c == '>' || c == '=';
+    }
+
+    /**
+     * Decodes the character references which may reasonably appear in attribute values written by views.
+     */
+    static String decode(String html, int start, int end) {
+        int ampersand = html.indexOf('&', start);
+        if (ampersand < 0 || ampersand >= end) {
+            return html.substring(start, end);
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        int index = start;
+        while (index < end) {
+            char c = html.charAt(index);
+            int semicolon = c == '&' ? html.indexOf(';', index) : -1;
+            if (semicolon < 0 || semicolon >= end) {
+                builder.append(c);
+                index++;
+                continue;
+            }
+            String reference = html.substring(index + 1, semicolon);
+            int codePoint = decodeReference(reference);
+            if (codePoint < 0) {
+                builder.append(c);
+                index++;
+            } else {
+                builder.appendCodePoint(codePoint);
+                index = semicolon + 1;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int decodeReference(String reference) {
+        switch (reference) {
+            case "amp":
+                return '&';
+            case "lt":
+                return '<';
+            case "gt":
+                return '>';
+            case "quot":
+                return '"';
+            case "apos":
+                return '\'';
+            case "nbsp":
+                return '\u00a0';
+            default:
+                break;
+        }
+        if (reference.length() < 2 || reference.charAt(0) != '#') {
+            return -1;
+        }
+        try {
+            boolean hex = reference.charAt(1) == 'x' || reference.charAt(1) == 'X';
+            int codePoint = Integer.parseInt(reference.substring(hex ? 2 : 1), hex ? 16 : 10);
+            return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Attribute of a start tag: the range to remove it from the tag (including the preceding whitespace) and its decoded value.
+     */
+    static final class Attribute {
+
+        private final int start;
+
+        private final int end;
+
+        private final String value;
+
+        Attribute(int start, int end, String value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        int getEnd() {
+            return end;
+        }
+
+        String getValue() {
+            return value;
+        }
+    }
+}
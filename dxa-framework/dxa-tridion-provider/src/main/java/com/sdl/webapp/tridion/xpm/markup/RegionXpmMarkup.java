@@ -11,12 +11,10 @@ import com.sdl.webapp.common.markup.html.HtmlCommentNode;
 import com.sdl.webapp.common.markup.html.HtmlNode;
 import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
 import com.sdl.webapp.common.markup.html.builders.HtmlBuilders;
-import org.jsoup.nodes.Comment;
-import org.jsoup.nodes.Element;
-import org.jsoup.nodes.Node;
 
 /**
  * Region XPM Markup
+ * <p>Injects the XPM markup of the region into the rendered markup without parsing it.</p>
  *
  * @author nic
  */
@@ -36,25 +34,19 @@ public class RegionXpmMarkup implements MarkupDecorator {
         this.xpmRegionConfig = xpmRegionConfig;
     }
 
-    private static boolean isFirstNodeXpmEntityXPMMarkup(Element html) {
-
-        for (Node child : html.childNodes()) {
-            if (child instanceof Element) {
-                return false;
-            } else if (child instanceof Comment) {
-                Comment comment = (Comment) child;
-                if (comment.getData().startsWith(" Start Component Presentation")) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     private static HtmlNode buildXpmMarkup(RegionModel region, Localization localization) {
         return new HtmlCommentNode(region.getXpmMarkup(localization));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>XPM markup is only generated in a preview session.</p>
+     */
+    @Override
+    public boolean isMarkupRequired(ViewModel model, WebRequestContext webRequestContext) {
+        return webRequestContext.isSessionPreview();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,10 +76,10 @@ public class RegionXpmMarkup implements MarkupDecorator {
 
                     // Inject the region markup with the XPM markup
                     //
-                    ParsableHtmlNode regionMarkup = (ParsableHtmlNode) markup;
-                    Element html = regionMarkup.getHtmlElement();
-                    if (html != null && !RegionXpmMarkup.isFirstNodeXpmEntityXPMMarkup(html)) {
-                        html.prepend(buildXpmMarkup(region, webRequestContext.getLocalization()).toHtml());
+                    String injected = XpmMarkupInjector.injectRegionMarkup(markup.toHtml(),
+                            buildXpmMarkup(region, webRequestContext.getLocalization()).toHtml());
+                    if (injected != null) {
+                        markup = new ParsableHtmlNode(injected);
                         markupInjected = true;
                     }
                 }
@@ -0,0 +1,208 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import com.sdl.webapp.common.markup.html.HtmlCommentNode;
+import com.sdl.webapp.tridion.xpm.markup.HtmlTokenizer.Attribute;
+import com.sdl.webapp.tridion.xpm.markup.HtmlTokenizer.Token;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Injects XPM markup into rendered HTML in one pass over the markup with {@link HtmlTokenizer}.
+ * <p>The markup is placed where the former Jsoup-based decorators placed it: inside the root element if the markup
+ * has a single root element, and at the beginning otherwise. If the markup starts with a comment, nothing is injected,
+ * and the caller surrounds the markup with a <code>span</code> as before.</p>
+ */
+final class XpmMarkupInjector {
+
+    static final String PROPERTY_XPATH_ATTRIBUTE = "data-entity-property-xpath";
+
+    private static final String FIELD_PATTERN = "Start Component Field: {\"XPath\":\"%s\"}";
+
+    private static final String FIELD_MARKER = "Start Component Field:";
+
+    private static final String COMPONENT_PRESENTATION_MARKER = " Start Component Presentation";
+
+    /**
+     * Result of {@link #findRoot(String)} if the markup starts with a comment or a declaration.
+     */
+    private static final int NOT_INJECTABLE = -1;
+
+    /**
+     * Result of {@link #findRoot(String)} if the markup does not have a single root element.
+     */
+    private static final int NO_ROOT = -2;
+
+    /**
+     * Elements which are implicitly closed by a start tag of the same element.
+     */
+    private static final Set<String> SELF_CLOSING_SIBLINGS = new HashSet<>(Arrays.asList("p", "li", "dt", "dd",
+            "option", "tr", "td", "th"));
+
+    private XpmMarkupInjector() {
+    }
+
+    /**
+     * Injects the entity XPM markup and the XPM markup of the entity properties.
+     *
+     * @param html      rendered entity
+     * @param xpmMarkup XPM markup of the entity
+     * @return the markup with XPM markup or {@code null} if the markup should be surrounded
+     */
+    static String injectEntityMarkup(String html, String xpmMarkup) {
+        int root = findRoot(html);
+        if (root == NOT_INJECTABLE) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(html.length() + xpmMarkup.length() + 128);
+        if (root == NO_ROOT) {
+            builder.append(xpmMarkup);
+        }
+
+        HtmlTokenizer tokenizer = new HtmlTokenizer(html);
+        int copied = 0;
+        while (tokenizer.next() != Token.END) {
+            if (tokenizer.getToken() != Token.START_TAG) {
+                continue;
+            }
+            boolean isRoot = tokenizer.getTokenStart() == root;
+            Attribute xpath = tokenizer.getAttribute(PROPERTY_XPATH_ATTRIBUTE);
+            if (xpath == null) {
+                if (isRoot) {
+                    builder.append(html, copied, tokenizer.getTokenEnd()).append(xpmMarkup);
+                    copied = tokenizer.getTokenEnd();
+                }
+                continue;
+            }
+
+            String fieldMarkup = new HtmlCommentNode(String.format(FIELD_PATTERN, xpath.getValue())).toHtml();
+            if (isRoot || hasChildren(tokenizer, html)) {
+                builder.append(html, copied, xpath.getStart()).append(html, xpath.getEnd(), tokenizer.getTokenEnd());
+                if (isRoot) {
+                    builder.append(fieldMarkup).append(xpmMarkup);
+                } else if (!isFieldMarkupGenerated(html, tokenizer.getTokenEnd())) {
+                    builder.append(fieldMarkup);
+                }
+            } else {
+                builder.append(html, copied, tokenizer.getTokenStart()).append(fieldMarkup)
+                        .append(html, tokenizer.getTokenStart(), xpath.getStart()).append(html, xpath.getEnd(), tokenizer.getTokenEnd());
+            }
+            copied = tokenizer.getTokenEnd();
+        }
+        return builder.append(html, copied, html.length()).toString();
+    }
+
+    /**
+     * Injects the region XPM markup.
+     *
+     * @param html      rendered region
+     * @param xpmMarkup XPM markup of the region
+     * @return the markup with XPM markup or {@code null} if the markup should be surrounded
+     */
+    static String injectRegionMarkup(String html, String xpmMarkup) {
+        int root = findRoot(html);
+        if (root == NOT_INJECTABLE) {
+            return null;
+        }
+        if (root == NO_ROOT) {
+            return xpmMarkup + html;
+        }
+
+        HtmlTokenizer tokenizer = new HtmlTokenizer(html, root);
+        tokenizer.next();
+        int rootEnd = tokenizer.getTokenEnd();
+        if (startsWithEntityMarkup(new HtmlTokenizer(html, rootEnd))) {
+            return null;
+        }
+        return new StringBuilder(html.length() + xpmMarkup.length())
+                .append(html, 0, rootEnd).append(xpmMarkup).append(html, rootEnd, html.length()).toString();
+    }
+
+    /**
+     * Returns the start of the single root element of the markup, {@link #NO_ROOT} if there is no single root element,
+     * or {@link #NOT_INJECTABLE} if the markup starts with a comment or a declaration.
+     */
+    private static int findRoot(String html) {
+        HtmlTokenizer tokenizer = new HtmlTokenizer(html);
+        Deque<String> openElements = new ArrayDeque<>();
+        int root = NO_ROOT;
+        boolean rootClosed = false;
+        while (tokenizer.next() != Token.END) {
+            if (tokenizer.isWhitespace()) {
+                continue;
+            }
+            Token token = tokenizer.getToken();
+            if (root == NO_ROOT) {
+                if (token == Token.COMMENT || token == Token.DECLARATION) {
+                    return NOT_INJECTABLE;
+                }
+                if (token != Token.START_TAG || tokenizer.isEmptyElement()) {
+                    return NO_ROOT;
+                }
+                root = tokenizer.getTokenStart();
+                openElements.push(tokenizer.getTagName());
+                continue;
+            }
+            if (rootClosed) {
+                return NO_ROOT;
+            }
+            if (token == Token.START_TAG && !tokenizer.isEmptyElement()) {
+                if (SELF_CLOSING_SIBLINGS.contains(tokenizer.getTagName()) && tokenizer.getTagName().equals(openElements.peek())) {
+                    openElements.pop();
+                    if (openElements.isEmpty()) {
+                        return NO_ROOT;
+                    }
+                }
+                openElements.push(tokenizer.getTagName());
+            } else if (token == Token.END_TAG && openElements.contains(tokenizer.getTagName())) {
+                while (!tokenizer.getTagName().equals(openElements.pop())) {
+                    // close the elements which are implicitly closed by this end tag
+                }
+                rootClosed = openElements.isEmpty();
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Returns whether the element which start tag is the current token has any child nodes.
+     */
+    private static boolean hasChildren(HtmlTokenizer tokenizer, String html) {
+        if (tokenizer.isEmptyElement()) {
+            return false;
+        }
+        Token next = new HtmlTokenizer(html, tokenizer.getTokenEnd()).next();
+        return next != Token.END && next != Token.END_TAG;
+    }
+
+    /**
+     * Returns whether the first child node after the text nodes is the XPM markup of a property.
+     */
+    private static boolean isFieldMarkupGenerated(String html, int from) {
+        HtmlTokenizer tokenizer = new HtmlTokenizer(html, from);
+        Token token;
+        do {
+            token = tokenizer.next();
+        } while (token == Token.TEXT);
+        return token == Token.COMMENT && tokenizer.getCommentData().contains(FIELD_MARKER);
+    }
+
+    /**
+     * Returns whether the XPM markup of an entity comes before the first child element.
+     */
+    private static boolean startsWithEntityMarkup(HtmlTokenizer tokenizer) {
+        Token token;
+        while ((token = tokenizer.next()) != Token.END) {
+            if (token == Token.COMMENT && tokenizer.getCommentData().startsWith(COMPONENT_PRESENTATION_MARKER)) {
+                return true;
+            }
+            if (token == Token.START_TAG || token == Token.END_TAG) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
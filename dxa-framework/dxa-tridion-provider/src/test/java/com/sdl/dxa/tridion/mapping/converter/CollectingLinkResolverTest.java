@@ -0,0 +1,70 @@
+package com.sdl.dxa.tridion.mapping.converter;
+
+import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.model.entity.Link;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class CollectingLinkResolverTest {
+
+    @Test
+    public void shouldDeferResolution_UntilResolveCollected() {
+        //given
+        LinkResolver linkResolver = mock(LinkResolver.class);
+        when(linkResolver.resolveLink("tcm:1-2", "1", "tcm:1-3-64")).thenReturn("/resolved");
+        CollectingLinkResolver collector = new CollectingLinkResolver();
+
+        //when
+        Link link = collector.collect(linkResolver, "tcm:1-2", "1", "tcm:1-3-64");
+
+        //then
+        assertNull(link.getUrl());
+        assertTrue(collector.hasPending());
+        verifyZeroInteractions(linkResolver);
+
+        //when
+        int resolved = collector.resolveCollected();
+
+        //then
+        assertEquals(1, resolved);
+        assertEquals("/resolved", link.getUrl());
+        assertFalse(collector.hasPending());
+    }
+
+    @Test
+    public void shouldResolveEachLinkOnce() {
+        //given
+        LinkResolver linkResolver = mock(LinkResolver.class);
+        when(linkResolver.resolveLink("tcm:1-2", "1", null)).thenReturn("/first");
+        when(linkResolver.resolveLink("tcm:1-4", "1", null)).thenReturn("/second");
+        CollectingLinkResolver collector = new CollectingLinkResolver();
+
+        //when
+        Link first = collector.collect(linkResolver, "tcm:1-2", "1", null);
+        Link firstAgain = collector.collect(linkResolver, "tcm:1-2", "1", null);
+        Link second = collector.collect(linkResolver, "tcm:1-4", "1", null);
+        int resolved = collector.resolveCollected();
+        Link firstLater = collector.collect(linkResolver, "tcm:1-2", "1", null);
+        String firstImmediate = collector.resolve(linkResolver, "tcm:1-2", "1", null);
+
+        //then
+        assertEquals(2, resolved);
+        assertEquals("/first", first.getUrl());
+        assertEquals("/first", firstAgain.getUrl());
+        assertEquals("/second", second.getUrl());
+        assertEquals("/first", firstLater.getUrl());
+        assertEquals("/first", firstImmediate);
+        assertFalse(collector.hasPending());
+        verify(linkResolver, times(1)).resolveLink("tcm:1-2", "1", null);
+        verify(linkResolver, times(1)).resolveLink("tcm:1-4", "1", null);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sdl.dxa.tridion.mapping.converter;
+
+import com.google.common.collect.Lists;
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.KeywordModelData;
+import com.sdl.dxa.api.datamodel.model.RichTextData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.Link;
+import org.junit.Test;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sdl.dxa.tridion.mapping.converter.SemanticModelConverter.getTypeInformation;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ConverterDispatchTableTest {
+
+    private static final long SEED = 20170511L;
+
+    private final NumberConverter numberConverter = new NumberConverter();
+
+    private final StringModelConverter stringConverter = new StringModelConverter();
+
+    private final ListWrapperConverter listWrapperConverter = new ListWrapperConverter();
+
+    private final RichTextDataConverter richTextConverter = new RichTextDataConverter();
+
+    private final EntityModelDataConverter entityConverter = new EntityModelDataConverter();
+
+    private final KeywordModelDataConverter keywordConverter = new KeywordModelDataConverter();
+
+    private final ContentModelDataConverter contentConverter = new ContentModelDataConverter(null);
+
+    private final ConverterDispatchTable table = new ConverterDispatchTable(Arrays.asList(numberConverter, stringConverter,
+            listWrapperConverter, richTextConverter, entityConverter, keywordConverter, contentConverter));
+
+    private final List<Class<?>> sourceTypes = Arrays.asList(Integer.class, Long.class, Double.class, BigDecimal.class,
+            AtomicInteger.class, String.class, StringBuilder.class, Object.class, RichTextData.class,
+            EntityModelData.class, KeywordModelData.class, ContentModelData.class, CustomContentModelData.class,
+            ListWrapper.class, ListWrapper.EntityModelDataListWrapper.class, ListWrapper.RichTextDataListWrapper.class,
+            CustomListWrapper.class);
+
+    private final List<TypeDescriptor> targetTypes = Arrays.asList(TypeDescriptor.valueOf(String.class),
+            TypeDescriptor.valueOf(Integer.class), TypeDescriptor.valueOf(Link.class), TypeDescriptor.valueOf(RichText.class),
+            TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(String.class)),
+            TypeDescriptor.collection(Set.class, TypeDescriptor.valueOf(Link.class)),
+            TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(Double.class)));
+
+    @Test
+    public void shouldDispatchRegisteredTypes_LikeExactLookup() {
+        //given
+        Map<Class<?>, SemanticModelConverter<?>> registered = table.getRegisteredConverters();
+
+        //then
+        registered.forEach((type, converter) -> assertSame(converter, table.getConverter(type)));
+        assertSame(numberConverter, registered.get(Integer.class));
+        assertSame(listWrapperConverter, registered.get(ListWrapper.EntityModelDataListWrapper.class));
+    }
+
+    @Test
+    public void shouldFallbackToNearestRegisteredSupertype() {
+        assertSame(numberConverter, table.getConverter(BigDecimal.class));
+        assertSame(numberConverter, table.getConverter(AtomicInteger.class));
+        assertSame(contentConverter, table.getConverter(CustomContentModelData.class));
+        assertSame(listWrapperConverter, table.getConverter(CustomListWrapper.class));
+        assertNull(table.getConverter(Object.class));
+        assertNull(table.getConverter(StringBuilder.class));
+    }
+
+    @Test
+    public void shouldMatchReferenceDispatch_ForRandomSourceAndTargetTypes() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 2000; i++) {
+            //given
+            Class<?> sourceType = sourceTypes.get(random.nextInt(sourceTypes.size()));
+            TypeDescriptor targetType = targetTypes.get(random.nextInt(targetTypes.size()));
+
+            //when
+            ConverterDispatchTable.Dispatch dispatch = table.get(sourceType, targetType);
+            SemanticModelConverter<?> expected = referenceConverter(sourceType);
+
+            //then
+            if (expected == null) {
+                assertNull(sourceType + " should not be supported", dispatch);
+            } else {
+                assertSame("Converter for " + sourceType, expected, dispatch.getConverter());
+                assertEquals("Type information for " + targetType, getTypeInformation(targetType), dispatch.getTypeInformation());
+                assertSame("Dispatch should be cached", dispatch, table.get(sourceType, targetType));
+            }
+        }
+    }
+
+    @Test
+    public void shouldBeEmpty_ForNoConverters() {
+        ConverterDispatchTable empty = new ConverterDispatchTable(Collections.emptySet());
+
+        assertNull(empty.get(String.class, TypeDescriptor.valueOf(String.class)));
+    }
+
+    private SemanticModelConverter<?> referenceConverter(Class<?> sourceType) {
+        Map<Class<?>, SemanticModelConverter<?>> registered = table.getRegisteredConverters();
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            if (registered.containsKey(type)) {
+                return registered.get(type);
+            }
+        }
+        for (Map.Entry<Class<?>, SemanticModelConverter<?>> entry : registered.entrySet()) {
+            if (entry.getKey().isInterface() && entry.getKey().isAssignableFrom(sourceType)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static class CustomContentModelData extends ContentModelData {
+    }
+
+    private static class CustomListWrapper extends ListWrapper<String> {
+
+        CustomListWrapper() {
+            super(Lists.newArrayList("value"));
+        }
+    }
+}
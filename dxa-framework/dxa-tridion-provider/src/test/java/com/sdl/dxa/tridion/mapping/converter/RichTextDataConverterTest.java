@@ -8,10 +8,20 @@ import com.sdl.dxa.api.datamodel.model.ExternalContentData;
 import com.sdl.dxa.api.datamodel.model.RichTextData;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.RichTextFragment;
+import com.sdl.webapp.common.api.model.RichTextFragmentImpl;
+import com.sdl.webapp.common.api.model.entity.Link;
 import com.sdl.webapp.common.exceptions.DxaException;
 import com.sdl.webapp.tridion.fields.exceptions.FieldConverterException;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -52,4 +62,47 @@ public class RichTextDataConverterTest {
         //then
         verify(entityModelMock, times(1)).setEmbedded(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepFragmentOrder_AndBuildEachEmbeddedEntityOnce() throws DxaException {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            //given
+            List<Object> values = new ArrayList<>();
+            Set<String> distinctIds = new HashSet<>();
+            int size = random.nextInt(20);
+            for (int i = 0; i < size; i++) {
+                if (random.nextBoolean()) {
+                    values.add("fragment-" + i);
+                } else {
+                    String id = String.valueOf(random.nextInt(5));
+                    distinctIds.add(id);
+                    values.add(new EntityModelData(id, null, null, null, new ContentModelData(), null, null));
+                }
+            }
+            ModelBuilderPipeline pipeline = mock(ModelBuilderPipeline.class);
+            when(pipeline.createEntityModel(any(), any())).thenAnswer(invocation -> {
+                Link entityModel = new Link();
+                entityModel.setId(((EntityModelData) invocation.getArguments()[0]).getId());
+                return entityModel;
+            });
+            TypeInformation typeInformation = TypeInformation.builder().objectType(RichText.class).build();
+
+            //when
+            RichText result = (RichText) converter.convert(new RichTextData(values), typeInformation, null, pipeline, null);
+
+            //then
+            List<RichTextFragment> fragments = result.getFragments();
+            assertEquals(values.size(), fragments.size());
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value instanceof String) {
+                    assertEquals(value, ((RichTextFragmentImpl) fragments.get(i)).getHtml());
+                } else {
+                    assertEquals(((EntityModelData) value).getId(), ((EntityModel) fragments.get(i)).getId());
+                }
+            }
+            verify(pipeline, times(distinctIds.size())).createEntityModel(any(), any());
+        }
+    }
+}
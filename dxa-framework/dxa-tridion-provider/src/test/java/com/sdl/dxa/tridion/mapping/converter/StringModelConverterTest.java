@@ -5,19 +5,32 @@ import com.sdl.dxa.api.datamodel.model.ContentModelData;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.ExternalContentData;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.entity.Link;
 import com.sdl.webapp.common.exceptions.DxaException;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import com.sdl.webapp.tridion.fields.exceptions.FieldConverterException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -37,6 +50,10 @@ public class StringModelConverterTest {
 
     @Before
     public void init() {
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBean(GenericSemanticModelDataConverter.class)).thenReturn(mock(GenericSemanticModelDataConverter.class));
+        when(applicationContext.getBean(ModelBuilderPipeline.class)).thenReturn(mock(ModelBuilderPipeline.class));
+        new ApplicationContextHolder().setApplicationContext(applicationContext);
         Localization localization = mock(Localization.class);
         when(localization.getId()).thenReturn(LOCALIZATION_ID );
         when(webRequestContext.getLocalization()).thenReturn(localization);
@@ -76,4 +93,71 @@ public class StringModelConverterTest {
         verify(linkResolver).resolveLink(toConvert, LOCALIZATION_ID, pageRequestContextId);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testLinkConvert_ResolvesRightAway_WithoutDeferredLinks() throws DxaException {
+        //given
+        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getFor(new EntityModelData(), null);
+        when(webRequestContext.getPageContextId()).thenReturn("321");
+        when(linkResolver.resolveLink("tcm:1-123", LOCALIZATION_ID, "321")).thenReturn("/resolved");
+
+        //when
+        Link link = (Link) converter.convert("tcm:1-123", new TypeInformation(Link.class, null), null, null, dataProvider);
+
+        //then
+        assertEquals("/resolved", link.getUrl());
+        assertFalse(dataProvider.getLinkCollector().hasPending());
+    }
+
+    @Test
+    public void testLinkConvert_ResolvesOnDemand_WithDeferredLinks() throws DxaException {
+        //given
+        DefaultSemanticFieldDataProvider dataProvider = DefaultSemanticFieldDataProvider.getWithDeferredLinks(new EntityModelData(), null);
+        when(webRequestContext.getPageContextId()).thenReturn("321");
+        when(linkResolver.resolveLink("tcm:1-123", LOCALIZATION_ID, "321")).thenReturn("/resolved");
+
+        //when
+        Link link = (Link) converter.convert("tcm:1-123", new TypeInformation(Link.class, null), null, null, dataProvider);
+        String before = link.getUrl();
+        dataProvider.resolveCollectedLinks();
+
+        //then
+        assertNull(before);
+        assertEquals("/resolved", link.getUrl());
+    }
+
+    @Test
+    public void testDateConvert() throws DxaException {
+        //given
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocalDateTime dateTime = LocalDateTime.of(2017, 5, 11, 13, 45);
+        String shortDate = DateTimeFormatters.shortDateTime(locale).format(dateTime);
+        TypeInformation typeInformation = new TypeInformation(Date.class, null);
+        Date expected = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+
+        //when
+        Object fromShort = converter.convert(shortDate, typeInformation, null, mock(ModelBuilderPipeline.class), null);
+        Object fromIso = converter.convert("2017-05-11T13:45:00", typeInformation, null, mock(ModelBuilderPipeline.class), null);
+
+        //then
+        assertEquals(expected, fromShort);
+        assertEquals(expected, fromIso);
+    }
+
+    @Test
+    public void testDateConvert_ZonedIso() throws DxaException {
+        //given
+        TypeInformation typeInformation = new TypeInformation(Date.class, null);
+        Date expected = Date.from(ZonedDateTime.of(2017, 5, 11, 13, 45, 0, 0, ZoneOffset.UTC).toInstant());
+
+        //when
+        Object result = converter.convert("2017-05-11T15:45:00+02:00", typeInformation, null, mock(ModelBuilderPipeline.class), null);
+
+        //then
+        assertEquals(expected, result);
+    }
+
+    @Test(expected = FieldConverterException.class)
+    public void testDateConvert_Invalid() throws DxaException {
+        converter.convert("not a date", new TypeInformation(Date.class, null), null, mock(ModelBuilderPipeline.class), null);
+    }
+}
@@ -1,5 +1,8 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.PersistentModelStore;
+import com.sdl.dxa.caching.RevalidatingCache;
 import com.sdl.dxa.common.dto.PageRequestDto;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.content.CilStaticContentResolver;
@@ -19,17 +22,35 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +77,8 @@ public class DefaultContentProviderTest {
 
     private DefaultContentProvider contentProvider;
 
+    private Instant now = Instant.parse("2020-01-01T12:00:00Z");
+
     @Before
     public void init() {
         when(cacheManager.getCache(anyString())).thenReturn(cache);
@@ -87,6 +110,118 @@ public class DefaultContentProviderTest {
         verify(defaultModelService).loadEntity(eq("42"), eq("1-2"));
     }
 
+    @Test
+    public void shouldLoadPageData_FromPersistentModelStore() throws ContentProviderException {
+        //given
+        PersistentModelStore modelStore = mock(PersistentModelStore.class);
+        when(modelStore.isEnabled()).thenReturn(true);
+        PageModelData stored = new PageModelData().setId("1");
+        PageModelData loaded = new PageModelData().setId("2");
+        when(modelStore.get(same(localization), contains("[/stored]"), eq(PageModelData.class))).thenReturn(stored);
+        when(defaultModelService.loadPageModel(any())).thenReturn(loaded);
+        contentProvider.setModelStore(modelStore);
+
+        //when
+        contentProvider.loadPage("/stored", localization);
+        contentProvider.loadPage("/loaded", localization);
+
+        //then
+        verify(modelBuilderPipeline).createPageModel(same(stored));
+        verify(modelBuilderPipeline).createPageModel(same(loaded));
+        verify(defaultModelService).loadPageModel(eq(PageRequestDto.builder(42, "/loaded").build()));
+        verify(defaultModelService, never()).loadPageModel(eq(PageRequestDto.builder(42, "/stored").build()));
+        verify(modelStore).put(same(localization), contains("[/loaded]"), same(loaded));
+    }
+
+    @Test
+    public void shouldServeStalePageModel_AndFetchItsDataInBackground() throws ContentProviderException {
+        //given
+        Queue<Runnable> background = new ArrayDeque<>();
+        Cache pages = new RevalidatingCache(new ConcurrentMapCache("pageModels"), 60_000, 0, clock(), background::add);
+        when(cacheManager.getCache("pageModels")).thenReturn(pages);
+        contentProvider = new DefaultContentProvider(webRequestContext, null, null, modelBuilderPipeline, defaultModelService, cacheManager);
+        PageModelData published = new PageModelData().setId("1");
+        PageModelData republished = new PageModelData().setId("1");
+        when(defaultModelService.loadPageModel(any())).thenReturn(published, republished);
+        PageModel stale = cacheablePage();
+        PageModel fresh = cacheablePage();
+        when(modelBuilderPipeline.createPageModel(same(published))).thenReturn(stale);
+        when(modelBuilderPipeline.createPageModel(same(republished))).thenReturn(fresh);
+        contentProvider.getPageModel("/page", localization);
+
+        //when
+        now = now.plusSeconds(61);
+        PageModel served = contentProvider.getPageModel("/page", localization);
+        int revalidations = background.size();
+        background.poll().run();
+        PageModel rebuilt = contentProvider.getPageModel("/page", localization);
+
+        //then
+        assertEquals(stale, served);
+        assertEquals(1, revalidations);
+        assertEquals(fresh, rebuilt);
+        verify(defaultModelService, times(2)).loadPageModel(any());
+        verify(modelBuilderPipeline).createPageModel(same(republished));
+    }
+
+    @Test
+    public void shouldFetchStalePageOnce_WhenRequestedConcurrently() throws Exception {
+        //given
+        ExecutorService background = Executors.newSingleThreadExecutor();
+        Cache pages = new RevalidatingCache(new ConcurrentMapCache("pageModels"), 60_000, 0, clock(), background);
+        when(cacheManager.getCache("pageModels")).thenReturn(pages);
+        contentProvider = new DefaultContentProvider(webRequestContext, null, null, modelBuilderPipeline, defaultModelService, cacheManager);
+        PageModelData published = new PageModelData().setId("1");
+        PageModelData republished = new PageModelData().setId("1");
+        AtomicInteger fetches = new AtomicInteger();
+        when(defaultModelService.loadPageModel(any())).thenAnswer(invocation -> {
+            if (fetches.incrementAndGet() == 1) {
+                return published;
+            }
+            Thread.sleep(100);
+            return republished;
+        });
+        PageModel stale = cacheablePage("1");
+        PageModel fresh = cacheablePage("1");
+        when(modelBuilderPipeline.createPageModel(same(published))).thenReturn(stale);
+        when(modelBuilderPipeline.createPageModel(same(republished))).thenReturn(fresh);
+        contentProvider.getPageModel("/page", localization);
+        now = now.plusSeconds(61);
+
+        //when
+        ExecutorService requests = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                results.add(requests.submit(() -> {
+                    start.await();
+                    long end = System.currentTimeMillis() + 5000;
+                    while (System.currentTimeMillis() < end) {
+                        PageModel served = contentProvider.getPageModel("/page", localization);
+                        if (served == fresh) {
+                            return true;
+                        }
+                        assertSame(stale, served);
+                    }
+                    return false;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue("every request should get the rebuilt page", result.get());
+            }
+        } finally {
+            requests.shutdownNow();
+            background.shutdownNow();
+        }
+
+        //then
+        assertEquals(2, fetches.get());
+        verify(modelBuilderPipeline).createPageModel(same(republished));
+        assertSame(fresh, pages.get(pageKey("[1]")).get());
+    }
+
     @Test
     public void shouldFilterConditionalEntities() throws DxaException {
         //given
@@ -126,4 +261,40 @@ public class DefaultContentProviderTest {
                 .baseUrl("baseUrl")
                 .build()));
     }
-}
\ No newline at end of file
+
+    private Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+    }
+
+    private static PageModel cacheablePage() {
+        PageModel pageModel = mock(PageModel.class);
+        when(pageModel.canBeCached()).thenReturn(true);
+        when(pageModel.deepCopy()).thenReturn(pageModel);
+        return pageModel;
+    }
+
+    private static PageModel cacheablePage(String id) {
+        PageModel pageModel = cacheablePage();
+        when(pageModel.getId()).thenReturn(id);
+        return pageModel;
+    }
+
+    private static String pageKey(String path) {
+        return "pagemodel [" + path + "] 42 noclaims";
+    }
+}
@@ -1,5 +1,6 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.sdl.dxa.caching.RevalidatingCache;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.content.StaticContentResolver;
 import com.sdl.dxa.tridion.graphql.GraphQLProvider;
@@ -16,18 +17,31 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -103,4 +117,55 @@ public class GraphQLContentProviderTest {
         assertEquals("path", contentFile.getName());
         assertEquals("testType", result.getContentType());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldRevalidateStaticContent_WithoutRequest() throws Exception {
+        //given
+        Instant[] now = {Instant.parse("2020-01-01T12:00:00Z")};
+        Queue<Runnable> background = new ArrayDeque<>();
+        Cache staticContentItems = new RevalidatingCache(new ConcurrentMapCache("staticContentItems"),
+                TimeUnit.SECONDS.toMillis(60), 0, clock(now), background::add);
+        when(cacheManager.getCache("staticContentItems")).thenReturn(staticContentItems);
+        GraphQLContentProvider provider = new GraphQLContentProvider(webRequestContext, staticContentResolver,
+                builderPipeline, graphQLProvider, apiClientProvider, cacheManager);
+        when(localization.getId()).thenReturn("5");
+        when(webRequestContext.getBaseUrl()).thenReturn("http://localhost:8080");
+        StaticContentItem stale = new StaticContentItem("image/png", new File("v0"), false);
+        StaticContentItem fresh = new StaticContentItem("image/png", new File("v1"), false);
+        when(staticContentResolver.getStaticContent(any(StaticContentRequestDto.class))).thenReturn(stale, fresh);
+        provider.getStaticContent(42, localization);
+        now[0] = now[0].plusSeconds(60);
+
+        //when
+        StaticContentItem served = provider.getStaticContent(42, localization);
+        background.forEach(Runnable::run);
+
+        //then
+        assertSame(stale, served);
+        assertSame(fresh, staticContentItems.get(Arrays.asList(42, "5")).get());
+        ArgumentCaptor<StaticContentRequestDto> requests = ArgumentCaptor.forClass(StaticContentRequestDto.class);
+        verify(staticContentResolver, times(2)).getStaticContent(requests.capture());
+        assertEquals("http://localhost:8080", requests.getAllValues().get(1).getBaseUrl());
+        // the background revalidation does not read the request
+        verify(webRequestContext, times(2)).getBaseUrl();
+    }
+
+    private static Clock clock(Instant[] now) {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+    }
+}
@@ -50,9 +50,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -75,6 +82,15 @@ public class StronglyTypedTopicBuilderTest {
     @Autowired
     StronglyTypedTopicBuilder stronglyTypedTopicBuilder;
 
+    @Autowired
+    private ViewModelRegistry viewModelRegistry;
+
+    @Autowired
+    private SemanticMappingRegistry semanticMappingRegistry;
+
+    @Autowired
+    private WebRequestContext webRequestContext;
+
     @Before
     public void setup() {
         DxaSpringInitialization spring = new DxaSpringInitialization();
@@ -149,6 +165,33 @@ public class StronglyTypedTopicBuilderTest {
         Assert.assertEquals("result.MvcData", result.getDefaultMvcData(), result.getMvcData());
     }
 
+    @Test
+    public void BuildEntityModel_OverriddenFilterXPathResults_IsUsed() throws Exception {
+        List<String> filteredProperties = new ArrayList<>();
+        StronglyTypedTopicBuilder builder = new StronglyTypedTopicBuilder() {
+            @Override
+            protected List<Element> filterXPathResults(NodeList htmlNodes, String ditaPropertyName) {
+                filteredProperties.add(ditaPropertyName);
+                List<Element> filtered = super.filterXPathResults(htmlNodes, ditaPropertyName);
+                return "section".equals(ditaPropertyName) && filtered != null ? filtered.subList(0, 1) : filtered;
+            }
+        };
+        ReflectionTestUtils.setField(builder, "viewModelRegistry", viewModelRegistry);
+        ReflectionTestUtils.setField(builder, "semanticMappingRegistry", semanticMappingRegistry);
+        ReflectionTestUtils.setField(builder, "webRequestContext", webRequestContext);
+        GenericTopic genericTopic = new GenericTopic(
+                "<Test topic title>",
+                "<h1 class=\"title \">DITA title</h1><div class=\"body\"><div class=\"section \">First section</div><div class=\"section \">Second section</div></div>");
+
+        EntityModel testEntityModel = builder.buildEntityModel(genericTopic, null, null);
+
+        Assert.assertTrue("result", testEntityModel instanceof StronglyTypedTopicTest);
+        StronglyTypedTopicTest result = (StronglyTypedTopicTest) testEntityModel;
+        Assert.assertTrue("filtered properties", filteredProperties.contains("section"));
+        Assert.assertEquals("result.sections", Collections.singletonList("First section"), result.getSections());
+        Assert.assertEquals("result.title", "DITA title", result.getTitle());
+    }
+
     @Test
     public void BuildEntityModel_ThroughModelBuilderPipeline_Success() {
         String testTopicId = "1612-1970";
@@ -271,6 +314,63 @@ public class StronglyTypedTopicBuilderTest {
 
     }
 
+    @Test
+    public void SelectElements_SampleTopics_SameAsXPath() throws Exception {
+        List<String> topicBodies = Arrays.asList(
+                "<h1 class=\"title \">DITA title</h1><div class=\"body\"><div class=\"section \">First section</div><div class=\"section \">Second section</div></div>",
+                "<h1 class=\"title \">DITA title</h1><div class=\"body lcBaseBody lcOverviewBody \" id=\"b1\"><div class=\"section lcIntro \" id=\"s1\">Intro <span class=\"ph\">section</span></div>" +
+                        "<div class=\"section lcObjectives \" id=\"s2\"><div class=\"section nested\">Nested <b class=\"section\">section</b></div></div> </div>",
+                "<div class=\"body \" /><div class=\"related-links \"><div class=\"childlink \"><strong><a class=\"link \" href=\"/firstlink.html\">First link text</a></strong></div>" +
+                        "<div class=\"childlink \"><strong><a class=\"link \" href=\"/secondlink.html\">Second link text</a></strong></div>" +
+                        "<div class=\"parentlink \"><strong><a class=\"link \" href=\"/thirdlink.html\">Third link text</a></strong></div></div>",
+                "<div>no classes<p>at <i>all</i></p></div>",
+                "text only");
+        List<String> propertyNames = Arrays.asList("_self", "title", "body", "section", "lcIntro", "lcObjectives", "body/section",
+                "section/section", "body/section/section", "related-links/childlink", "related-links/link", "link", "sect", "_topicTitle", "missing");
+
+        for (String topicBody : topicBodies) {
+            Element rootElement = stronglyTypedTopicBuilder.parseXhtml(new GenericTopic("Topic title", topicBody));
+            for (String propertyName : propertyNames) {
+                //given
+                String xPath = stronglyTypedTopicBuilder.getPropertyXPath(propertyName);
+                NodeList expected = (NodeList) XPathFactory.newInstance().newXPath().evaluate(xPath, rootElement, XPathConstants.NODESET);
+
+                //when
+                List<Element> selected = stronglyTypedTopicBuilder.selectElements(rootElement, propertyName);
+                List<Element> filtered = stronglyTypedTopicBuilder.filterElements(selected, propertyName);
+
+                //then
+                String message = xPath + " on " + topicBody;
+                Assert.assertEquals(message, expected.getLength(), selected.size());
+                for (int i = 0; i < expected.getLength(); i++) {
+                    Assert.assertSame(message, expected.item(i), selected.get(i));
+                }
+                Assert.assertEquals(message, stronglyTypedTopicBuilder.filterXPathResults(expected, propertyName), filtered);
+            }
+        }
+    }
+
+    @Test
+    public void TryConvertToStronglyTypedTopic_NestedLinkAndSpecialCharacters_Success() throws DxaException {
+        String testBody = "<div class=\"section \">A &amp; B &lt; C</div><div class=\"section \"><p class=\"p\">Second</p></div>";
+        GenericTopic genericTopic = new GenericTopic(
+                "Title & more",
+                "<h1 class=\"title \">DITA title</h1><div class=\"body \">" + testBody + "</div>" +
+                        "<div class=\"related-links \"><div class=\"childlink \"><p><span><a href=\"/deep.html\" title=\"Deep\">Deep link</a></span></p></div></div>");
+
+        StronglyTypedTopicTest result = stronglyTypedTopicBuilder.tryConvertToStronglyTypedTopic(genericTopic, StronglyTypedTopicTest.class);
+        Assert.assertNotNull("result", result);
+
+        Assert.assertEquals("result.TopicTitle", "Title & more", result.getTopicTitle());
+        Assert.assertEquals("result.body", "A & B < CSecond", result.getBody());
+        Assert.assertEquals("result.BodyRichText.toString()", testBody, result.getBodyRichText().toString());
+        Assert.assertEquals("result.sections.Count", 2, result.getSections().size());
+        Assert.assertNotNull("result.FirstChildLink", result.getFirstChildLink());
+        Assert.assertEquals("result.FirstChildLink.Url", "/deep.html", result.getFirstChildLink().getUrl());
+        Assert.assertEquals("result.FirstChildLink.LinkText", "Deep link", result.getFirstChildLink().getLinkText());
+        Assert.assertEquals("result.FirstChildLink.AlternateText", "Deep", result.getFirstChildLink().getAlternateText());
+    }
+
     private void outputJson(Object objectToSerialize) {
         String json = null;
         try {
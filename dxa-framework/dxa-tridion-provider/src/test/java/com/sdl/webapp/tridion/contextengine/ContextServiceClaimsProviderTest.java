@@ -1,6 +1,9 @@
 package com.sdl.webapp.tridion.contextengine;
 
+import com.sdl.context.api.Aspect;
+import com.sdl.context.api.ContextMap;
 import com.sdl.context.api.exception.ResolverException;
+import com.sdl.context.api.resolution.Evidence;
 import com.sdl.context.odata.client.api.ODataContextEngine;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -16,13 +19,24 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.commons.collections4.MapUtils.isEmpty;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,4 +105,151 @@ public class ContextServiceClaimsProviderTest {
         //then
         verify(oDataContextEngine).resolve(argThat(argument -> argument.get("publication-id") == null));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResolveOnce_ForSameUserAgentAndCookie() throws DxaException, ResolverException {
+        //given
+        AtomicInteger resolveCalls = stubContextEngine();
+        contextServiceClaimsProvider.configureClaimsCache(100, 3600);
+
+        //when
+        request("Mozilla/5.0 (Windows NT 10.0)", "dpx=1");
+        Map<String, Object> first = contextServiceClaimsProvider.getContextClaims(null);
+        request(" Mozilla/5.0  (Windows NT 10.0) ", "dpx=1");
+        Map<String, Object> second = contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        assertEquals(1, resolveCalls.get());
+        assertEquals("Chrome", first.get("browser.model"));
+        assertEquals(false, first.get("device.mobile"));
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void shouldResolveAgain_ForDifferentContextCookie() throws DxaException, ResolverException {
+        //given
+        AtomicInteger resolveCalls = stubContextEngine();
+        contextServiceClaimsProvider.configureClaimsCache(100, 3600);
+
+        //when
+        request("Mozilla/5.0", "dpx=1");
+        contextServiceClaimsProvider.getContextClaims(null);
+        request("Mozilla/5.0", "dpx=2");
+        contextServiceClaimsProvider.getContextClaims(null);
+        request("Mozilla/5.0", null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        assertEquals(3, resolveCalls.get());
+    }
+
+    @Test
+    public void shouldResolveAgain_IfEntryWasEvicted() throws DxaException, ResolverException {
+        //given
+        AtomicInteger resolveCalls = stubContextEngine();
+        contextServiceClaimsProvider.configureClaimsCache(1, 3600);
+
+        //when
+        request("Firefox", null);
+        contextServiceClaimsProvider.getContextClaims(null);
+        request("Safari", null);
+        contextServiceClaimsProvider.getContextClaims(null);
+        request("Firefox", null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        assertEquals(3, resolveCalls.get());
+    }
+
+    @Test
+    public void shouldResolveEveryTime_IfCacheIsDisabled() throws DxaException, ResolverException {
+        //given
+        AtomicInteger resolveCalls = stubContextEngine();
+        contextServiceClaimsProvider.configureClaimsCache(0, 3600);
+        request("Firefox", null);
+
+        //when
+        contextServiceClaimsProvider.getContextClaims(null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        assertEquals(2, resolveCalls.get());
+    }
+
+    @Test
+    public void shouldReturnClaimsOfAspect_FromCachedClaims() throws DxaException, ResolverException {
+        //given
+        AtomicInteger resolveCalls = stubContextEngine();
+        contextServiceClaimsProvider.configureClaimsCache(100, 3600);
+        request("Firefox", null);
+
+        //when
+        Map<String, Object> all = contextServiceClaimsProvider.getContextClaims(null);
+        Map<String, Object> browser = contextServiceClaimsProvider.getContextClaims("browser");
+        Map<String, Object> unknown = contextServiceClaimsProvider.getContextClaims("os");
+
+        //then
+        assertEquals(1, resolveCalls.get());
+        assertEquals(2, all.size());
+        assertEquals(Collections.singletonMap("browser.model", "Chrome"), browser);
+        assertTrue(unknown.isEmpty());
+    }
+
+    @Test
+    public void shouldNotCacheEmptyClaims_IfContextEngineGaveNull() throws DxaException, ResolverException {
+        //given
+        contextServiceClaimsProvider.configureClaimsCache(100, 3600);
+        request("Firefox", null);
+
+        //when
+        contextServiceClaimsProvider.getContextClaims(null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        verify(oDataContextEngine, times(2)).resolve(any(Evidence.class));
+    }
+
+    @Test
+    public void shouldNormalizeWhitespace_InUserAgent() {
+        //then
+        assertEquals("Mozilla/5.0 (X11; Linux)", ContextServiceClaimsProvider.normalizeUserAgent("  Mozilla/5.0\t(X11;   Linux) "));
+        assertNull(ContextServiceClaimsProvider.normalizeUserAgent(null));
+    }
+
+    private void request(String userAgent, String contextCookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("user-agent", userAgent);
+        if (contextCookie != null) {
+            request.setCookies(new Cookie("context", contextCookie));
+        }
+        ReflectionTestUtils.setField(contextServiceClaimsProvider, "request", request);
+    }
+
+    /**
+     * Makes the context engine answer with a browser and a device aspect, counting the calls.
+     */
+    private AtomicInteger stubContextEngine() throws ResolverException {
+        AtomicInteger resolveCalls = new AtomicInteger();
+        Aspect browser = aspect(Collections.singletonMap("model", "Chrome"));
+        Aspect device = aspect(Collections.singletonMap("mobile", false));
+        ContextMap contextMap = mock(ContextMap.class);
+        when(contextMap.keySet()).thenReturn(new HashSet<>(Arrays.asList("browser", "device")));
+        doReturn(browser).when(contextMap).get("browser");
+        doReturn(device).when(contextMap).get("device");
+        when(oDataContextEngine.resolve(any(Evidence.class))).thenAnswer(invocation -> {
+            resolveCalls.incrementAndGet();
+            return contextMap;
+        });
+        return resolveCalls;
+    }
+
+    private static Aspect aspect(Map<String, Object> properties) {
+        Aspect aspect = mock(Aspect.class);
+        when(aspect.keySet()).thenReturn(properties.keySet());
+        when(aspect.size()).thenReturn(properties.size());
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            doReturn(property.getValue()).when(aspect).get(property.getKey());
+        }
+        return aspect;
+    }
+}
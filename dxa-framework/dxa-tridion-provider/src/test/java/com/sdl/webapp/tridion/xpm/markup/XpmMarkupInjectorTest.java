@@ -0,0 +1,224 @@
+package com.sdl.webapp.tridion.xpm.markup;
+
+import com.sdl.webapp.common.markup.html.HtmlCommentNode;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class XpmMarkupInjectorTest {
+
+    private static final String ENTITY_XPM = new HtmlCommentNode("Start Component Presentation: {\"ComponentID\":\"tcm:1-2\"}").toHtml();
+
+    private static final String REGION_XPM = new HtmlCommentNode("Start Region: {title:\"Main\",allowedComponentTypes:[],minOccurs:0}").toHtml();
+
+    /**
+     * Markup the views render, the injected markup must be the same as the Jsoup-based decorators produced.
+     */
+    private static final List<String> CORPUS = Arrays.asList(
+            "<div class=\"x\"><h1 data-entity-property-xpath=\"tcm:Content/custom:A/custom:headline\">Title</h1><p data-entity-property-xpath=\"p\"></p></div>",
+            "\n  <article class=\"teaser\">\n <span>x</span>\n</article>\n",
+            "<div><!-- Start Component Field: {\"XPath\":\"x\"} --><span data-entity-property-xpath=\"x\">v</span></div>",
+            "<div><span data-entity-property-xpath=\"x\"> <!-- Start Component Field: {\"XPath\":\"x\"} -->v</span></div>",
+            "<div><span data-entity-property-xpath=\"x\"><b>b</b><!-- Start Component Field: {\"XPath\":\"x\"} --></span></div>",
+            "<div data-entity-property-xpath=\"root\">v</div>",
+            "<div data-entity-property-xpath=\"root\"></div>",
+            "<table class=\"t\"><tbody><tr><td data-entity-property-xpath=\"cell\">x</td></tr></tbody></table>",
+            "<div><img src=\"a.png\" data-entity-property-xpath=\"i\"><br/><input data-entity-property-xpath='in' value=\"a>b\"></div>",
+            "<DIV Class=\"X\"><SPAN DATA-ENTITY-PROPERTY-XPATH=\"upper\">v</SPAN></DIV>",
+            "<div><a href=\"/x?a=1&amp;b=2\" data-entity-property-xpath=\"tcm:Content/custom:A[1]/custom:link\" title='q\"uote'>link</a></div>",
+            "<div><span data-entity-property-xpath=\"a&amp;b&quot;c\">v</span></div>",
+            "<div><script>var s = '<span data-entity-property-xpath=\"no\">';</script><span data-entity-property-xpath=\"yes\">v</span></div>",
+            "<div><textarea data-entity-property-xpath=\"ta\"></textarea><textarea data-entity-property-xpath=\"tb\">a<b></textarea></div>",
+            "<section><div class=\"row\"><div class=\"col\"><p data-entity-property-xpath=\"p1\">One</p><p>Two</p></div></div></section>",
+            "<ul><li data-entity-property-xpath=\"l1\">a</li><li data-entity-property-xpath=\"l2\">b</li></ul>",
+            "<div>\n  <!-- Start Component Presentation: {\"ComponentID\":\"tcm:1-3\"} -->\n  <div>nested</div>\n</div>",
+            "<div class=\"row\"><!--  Start Component Presentation: {} --><div>e</div></div>",
+            "<div class=\"row\"><!-- other --><!-- Start Component Presentation: {} --><div>e</div></div>",
+            "<div class=\"row\"><div><!-- Start Component Presentation: {} --></div></div>",
+            "<div data-x=\"1\" data-entity-property-xpath data-y=\"2\">v</div>",
+            "<div><span data-entity-property-xpath=unquoted>v</span></div>",
+            "<div><p data-entity-property-xpath=\"  spaced  \">x</p></div>",
+            "<article><header><h2 data-entity-property-xpath=\"h\">H</h2></header><div data-entity-property-xpath=\"body\"><p>a</p><p>b</p></div></article>",
+            "<!-- comment --><div>x</div>",
+            "  <!-- comment --><div>x</div>");
+
+    @Test
+    public void shouldInjectEntityMarkup_SameAsJsoup() {
+        for (String html : CORPUS) {
+            assertEquals(html, canonical(JsoupReference.injectEntityMarkup(html)),
+                    canonical(XpmMarkupInjector.injectEntityMarkup(html, ENTITY_XPM)));
+        }
+    }
+
+    @Test
+    public void shouldInjectRegionMarkup_SameAsJsoup() {
+        for (String html : CORPUS) {
+            assertEquals(html, canonical(JsoupReference.injectRegionMarkup(html)),
+                    canonical(XpmMarkupInjector.injectRegionMarkup(html, REGION_XPM)));
+        }
+    }
+
+    @Test
+    public void shouldKeepMarkupUnchanged_ExceptForInjectedParts() {
+        //given
+        String html = "<div class=\"entity\">\n  <h1 class=\"title\" data-entity-property-xpath=\"h\">Title</h1>\n  <img src=\"a.png\" data-entity-property-xpath=\"i\">\n</div>";
+
+        //when
+        String result = XpmMarkupInjector.injectEntityMarkup(html, ENTITY_XPM);
+
+        //then
+        assertEquals("<div class=\"entity\">" + ENTITY_XPM +
+                "\n  <h1 class=\"title\">" + new HtmlCommentNode("Start Component Field: {\"XPath\":\"h\"}").toHtml() + "Title</h1>" +
+                "\n  " + new HtmlCommentNode("Start Component Field: {\"XPath\":\"i\"}").toHtml() + "<img src=\"a.png\">\n</div>", result);
+    }
+
+    @Test
+    public void shouldPrependMarkup_IfNoSingleRootElement() {
+        //given
+        String html = "<div>a</div><div>b</div>";
+
+        //then
+        assertEquals(ENTITY_XPM + html, XpmMarkupInjector.injectEntityMarkup(html, ENTITY_XPM));
+        assertEquals(REGION_XPM + html, XpmMarkupInjector.injectRegionMarkup(html, REGION_XPM));
+        assertEquals(REGION_XPM + "text", XpmMarkupInjector.injectRegionMarkup("text", REGION_XPM));
+        assertEquals(REGION_XPM + "<p>a<p>b", XpmMarkupInjector.injectRegionMarkup("<p>a<p>b", REGION_XPM));
+    }
+
+    @Test
+    public void shouldNotInject_IfMarkupStartsWithComment() {
+        assertNull(XpmMarkupInjector.injectEntityMarkup("<!-- comment --><div>x</div>", ENTITY_XPM));
+        assertNull(XpmMarkupInjector.injectRegionMarkup(" <!DOCTYPE html><div>x</div>", REGION_XPM));
+    }
+
+    @Test
+    public void shouldNotInjectRegionMarkup_IfEntityMarkupComesFirst() {
+        assertNull(XpmMarkupInjector.injectRegionMarkup("<div> <!-- Start Component Presentation: {} --><div>e</div></div>", REGION_XPM));
+    }
+
+    /**
+     * Serializes the DOM of the markup ignoring whitespace-only text and the order of attributes.
+     */
+    private static String canonical(String html) {
+        if (html == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Node node : Jsoup.parseBodyFragment(html).body().childNodes()) {
+            canonical(node, builder);
+        }
+        return builder.toString();
+    }
+
+    private static void canonical(Node node, StringBuilder builder) {
+        if (node instanceof Element) {
+            Element element = (Element) node;
+            List<String> attributes = new ArrayList<>();
+            for (Attribute attribute : element.attributes()) {
+                attributes.add(attribute.getKey() + "=" + attribute.getValue());
+            }
+            Collections.sort(attributes);
+            builder.append('<').append(element.tagName()).append(attributes).append('>');
+            for (Node child : element.childNodes()) {
+                canonical(child, builder);
+            }
+            builder.append("</").append(element.tagName()).append('>');
+        } else if (node instanceof Comment) {
+            builder.append("<!--").append(((Comment) node).getData().trim()).append("-->");
+        } else if (node instanceof TextNode) {
+            String text = ((TextNode) node).text().trim();
+            if (!text.isEmpty()) {
+                builder.append('"').append(text.replaceAll("\\s+", " ")).append('"');
+            }
+        } else if (node instanceof DataNode) {
+            builder.append("data(").append(((DataNode) node).getWholeData().trim()).append(')');
+        }
+    }
+
+    /**
+     * The Jsoup-based implementation of {@link EntityXpmMarkup} and {@link RegionXpmMarkup} before {@link XpmMarkupInjector}.
+     */
+    private static final class JsoupReference {
+
+        static String injectEntityMarkup(String html) {
+            Element htmlElement = getHtmlElement(html);
+            if (htmlElement == null) {
+                return null;
+            }
+            htmlElement.prepend(ENTITY_XPM);
+            for (Element propertyElement : htmlElement.select("[data-entity-property-xpath]")) {
+                String xpath = propertyElement.attr("data-entity-property-xpath");
+                String markup = new HtmlCommentNode(String.format("Start Component Field: {\"XPath\":\"%s\"}", xpath)).toHtml();
+                if (propertyElement.childNodes().size() > 0) {
+                    if (!isFieldMarkupGenerated(propertyElement)) {
+                        propertyElement.prepend(markup);
+                    }
+                } else {
+                    propertyElement.before(markup);
+                }
+                propertyElement.removeAttr("data-entity-property-xpath");
+            }
+            return htmlElement.outerHtml();
+        }
+
+        static String injectRegionMarkup(String html) {
+            Element htmlElement = getHtmlElement(html);
+            if (htmlElement == null) {
+                return null;
+            }
+            for (Node child : htmlElement.childNodes()) {
+                if (child instanceof Element) {
+                    break;
+                }
+                if (child instanceof Comment && ((Comment) child).getData().startsWith(" Start Component Presentation")) {
+                    return null;
+                }
+            }
+            htmlElement.prepend(REGION_XPM);
+            return htmlElement.outerHtml();
+        }
+
+        private static Element getHtmlElement(String html) {
+            Element htmlElement = null;
+            Document document = Jsoup.parse(html);
+            Node firstNode = document.childNodes().get(0);
+            if (firstNode instanceof Element) {
+                Elements body = ((Element) firstNode).select("body");
+                if (body.size() > 0 && body.first().children().size() == 1) {
+                    htmlElement = body.first().child(0);
+                }
+                if (htmlElement == null) {
+                    htmlElement = document.child(0);
+                }
+            }
+            return htmlElement;
+        }
+
+        private static boolean isFieldMarkupGenerated(Element propertyElement) {
+            int index = 0;
+            Node node = null;
+            while (index < propertyElement.childNodes().size()) {
+                node = propertyElement.childNode(index);
+                if (!(node instanceof TextNode)) {
+                    break;
+                }
+                index++;
+            }
+            return node instanceof Comment && ((Comment) node).getData().contains("Start Component Field:");
+        }
+    }
+}
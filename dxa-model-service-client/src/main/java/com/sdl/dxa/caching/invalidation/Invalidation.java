@@ -0,0 +1,119 @@
+package com.sdl.dxa.caching.invalidation;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Message which tells the nodes of a cluster to discard cached data. It is one of:
+ * <ul>
+ * <li>a whole cache, see {@link #ofCache(String)};</li>
+ * <li>a dependency, which all data cached for it depends on, see {@link #ofLocalization(String)}.</li>
+ * </ul>
+ * <p>Single keys are not invalidated: keys of the caches are objects built by their key generators, which are not
+ * read from messages of other nodes.</p>
+ * <p>Every message has a unique ID, so that a node which receives it more than once applies it only once.</p>
+ *
+ * @dxa.publicApi
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(of = "id")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class Invalidation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String LOCALIZATION = "localization:";
+
+    private final String id;
+
+    private final String origin;
+
+    private final String cacheName;
+
+    private final String dependency;
+
+    private final long createdAt;
+
+    @JsonCreator
+    Invalidation(@JsonProperty("id") String id,
+                 @JsonProperty("origin") String origin,
+                 @JsonProperty("cacheName") String cacheName,
+                 @JsonProperty("dependency") String dependency,
+                 @JsonProperty("createdAt") long createdAt) {
+        if (id == null || (cacheName == null && dependency == null)) {
+            throw new IllegalArgumentException("Invalidation needs an ID and either a cache name or a dependency");
+        }
+        this.id = id;
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.dependency = dependency;
+        this.createdAt = createdAt;
+    }
+
+    private Invalidation(String cacheName, String dependency) {
+        this(UUID.randomUUID().toString(), null, cacheName, dependency, System.currentTimeMillis());
+    }
+
+    /**
+     * Invalidation of all keys of a cache.
+     *
+     * @param cacheName name of the cache
+     * @return the invalidation
+     */
+    @NotNull
+    public static Invalidation ofCache(@NotNull String cacheName) {
+        return new Invalidation(cacheName, null);
+    }
+
+    /**
+     * Invalidation of a localization, after which its configuration is reloaded and data cached for it is discarded.
+     *
+     * @param localizationId ID of the localization
+     * @return the invalidation
+     */
+    @NotNull
+    public static Invalidation ofLocalization(@NotNull String localizationId) {
+        return new Invalidation(null, LOCALIZATION + localizationId);
+    }
+
+    /**
+     * Returns a copy of this invalidation sent by the given node.
+     *
+     * @param origin ID of the node which sends the invalidation
+     * @return the copy with the same ID
+     */
+    @NotNull
+    Invalidation from(@NotNull String origin) {
+        return new Invalidation(id, origin, cacheName, dependency, createdAt);
+    }
+
+    /**
+     * @return whether a whole cache is invalidated
+     */
+    @JsonIgnore
+    public boolean isCache() {
+        return cacheName != null;
+    }
+
+    /**
+     * @return ID of the invalidated localization, or {@code null} if this is not an invalidation of a localization
+     */
+    @Nullable
+    @JsonIgnore
+    public String getLocalizationId() {
+        return dependency != null && dependency.startsWith(LOCALIZATION) ? dependency.substring(LOCALIZATION.length()) : null;
+    }
+}
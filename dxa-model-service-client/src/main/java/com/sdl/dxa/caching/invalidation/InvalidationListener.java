@@ -0,0 +1,22 @@
+package com.sdl.dxa.caching.invalidation;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Discards cached data when another node of the cluster invalidates it. Beans implementing this interface are called
+ * by the invalidation bus of the framework.
+ * <p>It is in the Model Service client, next to {@link Invalidation}, so that providers which only depend on the
+ * client, like the DD4T provider, can listen without depending on the framework.</p>
+ *
+ * @dxa.publicApi
+ */
+@FunctionalInterface
+public interface InvalidationListener {
+
+    /**
+     * Called once for each invalidation received from another node.
+     *
+     * @param invalidation invalidation to apply
+     */
+    void onInvalidation(@NotNull Invalidation invalidation);
+}
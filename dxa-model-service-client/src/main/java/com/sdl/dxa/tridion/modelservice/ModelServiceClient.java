@@ -3,10 +3,11 @@ package com.sdl.dxa.tridion.modelservice;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceBadRequestException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErrorException;
-import com.sdl.web.client.impl.OAuthTokenProvider;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManager;
 import com.tridion.ambientdata.AmbientDataContext;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebClaims;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
@@ -19,12 +20,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
 import javax.cache.annotation.CacheResult;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -45,6 +50,10 @@ public class ModelServiceClient {
     @Autowired(required = false)
     private RestTemplate restTemplate = new RestTemplate();
 
+    @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
+    @Autowired(required = false)
+    private ModelServiceTransport transport;
+
     @Autowired
     public ModelServiceClient(ModelServiceClientConfiguration configuration) {
         this.configuration = configuration;
@@ -53,15 +62,79 @@ public class ModelServiceClient {
     @CacheResult(cacheName = "model-service",
                  exceptionCacheName = "failures", cachedExceptions = {ItemNotFoundInModelServiceException.class})
     public <T> T getForType(String serviceUrl, Class<T> type, Object... params) throws ItemNotFoundInModelServiceException {
-        return makeRequest(serviceUrl, type, false, params);
+        return makeRequest(serviceUrl, type, createContextHeaders(), false, params);
+    }
+
+    /**
+     * Requests the Model Service asynchronously, so several requests can run in parallel.
+     * The headers of the current request, like the preview session token, are taken on the calling thread.
+     * <p>The responses are not cached like the ones of {@link #getForType(String, Class, Object...)}, which makes this
+     * method suited for requests which the caller caches itself.</p>
+     *
+     * @param serviceUrl URL template of the request
+     * @param type       type of the response
+     * @param params     parameters of the URL template
+     * @param <T>        type of the response
+     * @return the response, or an {@link ItemNotFoundInModelServiceException} or unchecked exception as the cause
+     * of a {@link java.util.concurrent.CompletionException}
+     */
+    public <T> CompletableFuture<T> getForTypeAsync(String serviceUrl, Class<T> type, Object... params) {
+        HttpHeaders contextHeaders = createContextHeaders();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Executor executor = transport != null ? transport.getExecutor() : Runnable::run;
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(makeRequest(serviceUrl, type, contextHeaders, false, params));
+                } catch (ItemNotFoundInModelServiceException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Sends the requests through the pooled connections of the {@link ModelServiceTransport}, if there is one.
+     * The autowired {@link RestTemplate} may be shared with other beans, so the client copies its configuration
+     * to a template of its own instead of changing it.
+     */
+    @PostConstruct
+    public void configureTransport() {
+        if (transport != null) {
+            RestTemplate pooledRestTemplate = new RestTemplate(transport.getRequestFactory());
+            pooledRestTemplate.setMessageConverters(restTemplate.getMessageConverters());
+            pooledRestTemplate.setErrorHandler(restTemplate.getErrorHandler());
+            pooledRestTemplate.setInterceptors(restTemplate.getInterceptors());
+            pooledRestTemplate.setUriTemplateHandler(restTemplate.getUriTemplateHandler());
+            restTemplate = pooledRestTemplate;
+        }
+    }
+
+    void setRestTemplate(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
     }
 
-    private <T> T makeRequest(String serviceUrl, Class<T> type, boolean isRetry, Object... params) throws ItemNotFoundInModelServiceException {
+    void setTransport(ModelServiceTransport transport) {
+        this.transport = transport;
+        configureTransport();
+    }
+
+    private HttpHeaders createContextHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        processModuleSpecificCookies(headers);
+        processPreviewToken(headers);
+        return headers;
+    }
+
+    private <T> T makeRequest(String serviceUrl, Class<T> type, HttpHeaders contextHeaders, boolean isRetry, Object... params) throws ItemNotFoundInModelServiceException {
+        String accessToken = null;
         try {
             HttpHeaders headers = new HttpHeaders();
-            processModuleSpecificCookies(headers);
-            processPreviewToken(headers);
-            processAccessToken(headers, isRetry);
+            headers.putAll(contextHeaders);
+            accessToken = processAccessToken(headers, isRetry);
             log.debug("Sending GET request to " + serviceUrl + " with parameters: " + Arrays.toString(params));
             ResponseEntity<T> response = restTemplate.exchange(serviceUrl, HttpMethod.GET, new HttpEntity<>(null, headers), type, params);
             return response.getBody();
@@ -73,8 +146,12 @@ public class ModelServiceClient {
                     log.info(message, e);
                     throw new ItemNotFoundInModelServiceException(message, e);
                 } else if (statusCode == HttpStatus.UNAUTHORIZED && !isRetry) {
-                    log.warn("Got 401 status code, reason: {}, check if token is expired and retry if so ", statusCode.getReasonPhrase(), e);
-                    return makeRequest(serviceUrl, type, true, params);
+                    log.warn("Got 401 status code, reason: {}, retrying with a new token", statusCode.getReasonPhrase(), e);
+                    OAuthTokenManager tokenManager = configuration.getTokenManager();
+                    if (tokenManager != null && accessToken != null) {
+                        tokenManager.invalidate(accessToken);
+                    }
+                    return makeRequest(serviceUrl, type, contextHeaders, true, params);
                 } else {
                     log.warn("Got error response with a status code {} and body '{}' with message '{}' and response headers: {}", statusCode, e.getResponseBodyAsString(), e.getMessage(), e.getResponseHeaders() );
                     String message = "Wrong request to the model service: " + serviceUrl + ", reason: " + statusCode.getReasonPhrase() + " error code: " + statusCode.value();
@@ -95,14 +172,25 @@ public class ModelServiceClient {
     protected void processModuleSpecificCookies(HttpHeaders headers) {
     }
 
-    private void processPreviewToken(HttpHeaders headers) {
+    /**
+     * Returns the XPM session preview token of the current request, which is sent to the Model Service with each
+     * request. Responses for a request with a token contain the content of the preview session, so callers which
+     * cache responses themselves must not share them with other requests.
+     *
+     * @return the preview token, or {@code null} if the current request is not a session preview
+     */
+    @Nullable
+    public String getPreviewToken() {
         //noinspection unchecked
-        String previewToken = getClaimValue(WebClaims.REQUEST_HEADERS, X_PREVIEW_SESSION_TOKEN,
+        return getClaimValue(WebClaims.REQUEST_HEADERS, X_PREVIEW_SESSION_TOKEN,
                 claim -> Optional.of(((List<String>) claim).get(0)))
                 .orElseGet(() -> getClaimValue(WebClaims.REQUEST_COOKIES, PREVIEW_SESSION_TOKEN,
                         claim -> Optional.of(claim.toString()))
                         .orElse(null));
+    }
 
+    private void processPreviewToken(HttpHeaders headers) {
+        String previewToken = getPreviewToken();
         if (previewToken != null) {
             // commented because of bug in CIS https://jira.sdl.com/browse/CRQ-3935
             // headers.add(X_PREVIEW_SESSION_TOKEN, previewToken);
@@ -110,12 +198,15 @@ public class ModelServiceClient {
         }
     }
 
-    private void processAccessToken(HttpHeaders headers, boolean isRetry) {
-        OAuthTokenProvider authTokenProvider = configuration.getOAuthTokenProvider();
-        if (authTokenProvider != null) {
-            log.debug("Request is secured, adding security token, it is retry: {}", isRetry);
-            headers.add("Authorization", "Bearer" + authTokenProvider.getToken());
+    private String processAccessToken(HttpHeaders headers, boolean isRetry) {
+        OAuthTokenManager tokenManager = configuration.getTokenManager();
+        if (tokenManager == null) {
+            return null;
         }
+        log.debug("Request is secured, adding security token, it is retry: {}", isRetry);
+        String token = tokenManager.getToken();
+        headers.add("Authorization", "Bearer " + token);
+        return token;
     }
 
     private Optional<String> getClaimValue(URI uri, String key, Function<Object, Optional<String>> deriveValue) {
@@ -1,6 +1,8 @@
 package com.sdl.dxa.tridion.modelservice;
 
 import com.google.common.base.Strings;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManager;
+import com.sdl.dxa.tridion.oauth.OAuthTokenManagerHolder;
 import com.sdl.web.client.configuration.api.ConfigurationException;
 import com.sdl.web.client.impl.OAuthTokenProvider;
 import com.sdl.web.content.client.configuration.impl.BaseClientConfigurationLoader;
@@ -37,6 +39,8 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
 
     private OAuthTokenProvider oAuthTokenProvider;
 
+    private OAuthTokenManager tokenManager;
+
     private String serviceUrl;
 
     public ModelServiceClientConfiguration(
@@ -44,8 +48,9 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
             @Value("${dxa.model.service.url.entity.model}") String entityModelUrl,
             @Value("${dxa.model.service.url.api.navigation}") String navigationApiUrl,
             @Value("${dxa.model.service.url.api.navigation.subtree}") String onDemandApiUrl,
-            @Value("${dxa.model.service.key}") String modelServiceKey) throws ConfigurationException {
-        this(pageModelUrl, entityModelUrl, navigationApiUrl, onDemandApiUrl, modelServiceKey, null);
+            @Value("${dxa.model.service.key}") String modelServiceKey,
+            OAuthTokenManagerHolder tokenManagerHolder) throws ConfigurationException {
+        this(pageModelUrl, entityModelUrl, navigationApiUrl, onDemandApiUrl, modelServiceKey, null, tokenManagerHolder);
     }
 
     @Autowired
@@ -55,12 +60,13 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
             @Value("${dxa.model.service.url.api.navigation}") String navigationApiUrl,
             @Value("${dxa.model.service.url.api.navigation.subtree}") String onDemandApiUrl,
             @Value("${dxa.model.service.key:#{null}}") String modelServiceKey,
-            @Value("${dxa.model.service.url:#{null}}") String modelServiceUrl) throws ConfigurationException {
-        if (isTokenConfigurationAvailable()) {
-            this.oAuthTokenProvider =  new OAuthTokenProvider(getOauthTokenProviderConfiguration());
-
+            @Value("${dxa.model.service.url:#{null}}") String modelServiceUrl,
+            OAuthTokenManagerHolder tokenManagerHolder) throws ConfigurationException {
+        this.tokenManager = tokenManagerHolder.getTokenManager(this);
+        this.oAuthTokenProvider = tokenManagerHolder.getTokenProvider();
+        if (this.tokenManager != null) {
             // try to get token to validate credentials
-            this.oAuthTokenProvider.getToken();
+            this.tokenManager.getToken();
         }
 
         this.modelServiceKey = modelServiceKey;
@@ -112,10 +118,28 @@ public class ModelServiceClientConfiguration extends BaseClientConfigurationLoad
         return getServiceUrl() + onDemandApiUrl;
     }
 
+    /**
+     * Returns the token provider of the CIL.
+     *
+     * @return the token provider, or {@code null} if the Model Service is not secured
+     * @deprecated the client uses the shared {@link #getTokenManager() token manager}
+     */
+    @Deprecated
     public OAuthTokenProvider getOAuthTokenProvider() {
         return oAuthTokenProvider;
     }
 
+    /**
+     * Returns the manager of the cached OAuth token, which is refreshed ahead of its expiry.
+     * It is the manager of the {@link OAuthTokenManagerHolder}, shared with the other clients of the application.
+     *
+     * @return the token manager, or {@code null} if the Model Service is not secured
+     */
+    @Nullable
+    public OAuthTokenManager getTokenManager() {
+        return tokenManager;
+    }
+
     @Nullable
     private String loadServiceUrlFromCapability(String modelServiceKey) {
         try {
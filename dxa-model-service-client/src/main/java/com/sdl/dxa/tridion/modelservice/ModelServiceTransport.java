@@ -0,0 +1,146 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * HTTP transport of the {@link ModelServiceClient}: a pool of keep-alive connections with timeouts and a bounded pool
+ * of threads for the asynchronous requests.
+ * <p>Almost all requests go to the single Model Service host, so the limit per route is what bounds the connections.
+ * Idle and expired connections are closed in the background. If all threads of the asynchronous requests are busy and
+ * the queue is full, a request runs on the calling thread.</p>
+ */
+@Component
+@Profile("cil.providers.active")
+public class ModelServiceTransport {
+
+    private static final Logger log = getLogger(ModelServiceTransport.class);
+
+    private static final int QUEUE_SIZE_PER_THREAD = 16;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    private final ClientHttpRequestFactory requestFactory;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a transport.
+     *
+     * @param maxConnections         maximum number of connections
+     * @param maxConnectionsPerRoute maximum number of connections to a single host
+     * @param connectTimeout         timeout to open a connection in milliseconds
+     * @param readTimeout            timeout waiting for data of a response in milliseconds
+     * @param poolTimeout            timeout waiting for a connection from the pool in milliseconds
+     * @param keepAlive              time to keep an idle connection open in milliseconds, if the service does not say
+     * @param asyncThreads           number of threads of the asynchronous requests
+     */
+    @Autowired
+    public ModelServiceTransport(@Value("${dxa.model.service.http.connections.max:200}") int maxConnections,
+                                 @Value("${dxa.model.service.http.connections.max.per.route:100}") int maxConnectionsPerRoute,
+                                 @Value("${dxa.model.service.http.timeout.connect:5000}") int connectTimeout,
+                                 @Value("${dxa.model.service.http.timeout.read:30000}") int readTimeout,
+                                 @Value("${dxa.model.service.http.timeout.pool:5000}") int poolTimeout,
+                                 @Value("${dxa.model.service.http.keep.alive:30000}") long keepAlive,
+                                 @Value("${dxa.model.service.async.threads:32}") int asyncThreads) {
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeout)
+                        .setSocketTimeout(readTimeout)
+                        .setConnectionRequestTimeout(poolTimeout)
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return duration > 0 ? duration : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS)
+                .build();
+        this.requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(asyncThreads, asyncThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncThreads * QUEUE_SIZE_PER_THREAD), runnable -> {
+            Thread thread = new Thread(runnable, "dxa-model-service-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Model Service transport is closed");
+            }
+            runnable.run();
+        });
+        executor.allowCoreThreadTimeOut(true);
+
+        log.debug("Model Service transport with {} connections, {} per route, {} async threads",
+                maxConnections, maxConnectionsPerRoute, asyncThreads);
+    }
+
+    /**
+     * Returns the request factory to use in a {@link org.springframework.web.client.RestTemplate}.
+     *
+     * @return request factory of pooled connections
+     */
+    public ClientHttpRequestFactory getRequestFactory() {
+        return requestFactory;
+    }
+
+    /**
+     * Returns the executor of the asynchronous requests.
+     *
+     * @return executor
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the number of open connections, leased or idle.
+     *
+     * @return number of connections
+     */
+    public int getOpenConnections() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return stats.getLeased() + stats.getAvailable();
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Cannot close the HTTP client of the Model Service", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sdl.dxa.tridion.oauth;
+
+import java.util.Objects;
+
+/**
+ * OAuth access token with the time it expires.
+ */
+public final class AccessToken {
+
+    private final String value;
+
+    private final long expiresAt;
+
+    /**
+     * Creates a token.
+     *
+     * @param value     value of the token as sent in the {@code Authorization} header
+     * @param expiresAt time the token expires, in milliseconds since the epoch
+     */
+    public AccessToken(String value, long expiresAt) {
+        this.value = Objects.requireNonNull(value, "Token value is required");
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Creates a token which expires after the given time from now.
+     *
+     * @param value          value of the token
+     * @param lifetimeMillis lifetime of the token in milliseconds
+     * @return the token
+     */
+    public static AccessToken expiringIn(String value, long lifetimeMillis) {
+        return new AccessToken(value, System.currentTimeMillis() + lifetimeMillis);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Checks whether the token is expired at the given time.
+     *
+     * @param now time in milliseconds since the epoch
+     * @return whether the token is expired
+     */
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        // never log the value of a token
+        return "AccessToken{expiresAt=" + expiresAt + "}";
+    }
+}
@@ -0,0 +1,97 @@
+package com.sdl.dxa.tridion.oauth;
+
+import com.sdl.odata.client.property.PropertyUtils;
+import com.sdl.web.client.OAuthClient;
+import com.sdl.web.client.impl.DefaultOAuthClient;
+import com.sdl.web.oauth.common.OAuthToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link TokenSource} which requests each token from the token endpoint with an {@link OAuthClient} of the CIL.
+ * <p>The {@link com.sdl.web.client.impl.OAuthTokenProvider OAuthTokenProvider} of the CIL is not used, because it keeps
+ * its token until the token expires, so asking it ahead of the expiry or after the token was rejected returns the same
+ * token again. The expiry is taken from the token response, from the {@code exp} claim if the token is a JWT, or else
+ * the token is assumed to be valid for a fixed lifetime.</p>
+ */
+public class OAuthClientTokenSource implements TokenSource {
+
+    /**
+     * Default lifetime of tokens without a known expiry.
+     */
+    public static final long DEFAULT_LIFETIME_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final String CLIENT_ID = "ClientId";
+
+    private static final String CLIENT_SECRET = "ClientSecret";
+
+    private static final Pattern EXPIRY_CLAIM = Pattern.compile("\"exp\"\\s*:\\s*(\\d+)");
+
+    private final OAuthClient oAuthClient;
+
+    private final String clientId;
+
+    private final String clientSecret;
+
+    private final long lifetimeMillis;
+
+    public OAuthClientTokenSource(OAuthClient oAuthClient, String clientId, String clientSecret) {
+        this(oAuthClient, clientId, clientSecret, DEFAULT_LIFETIME_MILLIS);
+    }
+
+    public OAuthClientTokenSource(OAuthClient oAuthClient, String clientId, String clientSecret, long lifetimeMillis) {
+        this.oAuthClient = oAuthClient;
+        this.clientId = Objects.requireNonNull(clientId, "Client id is required");
+        this.clientSecret = Objects.requireNonNull(clientSecret, "Client secret is required");
+        this.lifetimeMillis = lifetimeMillis;
+    }
+
+    /**
+     * Creates a source for the OAuth configuration of the CIL client configuration.
+     *
+     * @param configuration OAuth token provider configuration with the token service URL and the client credentials
+     * @return the token source
+     */
+    public static OAuthClientTokenSource fromConfiguration(Properties configuration) {
+        return new OAuthClientTokenSource(new DefaultOAuthClient(configuration),
+                PropertyUtils.getStringProperty(configuration, CLIENT_ID),
+                PropertyUtils.getStringProperty(configuration, CLIENT_SECRET));
+    }
+
+    @Override
+    public AccessToken fetchToken() throws Exception {
+        OAuthToken oAuthToken = oAuthClient.getToken(clientId, clientSecret);
+        if (oAuthToken == null || oAuthToken.getToken() == null) {
+            throw new IllegalStateException("Token endpoint returned no token");
+        }
+        String token = oAuthToken.getToken();
+        long expiresAt = oAuthToken.getExpiresOn() > 0 ? oAuthToken.getExpiresOn() : expiryOf(token);
+        return expiresAt > 0 ? new AccessToken(token, expiresAt) : AccessToken.expiringIn(token, lifetimeMillis);
+    }
+
+    /**
+     * Reads the expiry of a JWT.
+     *
+     * @param token token
+     * @return time the token expires in milliseconds since the epoch, or {@code -1} if unknown
+     */
+    static long expiryOf(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return -1;
+        }
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            Matcher matcher = EXPIRY_CLAIM.matcher(payload);
+            return matcher.find() ? TimeUnit.SECONDS.toMillis(Long.parseLong(matcher.group(1))) : -1;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
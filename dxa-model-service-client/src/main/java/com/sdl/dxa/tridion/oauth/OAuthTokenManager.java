@@ -0,0 +1,238 @@
+package com.sdl.dxa.tridion.oauth;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Keeps an OAuth access token for the clients of the backend services, so they do not request a token per request.
+ * <p>The token is requested from a {@link TokenSource} when it is first needed, and then refreshed in the background
+ * ahead of its expiry, so requests keep using the cached token while it is replaced. Requests which need a token while
+ * there is no valid one wait for a single refresh together. If a refresh fails, the current token is used as long as
+ * it is valid, and the refresh is retried.</p>
+ */
+public class OAuthTokenManager implements AutoCloseable {
+
+    private static final Logger log = getLogger(OAuthTokenManager.class);
+
+    /**
+     * Default time to refresh a token before it expires.
+     */
+    public static final long DEFAULT_REFRESH_AHEAD_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    /**
+     * Default time to wait before retrying a failed refresh.
+     */
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static final long MIN_DELAY_MILLIS = 10;
+
+    private final TokenSource source;
+
+    private final long refreshAheadMillis;
+
+    private final long retryDelayMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final boolean ownScheduler;
+
+    private final Object lock = new Object();
+
+    private volatile Entry current;
+
+    private CompletableFuture<Entry> refreshing;
+
+    private ScheduledFuture<?> scheduledRefresh;
+
+    private boolean closed;
+
+    /**
+     * Creates a manager with the default refresh times and its own refresh thread.
+     *
+     * @param source source of new tokens
+     */
+    public OAuthTokenManager(TokenSource source) {
+        this(source, DEFAULT_REFRESH_AHEAD_MILLIS, DEFAULT_RETRY_DELAY_MILLIS, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dxa-oauth-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Creates a manager.
+     *
+     * @param source             source of new tokens
+     * @param refreshAheadMillis time to refresh a token before it expires, at most a quarter of the lifetime of the token
+     * @param retryDelayMillis   time to wait before retrying a failed refresh
+     * @param scheduler          scheduler to request the tokens on, which is not shut down by the manager
+     */
+    public OAuthTokenManager(TokenSource source, long refreshAheadMillis, long retryDelayMillis, ScheduledExecutorService scheduler) {
+        this(source, refreshAheadMillis, retryDelayMillis, scheduler, false);
+    }
+
+    private OAuthTokenManager(TokenSource source, long refreshAheadMillis, long retryDelayMillis,
+                              ScheduledExecutorService scheduler, boolean ownScheduler) {
+        this.source = source;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.retryDelayMillis = Math.max(retryDelayMillis, MIN_DELAY_MILLIS);
+        this.scheduler = scheduler;
+        this.ownScheduler = ownScheduler;
+    }
+
+    /**
+     * Returns a valid token, waiting for a refresh only if there is no valid token.
+     *
+     * @return the value of the token
+     * @throws IllegalStateException if no token can be requested, or the exception of the {@link TokenSource}
+     *                               if it is unchecked
+     */
+    public String getToken() {
+        Entry entry = current;
+        long now = System.currentTimeMillis();
+        if (entry != null && !entry.token.isExpired(now)) {
+            if (now >= entry.refreshAt) {
+                refresh();
+            }
+            return entry.token.getValue();
+        }
+        return await(refresh());
+    }
+
+    /**
+     * Drops the current token if it is the given one, because the service rejected it.
+     * The next {@link #getToken()} then waits for a new token.
+     *
+     * @param rejectedToken value of the rejected token
+     */
+    public void invalidate(String rejectedToken) {
+        synchronized (lock) {
+            Entry entry = current;
+            if (entry != null && entry.token.getValue().equals(rejectedToken)) {
+                log.debug("OAuth token was rejected, requesting a new one");
+                current = null;
+            }
+        }
+    }
+
+    /**
+     * Stops refreshing the token in the background.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+            }
+        }
+        if (ownScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Entry> refresh() {
+        synchronized (lock) {
+            if (refreshing == null) {
+                CompletableFuture<Entry> future = new CompletableFuture<>();
+                refreshing = future;
+                scheduler.execute(() -> fetch(future));
+            }
+            return refreshing;
+        }
+    }
+
+    private void fetch(CompletableFuture<Entry> future) {
+        long now;
+        Entry entry;
+        try {
+            AccessToken token = source.fetchToken();
+            now = System.currentTimeMillis();
+            long lifetime = token.getExpiresAt() - now;
+            if (lifetime <= 0) {
+                throw new IllegalStateException("Token source returned an expired token");
+            }
+            long refreshAt = token.getExpiresAt() - Math.min(refreshAheadMillis, lifetime / 4);
+            if (refreshAt <= now) {
+                // a source may return the same token until it is close to expiry, then it is asked again after a while
+                refreshAt = now + retryDelay(lifetime);
+            }
+            entry = new Entry(token, refreshAt);
+            synchronized (lock) {
+                current = entry;
+                refreshing = null;
+            }
+            future.complete(entry);
+            log.debug("Refreshed OAuth token, which expires in {} ms", lifetime);
+        } catch (Exception e) {
+            now = System.currentTimeMillis();
+            synchronized (lock) {
+                entry = current;
+                if (entry != null && !entry.token.isExpired(now)) {
+                    entry = new Entry(entry.token, now + retryDelay(entry.token.getExpiresAt() - now));
+                    current = entry;
+                } else {
+                    entry = null;
+                }
+                refreshing = null;
+            }
+            future.completeExceptionally(e);
+            if (entry == null) {
+                log.warn("Cannot request an OAuth token", e);
+                return;
+            }
+            log.warn("Cannot refresh the OAuth token, using the current one and retrying in {} ms", entry.refreshAt - now, e);
+        }
+        schedule(entry.refreshAt - now);
+    }
+
+    private long retryDelay(long remainingMillis) {
+        return Math.max(Math.min(retryDelayMillis, remainingMillis / 2), MIN_DELAY_MILLIS);
+    }
+
+    private void schedule(long delay) {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+            }
+            scheduledRefresh = scheduler.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static String await(CompletableFuture<Entry> future) {
+        try {
+            return future.get().token.getValue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an OAuth token", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Cannot request an OAuth token", e.getCause());
+        }
+    }
+
+    private static final class Entry {
+
+        private final AccessToken token;
+
+        private final long refreshAt;
+
+        private Entry(AccessToken token, long refreshAt) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
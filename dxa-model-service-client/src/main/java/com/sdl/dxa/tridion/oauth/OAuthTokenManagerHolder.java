@@ -0,0 +1,85 @@
+package com.sdl.dxa.tridion.oauth;
+
+import com.sdl.odata.client.api.exception.ODataClientRuntimeException;
+import com.sdl.web.client.configuration.api.ConfigurationException;
+import com.sdl.web.client.impl.OAuthTokenProvider;
+import com.sdl.web.content.client.configuration.OAuthConfigurationLoader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Properties;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Holds the single {@link OAuthTokenManager} of the web application. The Model Service client and the Public Content API
+ * client share it, so that there is one cached token and one refresh thread for the application.
+ * <p>The holder does not read the CIL client configuration itself: the manager is created from the OAuth configuration
+ * of the configuration loader of the first client asking for it.
+ * If the configuration cannot be read or the token client cannot be created, a warning is logged and the requests
+ * to the services are not secured, as before there was a shared token manager.</p>
+ */
+@Component
+public class OAuthTokenManagerHolder {
+
+    private static final Logger log = getLogger(OAuthTokenManagerHolder.class);
+
+    private boolean initialized;
+
+    private OAuthTokenProvider tokenProvider;
+
+    private OAuthTokenManager tokenManager;
+
+    /**
+     * Returns the shared token manager, creating it from the OAuth configuration of the given loader on the first call.
+     *
+     * @param configurationLoader already loaded client configuration of the caller
+     * @return the token manager, or {@code null} if the services are not secured
+     */
+    @Nullable
+    public synchronized OAuthTokenManager getTokenManager(@NotNull OAuthConfigurationLoader configurationLoader) {
+        if (!initialized) {
+            initialized = true;
+            initialize(configurationLoader);
+        }
+        return tokenManager;
+    }
+
+    /**
+     * Returns the token provider of the CIL created from the same configuration as the token manager.
+     *
+     * @return the token provider, or {@code null} if the services are not secured or the manager is not created yet
+     * @deprecated since the token manager was introduced, use {@link #getTokenManager(OAuthConfigurationLoader)}
+     */
+    @Nullable
+    @Deprecated
+    public synchronized OAuthTokenProvider getTokenProvider() {
+        return tokenProvider;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (tokenManager != null) {
+            tokenManager.close();
+        }
+    }
+
+    private void initialize(OAuthConfigurationLoader configurationLoader) {
+        try {
+            if (!configurationLoader.isTokenConfigurationAvailable()) {
+                log.debug("OAuth token configuration is not available, requests to the services are not secured");
+                return;
+            }
+            Properties configuration = configurationLoader.getOauthTokenProviderConfiguration();
+            this.tokenProvider = new OAuthTokenProvider(configuration);
+            this.tokenManager = new OAuthTokenManager(OAuthClientTokenSource.fromConfiguration(configuration));
+        } catch (ConfigurationException e) {
+            log.warn("Unable to read configuration for token provider.", e);
+        } catch (ODataClientRuntimeException e) {
+            log.warn("Unable to initialize Token Provider.", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sdl.dxa.tridion.oauth;
+
+/**
+ * Source of new access tokens for an {@link OAuthTokenManager}, usually the token endpoint of the OAuth server.
+ */
+@FunctionalInterface
+public interface TokenSource {
+
+    /**
+     * Requests a new token. Called by the token manager only, one call at a time.
+     *
+     * @return the token
+     * @throws Exception if no token can be requested
+     */
+    AccessToken fetchToken() throws Exception;
+}
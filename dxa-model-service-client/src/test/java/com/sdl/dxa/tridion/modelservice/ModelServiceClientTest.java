@@ -0,0 +1,70 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class ModelServiceClientTest {
+
+    private HttpServer server;
+
+    private ModelServiceTransport transport;
+
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "page".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        transport = new ModelServiceTransport(32, 16, 1000, 5000, 5000, 30_000, 16);
+    }
+
+    @After
+    public void tearDown() {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldUseTransport_WithoutChangingSharedRestTemplate() throws Exception {
+        //given
+        RestTemplate sharedRestTemplate = new RestTemplate();
+        sharedRestTemplate.setMessageConverters(Collections.singletonList(new StringHttpMessageConverter()));
+        ClientHttpRequestFactory sharedRequestFactory = sharedRestTemplate.getRequestFactory();
+        ModelServiceClient client = new ModelServiceClient(mock(ModelServiceClientConfiguration.class));
+        client.setRestTemplate(sharedRestTemplate);
+
+        //when
+        client.setTransport(transport);
+        String page = client.getForType(baseUrl + "/page/{id}", String.class, 1);
+
+        //then
+        assertEquals("page", page);
+        assertSame(sharedRequestFactory, sharedRestTemplate.getRequestFactory());
+        assertEquals("the request should have been sent through the pool of the transport", 1, transport.getOpenConnections());
+    }
+}
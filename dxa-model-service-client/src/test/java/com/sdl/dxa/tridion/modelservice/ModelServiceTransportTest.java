@@ -0,0 +1,219 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class ModelServiceTransportTest {
+
+    private static final long RESPONSE_DELAY_MILLIS = 100;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private volatile CountDownLatch inFlightTarget;
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private ModelServiceTransport transport;
+
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        transport = new ModelServiceTransport(32, 16, 1000, 5000, 5000, 30_000, 16);
+    }
+
+    @After
+    public void tearDown() {
+        transport.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReuseConnections() throws Exception {
+        //given
+        RestTemplate restTemplate = new RestTemplate(transport.getRequestFactory());
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<String>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 80; i++) {
+                int page = i;
+                responses.add(clients.submit(() -> restTemplate.getForObject(baseUrl + "/page/{id}", String.class, page)));
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                assertEquals("page " + i, responses.get(i).get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        //then
+        assertTrue("80 requests of 8 clients should use at most 8 connections but used " + clientPorts.size(),
+                clientPorts.size() <= 8);
+        assertTrue(transport.getOpenConnections() <= 8);
+    }
+
+    @Test
+    public void shouldServeConcurrentRequests_OnSeparateConnections() throws Exception {
+        //given
+        RestTemplate restTemplate = new RestTemplate(transport.getRequestFactory());
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+        inFlightTarget = new CountDownLatch(16);
+
+        //when
+        List<Future<String>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                int page = i;
+                responses.add(clients.submit(() -> restTemplate.getForObject(baseUrl + "/page/{id}", String.class, page)));
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                assertEquals("page " + i, responses.get(i).get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        //then
+        assertEquals("all 16 requests should be in flight at the same time", 16, peakInFlight.get());
+        assertEquals(16, clientPorts.size());
+    }
+
+    @Test
+    public void shouldLimitConcurrentRequests_ToConnectionsPerRoute() throws Exception {
+        //given
+        transport.close();
+        transport = new ModelServiceTransport(32, 4, 1000, 5000, 5000, 30_000, 16);
+        RestTemplate restTemplate = new RestTemplate(transport.getRequestFactory());
+        ExecutorService clients = Executors.newFixedThreadPool(16);
+
+        //when
+        List<Future<String>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                int page = i;
+                responses.add(clients.submit(() -> restTemplate.getForObject(baseUrl + "/page/{id}", String.class, page)));
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                assertEquals("page " + i, responses.get(i).get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        //then
+        assertTrue("at most 4 requests should be in flight but were " + peakInFlight.get(), peakInFlight.get() <= 4);
+        assertTrue(clientPorts.size() <= 4);
+    }
+
+    @Test
+    public void shouldRequestInParallel_WithAsyncApi() {
+        //given
+        ModelServiceClient client = new ModelServiceClient(mock(ModelServiceClientConfiguration.class));
+        client.setTransport(transport);
+        inFlightTarget = new CountDownLatch(16);
+
+        //when
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            responses.add(client.getForTypeAsync(baseUrl + "/page/{id}", String.class, i));
+        }
+
+        //then
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals("page " + i, responses.get(i).join());
+        }
+        assertEquals("all 16 requests should be in flight at the same time", 16, peakInFlight.get());
+    }
+
+    @Test
+    public void shouldCompleteAsyncRequestWithNotFound() {
+        //given
+        ModelServiceClient client = new ModelServiceClient(mock(ModelServiceClientConfiguration.class));
+        client.setTransport(transport);
+
+        //when
+        CompletableFuture<String> response = client.getForTypeAsync(baseUrl + "/missing", String.class);
+
+        //then
+        try {
+            response.join();
+            fail("Exception expected");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ItemNotFoundInModelServiceException);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        int inFlight = this.inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(inFlight, Math::max);
+        try {
+            if (inFlightTarget != null) {
+                // keeps the requests open until all of them have arrived, or fails the test after a while
+                inFlightTarget.countDown();
+                inFlightTarget.await(5, TimeUnit.SECONDS);
+            } else {
+                Thread.sleep(RESPONSE_DELAY_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.inFlight.decrementAndGet();
+        }
+        String path = exchange.getRequestURI().getPath();
+        if (!path.startsWith("/page/")) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = ("page " + path.substring("/page/".length())).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.sdl.dxa.tridion.oauth;
+
+import com.sdl.web.client.OAuthClient;
+import com.sdl.web.oauth.common.OAuthToken;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OAuthClientTokenSourceTest {
+
+    @Mock
+    private OAuthClient oAuthClient;
+
+    private ScheduledExecutorService scheduler;
+
+    private OAuthTokenManager manager;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void shouldRequestNewTokenFromEndpoint_OnEachFetch() throws Exception {
+        //given
+        long expiresOn = System.currentTimeMillis() + 60_000;
+        OAuthToken firstToken = token("first", expiresOn);
+        OAuthToken secondToken = token("second", expiresOn);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(firstToken, secondToken);
+        OAuthClientTokenSource source = new OAuthClientTokenSource(oAuthClient, "client", "secret");
+
+        //when
+        AccessToken first = source.fetchToken();
+        AccessToken second = source.fetchToken();
+
+        //then
+        assertEquals("first", first.getValue());
+        assertEquals(expiresOn, first.getExpiresAt());
+        assertEquals("second", second.getValue());
+        verify(oAuthClient, times(2)).getToken("client", "secret");
+    }
+
+    @Test
+    public void shouldGetNewToken_AfterTokenIsRejected() throws Exception {
+        //given
+        AtomicInteger issued = new AtomicInteger();
+        when(oAuthClient.getToken("client", "secret")).thenAnswer(invocation ->
+                token("token-" + issued.incrementAndGet(), System.currentTimeMillis() + 60_000));
+        manager = new OAuthTokenManager(new OAuthClientTokenSource(oAuthClient, "client", "secret"), 1000, 50, scheduler);
+        String rejected = manager.getToken();
+
+        //when
+        manager.invalidate(rejected);
+        String retried = manager.getToken();
+
+        //then
+        assertNotEquals(rejected, retried);
+        verify(oAuthClient, times(2)).getToken("client", "secret");
+    }
+
+    @Test
+    public void shouldRefreshAheadOfExpiry_WithNewTokenFromEndpoint() throws Exception {
+        //given
+        AtomicInteger issued = new AtomicInteger();
+        when(oAuthClient.getToken("client", "secret")).thenAnswer(invocation ->
+                token("token-" + issued.incrementAndGet(), System.currentTimeMillis() + 400));
+        manager = new OAuthTokenManager(new OAuthClientTokenSource(oAuthClient, "client", "secret"), 200, 50, scheduler);
+        String first = manager.getToken();
+
+        //when
+        Thread.sleep(350);
+        String later = manager.getToken();
+
+        //then
+        assertNotEquals(first, later);
+        assertTrue("token should be refreshed in the background", issued.get() >= 2);
+    }
+
+    @Test
+    public void shouldReadExpiryOfJwt_IfEndpointDoesNotTellIt() throws Exception {
+        //given
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"dxa\",\"exp\": 1700000000}".getBytes(StandardCharsets.UTF_8));
+        OAuthToken jwt = token("eyJhbGciOiJIUzI1NiJ9." + payload + ".signature", 0);
+        when(oAuthClient.getToken("client", "secret")).thenReturn(jwt);
+
+        //when
+        AccessToken token = new OAuthClientTokenSource(oAuthClient, "client", "secret").fetchToken();
+
+        //then
+        assertEquals(1_700_000_000_000L, token.getExpiresAt());
+    }
+
+    @Test
+    public void shouldReadExpiryOfJwt() {
+        //given
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"dxa\",\"exp\": 1700000000}".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        long expiry = OAuthClientTokenSource.expiryOf("eyJhbGciOiJIUzI1NiJ9." + payload + ".signature");
+
+        //then
+        assertEquals(1_700_000_000_000L, expiry);
+    }
+
+    @Test
+    public void shouldNotKnowExpiryOfOpaqueOrMalformedToken() {
+        assertEquals(-1, OAuthClientTokenSource.expiryOf("opaque-token"));
+        assertEquals(-1, OAuthClientTokenSource.expiryOf("a.%%%.c"));
+        assertEquals(-1, OAuthClientTokenSource.expiryOf("a." + Base64.getUrlEncoder().encodeToString("{}".getBytes(StandardCharsets.UTF_8)) + ".c"));
+    }
+
+    private static OAuthToken token(String value, long expiresOn) {
+        return new OAuthToken() {
+            @Override
+            public String getClientId() {
+                return "client";
+            }
+
+            @Override
+            public Map<String, String> getAttributes() {
+                return Collections.emptyMap();
+            }
+
+            @Override
+            public long getExpiresOn() {
+                return expiresOn;
+            }
+
+            @Override
+            public String getToken() {
+                return value;
+            }
+
+            @Override
+            public String getRefreshToken() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.sdl.dxa.tridion.oauth;
+
+import com.sdl.web.client.configuration.api.ConfigurationException;
+import com.sdl.web.content.client.configuration.OAuthConfigurationLoader;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OAuthTokenManagerHolderTest {
+
+    @Mock
+    private OAuthConfigurationLoader configurationLoader;
+
+    @Mock
+    private OAuthConfigurationLoader otherConfigurationLoader;
+
+    private final OAuthTokenManagerHolder holder = new OAuthTokenManagerHolder();
+
+    @After
+    public void closeHolder() {
+        holder.close();
+    }
+
+    @Test
+    public void shouldReadConfigurationOnce_FromFirstLoader() throws Exception {
+        //given
+        when(configurationLoader.isTokenConfigurationAvailable()).thenReturn(true);
+        when(configurationLoader.getOauthTokenProviderConfiguration()).thenThrow(new ConfigurationException("Broken"));
+
+        //when
+        OAuthTokenManager first = holder.getTokenManager(configurationLoader);
+        OAuthTokenManager second = holder.getTokenManager(otherConfigurationLoader);
+        OAuthTokenManager third = holder.getTokenManager(configurationLoader);
+
+        //then
+        assertNull(first);
+        assertNull(second);
+        assertNull(third);
+        verify(configurationLoader, times(1)).getOauthTokenProviderConfiguration();
+        verifyZeroInteractions(otherConfigurationLoader);
+    }
+
+    @Test
+    public void shouldNotSecureRequests_IfTokenConfigurationIsNotAvailable() throws Exception {
+        //given
+        when(configurationLoader.isTokenConfigurationAvailable()).thenReturn(false);
+
+        //when
+        OAuthTokenManager tokenManager = holder.getTokenManager(configurationLoader);
+
+        //then
+        assertNull(tokenManager);
+        assertNull(holder.getTokenManager(otherConfigurationLoader));
+        verifyZeroInteractions(otherConfigurationLoader);
+    }
+}
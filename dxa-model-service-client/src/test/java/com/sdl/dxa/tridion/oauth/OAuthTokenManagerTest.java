@@ -0,0 +1,147 @@
+package com.sdl.dxa.tridion.oauth;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OAuthTokenManagerTest {
+
+    private ScheduledExecutorService scheduler;
+
+    private TokenEndpointStub endpoint;
+
+    private OAuthTokenManager manager;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+        if (endpoint != null) {
+            endpoint.close();
+        }
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void shouldRefreshTokenAheadOfExpiry() throws Exception {
+        //given
+        endpoint = new TokenEndpointStub(1000, 0);
+        manager = new OAuthTokenManager(endpoint.tokenSource(), 500, 50, scheduler);
+
+        //when
+        long end = System.currentTimeMillis() + 3000;
+        int requests = 0;
+        while (System.currentTimeMillis() < end) {
+            endpoint.requestResource(manager.getToken());
+            requests++;
+        }
+
+        //then
+        assertEquals("no request may use an expired token", 0, endpoint.getRejected());
+        assertTrue("tokens should roll over", endpoint.getTokenRequests() >= 3);
+        assertTrue("tokens should be cached", endpoint.getTokenRequests() <= 6 && endpoint.getTokenRequests() < requests);
+    }
+
+    @Test
+    public void shouldCoalesceConcurrentRefreshes() throws Exception {
+        //given
+        endpoint = new TokenEndpointStub(10_000, 200);
+        manager = new OAuthTokenManager(endpoint.tokenSource(), 1000, 50, scheduler);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        //when
+        Set<String> tokens = new HashSet<>();
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(clients.submit((Callable<String>) () -> {
+                    start.await();
+                    return manager.getToken();
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                tokens.add(future.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        //then
+        assertEquals(1, endpoint.getTokenRequests());
+        assertEquals(1, tokens.size());
+    }
+
+    @Test
+    public void shouldUseCurrentTokenWhileRefreshFails() throws Exception {
+        //given
+        AtomicInteger fetches = new AtomicInteger();
+        manager = new OAuthTokenManager(() -> {
+            if (fetches.incrementAndGet() > 1) {
+                throw new IllegalStateException("Token endpoint is down");
+            }
+            return AccessToken.expiringIn("first", 800);
+        }, 400, 50, scheduler);
+
+        //when
+        String token = manager.getToken();
+        Thread.sleep(700);
+        String stillValid = manager.getToken();
+        Thread.sleep(200);
+
+        //then
+        assertEquals("first", token);
+        assertEquals("first", stillValid);
+        assertTrue("refresh should be retried", fetches.get() > 2);
+        try {
+            manager.getToken();
+            fail("Exception expected after the token expired");
+        } catch (IllegalStateException e) {
+            assertEquals("Token endpoint is down", e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldRequestNewTokenOnlyWhenCurrentTokenIsRejected() throws Exception {
+        //given
+        endpoint = new TokenEndpointStub(10_000, 0);
+        manager = new OAuthTokenManager(endpoint.tokenSource(), 1000, 50, scheduler);
+        String token = manager.getToken();
+
+        //when
+        manager.invalidate("some-older-token");
+        String sameToken = manager.getToken();
+        manager.invalidate(token);
+        String newToken = manager.getToken();
+
+        //then
+        assertEquals(token, sameToken);
+        assertNotEquals(token, newToken);
+        assertEquals(2, endpoint.getTokenRequests());
+        assertTrue(endpoint.requestResource(newToken));
+    }
+}
@@ -0,0 +1,128 @@
+package com.sdl.dxa.tridion.oauth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local token endpoint which issues tokens with a short lifetime, and a resource which rejects expired tokens.
+ */
+class TokenEndpointStub implements AutoCloseable {
+
+    private final long lifetimeMillis;
+
+    private final long delayMillis;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final Map<String, Long> issued = new ConcurrentHashMap<>();
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+
+    private final AtomicInteger rejected = new AtomicInteger();
+
+    TokenEndpointStub(long lifetimeMillis, long delayMillis) throws IOException {
+        this.lifetimeMillis = lifetimeMillis;
+        this.delayMillis = delayMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/token", this::issueToken);
+        server.createContext("/resource", this::serveResource);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Token source which requests a token from the endpoint.
+     */
+    TokenSource tokenSource() {
+        return () -> {
+            String[] response = get("/token", null).split(" ");
+            return AccessToken.expiringIn(response[0], Long.parseLong(response[1]));
+        };
+    }
+
+    /**
+     * Requests the resource with a token and returns whether the token was accepted.
+     */
+    boolean requestResource(String token) throws IOException {
+        return "ok".equals(get("/resource", token));
+    }
+
+    int getTokenRequests() {
+        return tokenRequests.get();
+    }
+
+    int getRejected() {
+        return rejected.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void issueToken(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String token = "token-" + tokenRequests.incrementAndGet();
+        issued.put(token, System.currentTimeMillis() + lifetimeMillis);
+        respond(exchange, 200, token + " " + lifetimeMillis);
+    }
+
+    private void serveResource(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        Long expiresAt = authorization == null ? null : issued.get(authorization.substring("Bearer ".length()));
+        if (expiresAt == null || System.currentTimeMillis() >= expiresAt) {
+            rejected.incrementAndGet();
+            respond(exchange, 401, "expired");
+        } else {
+            respond(exchange, 200, "ok");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String get(String path, String token) throws IOException {
+        InetSocketAddress address = server.getAddress();
+        HttpURLConnection connection = (HttpURLConnection) new URL("http", address.getHostString(), address.getPort(), path).openConnection();
+        if (token != null) {
+            connection.setRequestProperty("Authorization", "Bearer " + token);
+        }
+        int status = connection.getResponseCode();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[256];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return body.toString(StandardCharsets.UTF_8.name());
+        }
+    }
+}
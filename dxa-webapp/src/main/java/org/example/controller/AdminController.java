@@ -1,13 +1,29 @@
 package org.example.controller;
 
+import com.sdl.dxa.caching.invalidation.HttpPeerTransport;
+import com.sdl.dxa.caching.invalidation.InvalidationBus;
+import com.sdl.dxa.performance.Metric;
+import com.sdl.dxa.performance.MetricsRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.example.service.AdminService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.cache.CacheManager;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Admin controller that provides access for administrator.
@@ -16,12 +32,25 @@ import javax.cache.CacheManager;
 @Controller
 public class AdminController {
 
+    /**
+     * Header of a request to the metrics endpoint with the secret of the endpoint.
+     */
+    public static final String METRICS_SECRET_HEADER = "X-DXA-Metrics-Secret";
+
     @Autowired
     private AdminService adminService;
 
     @Autowired(required = false)
     private CacheManager cacheManager;
 
+    @Autowired(required = false)
+    private InvalidationBus invalidationBus;
+
+    @Value("${dxa.metrics.secret:}")
+    private String metricsSecret;
+
+    private MetricsRegistry metricsRegistry = MetricsRegistry.getDefault();
+
     /**
      * Refreshes the current localization and redirects to the given path.
      *
@@ -34,4 +63,57 @@ public class AdminController {
         }
         return "redirect:" + adminService.refreshLocalization();
     }
+
+    /**
+     * Returns the current values of all metrics as JSON. Timers are reported in microseconds.
+     * Only served if a metrics secret is configured and the request has it in its {@link #METRICS_SECRET_HEADER} header.
+     *
+     * @param secret  secret of the metrics endpoint
+     * @param request current request
+     * @return metric values by name, 403 if the secret is wrong or 404 if no metrics secret is configured
+     */
+    @ResponseBody
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/metrics", "/*/admin/metrics"})
+    public ResponseEntity<Map<String, Object>> handleMetrics(@RequestHeader(value = METRICS_SECRET_HEADER, required = false) String secret,
+                                                             HttpServletRequest request) {
+        if (metricsSecret == null || metricsSecret.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (secret == null || !MessageDigest.isEqual(metricsSecret.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Metrics requested from {} with a wrong secret, denied", request.getRemoteAddr());
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Metric> entry : metricsRegistry.getMetrics().entrySet()) {
+            values.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return new ResponseEntity<>(values, HttpStatus.OK);
+    }
+
+    /**
+     * Receives a cache invalidation from another node of the cluster, if invalidations are sent over HTTP.
+     *
+     * @param secret  secret shared by the nodes
+     * @param body    invalidation as JSON
+     * @param request current request
+     * @return 204 if the invalidation is accepted, 403 if the secret is wrong, 404 if invalidations are not sent over HTTP
+     */
+    @ResponseBody
+    @RequestMapping(method = RequestMethod.POST, value = HttpPeerTransport.PATH)
+    public ResponseEntity<Void> handleInvalidation(@RequestHeader(value = HttpPeerTransport.SECRET_HEADER, required = false) String secret,
+                                                   @RequestBody String body, HttpServletRequest request) {
+        if (invalidationBus == null || !(invalidationBus.getTransport() instanceof HttpPeerTransport)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        try {
+            if (!((HttpPeerTransport) invalidationBus.getTransport()).receive(secret, body)) {
+                log.warn("Invalidation from {} has a wrong secret, denied", request.getRemoteAddr());
+                return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot read invalidation from {}", request.getRemoteAddr(), e);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
 }
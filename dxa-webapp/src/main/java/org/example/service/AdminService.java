@@ -1,18 +1,30 @@
 package org.example.service;
 
+import com.sdl.dxa.caching.CacheWarmer;
+import com.sdl.dxa.caching.PersistentModelStore;
+import com.sdl.dxa.caching.invalidation.Invalidation;
+import com.sdl.dxa.caching.invalidation.InvalidationBus;
+import com.sdl.dxa.caching.invalidation.InvalidationListener;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Admin service that provides admin actions.
+ * <p>A refresh of a localization is passed to the other {@link InvalidationListener} beans of this node, like caches
+ * of the content providers, and broadcast to the other nodes of the cluster, which refresh it as well.
+ * After a refresh the caches are warmed again.</p>
  */
 @Slf4j
 @Service
-public class AdminService {
+public class AdminService implements InvalidationListener {
 
     @Autowired
     private WebRequestContext webRequestContext;
@@ -20,8 +32,21 @@ public class AdminService {
     @Autowired
     private LocalizationResolver localizationResolver;
 
+    @Autowired(required = false)
+    private PersistentModelStore modelStore;
+
+    @Autowired(required = false)
+    private InvalidationBus invalidationBus;
+
+    @Autowired(required = false)
+    private CacheWarmer cacheWarmer;
+
+    @Autowired(required = false)
+    private List<InvalidationListener> invalidationListeners = Collections.emptyList();
+
     /**
-     * Refreshes the localization and returns the index path.
+     * Refreshes the localization, discards its entries in the persistent model store and the caches of the other
+     * invalidation listeners, tells the other nodes to do the same and returns the index path.
      *
      * @return the index path of the localization
      */
@@ -31,6 +56,42 @@ public class AdminService {
         log.trace("handleRefresh: localization {}", localization);
 
         localizationResolver.refreshLocalization(localization);
+        if (modelStore != null) {
+            modelStore.invalidate(localization.getId());
+        }
+        Invalidation invalidation = Invalidation.ofLocalization(localization.getId());
+        for (InvalidationListener listener : invalidationListeners) {
+            if (listener != this) {
+                listener.onInvalidation(invalidation);
+            }
+        }
+        if (invalidationBus != null) {
+            invalidationBus.publish(invalidation);
+        }
+        if (cacheWarmer != null) {
+            cacheWarmer.warmAgain();
+        }
         return localization.getPath();
     }
+
+    /**
+     * Refreshes a localization which was refreshed on another node.
+     *
+     * @param invalidation invalidation received from the other node
+     */
+    @Override
+    public void onInvalidation(@NotNull Invalidation invalidation) {
+        String localizationId = invalidation.getLocalizationId();
+        if (localizationId == null) {
+            return;
+        }
+        log.debug("Refreshing localization {} refreshed on another node", localizationId);
+        localizationResolver.refreshLocalization(localizationId);
+        if (modelStore != null) {
+            modelStore.invalidate(localizationId);
+        }
+        if (cacheWarmer != null) {
+            cacheWarmer.warmAgain();
+        }
+    }
 }
@@ -1,17 +1,33 @@
 package org.example.controller;
 
+import com.sdl.dxa.caching.invalidation.HttpPeerTransport;
+import com.sdl.dxa.caching.invalidation.Invalidation;
+import com.sdl.dxa.caching.invalidation.InvalidationBus;
+import com.sdl.dxa.caching.invalidation.LoopbackTransport;
+import com.sdl.dxa.performance.MetricsRegistry;
+import com.sdl.dxa.performance.Snapshot;
 import org.example.service.AdminService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.cache.Cache;
 import javax.cache.CacheManager;
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -26,6 +42,9 @@ public class AdminControllerTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private InvalidationBus invalidationBus;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -46,4 +65,79 @@ public class AdminControllerTest {
         assertEquals("Should redirect to expected path", "redirect:/index", redirectString);
         verify(cache).clear();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnMetrics_WithSecret() {
+        //given
+        ReflectionTestUtils.setField(adminController, "metricsSecret", "s3cret");
+        MetricsRegistry.getDefault().counter("admin.test.counter").inc();
+        MetricsRegistry.getDefault().timer("admin.test.timer").update(2, TimeUnit.MILLISECONDS);
+
+        //when
+        ResponseEntity<Map<String, Object>> response = adminController.handleMetrics("s3cret", mock(HttpServletRequest.class));
+
+        //then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue((Long) response.getBody().get("admin.test.counter") >= 1);
+        assertEquals(2000, ((Snapshot) response.getBody().get("admin.test.timer")).getMax());
+    }
+
+    @Test
+    public void shouldDenyMetrics_WithWrongSecret_EvenForLocalRequest() {
+        //given
+        ReflectionTestUtils.setField(adminController, "metricsSecret", "s3cret");
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+
+        //when
+        ResponseEntity<Map<String, Object>> guessed = adminController.handleMetrics("guessed", request);
+        ResponseEntity<Map<String, Object>> missing = adminController.handleMetrics(null, request);
+
+        //then
+        assertEquals(HttpStatus.FORBIDDEN, guessed.getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, missing.getStatusCode());
+        assertNull(guessed.getBody());
+    }
+
+    @Test
+    public void shouldNotServeMetrics_IfNoSecretIsConfigured() {
+        //when
+        ResponseEntity<Map<String, Object>> response = adminController.handleMetrics("", mock(HttpServletRequest.class));
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    public void shouldAcceptInvalidation_WithSharedSecret() {
+        //given
+        List<Invalidation> received = new ArrayList<>();
+        HttpPeerTransport transport = new HttpPeerTransport(Collections.emptyList(), "s3cret", 1000);
+        transport.start(received::add);
+        when(invalidationBus.getTransport()).thenReturn(transport);
+        String body = "{\"id\":\"1\",\"origin\":\"node-2\",\"dependency\":\"localization:42\",\"createdAt\":0}";
+
+        //when
+        ResponseEntity<Void> accepted = adminController.handleInvalidation("s3cret", body, mock(HttpServletRequest.class));
+        ResponseEntity<Void> denied = adminController.handleInvalidation("guessed", body, mock(HttpServletRequest.class));
+
+        //then
+        assertEquals(HttpStatus.NO_CONTENT, accepted.getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, denied.getStatusCode());
+        assertEquals(1, received.size());
+        assertEquals("42", received.get(0).getLocalizationId());
+    }
+
+    @Test
+    public void shouldNotReceiveInvalidations_OverHttp_WithOtherTransport() {
+        //given
+        when(invalidationBus.getTransport()).thenReturn(new LoopbackTransport());
+
+        //when
+        ResponseEntity<Void> response = adminController.handleInvalidation("s3cret", "{}", mock(HttpServletRequest.class));
+
+        //then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -1,17 +1,30 @@
 package org.example.service;
 
+import com.sdl.dxa.caching.CacheWarmer;
+import com.sdl.dxa.caching.PersistentModelStore;
+import com.sdl.dxa.caching.invalidation.Invalidation;
+import com.sdl.dxa.caching.invalidation.InvalidationBus;
+import com.sdl.dxa.caching.invalidation.InvalidationListener;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +37,18 @@ public class AdminServiceTest {
     @Mock
     private LocalizationResolver localizationResolver;
 
+    @Mock
+    private PersistentModelStore modelStore;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private CacheWarmer cacheWarmer;
+
+    @Spy
+    private List<InvalidationListener> invalidationListeners = new ArrayList<>();
+
     @InjectMocks
     private AdminService adminService;
 
@@ -33,6 +58,7 @@ public class AdminServiceTest {
         String expected = "/index";
         Localization localization = mock(Localization.class);
         when(localization.getPath()).thenReturn(expected);
+        when(localization.getId()).thenReturn("42");
         when(webRequestContext.getLocalization()).thenReturn(localization);
 
         //when
@@ -41,7 +67,60 @@ public class AdminServiceTest {
         //then
         verify(webRequestContext).getLocalization();
         verify(localizationResolver).refreshLocalization(same(localization));
+        verify(modelStore).invalidate("42");
+        verify(cacheWarmer).warmAgain();
         assertEquals("Should return expected path", expected, result);
     }
 
+    @Test
+    public void shouldTellOtherNodes_ToRefreshLocalization() {
+        //given
+        Localization localization = mock(Localization.class);
+        when(localization.getId()).thenReturn("42");
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        ArgumentCaptor<Invalidation> published = ArgumentCaptor.forClass(Invalidation.class);
+
+        //when
+        adminService.refreshLocalization();
+
+        //then
+        verify(invalidationBus).publish(published.capture());
+        assertEquals("42", published.getValue().getLocalizationId());
+    }
+
+    @Test
+    public void shouldPassRefresh_ToOtherListenersOfThisNode() {
+        //given
+        Localization localization = mock(Localization.class);
+        when(localization.getId()).thenReturn("42");
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        InvalidationListener pageCache = mock(InvalidationListener.class);
+        invalidationListeners.add(pageCache);
+        invalidationListeners.add(adminService);
+        ArgumentCaptor<Invalidation> applied = ArgumentCaptor.forClass(Invalidation.class);
+
+        //when
+        adminService.refreshLocalization();
+
+        //then
+        verify(pageCache).onInvalidation(applied.capture());
+        assertEquals("42", applied.getValue().getLocalizationId());
+        verify(localizationResolver, never()).refreshLocalization(anyString());
+    }
+
+    @Test
+    public void shouldRefreshLocalization_RefreshedOnAnotherNode() {
+        //when
+        adminService.onInvalidation(Invalidation.ofLocalization("42"));
+        adminService.onInvalidation(Invalidation.ofCache("pageModels"));
+
+        //then
+        verify(localizationResolver).refreshLocalization("42");
+        verify(localizationResolver, never()).refreshLocalization(any(Localization.class));
+        verify(modelStore).invalidate("42");
+        verify(invalidationBus, never()).publish(any(Invalidation.class));
+        verify(modelStore, never()).invalidate("pageModels");
+        verify(cacheWarmer).warmAgain();
+        verify(localizationResolver).refreshLocalization(anyString());
+    }
 }
\ No newline at end of file
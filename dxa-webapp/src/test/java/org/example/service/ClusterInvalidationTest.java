@@ -0,0 +1,126 @@
+package org.example.service;
+
+import com.sdl.dxa.caching.DefaultNamedCacheProvider;
+import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
+import com.sdl.dxa.caching.LocalizationIdProvider;
+import com.sdl.dxa.caching.invalidation.InProcessTransport;
+import com.sdl.dxa.caching.invalidation.Invalidation;
+import com.sdl.dxa.caching.invalidation.InvalidationBus;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import javax.cache.Cache;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs a node with its real cache provider and admin service as an application context, and publishes invalidations
+ * to it from another node over an {@link InProcessTransport}.
+ */
+public class ClusterInvalidationTest {
+
+    private InvalidationBus publisher;
+
+    private AnnotationConfigApplicationContext peer;
+
+    private LocalizationResolver localizationResolver;
+
+    private Cache<Object, Object> pageModels;
+
+    private Cache<Object, Object> entityModels;
+
+    @Before
+    public void startNodes() {
+        InProcessTransport.Network network = new InProcessTransport.Network();
+        publisher = new InvalidationBus(new InProcessTransport(network), 3, 10);
+        publisher.start();
+
+        localizationResolver = mock(LocalizationResolver.class);
+        peer = new AnnotationConfigApplicationContext();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("dxa.caching.required.caches", "defaultCache");
+        properties.put("dxa.caching.disabled.caches", "");
+        peer.getEnvironment().getPropertySources().addFirst(new MapPropertySource("node", properties));
+        peer.getBeanFactory().registerSingleton("transport", new InProcessTransport(network));
+        peer.getBeanFactory().registerSingleton("localizationResolver", localizationResolver);
+        peer.getBeanFactory().registerSingleton("webRequestContext", mock(WebRequestContext.class));
+        peer.getBeanFactory().registerSingleton("localizationIdProvider", (LocalizationIdProvider) () -> "42");
+        peer.register(PeerConfiguration.class, DefaultNamedCacheProvider.class, LocalizationAwareKeyGenerator.class,
+                AdminService.class);
+        peer.refresh();
+
+        // keys as the content providers generate them
+        LocalizationAwareKeyGenerator keyGenerator = peer.getBean(LocalizationAwareKeyGenerator.class);
+        pageModels = peer.getBean(DefaultNamedCacheProvider.class).getCache("pageModels");
+        pageModels.put(keyGenerator.generate("pagemodel", "/index", "noclaims"), "model");
+        pageModels.put(keyGenerator.generate("pagemodel", "/about", "noclaims"), "model");
+        entityModels = peer.getBean(DefaultNamedCacheProvider.class).getCache("entityModels");
+        entityModels.put(keyGenerator.generate("entitymodel", "1-2"), "model");
+    }
+
+    @After
+    public void stopNodes() {
+        publisher.close();
+        peer.close();
+    }
+
+    @Test
+    public void shouldClearCache_OfPeer() throws InterruptedException {
+        //when
+        publisher.publish(Invalidation.ofCache("pageModels"));
+
+        //then
+        assertTrue(eventually(() -> !pageModels.iterator().hasNext()));
+        assertTrue(entityModels.iterator().hasNext());
+        verify(localizationResolver, never()).refreshLocalization(any(String.class));
+    }
+
+    @Test
+    public void shouldRefreshLocalization_AndClearCachesOfPeer() throws InterruptedException {
+        //when
+        publisher.publish(Invalidation.ofLocalization("42"));
+
+        //then
+        verify(localizationResolver, timeout(5000)).refreshLocalization("42");
+        verify(localizationResolver, never()).refreshLocalization(any(Localization.class));
+        assertTrue(eventually(() -> !pageModels.iterator().hasNext()));
+        assertTrue(eventually(() -> !entityModels.iterator().hasNext()));
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    @Configuration
+    static class PeerConfiguration {
+
+        @Bean
+        public InvalidationBus invalidationBus(InProcessTransport transport) {
+            return new InvalidationBus(transport, 3, 10);
+        }
+    }
+}